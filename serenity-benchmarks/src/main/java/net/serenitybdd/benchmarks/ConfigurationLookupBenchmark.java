@@ -0,0 +1,62 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.core.util.SystemEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.thucydides.core.ThucydidesSystemProperty.*;
+
+/**
+ * Compares reading configuration values property by property from the environment variables
+ * with reading them from a configuration snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationLookupBenchmark {
+
+    private EnvironmentVariables withoutSnapshot;
+    private EnvironmentVariables withSnapshot;
+
+    @Setup
+    public void prepareEnvironment() {
+        withoutSnapshot = new MockEnvironmentVariables();
+        withSnapshot = new SystemEnvironmentVariables();
+
+        configure(withoutSnapshot);
+        configure(withSnapshot);
+    }
+
+    private void configure(EnvironmentVariables environmentVariables) {
+        environmentVariables.setProperty("serenity.take.screenshots", "FOR_EACH_ACTION");
+        environmentVariables.setProperty("thucydides.step.delay", "0");
+        environmentVariables.setProperty("serenity.report.encoding", "UTF-8");
+        environmentVariables.setProperty("serenity.restart.browser.for.each", "feature");
+    }
+
+    @Benchmark
+    public void readPropertiesDirectly(Blackhole blackhole) {
+        readProperties(withoutSnapshot, blackhole);
+    }
+
+    @Benchmark
+    public void readPropertiesFromSnapshot(Blackhole blackhole) {
+        readProperties(withSnapshot, blackhole);
+    }
+
+    private void readProperties(EnvironmentVariables environmentVariables, Blackhole blackhole) {
+        blackhole.consume(SERENITY_TAKE_SCREENSHOTS.from(environmentVariables));
+        blackhole.consume(SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0));
+        blackhole.consume(SERENITY_REPORT_ENCODING.from(environmentVariables, "UTF-8"));
+        blackhole.consume(SERENITY_RESTART_BROWSER_FOR_EACH.from(environmentVariables, "scenario"));
+        blackhole.consume(WEBDRIVER_DRIVER.from(environmentVariables, "firefox"));
+    }
+}
@@ -0,0 +1,56 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.junit.JUnitXMLConverter;
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the JUnit XML report for a parameterised test class with 10,000 test cases, one in ten of them failing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JUnitXMLReportBenchmark {
+
+    private static final int TEST_CASES = 10000;
+
+    private final JUnitXMLConverter converter = new JUnitXMLConverter();
+
+    private List<TestOutcome> outcomes;
+
+    public static class AParameterisedTest {
+        public void should_handle_each_row() {}
+    }
+
+    @Setup
+    public void createTestOutcomes() {
+        outcomes = new ArrayList<>(TEST_CASES);
+        for (int row = 1; row <= TEST_CASES; row++) {
+            TestOutcome outcome = TestOutcome.forTest("should_handle_each_row", AParameterisedTest.class);
+            TestStep step = new TestStep("Row " + row + ": check the value");
+            if (row % 10 == 0) {
+                step.failedWith(new AssertionError("Expected <" + row + "> but was <" + (row + 1) + ">"));
+            } else {
+                step.setResult(TestResult.SUCCESS);
+            }
+            outcome.recordStep(step);
+            outcomes.add(outcome);
+        }
+    }
+
+    @Benchmark
+    public void writeJUnitXMLReport() throws IOException {
+        converter.write("AParameterisedTest", outcomes, new NullOutputStream());
+    }
+}
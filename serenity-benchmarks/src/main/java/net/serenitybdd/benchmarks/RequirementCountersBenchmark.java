@@ -0,0 +1,149 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.issues.IssueTracking;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.html.ReportNameProvider;
+import net.thucydides.core.requirements.model.Requirement;
+import net.thucydides.core.requirements.reports.RequirementOutcome;
+import net.thucydides.core.requirements.reports.RequirementsOutcomes;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the requirement counters the way the requirements report pages do, for a tree of 5,000 requirements
+ * (50 capabilities, each with 9 features of 10 stories) and 100,000 tests. One story in nine has no tests,
+ * and one test in ten fails.
+ * <p>
+ * The report pages read the same counters many times over for each requirement, so the counters
+ * are read several times for each requirement outcome.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class RequirementCountersBenchmark {
+
+    private static final int CAPABILITIES = 50;
+    private static final int FEATURES_PER_CAPABILITY = 9;
+    private static final int STORIES_PER_FEATURE = 10;
+    private static final int TESTS_PER_TESTED_STORY = 25;
+    private static final int READS_PER_REQUIREMENT = 10;
+
+    private final IssueTracking issueTracking = stub(IssueTracking.class);
+    private final MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+
+    private List<Requirement> capabilities;
+    private TestOutcomes testOutcomes;
+    private RequirementsOutcomes requirementsOutcomes;
+
+    @Setup
+    public void createRequirementsAndTests() {
+        capabilities = new ArrayList<>();
+        List<TestOutcome> outcomes = new ArrayList<>();
+        int storyNumber = 0;
+        for (int capability = 1; capability <= CAPABILITIES; capability++) {
+            String capabilityName = "Capability " + capability;
+            List<Requirement> features = new ArrayList<>();
+            for (int feature = 1; feature <= FEATURES_PER_CAPABILITY; feature++) {
+                String featureName = capabilityName + " feature " + feature;
+                List<Requirement> stories = new ArrayList<>();
+                for (int story = 1; story <= STORIES_PER_FEATURE; story++) {
+                    Requirement userStory = requirement(featureName + " story " + story, "story", featureName);
+                    stories.add(userStory);
+                    if (++storyNumber % 9 != 0) {
+                        outcomes.addAll(testsFor(userStory));
+                    }
+                }
+                features.add(requirement(featureName, "feature", capabilityName).withChildren(stories));
+            }
+            capabilities.add(requirement(capabilityName, "capability", null).withChildren(features));
+        }
+        testOutcomes = TestOutcomes.of(outcomes);
+        requirementsOutcomes = requirementsOutcomes();
+    }
+
+    private Requirement requirement(String name, String type, String parent) {
+        return Requirement.named(name).withType(type).withNarrative("").withParent(parent);
+    }
+
+    private List<TestOutcome> testsFor(Requirement story) {
+        List<TestOutcome> tests = new ArrayList<>(TESTS_PER_TESTED_STORY);
+        for (int test = 1; test <= TESTS_PER_TESTED_STORY; test++) {
+            TestOutcome outcome = TestOutcome.forTestInStory("test " + test + " of " + story.getName(),
+                                                             Story.called(story.getName()));
+            outcome.addTags(Collections.singletonList(story.asTag()));
+            outcome.setAnnotatedResult((test % 10 == 0) ? TestResult.FAILURE : TestResult.SUCCESS);
+            tests.add(outcome);
+        }
+        return tests;
+    }
+
+    private RequirementsOutcomes requirementsOutcomes() {
+        return new RequirementsOutcomes(capabilities, testOutcomes, issueTracking, environmentVariables,
+                                        Collections.emptyList(), new ReportNameProvider());
+    }
+
+    /**
+     * Build the requirement outcomes and read each counter once, as the first report page does.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void buildAndCountRequirements(Blackhole blackhole) {
+        readCountersOf(requirementsOutcomes(), 1, blackhole);
+    }
+
+    /**
+     * Read the counters of requirement outcomes that have already been built, as the later report pages do.
+     */
+    @Benchmark
+    public void readRequirementCounters(Blackhole blackhole) {
+        readCountersOf(requirementsOutcomes, READS_PER_REQUIREMENT, blackhole);
+    }
+
+    private void readCountersOf(RequirementsOutcomes outcomes, int reads, Blackhole blackhole) {
+        for (int read = 0; read < reads; read++) {
+            blackhole.consume(outcomes.getCompletedRequirementsCount());
+            blackhole.consume(outcomes.getUnsuccessfulRequirementsCount());
+            blackhole.consume(outcomes.getPendingRequirementsCount());
+            blackhole.consume(outcomes.getIgnoredRequirementsCount());
+            blackhole.consume(outcomes.getRequirementsWithoutTestsCount());
+            blackhole.consume(outcomes.getEstimatedUnimplementedTests());
+            blackhole.consume(outcomes.getFlattenedRequirementCount());
+            blackhole.consume(outcomes.getTotalTestCount());
+
+            for (RequirementOutcome outcome : outcomes.getRequirementOutcomes()) {
+                blackhole.consume(outcome.isComplete());
+                blackhole.consume(outcome.isFailure());
+                blackhole.consume(outcome.isError());
+                blackhole.consume(outcome.isCompromised());
+                blackhole.consume(outcome.isPending());
+                blackhole.consume(outcome.isIgnored());
+                blackhole.consume(outcome.getTestCount());
+                blackhole.consume(outcome.getEstimatedUnimplementedTests());
+                blackhole.consume(outcome.count("AUTOMATED").withResult("SUCCESS"));
+                blackhole.consume(outcome.count("AUTOMATED").withResult("FAILURE"));
+                blackhole.consume(outcome.count("AUTOMATED").withIndeterminateResult());
+                blackhole.consume(outcome.count("MANUAL").withAnyResult());
+            }
+        }
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> null));
+    }
+}
@@ -0,0 +1,97 @@
+package net.serenitybdd.benchmarks;
+
+import net.serenitybdd.core.photography.Darkroom;
+import net.serenitybdd.core.photography.PhotoSession;
+import net.thucydides.core.screenshots.BlurLevel;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes 20 different 1280x1024 screenshots through a photo session and waits for the darkroom to save them,
+ * using a browser that returns generated PNG images rather than a real one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ScreenshotProcessingBenchmark {
+
+    private static final int SCREENSHOTS = 20;
+
+    private final byte[][] screenshots = new byte[SCREENSHOTS][];
+    private int nextScreenshot;
+
+    private WebDriver driver;
+    private Path outputDirectory;
+
+    @Setup
+    public void generateScreenshots() throws IOException {
+        for (int screenshot = 0; screenshot < SCREENSHOTS; screenshot++) {
+            screenshots[screenshot] = pageImage(screenshot);
+        }
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, TakesScreenshot.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getScreenshotAs":
+                            return ((OutputType<?>) args[0]).convertFromPngBytes(screenshots[nextScreenshot++ % SCREENSHOTS]);
+                        case "getCurrentUrl":
+                            return "http://localhost/page";
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private byte[] pageImage(int pageNumber) throws IOException {
+        BufferedImage image = new BufferedImage(1280, 1024, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 1280, 1024, new Color(200, 210, 230)));
+        graphics.fillRect(0, 0, 1280, 1024);
+        graphics.setColor(Color.DARK_GRAY);
+        for (int line = 0; line < 40; line++) {
+            graphics.drawString("Page " + pageNumber + ", line " + line + ": some text on the page", 40, 40 + line * 24);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("serenity-screenshots");
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+
+    @Benchmark
+    public void takeAndSaveScreenshots(Blackhole blackhole) {
+        Darkroom darkroom = new Darkroom();
+        PhotoSession photoSession = new PhotoSession(driver, darkroom, outputDirectory, BlurLevel.NONE);
+        for (int screenshot = 0; screenshot < SCREENSHOTS; screenshot++) {
+            blackhole.consume(photoSession.takeScreenshot());
+        }
+        darkroom.waitUntilClose();
+    }
+}
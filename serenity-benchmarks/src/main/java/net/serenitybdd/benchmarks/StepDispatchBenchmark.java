@@ -0,0 +1,90 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.annotations.Step;
+import net.thucydides.core.steps.BaseStepListener;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepFactory;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a test of five steps (one of them with two nested steps) through an instrumented step library,
+ * so that each step call goes through the StepInterceptor and is recorded by the base step listener.
+ * The tests are run in batches of 100, each batch recorded by a new base step listener, so that the
+ * score (the time taken to run a batch) does not depend on how many tests the listener has already recorded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, batchSize = StepDispatchBenchmark.TESTS_PER_BATCH)
+@Measurement(iterations = 20, batchSize = StepDispatchBenchmark.TESTS_PER_BATCH)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class StepDispatchBenchmark {
+
+    static final int TESTS_PER_BATCH = 100;
+
+    public static class ShoppingSteps {
+        int itemsInBasket;
+
+        @Step
+        public void opens_the_catalogue() {}
+
+        @Step("adds {0} to the basket")
+        public void adds_to_the_basket(String item) {
+            itemsInBasket++;
+        }
+
+        @Step
+        public void checks_out() {
+            enters_the_delivery_address();
+            pays_by_card();
+        }
+
+        @Step
+        public void enters_the_delivery_address() {}
+
+        @Step
+        public void pays_by_card() {}
+    }
+
+    private File outputDirectory;
+    private ShoppingSteps steps;
+    private int testNumber;
+
+    @Setup(Level.Iteration)
+    public void startTestSuite() throws IOException {
+        outputDirectory = Files.createTempDirectory("serenity-steps").toFile();
+        testNumber = 0;
+
+        StepEventBus.getEventBus().reset();
+        StepEventBus.getEventBus().registerListener(new BaseStepListener(outputDirectory));
+        StepEventBus.getEventBus().testSuiteStarted(StepDispatchBenchmark.class);
+
+        steps = new StepFactory().getNewStepLibraryFor(ShoppingSteps.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void finishTestSuite() throws IOException {
+        StepEventBus.getEventBus().testSuiteFinished();
+        StepEventBus.getEventBus().reset();
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public int runATest() {
+        StepEventBus.getEventBus().testStarted("Buying things " + (++testNumber));
+
+        steps.opens_the_catalogue();
+        steps.adds_to_the_basket("an apple");
+        steps.adds_to_the_basket("a pear");
+        steps.checks_out();
+
+        StepEventBus.getEventBus().testFinished();
+        return steps.itemsInBasket;
+    }
+}
@@ -0,0 +1,57 @@
+package net.serenitybdd.benchmarks;
+
+import net.serenitybdd.core.listeners.AbstractStepListener;
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the start and end of a step to each of the listeners registered with an event bus,
+ * as the event bus does for every step of every test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StepEventBusBenchmark {
+
+    @Param({"1", "10"})
+    public int listeners;
+
+    private final ExecutedStepDescription stepDescription = ExecutedStepDescription.withTitle("The user does something");
+
+    private StepEventBus eventBus;
+
+    public static class CountingListener extends AbstractStepListener {
+        int events;
+
+        @Override
+        public void stepStarted(ExecutedStepDescription description) {
+            events++;
+        }
+
+        @Override
+        public void stepFinished() {
+            events++;
+        }
+    }
+
+    @Setup
+    public void registerListeners() {
+        eventBus = new StepEventBus(new MockEnvironmentVariables());
+        for (int listener = 0; listener < listeners; listener++) {
+            eventBus.registerListener(new CountingListener());
+        }
+    }
+
+    @Benchmark
+    public void startAndFinishAStep() {
+        eventBus.stepStarted(stepDescription);
+        eventBus.stepFinished();
+    }
+}
@@ -0,0 +1,72 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.model.TestTag;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates test outcomes shaped like the ones real test runs record, so that the benchmarks run offline.
+ * Each feature belongs to one of ten capabilities, each test has a feature, capability, priority and component tag,
+ * each step has two nested steps, and one test in ten fails.
+ */
+class SyntheticTestOutcomes {
+
+    private static final ZonedDateTime START_TIME = ZonedDateTime.parse("2020-01-01T10:00:00Z");
+
+    static List<TestOutcome> forFeatures(int features, int testsPerFeature, int stepsPerTest) {
+        List<TestOutcome> outcomes = new ArrayList<>(features * testsPerFeature);
+        for (int feature = 1; feature <= features; feature++) {
+            for (int test = 1; test <= testsPerFeature; test++) {
+                outcomes.add(testOutcome(feature, test, stepsPerTest));
+            }
+        }
+        return outcomes;
+    }
+
+    static TestOutcome testOutcome(int feature, int test, int steps) {
+        String featureName = "Feature " + feature;
+        TestOutcome outcome = TestOutcome.forTestInStory("Scenario " + test + " of " + featureName, Story.called(featureName));
+        outcome.setStartTime(START_TIME.plusSeconds(feature * 1000L + test));
+        outcome.addTags(Arrays.asList(
+                TestTag.withName(featureName).andType("feature"),
+                TestTag.withName("Capability " + (feature % 10)).andType("capability"),
+                TestTag.withName((test % 3 == 0) ? "high" : "low").andType("priority"),
+                TestTag.withName("Component " + (test % 25)).andType("component")));
+
+        boolean failing = (test % 10 == 0);
+        for (int step = 1; step <= steps; step++) {
+            outcome.recordStep(stepWithNestedSteps(step, failing && step == steps));
+        }
+        outcome.setDuration(steps * 150L);
+        return outcome;
+    }
+
+    private static TestStep stepWithNestedSteps(int step, boolean failing) {
+        TestStep parentStep = new TestStep(START_TIME, "Step " + step + ": the user does something with <" + step + ">");
+        parentStep.addChildStep(nestedStep("Open the page for item " + step, false));
+        parentStep.addChildStep(nestedStep("Check the value of item " + step, failing));
+        parentStep.setDuration(150);
+        if (!failing) {
+            parentStep.setResult(TestResult.SUCCESS);
+        }
+        return parentStep;
+    }
+
+    private static TestStep nestedStep(String description, boolean failing) {
+        TestStep step = new TestStep(START_TIME, description);
+        step.setDuration(75);
+        if (failing) {
+            step.failedWith(new AssertionError("Expected <42> but was <43>"));
+        } else {
+            step.setResult(TestResult.SUCCESS);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,50 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filters 10,000 test outcomes (200 features of 50 tests) by tag, as the aggregate reports do for every tag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagFilteringBenchmark {
+
+    private static final TestTag FEATURE_TAG = TestTag.withName("Feature 100").andType("feature");
+    private static final TestTag CAPABILITY_TAG = TestTag.withName("Capability 3").andType("capability");
+
+    private TestOutcomes testOutcomes;
+
+    @Setup
+    public void createTestOutcomes() {
+        testOutcomes = TestOutcomes.of(SyntheticTestOutcomes.forFeatures(200, 50, 3));
+    }
+
+    /**
+     * A tag used by a few tests.
+     */
+    @Benchmark
+    public TestOutcomes filterByAFeatureTag() {
+        return testOutcomes.withTag(FEATURE_TAG);
+    }
+
+    /**
+     * A tag used by one test in ten.
+     */
+    @Benchmark
+    public TestOutcomes filterByACapabilityTag() {
+        return testOutcomes.withTag(CAPABILITY_TAG);
+    }
+
+    @Benchmark
+    public TestOutcomes filterByTagName() {
+        return testOutcomes.withTag("Capability 3");
+    }
+}
@@ -0,0 +1,88 @@
+package net.serenitybdd.benchmarks;
+
+import net.serenitybdd.core.pages.PageObject;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import net.serenitybdd.screenplay.targets.Target;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving Screenplay targets with building a page object for each lookup, as targets used to do.
+ * The driver is a stub that finds three elements for any locator, so only the cost of the resolution itself is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetResolutionBenchmark {
+
+    private static final String SELECTOR = "#search-form input[name='q']";
+
+    private WebDriver driver;
+    private Actor actor;
+    private Target target;
+
+    @Setup
+    public void prepareActor() {
+        driver = stub(WebDriver.class);
+        actor = Actor.named("Bench").whoCan(BrowseTheWeb.with(driver));
+        target = Target.the("search field").locatedBy(SELECTOR);
+    }
+
+    @Benchmark
+    public void resolveWithAPageObject(Blackhole blackhole) {
+        blackhole.consume(new LookupPage(driver).findBy(SELECTOR));
+    }
+
+    @Benchmark
+    public void resolveTarget(Blackhole blackhole) {
+        blackhole.consume(target.resolveFor(actor));
+    }
+
+    @Benchmark
+    public void resolveAllWithAPageObject(Blackhole blackhole) {
+        blackhole.consume(new LookupPage(driver).findAll(SELECTOR));
+    }
+
+    @Benchmark
+    public void resolveAllForTarget(Blackhole blackhole) {
+        blackhole.consume(target.resolveAllFor(actor));
+    }
+
+    static class LookupPage extends PageObject {
+        LookupPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "stub " + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "findElements":
+                    return matchingElements();
+                default:
+                    return (method.getReturnType() == boolean.class) ? false : null;
+            }
+        }));
+    }
+
+    private static List<WebElement> matchingElements() {
+        return Arrays.asList(stub(WebElement.class), stub(WebElement.class), stub(WebElement.class));
+    }
+}
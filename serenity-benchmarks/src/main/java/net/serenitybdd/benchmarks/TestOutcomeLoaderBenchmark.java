@@ -0,0 +1,54 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a directory of 2,000 test outcome files (40 features of 50 tests, each with 5 steps),
+ * written in the JSON or XML format, as the aggregate reports do before generating any pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TestOutcomeLoaderBenchmark {
+
+    @Param({"JSON", "XML"})
+    public String format;
+
+    private File outcomeDirectory;
+
+    @Setup
+    public void writeTestOutcomes() throws IOException {
+        outcomeDirectory = Files.createTempDirectory("serenity-outcomes").toFile();
+        AcceptanceTestReporter reporter = (format.equals("JSON")) ? new JSONTestOutcomeReporter() : new XMLTestOutcomeReporter();
+        reporter.setOutputDirectory(outcomeDirectory);
+        for (TestOutcome outcome : SyntheticTestOutcomes.forFeatures(40, 50, 5)) {
+            reporter.generateReportFor(outcome);
+        }
+    }
+
+    @TearDown
+    public void deleteTestOutcomes() throws IOException {
+        FileUtils.deleteDirectory(outcomeDirectory);
+    }
+
+    @Benchmark
+    public TestOutcomes loadTestOutcomes() throws IOException {
+        return TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.valueOf(format)).from(outcomeDirectory);
+    }
+}
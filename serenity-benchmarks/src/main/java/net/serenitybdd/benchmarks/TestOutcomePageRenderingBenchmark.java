@@ -0,0 +1,107 @@
+package net.serenitybdd.benchmarks;
+
+import net.serenitybdd.core.reports.styling.TagStylist;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.ReportOptions;
+import net.thucydides.core.reports.html.Formatter;
+import net.thucydides.core.reports.html.ReportNameProvider;
+import net.thucydides.core.reports.html.TagFilter;
+import net.thucydides.core.reports.html.TestOutcomeTimestamp;
+import net.thucydides.core.reports.templates.FreeMarkerTemplateManager;
+import net.thucydides.core.reports.templates.ReportTemplate;
+import net.thucydides.core.requirements.RequirementsService;
+import net.thucydides.core.tags.BreadcrumbTagFilter;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.Inflector;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.core.util.VersionProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the HTML page for a passing and a failing test outcome of 20 steps (each with two nested steps),
+ * merging the test outcome template through the FreeMarkerTemplateManager as the reports do for every test.
+ * The page context is prepared once, and the page is rendered in memory, so that neither the report resources
+ * nor the file system are part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestOutcomePageRenderingBenchmark {
+
+    private static final String TEST_OUTCOME_TEMPLATE = "freemarker/default.ftl";
+
+    private ReportTemplate testOutcomeTemplate;
+    private Map<String, Object> passingTestContext;
+    private Map<String, Object> failingTestContext;
+
+    @Setup
+    public void prepareTemplate() throws Exception {
+        testOutcomeTemplate = new FreeMarkerTemplateManager().getTemplateFrom(TEST_OUTCOME_TEMPLATE);
+
+        EnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        RequirementsService requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
+
+        passingTestContext = contextFor(SyntheticTestOutcomes.testOutcome(1, 1, 20), environmentVariables, requirementsService);
+        failingTestContext = contextFor(SyntheticTestOutcomes.testOutcome(1, 10, 20), environmentVariables, requirementsService);
+    }
+
+    /**
+     * The same context as the HtmlAcceptanceTestReporter builds for a test outcome belonging to a story.
+     */
+    private Map<String, Object> contextFor(TestOutcome testOutcome,
+                                           EnvironmentVariables environmentVariables,
+                                           RequirementsService requirementsService) {
+        ReportNameProvider reportNameProvider = new ReportNameProvider(Optional.empty(), ReportType.HTML, requirementsService);
+        VersionProvider versionProvider = new VersionProvider(environmentVariables);
+        String parentTitle = testOutcome.getUserStory().getName();
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("testOutcome", testOutcome);
+        context.put("currentTag", TestTag.EMPTY_TAG);
+        context.put("inflection", Inflector.getInstance());
+        context.put("styling", TagStylist.from(environmentVariables));
+        context.put("requirementTypes", requirementsService.getRequirementTypes());
+        context.put("parentRequirement", Optional.empty());
+        context.put("featureOrStory", Optional.of(testOutcome.getUserStory()));
+        context.put("parentTitle", parentTitle);
+        context.put("parentLink", reportNameProvider.forTag(testOutcome.getUserStory().asTag()));
+        context.put("breadcrumbs", new BreadcrumbTagFilter(requirementsService).getRequirementBreadcrumbsFrom(testOutcome));
+        context.put("filteredTags", new TagFilter(environmentVariables).removeTagsWithName(testOutcome.getTags(), parentTitle));
+        context.put("timestamp", TestOutcomeTimestamp.from(testOutcome));
+        context.put("reportOptions", new ReportOptions(environmentVariables, requirementsService));
+        context.put("formatter", new Formatter(environmentVariables));
+        context.put("reportName", reportNameProvider);
+        context.put("absoluteReportName", reportNameProvider);
+        context.put("serenityVersionNumber", versionProvider.getVersion());
+        context.put("buildNumber", versionProvider.getBuildNumberText());
+        return context;
+    }
+
+    @Benchmark
+    public String renderAPassingTestPage() throws Exception {
+        return render(passingTestContext);
+    }
+
+    @Benchmark
+    public String renderAFailingTestPage() throws Exception {
+        return render(failingTestContext);
+    }
+
+    private String render(Map<String, Object> context) throws Exception {
+        StringWriter page = new StringWriter();
+        testOutcomeTemplate.merge(context, page);
+        return page.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestLoader;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a test outcome with 20 steps (each with two nested steps) in the JSON or XML format, and reads it back,
+ * as each test does when it finishes and as the aggregate reports do for each test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestOutcomeReportRoundTripBenchmark {
+
+    @Param({"JSON", "XML"})
+    public String format;
+
+    private File outputDirectory;
+    private TestOutcome testOutcome;
+    private AcceptanceTestReporter reporter;
+    private AcceptanceTestLoader loader;
+
+    @Setup
+    public void createReporter() throws IOException {
+        outputDirectory = Files.createTempDirectory("serenity-round-trip").toFile();
+        testOutcome = SyntheticTestOutcomes.testOutcome(1, 10, 20);
+
+        if (format.equals("JSON")) {
+            JSONTestOutcomeReporter jsonReporter = new JSONTestOutcomeReporter();
+            reporter = jsonReporter;
+            loader = jsonReporter;
+        } else {
+            XMLTestOutcomeReporter xmlReporter = new XMLTestOutcomeReporter();
+            reporter = xmlReporter;
+            loader = xmlReporter;
+        }
+        reporter.setOutputDirectory(outputDirectory);
+    }
+
+    @TearDown
+    public void deleteReports() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public File writeReport() throws IOException {
+        return reporter.generateReportFor(testOutcome);
+    }
+
+    @Benchmark
+    public Optional<TestOutcome> writeAndReadReport() throws IOException {
+        return loader.loadReportFrom(reporter.generateReportFor(testOutcome));
+    }
+}
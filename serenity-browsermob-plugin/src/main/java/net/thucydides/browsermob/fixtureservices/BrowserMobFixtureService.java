@@ -2,12 +2,12 @@ package net.thucydides.browsermob.fixtureservices;
 
 import com.google.common.base.Splitter;
 import net.lightbody.bmp.BrowserMobProxy;
-import net.lightbody.bmp.BrowserMobProxyServer;
 import net.lightbody.bmp.client.ClientUtil;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.fixtureservices.FixtureException;
 import net.thucydides.core.fixtureservices.FixtureService;
 import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.Proxy;
@@ -15,19 +15,22 @@ import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
-import static net.thucydides.browsermob.fixtureservices.BrowserMobSystemProperties.BROWSER_MOB_PROXY;
+import static net.thucydides.browsermob.fixtureservices.BrowserMobSystemProperties.*;
 import static net.thucydides.core.webdriver.WebDriverFactory.getDriverFrom;
 
 public class BrowserMobFixtureService implements FixtureService {
 
     public static final int DEFAULT_PORT = 5555;
     private static final int MIN_AVAILABLE_PORT = 49152;
+    private static final int NO_CONTENT = 204;
 
     private final EnvironmentVariables environmentVariables;
     private Ports ports;
 
     private ThreadLocal<BrowserMobProxy> threadLocalproxyServer = new  ThreadLocal<>();
+    private ThreadLocal<HarStepListener> threadLocalHarListener = new ThreadLocal<>();
 
     public BrowserMobFixtureService() {
         this(Injectors.getInjector().getProvider(EnvironmentVariables.class).get() );
@@ -47,7 +50,7 @@ public class BrowserMobFixtureService implements FixtureService {
     public void setup() throws FixtureException {
         if (useBrowserMobProxyManager()) {
             try {
-                initializeProxy(getAvailablePort());
+                initializeProxy();
             } catch (Exception e) {
                 throw new FixtureException("Failed to initialize proxy", e);
             }
@@ -58,12 +61,67 @@ public class BrowserMobFixtureService implements FixtureService {
         return getBrowserMobProxy();
     }
 
-    private void initializeProxy(int port) throws Exception {
+    private void initializeProxy() throws Exception {
+        if (poolSize() > 0) {
+            threadLocalproxyServer.set(leasePooledProxy());
+        } else {
+            threadLocalproxyServer.set(startNewProxy(getAvailablePort()));
+        }
+        blackholeHostsFor(getBrowserMobProxy());
+        if (environmentVariables.getPropertyAsBoolean(BROWSER_MOB_HAR_PER_STEP, false)) {
+            recordStepHarsFor(getBrowserMobProxy());
+        }
+    }
+
+    /**
+     * Pooled proxies can listen on any port, so prefer one on the configured port, and only fall back to
+     * another idle proxy (as an unpooled proxy would fall back to another port) if the configured port is taken.
+     */
+    private BrowserMobProxy leasePooledProxy() throws Exception {
+        int configuredPort = defaultPortDefinedIn(environmentVariables);
+        BrowserMobProxyPool pool = BrowserMobProxyPool.sharedPool();
+
+        java.util.Optional<BrowserMobProxy> proxyOnConfiguredPort = pool.leaseProxyOnPort(configuredPort);
+        if (proxyOnConfiguredPort.isPresent()) {
+            return proxyOnConfiguredPort.get();
+        }
+        if (ports.isAvailable(configuredPort)) {
+            return startNewProxy(configuredPort);
+        }
+        return pool.lease(() -> startNewProxy(getAvailablePort()));
+    }
+
+    protected BrowserMobProxy newProxyServer() {
+        return new PoolableBrowserMobProxyServer();
+    }
+
+    private BrowserMobProxy startNewProxy(int port) {
         boolean refuseUntrustedCertificates = environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.REFUSE_UNTRUSTED_CERTIFICATES, false);
-        threadLocalproxyServer.set(new BrowserMobProxyServer());
+        BrowserMobProxy proxy = newProxyServer();
+        proxy.setTrustAllServers(!refuseUntrustedCertificates);
+        proxy.start(port);
+        return proxy;
+    }
 
-        getBrowserMobProxy().setTrustAllServers(!refuseUntrustedCertificates);
-        getBrowserMobProxy().start(port);
+    private void blackholeHostsFor(BrowserMobProxy proxy) {
+        String blackholeHosts = environmentVariables.getProperty(BROWSER_MOB_BLACKHOLE_HOSTS, "");
+        Splitter.on(",").trimResults().omitEmptyStrings().splitToList(blackholeHosts)
+                .forEach(host -> proxy.blacklistRequests(blackholePatternFor(host), NO_CONTENT));
+    }
+
+    static String blackholePatternFor(String host) {
+        return "(https?://)?([^/]*\\.)?" + Pattern.quote(host) + "(:\\d+)?(/.*)?";
+    }
+
+    private void recordStepHarsFor(BrowserMobProxy proxy) {
+        proxy.newHar();
+        HarStepListener harListener = new HarStepListener(proxy, StepEventBus.getEventBus());
+        StepEventBus.getEventBus().registerListener(harListener);
+        threadLocalHarListener.set(harListener);
+    }
+
+    private int poolSize() {
+        return environmentVariables.getPropertyAsInteger(BROWSER_MOB_POOL_SIZE, 0);
     }
 
     private BrowserMobProxy getBrowserMobProxy() {
@@ -72,9 +130,17 @@ public class BrowserMobFixtureService implements FixtureService {
 
     @Override
     public void shutdown() {
+        if (threadLocalHarListener.get() != null) {
+            StepEventBus.getEventBus().dropListener(threadLocalHarListener.get());
+            threadLocalHarListener.remove();
+        }
         if (getBrowserMobProxy() != null) {
             try {
-                getBrowserMobProxy().stop();
+                if (poolSize() > 0) {
+                    BrowserMobProxyPool.sharedPool().release(getBrowserMobProxy(), poolSize());
+                } else {
+                    getBrowserMobProxy().stop();
+                }
             } catch (Exception e) {
                 throw new FixtureException("Could not shut down BrowserMob proxy", e);
             }
@@ -0,0 +1,125 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.proxy.CaptureType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps started BrowserMob proxy servers so that they can be reused by later tests,
+ * rather than starting a new server (and probing for a free port) for every test.
+ * Proxies are reset to a clean state when they are returned to the pool, or stopped if they cannot be.
+ */
+public class BrowserMobProxyPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserMobProxyPool.class);
+
+    private static final BrowserMobProxyPool SHARED_POOL = new BrowserMobProxyPool();
+
+    private final BlockingDeque<BrowserMobProxy> idleProxies = new LinkedBlockingDeque<>();
+
+    BrowserMobProxyPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    public static BrowserMobProxyPool sharedPool() {
+        return SHARED_POOL;
+    }
+
+    /**
+     * Take an idle proxy from the pool, or start a new one if none are available.
+     */
+    public BrowserMobProxy lease(Callable<BrowserMobProxy> startNewProxy) throws Exception {
+        BrowserMobProxy proxy;
+        while ((proxy = idleProxies.pollFirst()) != null) {
+            if (proxy.isStarted()) {
+                return proxy;
+            }
+        }
+        return startNewProxy.call();
+    }
+
+    /**
+     * Take an idle proxy listening on a given port, if the pool holds one.
+     */
+    public Optional<BrowserMobProxy> leaseProxyOnPort(int port) {
+        for (BrowserMobProxy proxy : idleProxies) {
+            if (proxy.getPort() == port && idleProxies.removeFirstOccurrence(proxy)) {
+                if (proxy.isStarted()) {
+                    return Optional.of(proxy);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Return a proxy to the pool, or stop it if the pool already holds the maximum number of idle proxies.
+     */
+    public void release(BrowserMobProxy proxy, int maximumIdleProxies) {
+        if (proxy.isStarted() && idleProxies.size() < maximumIdleProxies && resetStateOf(proxy)) {
+            idleProxies.offerFirst(proxy);
+        } else {
+            stop(proxy);
+        }
+    }
+
+    public int getIdleProxyCount() {
+        return idleProxies.size();
+    }
+
+    public void shutdown() {
+        BrowserMobProxy proxy;
+        while ((proxy = idleProxies.pollFirst()) != null) {
+            stop(proxy);
+        }
+    }
+
+    /**
+     * Put the proxy back into the state it was started in.
+     * Proxies started by the fixture service keep track of the changes that cannot be undone through the BrowserMob API
+     * (such as request filters), and are not reused if they have any.
+     *
+     * @return false if the proxy could not be reset, and should be stopped rather than reused
+     */
+    private boolean resetStateOf(BrowserMobProxy proxy) {
+        if (proxy instanceof PoolableBrowserMobProxyServer
+                && !((PoolableBrowserMobProxyServer) proxy).resetToInitialState()) {
+            LOGGER.debug("BrowserMob proxy on port {} has been changed in a way that cannot be undone: stopping it", proxy.getPort());
+            return false;
+        }
+        if (proxy.getHar() != null) {
+            proxy.endHar();
+        }
+        proxy.setHarCaptureTypes(EnumSet.noneOf(CaptureType.class));
+        proxy.clearBlacklist();
+        proxy.disableWhitelist();
+        proxy.clearRewriteRules();
+        proxy.removeAllHeaders();
+        proxy.setReadBandwidthLimit(0);
+        proxy.setWriteBandwidthLimit(0);
+        proxy.setLatency(0, TimeUnit.MILLISECONDS);
+        if (proxy.getHostNameResolver() != null) {
+            proxy.getHostNameResolver().clearHostRemappings();
+            proxy.getHostNameResolver().clearDNSCache();
+        }
+        return true;
+    }
+
+    private void stop(BrowserMobProxy proxy) {
+        try {
+            if (proxy.isStarted()) {
+                proxy.stop();
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Could not shut down BrowserMob proxy on port {}: {}", proxy.getPort(), e.getMessage());
+        }
+    }
+}
@@ -11,7 +11,27 @@ public enum BrowserMobSystemProperties {
     /**
      * Optional proxy port to use for Browser Mob.
      */
-    BROWSER_MOB_PROXY;
+    BROWSER_MOB_PROXY,
+
+    /**
+     * How many idle proxy servers to keep for reuse by later tests.
+     * Reusing proxies avoids starting a new server and probing for a free port for every test.
+     * Defaults to 0, which starts a fresh proxy server for each test.
+     */
+    BROWSER_MOB_POOL_SIZE,
+
+    /**
+     * Record the network traffic going through the proxy, and summarise the requests made during each test step
+     * (request count, bytes transferred and the slowest requests) in the step timings.
+     */
+    BROWSER_MOB_HAR_PER_STEP,
+
+    /**
+     * A comma-separated list of hosts (typically third-party analytics or advertising domains) whose requests
+     * should be answered immediately with an empty response rather than sent over the network.
+     * Subdomains of the listed hosts are also blocked.
+     */
+    BROWSER_MOB_BLACKHOLE_HOSTS;
 
     @Override
     public String toString() {
@@ -0,0 +1,117 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.serenitybdd.core.listeners.AbstractStepListener;
+import net.thucydides.core.model.StepTimings;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepFailure;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Summarises the network traffic recorded by a BrowserMob proxy for each test step,
+ * and adds the summary to the step timings so that it appears in the test report.
+ */
+public class HarStepListener extends AbstractStepListener {
+
+    static final int SLOWEST_REQUEST_COUNT = 3;
+
+    private final BrowserMobProxy proxy;
+    private final StepEventBus eventBus;
+    private final Deque<StepMark> openSteps = new ArrayDeque<>();
+
+    public HarStepListener(BrowserMobProxy proxy, StepEventBus eventBus) {
+        this.proxy = proxy;
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void stepStarted(ExecutedStepDescription description) {
+        eventBus.currentStepTimingRecorder().ifPresent(
+                recorder -> openSteps.push(new StepMark(recorder, recordedEntries().size()))
+        );
+    }
+
+    @Override
+    public void stepFinished() {
+        summariseNetworkActivityForCurrentStep();
+    }
+
+    @Override
+    public void stepFailed(StepFailure failure) {
+        summariseNetworkActivityForCurrentStep();
+    }
+
+    @Override
+    public void stepIgnored() {
+        summariseNetworkActivityForCurrentStep();
+    }
+
+    @Override
+    public void stepPending() {
+        summariseNetworkActivityForCurrentStep();
+    }
+
+    @Override
+    public void stepPending(String message) {
+        summariseNetworkActivityForCurrentStep();
+    }
+
+    @Override
+    public void testFinished(TestOutcome result) {
+        openSteps.clear();
+        proxy.newHar();
+    }
+
+    private void summariseNetworkActivityForCurrentStep() {
+        if (openSteps.isEmpty()) {
+            return;
+        }
+        StepMark mark = openSteps.pop();
+        List<HarEntry> entries = recordedEntries();
+        if (entries.size() <= mark.firstEntry) {
+            return;
+        }
+        List<HarEntry> stepEntries = new ArrayList<>(entries.subList(mark.firstEntry, entries.size()));
+
+        long bytes = stepEntries.stream().mapToLong(HarStepListener::bytesTransferredBy).sum();
+        List<StepTimings.NetworkRequest> slowestRequests = stepEntries.stream()
+                .sorted(Comparator.comparingLong((HarEntry entry) -> entry.getTime()).reversed())
+                .limit(SLOWEST_REQUEST_COUNT)
+                .map(entry -> new StepTimings.NetworkRequest(entry.getRequest().getUrl(), entry.getTime()))
+                .collect(toList());
+
+        mark.timings.record(timings -> timings.recordNetworkActivity(stepEntries.size(), bytes, slowestRequests));
+    }
+
+    private static long bytesTransferredBy(HarEntry entry) {
+        if (entry.getResponse() == null) {
+            return 0;
+        }
+        return Math.max(entry.getResponse().getBodySize(), 0) + Math.max(entry.getResponse().getHeadersSize(), 0);
+    }
+
+    private List<HarEntry> recordedEntries() {
+        Har har = proxy.getHar();
+        if (har == null || har.getLog() == null) {
+            return Collections.emptyList();
+        }
+        return har.getLog().getEntries();
+    }
+
+    private static class StepMark {
+        private final StepTimings.Recorder timings;
+        private final int firstEntry;
+
+        StepMark(StepTimings.Recorder timings, int firstEntry) {
+            this.timings = timings;
+            this.firstEntry = firstEntry;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package net.thucydides.browsermob.fixtureservices;
+
+import net.lightbody.bmp.BrowserMobProxyServer;
+import net.lightbody.bmp.filters.RequestFilter;
+import net.lightbody.bmp.filters.ResponseFilter;
+import net.lightbody.bmp.mitm.TrustSource;
+import net.lightbody.bmp.proxy.auth.AuthType;
+import net.lightbody.bmp.proxy.dns.AdvancedHostResolver;
+import org.littleshoot.proxy.HttpFiltersSource;
+import org.littleshoot.proxy.MitmManager;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A BrowserMob proxy server that keeps track of the changes made to it once it has been started,
+ * so that the proxy pool can put it back into its initial state before another test uses it.
+ * Filters, chained proxies, host resolvers, certificate and timeout settings cannot be taken back once they
+ * have been set, so a proxy with any of these changes cannot be reused.
+ */
+class PoolableBrowserMobProxyServer extends BrowserMobProxyServer {
+
+    private final Set<String> autoAuthorizedDomains = ConcurrentHashMap.newKeySet();
+    private volatile int filterFactoriesWhenStarted;
+    private volatile boolean startedOnce;
+    private volatile boolean permanentlyModified;
+
+    @Override
+    public void start(int port, InetAddress clientBindAddress, InetAddress serverBindAddress) {
+        super.start(port, clientBindAddress, serverBindAddress);
+        filterFactoriesWhenStarted = getFilterFactories().size();
+        startedOnce = true;
+    }
+
+    /**
+     * Undo the changes made since the proxy was started.
+     *
+     * @return false if the proxy has been changed in a way that cannot be undone, in which case it should not be reused
+     */
+    boolean resetToInitialState() {
+        if (permanentlyModified || getFilterFactories().size() != filterFactoriesWhenStarted) {
+            return false;
+        }
+        autoAuthorizedDomains.forEach(super::stopAutoAuthorization);
+        autoAuthorizedDomains.clear();
+        return true;
+    }
+
+    @Override
+    public void autoAuthorization(String domain, String username, String password, AuthType authType) {
+        super.autoAuthorization(domain, username, password, authType);
+        autoAuthorizedDomains.add(domain);
+    }
+
+    @Override
+    public void stopAutoAuthorization(String domain) {
+        super.stopAutoAuthorization(domain);
+        autoAuthorizedDomains.remove(domain);
+    }
+
+    @Override
+    public void chainedProxyAuthorization(String username, String password, AuthType authType) {
+        super.chainedProxyAuthorization(username, password, authType);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setChainedProxy(InetSocketAddress chainedProxyAddress) {
+        super.setChainedProxy(chainedProxyAddress);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setHostNameResolver(AdvancedHostResolver resolver) {
+        super.setHostNameResolver(resolver);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void addRequestFilter(RequestFilter filter) {
+        super.addRequestFilter(filter);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void addResponseFilter(ResponseFilter filter) {
+        super.addResponseFilter(filter);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void addFirstHttpFilterFactory(HttpFiltersSource filterFactory) {
+        super.addFirstHttpFilterFactory(filterFactory);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void addLastHttpFilterFactory(HttpFiltersSource filterFactory) {
+        super.addLastHttpFilterFactory(filterFactory);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setMitmDisabled(boolean mitmDisabled) {
+        super.setMitmDisabled(mitmDisabled);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setMitmManager(MitmManager mitmManager) {
+        super.setMitmManager(mitmManager);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setTrustAllServers(boolean trustAllServers) {
+        super.setTrustAllServers(trustAllServers);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setTrustSource(TrustSource trustSource) {
+        super.setTrustSource(trustSource);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setConnectTimeout(int connectionTimeout, TimeUnit timeUnit) {
+        super.setConnectTimeout(connectionTimeout, timeUnit);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setIdleConnectionTimeout(int idleConnectionTimeout, TimeUnit timeUnit) {
+        super.setIdleConnectionTimeout(idleConnectionTimeout, timeUnit);
+        recordPermanentChange();
+    }
+
+    @Override
+    public void setRequestTimeout(int requestTimeout, TimeUnit timeUnit) {
+        super.setRequestTimeout(requestTimeout, timeUnit);
+        recordPermanentChange();
+    }
+
+    /**
+     * Settings made before the proxy is started are part of its initial state.
+     */
+    private void recordPermanentChange() {
+        if (startedOnce) {
+            permanentlyModified = true;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package net.thucydides.browsermob.fixtureservices
+
+import net.lightbody.bmp.BrowserMobProxy
+import net.lightbody.bmp.core.har.Har
+import net.lightbody.bmp.core.har.HarEntry
+import net.lightbody.bmp.core.har.HarLog
+import net.lightbody.bmp.core.har.HarRequest
+import net.lightbody.bmp.core.har.HarResponse
+import net.lightbody.bmp.filters.RequestFilter
+import net.lightbody.bmp.proxy.auth.AuthType
+import net.lightbody.bmp.proxy.dns.AdvancedHostResolver
+import net.thucydides.core.model.StepTimings
+import net.thucydides.core.model.TestStep
+import net.thucydides.core.steps.ExecutedStepDescription
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class WhenPoolingBrowsermobProxies extends Specification {
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def "should reuse a released proxy rather than starting a new one"() {
+        given:
+            def pool = new BrowserMobProxyPool()
+            def proxy = Mock(BrowserMobProxy)
+            proxy.isStarted() >> true
+        when:
+            pool.release(proxy, 1)
+            def leasedProxy = pool.lease({ throw new AssertionError("Should not start a new proxy") })
+        then:
+            leasedProxy == proxy
+            pool.idleProxyCount == 0
+        and: "the proxy state is reset before reuse"
+            1 * proxy.clearBlacklist()
+            1 * proxy.clearRewriteRules()
+    }
+
+    def "should clear the whitelist, limits and host remappings before a proxy is reused"() {
+        given:
+            def pool = new BrowserMobProxyPool()
+            def hostResolver = Mock(AdvancedHostResolver)
+            def proxy = Mock(BrowserMobProxy) {
+                isStarted() >> true
+                getHostNameResolver() >> hostResolver
+            }
+        when:
+            pool.release(proxy, 1)
+        then:
+            pool.idleProxyCount == 1
+            1 * proxy.disableWhitelist()
+            1 * proxy.setReadBandwidthLimit(0)
+            1 * proxy.setWriteBandwidthLimit(0)
+            1 * proxy.setLatency(0, TimeUnit.MILLISECONDS)
+            1 * hostResolver.clearHostRemappings()
+    }
+
+    def "a started proxy should be reused without its whitelist or authorizations"() {
+        given:
+            def pool = new BrowserMobProxyPool()
+            def proxy = new PoolableBrowserMobProxyServer()
+            proxy.start(0)
+        and:
+            proxy.whitelistRequests(["https://example.com/.*"], 404)
+            proxy.autoAuthorization("example.com", "user", "secret", AuthType.BASIC)
+        when:
+            pool.release(proxy, 1)
+        then:
+            pool.idleProxyCount == 1
+            proxy.started
+            !proxy.whitelistEnabled
+        cleanup:
+            pool.shutdown()
+    }
+
+    def "a proxy with a request filter should be stopped rather than reused"() {
+        given:
+            def pool = new BrowserMobProxyPool()
+            def proxy = new PoolableBrowserMobProxyServer()
+            proxy.start(0)
+        and:
+            proxy.addRequestFilter({ request, contents, messageInfo -> null } as RequestFilter)
+        when:
+            pool.release(proxy, 1)
+        then:
+            pool.idleProxyCount == 0
+        when: "the proxy has been stopped"
+            new Socket("localhost", proxy.port).close()
+        then:
+            thrown(ConnectException)
+        cleanup:
+            pool.shutdown()
+    }
+
+    def "should stop proxies that do not fit in the pool"() {
+        given:
+            def pool = new BrowserMobProxyPool()
+            def proxy1 = Mock(BrowserMobProxy) { isStarted() >> true }
+            def proxy2 = Mock(BrowserMobProxy) { isStarted() >> true }
+        when:
+            pool.release(proxy1, 1)
+            pool.release(proxy2, 1)
+        then:
+            pool.idleProxyCount == 1
+            1 * proxy2.stop()
+            0 * proxy1.stop()
+    }
+
+    def "should keep a pooled proxy running between tests when pooling is enabled"() {
+        given:
+            environmentVariables.setProperty("browser.mob.pool.size", "1")
+            def service = serviceWithStubProxies()
+        when:
+            service.setup()
+            def firstProxy = service.proxyServer
+            service.shutdown()
+        and:
+            service.setup()
+            def secondProxy = service.proxyServer
+        then:
+            firstProxy.is(secondProxy)
+            secondProxy.started
+        cleanup:
+            service.shutdown()
+            BrowserMobProxyPool.sharedPool().shutdown()
+    }
+
+    def "should prefer a pooled proxy on the configured port"() {
+        given:
+            environmentVariables.setProperty("browser.mob.pool.size", "2")
+            environmentVariables.setProperty("browser.mob.proxy", "6000")
+            def service = serviceWithStubProxies()
+        and:
+            def proxyOnAnotherPort = startedStubProxy(50000)
+            BrowserMobProxyPool.sharedPool().release(proxyOnAnotherPort, 2)
+        when:
+            service.setup()
+            def firstProxy = service.proxyServer
+            service.shutdown()
+        and:
+            service.setup()
+            def secondProxy = service.proxyServer
+        then:
+            firstProxy.port == 6000
+            secondProxy.is(firstProxy)
+            BrowserMobProxyPool.sharedPool().idleProxyCount == 1
+        cleanup:
+            service.shutdown()
+            BrowserMobProxyPool.sharedPool().shutdown()
+    }
+
+    def "should use a pooled proxy on another port if the configured port is taken"() {
+        given:
+            environmentVariables.setProperty("browser.mob.pool.size", "2")
+            environmentVariables.setProperty("browser.mob.proxy", "6000")
+            def service = serviceWithStubProxies([6000])
+        and:
+            def proxyOnAnotherPort = startedStubProxy(50000)
+            BrowserMobProxyPool.sharedPool().release(proxyOnAnotherPort, 2)
+        when:
+            service.setup()
+        then:
+            service.proxyServer.is(proxyOnAnotherPort)
+        cleanup:
+            service.shutdown()
+            BrowserMobProxyPool.sharedPool().shutdown()
+    }
+
+    def serviceWithStubProxies(List<Integer> portsInUse = []) {
+        def ports = new Ports(0) {
+            @Override
+            boolean isAvailable(int port) {
+                !portsInUse.contains(port)
+            }
+        }
+        return new BrowserMobFixtureService(environmentVariables, ports) {
+            @Override
+            protected BrowserMobProxy newProxyServer() {
+                stubProxy()
+            }
+        }
+    }
+
+    BrowserMobProxy startedStubProxy(int port) {
+        def proxy = stubProxy()
+        proxy.start(port)
+        return proxy
+    }
+
+    BrowserMobProxy stubProxy() {
+        boolean started = false
+        int port = 0
+        Stub(BrowserMobProxy) {
+            start(_ as Integer) >> { int portNumber -> started = true; port = portNumber }
+            stop() >> { started = false }
+            isStarted() >> { started }
+            getPort() >> { port }
+        }
+    }
+
+    def "blackholed hosts should match subdomains but not similar domains"() {
+        given:
+            def pattern = BrowserMobFixtureService.blackholePatternFor("analytics.com")
+        expect:
+            "https://analytics.com/track.js".matches(pattern)
+            "http://www.analytics.com:8080/collect?id=1".matches(pattern)
+            !"https://myanalytics.com/track.js".matches(pattern)
+            !"https://example.com/analytics.com".matches(pattern)
+    }
+
+    def "should summarise the network traffic recorded during each step"() {
+        given:
+            def har = new Har(new HarLog())
+            def proxy = Mock(BrowserMobProxy) { getHar() >> har }
+            def step = new TestStep("A step")
+            def recorder = { update -> step.recordTimings(update) } as StepTimings.Recorder
+            def eventBus = Mock(StepEventBus) { currentStepTimingRecorder() >> Optional.of(recorder) }
+            def listener = new HarStepListener(proxy, eventBus)
+        and:
+            har.log.addEntry(entry("http://example.com/before", 10, 100))
+        when:
+            listener.stepStarted(ExecutedStepDescription.withTitle("A step"))
+            har.log.addEntry(entry("http://example.com/fast", 5, 100))
+            har.log.addEntry(entry("http://example.com/slow", 500, 1000))
+            listener.stepFinished()
+        then:
+            step.timings.networkRequests == 2
+            step.timings.networkBytes == 1100
+            step.timings.slowestRequests*.url == ["http://example.com/slow", "http://example.com/fast"]
+    }
+
+    def entry(String url, long time, long bodySize) {
+        def entry = new HarEntry()
+        entry.request = new HarRequest()
+        entry.request.url = url
+        entry.response = new HarResponse()
+        entry.response.bodySize = bodySize
+        entry.timings.setWait(time, TimeUnit.MILLISECONDS)
+        entry
+    }
+}
@@ -2,10 +2,18 @@ package net.serenitybdd.core.eventbus;
 
 import com.google.common.eventbus.EventBus;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 public class Broadcaster {
 
     static private ThreadLocal<EventBus> eventBusThreadLocal = new ThreadLocal<>();
 
+    static private ThreadLocal<Map<Class<?>, List<?>>> listenersThreadLocal = ThreadLocal.withInitial(HashMap::new);
+
     public static EventBus getEventBus() {
         if (eventBusThreadLocal.get() == null) {
             eventBusThreadLocal.set(new EventBus());
@@ -13,8 +21,38 @@ public class Broadcaster {
         return eventBusThreadLocal.get();
     }
 
+    /**
+     * Post an event to the event bus of this thread, if anything has registered with it.
+     */
+    public static void post(Object event) {
+        EventBus eventBus = eventBusThreadLocal.get();
+        if (eventBus != null) {
+            eventBus.post(event);
+        }
+    }
+
+    /**
+     * Register a listener that is called directly, rather than through the event bus, for events of a known type.
+     */
+    public static <L> void registerListener(Class<L> listenerType, L listener) {
+        listenersOfType(listenerType).add(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L> List<L> getListeners(Class<L> listenerType) {
+        List<L> listeners = (List<L>) listenersThreadLocal.get().get(listenerType);
+        return (listeners == null) ? Collections.emptyList() : listeners;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L> List<L> listenersOfType(Class<L> listenerType) {
+        // Listeners may register while an event is being dispatched to the others
+        return (List<L>) listenersThreadLocal.get().computeIfAbsent(listenerType, type -> new CopyOnWriteArrayList<L>());
+    }
+
     public static void unregisterAllListeners() {
         eventBusThreadLocal.remove();
+        listenersThreadLocal.remove();
     }
 
 }
@@ -30,6 +30,11 @@ public abstract class AbstractStepListener implements StepListener {
 
     }
 
+    @Override
+    public void testStarted(String description, String id) {
+
+    }
+
     @Override
     public void testFinished(TestOutcome result) {
 
@@ -134,4 +139,9 @@ public abstract class AbstractStepListener implements StepListener {
     public void assumptionViolated(String message) {
 
     }
+
+    @Override
+    public void testRunFinished() {
+
+    }
 }
@@ -60,7 +60,7 @@ public class RenderedPageObjectView {
     public ThucydidesFluentWait<WebDriver> waitForCondition() {
         return new NormalFluentWait<>(driver, webdriverClock, sleeper)
                 .withTimeout(waitForTimeout)
-                .pollingEvery(WAIT_FOR_ELEMENT_PAUSE_LENGTH, TimeUnit.MILLISECONDS)
+                .pollingAdaptively(Duration.ofMillis(WAIT_FOR_ELEMENT_PAUSE_LENGTH))
                 .ignoring(NoSuchElementException.class,
                         NoSuchFrameException.class,
                         StaleElementReferenceException.class,
@@ -6,6 +6,8 @@ import net.serenitybdd.core.environment.ConfiguredEnvironment;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.thucydides.core.WebdriverCollectionStrategy;
 import net.thucydides.core.annotations.ElementIsUsable;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.ConfigurableTimeouts;
@@ -163,7 +165,9 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     public WebElement ajaxFindElement() {
         SlowLoadingElement loadingElement = new SlowLoadingElement(clock, annotatedTimeoutInSeconds.orElse(getTimeOutInSeconds()));
         try {
-            return loadingElement.get().getElement();
+            WebElement element = loadingElement.get().getElement();
+            loadingElement.polling.conditionMet();
+            return element;
         } catch (ElementNotVisibleAfterTimeoutError notVisible) {
             throw new ElementNotVisibleException(
                     String.format("Timed out after %d seconds. %s", annotatedTimeoutInSeconds.orElse(getTimeOutInSeconds()), notVisible.getMessage()),
@@ -195,7 +199,9 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
         }
         SlowLoadingElementList list = new SlowLoadingElementList(clock, annotatedTimeoutInSeconds.orElse(getTimeOutInSeconds()));
         try {
-            return list.get().getElements();
+            List<WebElement> elements = list.get().getElements();
+            list.polling.conditionMet();
+            return elements;
         } catch (Error e) {
             throw new NoSuchElementException(
                     String.format("Timed out after %d seconds. %s", annotatedTimeoutInSeconds.orElse(getTimeOutInSeconds()), e.getMessage()),
@@ -209,7 +215,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     }
 
     /**
-     * By default, we sleep for 250ms between polls. You may override this method in order to change
+     * By default, we poll about every 250ms, according to the shared polling strategy. You may override this method in order to change
      * how it sleeps.
      *
      * @return Duration to sleep in milliseconds
@@ -218,9 +224,14 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
         return 250;
     }
 
+    private PollingStrategy.Polling startPolling() {
+        return PollingStrategies.shared().startPolling(toString(), Duration.ofMillis(sleepFor()));
+    }
+
     private class SlowLoadingElement extends SlowLoadableComponent<SlowLoadingElement> {
         private Optional<WebDriverException> lastException = Optional.empty();
         private WebElement element;
+        private final PollingStrategy.Polling polling = startPolling();
 
         public SlowLoadingElement(Clock clock, int timeOutInSeconds) {
             super(clock, timeOutInSeconds);
@@ -240,7 +251,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
 
         @Override
         protected long sleepFor() {
-            return SmartAjaxElementLocator.this.sleepFor();
+            return polling.nextInterval().toMillis();
         }
 
         @Override
@@ -276,6 +287,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     private class SlowLoadingElementList extends SlowLoadableComponent<SlowLoadingElementList> {
         private Optional<WebDriverException> lastException = Optional.empty();
         private List<WebElement> elements;
+        private final PollingStrategy.Polling polling = startPolling();
 
         public SlowLoadingElementList(Clock clock, int timeOutInSeconds) {
             super(clock, timeOutInSeconds);
@@ -295,7 +307,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
 
         @Override
         protected long sleepFor() {
-            return SmartAjaxElementLocator.this.sleepFor();
+            return polling.nextInterval().toMillis();
         }
 
         @Override
@@ -0,0 +1,81 @@
+package net.thucydides.core.scheduling;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Checks a condition often at first, when it is most likely to have just become true, and then backs off exponentially,
+ * so that long waits send fewer commands to the browser.
+ * <p>
+ * Each interval is varied at random by up to 20%, so that parallel tests polling a remote grid do not do so in step.
+ * The strategy also remembers how long each condition usually takes to be met: a condition that usually takes a second
+ * is first checked again after half a second rather than straight away.
+ */
+public class AdaptivePollingStrategy implements PollingStrategy {
+
+    private static final Duration MINIMUM_INTERVAL = Duration.ofMillis(10);
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final int MAXIMUM_INTERVAL_IN_USUAL_INTERVALS = 4;
+    private static final double JITTER = 0.2;
+    private static final double WEIGHT_OF_LATEST_TIMING = 0.3;
+
+    private final Cache<String, Long> usualTimeToSuccessInMillis = CacheBuilder.newBuilder().maximumSize(1000).build();
+
+    private final DoubleSupplier randomFraction;
+
+    public AdaptivePollingStrategy() {
+        this(() -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    AdaptivePollingStrategy(DoubleSupplier randomFraction) {
+        this.randomFraction = randomFraction;
+    }
+
+    @Override
+    public Polling startPolling(String condition, Duration usualInterval) {
+        return new AdaptivePolling(condition, usualInterval);
+    }
+
+    Duration firstIntervalFor(String condition, Duration usualInterval) {
+        Long usualTimeToSuccess = usualTimeToSuccessInMillis.getIfPresent(condition);
+        long firstInterval = (usualTimeToSuccess != null) ? usualTimeToSuccess / 2 : usualInterval.toMillis() / 4;
+        return Duration.ofMillis(Math.max(MINIMUM_INTERVAL.toMillis(), Math.min(firstInterval, usualInterval.toMillis())));
+    }
+
+    private void recordTimeToSuccess(String condition, long timeToSuccessInMillis) {
+        Long usualTimeToSuccess = usualTimeToSuccessInMillis.getIfPresent(condition);
+        long updatedTimeToSuccess = (usualTimeToSuccess == null) ? timeToSuccessInMillis
+                : Math.round(WEIGHT_OF_LATEST_TIMING * timeToSuccessInMillis + (1 - WEIGHT_OF_LATEST_TIMING) * usualTimeToSuccess);
+        usualTimeToSuccessInMillis.put(condition, updatedTimeToSuccess);
+    }
+
+    private class AdaptivePolling implements Polling {
+        private final String condition;
+        private final long maximumIntervalInMillis;
+        private final long startTime = System.nanoTime();
+        private double intervalInMillis;
+
+        AdaptivePolling(String condition, Duration usualInterval) {
+            this.condition = condition;
+            this.maximumIntervalInMillis = Math.max(MINIMUM_INTERVAL.toMillis(), usualInterval.toMillis() * MAXIMUM_INTERVAL_IN_USUAL_INTERVALS);
+            this.intervalInMillis = firstIntervalFor(condition, usualInterval).toMillis();
+        }
+
+        @Override
+        public Duration nextInterval() {
+            double jitter = 1 + JITTER * (2 * randomFraction.getAsDouble() - 1);
+            long nextInterval = Math.round(intervalInMillis * jitter);
+            intervalInMillis = Math.min(intervalInMillis * BACKOFF_FACTOR, maximumIntervalInMillis);
+            return Duration.ofMillis(Math.max(1, nextInterval));
+        }
+
+        @Override
+        public void conditionMet() {
+            recordTimeToSuccess(condition, (System.nanoTime() - startTime) / 1000000);
+        }
+    }
+}
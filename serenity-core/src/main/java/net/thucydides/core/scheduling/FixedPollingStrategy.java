@@ -0,0 +1,22 @@
+package net.thucydides.core.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Checks the condition at the same interval every time.
+ */
+public class FixedPollingStrategy implements PollingStrategy {
+
+    @Override
+    public Polling startPolling(String condition, Duration usualInterval) {
+        return new Polling() {
+            @Override
+            public Duration nextInterval() {
+                return usualInterval;
+            }
+
+            @Override
+            public void conditionMet() {}
+        };
+    }
+}
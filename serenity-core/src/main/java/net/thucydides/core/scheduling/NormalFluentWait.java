@@ -18,6 +18,6 @@ public class NormalFluentWait<T> extends ThucydidesFluentWait<T> {
 
     @Override
     public void doWait() throws InterruptedException {
-        getSleeper().sleep(interval);
+        getSleeper().sleep(nextPollingInterval());
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package net.thucydides.core.scheduling;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Names the conditions that the polling strategy learns about, so that the same condition has the same name
+ * in every wait and in every JVM.
+ * <p>
+ * A condition that describes itself, such as a locator or an ExpectedCondition with a toString() method, is named
+ * by its description. Other conditions are named after their class, except for lambdas: the class the JVM generates
+ * for a lambda changes from one run to the next, so a lambda is named after the code that waits for it instead.
+ */
+public class PollingConditions {
+
+    private static final String LAMBDA_CLASS_MARKER = "$$Lambda$";
+
+    private static final String[] INFRASTRUCTURE_PACKAGES = {
+            "java.", "javax.", "sun.", "jdk.", "com.sun.", "org.codehaus.groovy.", "groovy.lang."
+    };
+
+    private static final String[] WAITING_CLASSES = {
+            PollingConditions.class.getName(), ThucydidesFluentWait.class.getName(),
+            NormalFluentWait.class.getName(), FluentWaitWithRefresh.class.getName()
+    };
+
+    public static String keyFor(Object condition) {
+        if (describesItself(condition)) {
+            return condition.toString();
+        }
+        if (!isLambda(condition)) {
+            return condition.getClass().getName();
+        }
+        return condition.getClass().getName().split("[$]")[0] + waitingCode().map(code -> " waited for in " + code).orElse("");
+    }
+
+    private static boolean describesItself(Object condition) {
+        try {
+            return condition.getClass().getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isLambda(Object condition) {
+        return condition.getClass().isSynthetic() || condition.getClass().getName().contains(LAMBDA_CLASS_MARKER);
+    }
+
+    /**
+     * The method and line that asked to wait for the condition, outside of the waiting code itself.
+     */
+    private static Optional<String> waitingCode() {
+        return Arrays.stream(new Throwable().getStackTrace())
+                .filter(frame -> !isWaitingCode(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber());
+    }
+
+    private static boolean isWaitingCode(String className) {
+        return Arrays.stream(INFRASTRUCTURE_PACKAGES).anyMatch(className::startsWith)
+                || Arrays.stream(WAITING_CLASSES).anyMatch(waitingClass -> className.equals(waitingClass) || className.startsWith(waitingClass + "$"));
+    }
+}
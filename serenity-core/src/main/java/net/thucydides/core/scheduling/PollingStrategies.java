@@ -0,0 +1,36 @@
+package net.thucydides.core.scheduling;
+
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_POLLING_STRATEGY;
+
+/**
+ * The polling strategy shared by the waits in this JVM, so that what is learned about conditions in one test benefits the next.
+ */
+public class PollingStrategies {
+
+    private static final PollingStrategy FIXED = new FixedPollingStrategy();
+
+    private static volatile PollingStrategy sharedStrategy;
+
+    public static PollingStrategy shared() {
+        if (sharedStrategy == null) {
+            synchronized (PollingStrategies.class) {
+                if (sharedStrategy == null) {
+                    sharedStrategy = forEnvironment(ConfiguredEnvironment.getEnvironmentVariables());
+                }
+            }
+        }
+        return sharedStrategy;
+    }
+
+    public static PollingStrategy fixed() {
+        return FIXED;
+    }
+
+    static PollingStrategy forEnvironment(EnvironmentVariables environmentVariables) {
+        String strategy = SERENITY_POLLING_STRATEGY.from(environmentVariables, "adaptive");
+        return strategy.trim().equalsIgnoreCase("fixed") ? FIXED : new AdaptivePollingStrategy();
+    }
+}
@@ -0,0 +1,30 @@
+package net.thucydides.core.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Decides how long a wait pauses between two checks of its condition.
+ */
+public interface PollingStrategy {
+
+    /**
+     * Start polling for a condition.
+     *
+     * @param condition     a name for the condition that stays the same from one run to the next, such as a locator,
+     *                      used to recognize the same condition in later waits (see PollingConditions)
+     * @param usualInterval the interval the caller would poll at if nothing else were known about the condition
+     */
+    Polling startPolling(String condition, Duration usualInterval);
+
+    interface Polling {
+        /**
+         * How long to wait before checking the condition again.
+         */
+        Duration nextInterval();
+
+        /**
+         * Called when the condition has been met, so that the strategy can learn how long it took.
+         */
+        void conditionMet();
+    }
+}
@@ -1,5 +1,6 @@
 package net.thucydides.core.scheduling;
 
+import net.thucydides.core.model.StepTimings;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.TemporalUnitConverter;
 import org.openqa.selenium.TimeoutException;
@@ -12,6 +13,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -22,6 +24,9 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
     protected Duration timeout =  Duration.ofMillis(500);;
     protected Duration interval = Duration.ofMillis(50);
 
+    private PollingStrategy pollingStrategy = PollingStrategies.shared();
+    private PollingStrategy.Polling polling;
+
     private List<Class<? extends RuntimeException>> ignoredExceptions = new LinkedList<>();
 
     private final Clock clock;
@@ -48,9 +53,27 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
 
     @Override
     public <V> V until(Function<? super T, V> isTrue) {
+        Optional<StepTimings.Recorder> stepTimings = StepEventBus.getEventBus().currentStepTimingRecorder();
+        long webdriverTimeBeforeWait = StepEventBus.getEventBus().currentStepTimings().map(StepTimings::getWebdriverTime).orElse(0L);
+        long start = System.nanoTime();
+        try {
+            return waitUntil(isTrue);
+        } finally {
+            long elapsedTime = (System.nanoTime() - start) / 1000000;
+            stepTimings.ifPresent(
+                    // WebDriver calls made while polling are already counted as WebDriver time
+                    recorder -> recorder.record(
+                            timings -> timings.recordWait(Math.max(0, elapsedTime - (timings.getWebdriverTime() - webdriverTimeBeforeWait)))
+                    )
+            );
+        }
+    }
+
+    private <V> V waitUntil(Function<? super T, V> isTrue) {
         long end = getClock().laterBy(timeout.toMillis());
         RuntimeException lastException = null;
         String waitForConditionMessage = isTrue.toString();
+        polling = pollingStrategy.startPolling(PollingConditions.keyFor(isTrue), interval);
         while (true) {
             if (aPreviousStepHasFailed()) {
                 return (V) Boolean.TRUE;
@@ -59,6 +82,7 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
                 V value = isTrue.apply(input);
                 if (value != null && Boolean.class.equals(value.getClass())) {
                     if (Boolean.TRUE.equals(value)) {
+                        polling.conditionMet();
                         return value;
                     }
                 }
@@ -89,6 +113,13 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
 
     public abstract void doWait() throws InterruptedException;
 
+    /**
+     * How long to pause before the next check of the condition, according to the polling strategy of this wait.
+     */
+    protected Duration nextPollingInterval() {
+        return (polling != null) ? polling.nextInterval() : interval;
+    }
+
     private RuntimeException propagateIfNotIngored(RuntimeException e) {
         for (Class<? extends RuntimeException> ignoredException : ignoredExceptions) {
             if (ignoredException.isInstance(e)) {
@@ -113,8 +144,21 @@ public abstract class ThucydidesFluentWait<T> implements Wait<T> {
         return this;
     }
 
+    /**
+     * Check the condition at exactly this interval.
+     */
     public ThucydidesFluentWait<T> pollingEvery(long duration, TimeUnit unit) {
         this.interval = Duration.of(duration, TemporalUnitConverter.fromTimeUnit(unit));
+        this.pollingStrategy = PollingStrategies.fixed();
+        return this;
+    }
+
+    /**
+     * Check the condition according to the shared polling strategy, taking this as the usual interval.
+     */
+    public ThucydidesFluentWait<T> pollingAdaptively(Duration usualInterval) {
+        this.interval = usualInterval;
+        this.pollingStrategy = PollingStrategies.shared();
         return this;
     }
 
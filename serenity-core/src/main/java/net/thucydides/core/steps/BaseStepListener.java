@@ -9,6 +9,7 @@ import net.serenitybdd.core.photography.Photographer;
 import net.serenitybdd.core.photography.ScreenshotPhoto;
 import net.serenitybdd.core.photography.SoundEngineer;
 import net.serenitybdd.core.photography.bluring.AnnotatedBluring;
+import net.serenitybdd.core.rest.RestBodyStore;
 import net.serenitybdd.core.rest.RestQuery;
 import net.serenitybdd.core.strings.Joiner;
 import net.serenitybdd.core.time.SystemClock;
@@ -410,6 +411,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
     private void recordNewTestOutcome(String testMethod, TestOutcome newTestOutcome) {
         newTestOutcome.setTestSource(StepEventBus.getEventBus().getTestSource());
         testOutcomes.add(newTestOutcome);
+        lastFinishedStep = null;
         setAnnotatedResult(testMethod);
     }
 
@@ -549,6 +551,8 @@ public class BaseStepListener implements StepListener, StepPublisher {
 
     Stack<Method> currentStepMethodStack = new Stack<>();
 
+    private TestStep lastFinishedStep;
+
     public java.util.Optional<Method> getCurrentStepMethod() {
         return currentStepMethodStack.empty() ? java.util.Optional.<Method>empty() : java.util.Optional.ofNullable(currentStepMethodStack.peek());
     }
@@ -602,13 +606,45 @@ public class BaseStepListener implements StepListener, StepPublisher {
         return currentStepStack.peek();
     }
 
-    private java.util.Optional<TestStep> getPreviousStep() {
-        if (getCurrentTestOutcome().getTestStepCount() > 1) {
-            List<TestStep> currentTestSteps = getCurrentTestOutcome().getTestSteps();
-            return java.util.Optional.of(currentTestSteps.get(currentTestSteps.size() - 2));
-        } else {
-            return java.util.Optional.empty();
+    /**
+     * The timings recorded so far for the step currently being executed, if there are any.
+     */
+    public java.util.Optional<StepTimings> currentStepTimings() {
+        return currentStep().map(TestStep::getTimings);
+    }
+
+    /**
+     * Records timings against the step currently being executed, if there is one.
+     */
+    public java.util.Optional<StepTimings.Recorder> currentStepTimingRecorder() {
+        return currentStep().map(step -> step::recordTimings);
+    }
+
+    /**
+     * Record time spent in other step listeners while the current step was starting.
+     * The time is only charged to the innermost step, and not to the steps that enclose it.
+     */
+    public void recordListenerTime(long durationInMillis) {
+        recordListenerTimeAgainst(currentStep(), durationInMillis);
+    }
+
+    /**
+     * Record time spent in other step listeners while a step was finishing.
+     * The time is charged to the step that has just finished, and not to the step that encloses it.
+     */
+    public void recordListenerTimeForFinishedStep(long durationInMillis) {
+        recordListenerTimeAgainst(java.util.Optional.ofNullable(lastFinishedStep), durationInMillis);
+    }
+
+    private void recordListenerTimeAgainst(java.util.Optional<TestStep> step, long durationInMillis) {
+        if (durationInMillis <= 0) {
+            return;
         }
+        step.ifPresent(testStep -> testStep.recordTimings(timings -> timings.recordListenerTime(durationInMillis)));
+    }
+
+    private java.util.Optional<TestStep> getPreviousStep() {
+        return getCurrentTestOutcome().getPreviousTopLevelStep();
     }
 
     private TestStep getCurrentGroup() {
@@ -730,6 +766,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
         if (currentStepExists()) {
             TestStep finishedStep = currentStepStack.pop();
             finishedStep.recordDuration();
+            lastFinishedStep = finishedStep;
             if (result != null) {
                 finishedStep.setResult(result);
             }
@@ -765,7 +802,10 @@ public class BaseStepListener implements StepListener, StepPublisher {
     private void take(final ScreenshotType screenshotType, TestResult result) {
         if (shouldTakeScreenshots()) {
             try {
+                long start = System.nanoTime();
                 java.util.Optional<ScreenshotAndHtmlSource> screenshotAndHtmlSource = grabScreenshot(result);
+                long screenshotTime = (System.nanoTime() - start) / 1000000;
+                getCurrentStep().recordTimings(timings -> timings.recordScreenshot(screenshotTime));
                 if (screenshotAndHtmlSource.isPresent()) {
                     recordScreenshotIfRequired(screenshotType, screenshotAndHtmlSource.get());
                 }
@@ -833,12 +873,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     private java.util.Optional<ScreenshotAndHtmlSource> previousScreenshot() {
-        List<ScreenshotAndHtmlSource> screenshotsToDate = getCurrentTestOutcome().getScreenshotAndHtmlSources();
-        if (screenshotsToDate.isEmpty()) {
-            return java.util.Optional.empty();
-        } else {
-            return java.util.Optional.of(screenshotsToDate.get(screenshotsToDate.size() - 1));
-        }
+        return getCurrentTestOutcome().getLastScreenshotAndHtmlSource();
     }
 
     private boolean browserIsOpen() {
@@ -1038,9 +1073,25 @@ public class BaseStepListener implements StepListener, StepPublisher {
         stepFinished();
     }
 
+    public void recordRestQuery(RestQuery restQuery, long responseTimeInMillis) {
+        stepStarted(ExecutedStepDescription.withTitle(restQuery.toString()));
+        addRestQuery(restQuery);
+        currentStepTimingRecorder().ifPresent(recorder -> recorder.record(timings -> timings.recordRestCall(responseTimeInMillis)));
+        stepFinished();
+    }
+
     private void addRestQuery(RestQuery restQuery) {
         currentStep().ifPresent(
-                step -> step.recordRestQuery(restQuery)
+                step -> step.recordRestQuery(withLargeBodiesStored(restQuery))
+        );
+    }
+
+    private RestQuery withLargeBodiesStored(RestQuery restQuery) {
+        if (outputDirectory == null) {
+            return restQuery;
+        }
+        return restQuery.withBodiesStoredIn(
+                RestBodyStore.inDirectory(outputDirectory.toPath(), configuration.getEnvironmentVariables())
         );
     }
 }
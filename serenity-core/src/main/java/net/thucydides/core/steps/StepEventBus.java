@@ -63,6 +63,14 @@ public class StepEventBus {
         }
     }
 
+    /**
+     * Forget the event bus of the current thread without notifying its listeners,
+     * for example before a pooled thread runs the tests of another test class.
+     */
+    public static void clearEventBusForCurrentThread() {
+        stepEventBusThreadLocal.remove();
+    }
+
     public static void clearEventBusFor(Object key) {
         STICKY_EVENT_BUSES.remove(key);
     }
@@ -346,9 +354,15 @@ public class StepEventBus {
 
         pushStep(stepDescription.getName());
 
+        long listenerTime = 0;
         for (StepListener stepListener : getAllListeners()) {
+            long start = System.nanoTime();
             stepListener.stepStarted(stepDescription);
+            if (stepListener != baseStepListener) {
+                listenerTime += System.nanoTime() - start;
+            }
         }
+        recordListenerTime(listenerTime);
 
         if (isPrecondition) {
             baseStepListener.currentStepIsAPrecondition();
@@ -370,8 +384,26 @@ public class StepEventBus {
     public void stepFinished() {
         stepDone();
         getResultTally().logExecutedTest();
+        long listenerTime = 0;
         for (StepListener stepListener : getAllListeners()) {
+            long start = System.nanoTime();
             stepListener.stepFinished();
+            if (stepListener != baseStepListener) {
+                listenerTime += System.nanoTime() - start;
+            }
+        }
+        recordListenerTimeForFinishedStep(listenerTime);
+    }
+
+    private void recordListenerTime(long listenerTimeInNanos) {
+        if (baseStepListener != null && listenerTimeInNanos > 0) {
+            baseStepListener.recordListenerTime(listenerTimeInNanos / 1000000);
+        }
+    }
+
+    private void recordListenerTimeForFinishedStep(long listenerTimeInNanos) {
+        if (baseStepListener != null && listenerTimeInNanos > 0) {
+            baseStepListener.recordListenerTimeForFinishedStep(listenerTimeInNanos / 1000000);
         }
     }
 
@@ -650,6 +682,21 @@ public class StepEventBus {
 
     public java.util.Optional<TestStep> getCurrentStep() {return getBaseStepListener().cloneCurrentStep(); }
 
+    /**
+     * The timings recorded so far for the step currently being executed, if any.
+     */
+    public java.util.Optional<StepTimings> currentStepTimings() {
+        return (baseStepListener != null) ? baseStepListener.currentStepTimings() : java.util.Optional.empty();
+    }
+
+    /**
+     * Records timings against the step currently being executed, if any.
+     * Used by WebDriver, wait, screenshot and REST instrumentation to record where the time in a step is spent.
+     */
+    public java.util.Optional<StepTimings.Recorder> currentStepTimingRecorder() {
+        return (baseStepListener != null) ? baseStepListener.currentStepTimingRecorder() : java.util.Optional.empty();
+    }
+
     /**
      * Set all steps in the current test outcome to a given result.
      * Used to set all steps to PENDING or SKIPPED, for example.
@@ -0,0 +1,161 @@
+package net.thucydides.core.steps.stepdata;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The byte offset at which each record of a CSV file starts, found in a single pass over the file without parsing any values.
+ * The first record is the title row. Records can span several lines when a quoted value contains line breaks,
+ * so quotes and escape characters are tracked in the same way as the CSV reader does.
+ * <p>
+ * Offsets are only meaningful when the quote and escape characters are ASCII characters,
+ * as they can then never appear inside a multi-byte UTF-8 character.
+ */
+class CSVRowIndex {
+
+    private static final int NO_CHARACTER = -1;
+
+    private final long[] recordOffsets;
+    private final int recordCount;
+
+    private CSVRowIndex(long[] recordOffsets, int recordCount) {
+        this.recordOffsets = recordOffsets;
+        this.recordCount = recordCount;
+    }
+
+    static boolean canIndex(char quotechar, char escape) {
+        return quotechar < 0x80 && escape < 0x80;
+    }
+
+    static CSVRowIndex of(InputStream csvData, char quotechar, char escape, int skipLines) throws IOException {
+        return new Scanner(new BufferedInputStream(csvData), quotechar, escape).indexRecords(skipLines);
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * The number of data rows, not counting the title row.
+     */
+    int getDataRowCount() {
+        return Math.max(0, recordCount - 1);
+    }
+
+    long offsetOfRecord(int record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("No record " + record + " in a CSV file with " + recordCount + " records");
+        }
+        return recordOffsets[record];
+    }
+
+    private static class Scanner {
+        private final InputStream csvData;
+        private final int quotechar;
+        private final int escape;
+        private long position;
+        private int pushedBack = NO_CHARACTER;
+
+        private long[] offsets = new long[1024];
+        private int count;
+
+        Scanner(InputStream csvData, char quotechar, char escape) {
+            this.csvData = csvData;
+            this.quotechar = quotechar;
+            this.escape = escape;
+        }
+
+        CSVRowIndex indexRecords(int skipLines) throws IOException {
+            for (int line = 0; line < skipLines; line++) {
+                if (!skipLine()) {
+                    return new CSVRowIndex(offsets, 0);
+                }
+            }
+            while (peek() != NO_CHARACTER) {
+                recordStartsAt(position);
+                skipRecord();
+            }
+            return new CSVRowIndex(offsets, count);
+        }
+
+        private boolean skipLine() throws IOException {
+            int character;
+            while ((character = next()) != NO_CHARACTER) {
+                if (isEndOfLine(character)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void skipRecord() throws IOException {
+            boolean inQuotes = false;
+            int character;
+            while ((character = next()) != NO_CHARACTER) {
+                if (isEndOfLine(character)) {
+                    if (!inQuotes) {
+                        return;
+                    }
+                } else if (character == escape) {
+                    // The reader always skips the character after an escape character, except at the end of a line
+                    if (!isLineBreak(peek())) {
+                        next();
+                    }
+                } else if (character == quotechar) {
+                    if (inQuotes && peek() == quotechar) {
+                        next();
+                    } else {
+                        inQuotes = !inQuotes;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Lines end with \n, \r or \r\n, as for BufferedReader.readLine()
+         */
+        private boolean isEndOfLine(int character) throws IOException {
+            if (character == '\r') {
+                if (peek() == '\n') {
+                    next();
+                }
+                return true;
+            }
+            return character == '\n';
+        }
+
+        private boolean isLineBreak(int character) {
+            return character == '\n' || character == '\r';
+        }
+
+        private void recordStartsAt(long offset) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count++] = offset;
+        }
+
+        private int next() throws IOException {
+            int character;
+            if (pushedBack != NO_CHARACTER) {
+                character = pushedBack;
+                pushedBack = NO_CHARACTER;
+            } else {
+                character = csvData.read();
+            }
+            if (character != NO_CHARACTER) {
+                position++;
+            }
+            return character;
+        }
+
+        private int peek() throws IOException {
+            if (pushedBack == NO_CHARACTER) {
+                pushedBack = csvData.read();
+            }
+            return pushedBack;
+        }
+    }
+}
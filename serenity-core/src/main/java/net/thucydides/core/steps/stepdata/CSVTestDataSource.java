@@ -2,6 +2,7 @@ package net.thucydides.core.steps.stepdata;
 
 import au.com.bytecode.opencsv.CSVReader;
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
 import net.serenitybdd.core.collect.NewList;
 import net.thucydides.core.csv.FailedToInitializeTestData;
 import net.thucydides.core.csv.FieldName;
@@ -18,7 +19,10 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Test data from a CSV file.
@@ -31,7 +35,7 @@ public class CSVTestDataSource implements TestDataSource {
     private final char escape;
     private final int skipLines;
     private final List<String> instantiatedPaths;
-    private List<String[]> csvDataRows;
+    private final Map<String, CSVRowIndex> rowIndexes = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CSVTestDataSource.class);
     FilePathParser testDataSourcePath = new FilePathParser(Injectors.getInjector().getProvider(EnvironmentVariables.class).get() );
@@ -52,20 +56,6 @@ public class CSVTestDataSource implements TestDataSource {
         return instantiated;
     }
 
-    List<String[]> getDataRows() {
-        if (csvDataRows == null) {
-            csvDataRows = new ArrayList<>();
-            for(String instantiatedPath : instantiatedPaths) {
-                try (Reader reader = getDataFileFor(instantiatedPath)) {
-                    csvDataRows.addAll(getCSVDataFrom(reader));
-                } catch (IOException e) {
-                    LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
-                }
-            }
-        }
-        return csvDataRows;
-    }
-
     public CSVTestDataSource(final String path) throws IOException {
         this(NewList.<String>of(path), CSVReader.DEFAULT_SEPARATOR, CSVReader.DEFAULT_QUOTE_CHARACTER, CSVReader.DEFAULT_ESCAPE_CHARACTER, CSVReader.DEFAULT_SKIP_LINES);
     }
@@ -92,13 +82,17 @@ public class CSVTestDataSource implements TestDataSource {
     }
 
     private Reader getDataFileFor(final String path) throws FileNotFoundException {
+        return new InputStreamReader(getDataStreamFor(path), StandardCharsets.UTF_8);
+    }
+
+    private InputStream getDataStreamFor(final String path) throws FileNotFoundException {
         Preconditions.checkNotNull(path, "Test data source was not defined");
         if (isAClasspathResource(path)) {
-            return new InputStreamReader(getClass().getClassLoader().getResourceAsStream(path), StandardCharsets.UTF_8);
+            return getClass().getClassLoader().getResourceAsStream(path);
         } else if (validFileSystemPath(path)){
-        	return new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8);
+            return new FileInputStream(path);
         }
-    	throw new FileNotFoundException("Could not load test data from " + path);
+        throw new FileNotFoundException("Could not load test data from " + path);
     }
 
     private static boolean isAClasspathResource(final String path) {
@@ -148,15 +142,120 @@ public class CSVTestDataSource implements TestDataSource {
     }
 
     public List<Map<String, String>> getData() {
+        try (Stream<Map<String, String>> data = streamData()) {
+            return data.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the test data rows one at a time, reading each file only as far as the rows that have been consumed.
+     * The stream should be closed if it is not read to the end.
+     */
+    public Stream<Map<String, String>> streamData() {
+        DataRowIterator rows = new DataRowIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(rows::close);
+    }
+
+    /**
+     * The number of data rows in all of the test data files, counted without reading the values.
+     */
+    public int countDataRows() {
+        int rowCount = 0;
+        for (String instantiatedPath : instantiatedPaths) {
+            Optional<CSVRowIndex> rowIndex = rowIndexFor(instantiatedPath);
+            if (rowIndex.isPresent()) {
+                rowCount += rowIndex.get().getDataRowCount();
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Returns a slice of the test data, so that a batch of data-driven tests only reads the rows it needs.
+     * Rows are numbered from 0 across all the test data files, in the same order as getData().
+     * Each file is indexed once, so that reading a slice starts at the first row in the slice rather than at the start of the file.
+     */
+    public List<Map<String, String>> getData(final int fromRow, final int rowCount) {
         List<Map<String, String>> data = new ArrayList<>();
-        for(String instantiatedPath : instantiatedPaths) {
-            try (Reader reader = getDataFileFor(instantiatedPath)) {
-                data.addAll(loadTestDataFrom(getCSVDataFrom(reader)));
+        int firstRowInFile = 0;
+        for (String instantiatedPath : instantiatedPaths) {
+            if (data.size() >= rowCount) {
+                break;
+            }
+            Optional<CSVRowIndex> rowIndex = rowIndexFor(instantiatedPath);
+            if (!rowIndex.isPresent()) {
+                continue;
+            }
+            int rowsInFile = rowIndex.get().getDataRowCount();
+            int startRow = Math.max(0, fromRow - firstRowInFile);
+            if (startRow < rowsInFile) {
+                int rowsToRead = Math.min(rowCount - data.size(), rowsInFile - startRow);
+                data.addAll(readDataRows(instantiatedPath, rowIndex.get(), startRow, rowsToRead));
+            }
+            firstRowInFile += rowsInFile;
+        }
+        return data;
+    }
+
+    private List<Map<String, String>> readDataRows(String instantiatedPath, CSVRowIndex rowIndex, int startRow, int rowsToRead) {
+        List<Map<String, String>> data = new ArrayList<>(rowsToRead);
+        try {
+            String[] titleRow = readTitleRowFrom(instantiatedPath);
+            try (CSVReader reader = csvReaderFrom(instantiatedPath, rowIndex.offsetOfRecord(startRow + 1))) {
+                String[] dataRow;
+                while (data.size() < rowsToRead && (dataRow = reader.readNext()) != null) {
+                    data.add(dataEntryFrom(titleRow, dataRow));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
+        }
+        return data;
+    }
+
+    private Optional<CSVRowIndex> rowIndexFor(String instantiatedPath) {
+        CSVRowIndex rowIndex = rowIndexes.get(instantiatedPath);
+        if (rowIndex == null) {
+            try {
+                rowIndex = indexRowsIn(instantiatedPath);
+                rowIndexes.put(instantiatedPath, rowIndex);
             } catch (IOException e) {
                 LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
+                return Optional.empty();
             }
         }
-        return data;
+        return Optional.of(rowIndex);
+    }
+
+    private CSVRowIndex indexRowsIn(String instantiatedPath) throws IOException {
+        if (!CSVRowIndex.canIndex(quotechar, escape)) {
+            throw new IOException("Test data can only be indexed with ASCII quote and escape characters");
+        }
+        try (InputStream csvData = getDataStreamFor(instantiatedPath)) {
+            return CSVRowIndex.of(csvData, quotechar, escape, skipLines);
+        }
+    }
+
+    private CSVReader csvReaderFrom(String instantiatedPath, long offset) throws IOException {
+        InputStream csvData = getDataStreamFor(instantiatedPath);
+        try {
+            ByteStreams.skipFully(csvData, offset);
+        } catch (IOException e) {
+            csvData.close();
+            throw e;
+        }
+        return new CSVReader(new InputStreamReader(csvData, StandardCharsets.UTF_8), separator, quotechar, escape, 0);
+    }
+
+    private String[] readTitleRowFrom(String instantiatedPath) throws IOException {
+        try (CSVReader reader = new CSVReader(getDataFileFor(instantiatedPath), separator, quotechar, escape, skipLines)) {
+            String[] titleRow = reader.readNext();
+            if (titleRow == null) {
+                throw new IOException("No title row found in test data file " + instantiatedPath);
+            }
+            return titleRow;
+        }
     }
 
     public List<String> getHeaders() {
@@ -167,30 +266,44 @@ public class CSVTestDataSource implements TestDataSource {
     }
 
     private String[] getTitleRow() {
-        return getDataRows().get(0);
+        for (String instantiatedPath : instantiatedPaths) {
+            try {
+                return readTitleRowFrom(instantiatedPath);
+            } catch (IOException e) {
+                LOGGER.error("Could not read test data file from {}", instantiatedPath, e);
+            }
+        }
+        throw new FailedToInitializeTestData("Could not read the test data headers from " + instantiatedPaths);
     }
 
     /**
      * Returns the test data as a list of JavaBean instances.
      */
     public <T> List<T> getDataAsInstancesOf(final Class<T> clazz, final Object... constructorArgs) {
-        List<Map<String, String>> data = getData();
-
-        List<T> resultsList = new ArrayList<>();
-        for (Map<String, String> rowData : data) {
-            resultsList.add(newInstanceFrom(clazz, rowData, constructorArgs));
+        try (Stream<T> instances = streamDataAsInstancesOf(clazz, constructorArgs)) {
+            return instances.collect(Collectors.toList());
         }
-        return resultsList;
     }
 
-    public <T> List<T> getInstanciatedInstancesFrom(final Class<T> clazz, final StepFactory factory) {
-        List<Map<String, String>> data = getData();
+    /**
+     * Returns the test data as JavaBean instances, creating each instance as its row is read.
+     */
+    public <T> Stream<T> streamDataAsInstancesOf(final Class<T> clazz, final Object... constructorArgs) {
+        return streamData().map(rowData -> newInstanceFrom(clazz, rowData, constructorArgs));
+    }
 
-        List<T> resultsList = new ArrayList<>();
-        for (Map<String, String> rowData : data) {
-            resultsList.add(newInstanceFrom(clazz, factory, rowData));
+    /**
+     * Returns a JavaBean instance for a single row of test data, as read by streamData() or getData(fromRow, rowCount).
+     */
+    public <T> T getInstanceFrom(final Map<String, String> rowData, final Class<T> clazz, final Object... constructorArgs) {
+        return newInstanceFrom(clazz, rowData, constructorArgs);
+    }
+
+    public <T> List<T> getInstanciatedInstancesFrom(final Class<T> clazz, final StepFactory factory) {
+        try (Stream<Map<String, String>> data = streamData()) {
+            return data.map(rowData -> newInstanceFrom(clazz, factory, rowData))
+                       .collect(Collectors.toList());
         }
-        return resultsList;
     }
 
     @Override
@@ -257,4 +370,80 @@ public class CSVTestDataSource implements TestDataSource {
         return valueWasAssigned;
     }
 
+    /**
+     * Reads the data rows of each test data file in turn, opening a file only when the rows before it have been read.
+     */
+    private class DataRowIterator implements Iterator<Map<String, String>>, Closeable {
+        private final Iterator<String> remainingPaths = instantiatedPaths.iterator();
+        private String currentPath;
+        private CSVReader currentReader;
+        private String[] currentTitleRow;
+        private Map<String, String> nextRow;
+
+        @Override
+        public boolean hasNext() {
+            while (nextRow == null) {
+                if (currentReader == null && !openNextFile()) {
+                    return false;
+                }
+                try {
+                    String[] dataRow = currentReader.readNext();
+                    if (dataRow == null) {
+                        closeCurrentFile();
+                    } else {
+                        nextRow = dataEntryFrom(currentTitleRow, dataRow);
+                    }
+                } catch (IOException e) {
+                    LOGGER.error("Could not read test data file from {}", currentPath, e);
+                    closeCurrentFile();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map<String, String> row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private boolean openNextFile() {
+            while (remainingPaths.hasNext()) {
+                currentPath = remainingPaths.next();
+                try {
+                    currentReader = new CSVReader(getDataFileFor(currentPath), separator, quotechar, escape, skipLines);
+                    currentTitleRow = currentReader.readNext();
+                    if (currentTitleRow != null) {
+                        return true;
+                    }
+                } catch (IOException e) {
+                    LOGGER.error("Could not read test data file from {}", currentPath, e);
+                }
+                closeCurrentFile();
+            }
+            return false;
+        }
+
+        private void closeCurrentFile() {
+            if (currentReader != null) {
+                try {
+                    currentReader.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Could not close test data file {}", currentPath, e);
+                }
+            }
+            currentReader = null;
+            currentTitleRow = null;
+        }
+
+        @Override
+        public void close() {
+            closeCurrentFile();
+        }
+    }
+
 }
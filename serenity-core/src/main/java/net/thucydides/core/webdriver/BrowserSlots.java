@@ -0,0 +1,91 @@
+package net.thucydides.core.webdriver;
+
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_BROWSER_SLOTS;
+
+/**
+ * Limits the number of browsers open at the same time across all the tests running in this JVM,
+ * so that parallel test runs are limited by the browsers that are available rather than by the number of test threads.
+ * A slot is taken when a driver starts a real browser, and given back when the browser is closed.
+ */
+public class BrowserSlots {
+
+    private static volatile BrowserSlots sharedSlots;
+
+    private final Semaphore slots;
+
+    BrowserSlots(int slotCount) {
+        this.slots = (slotCount > 0) ? new Semaphore(slotCount, true) : null;
+    }
+
+    public static BrowserSlots shared() {
+        if (sharedSlots == null) {
+            synchronized (BrowserSlots.class) {
+                if (sharedSlots == null) {
+                    sharedSlots = forEnvironment(ConfiguredEnvironment.getEnvironmentVariables());
+                }
+            }
+        }
+        return sharedSlots;
+    }
+
+    static BrowserSlots forEnvironment(EnvironmentVariables environmentVariables) {
+        return new BrowserSlots(SERENITY_BROWSER_SLOTS.integerFrom(environmentVariables, 0));
+    }
+
+    public boolean isLimited() {
+        return slots != null;
+    }
+
+    public int availableSlots() {
+        return isLimited() ? slots.availablePermits() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Wait for a free browser slot. When called from a worker of a fork/join pool,
+     * the pool can start another worker to run tasks that do not need a browser in the meantime.
+     */
+    public void acquire() {
+        if (!isLimited()) {
+            return;
+        }
+        try {
+            ForkJoinPool.managedBlock(new SlotRequest());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free browser slot", e);
+        }
+    }
+
+    public void release() {
+        if (isLimited()) {
+            slots.release();
+        }
+    }
+
+    private class SlotRequest implements ForkJoinPool.ManagedBlocker {
+        private boolean acquired;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!acquired) {
+                slots.acquire();
+                acquired = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!acquired) {
+                acquired = slots.tryAcquire();
+            }
+            return acquired;
+        }
+    }
+}
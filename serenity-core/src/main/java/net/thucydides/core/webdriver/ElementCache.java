@@ -0,0 +1,103 @@
+package net.thucydides.core.webdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the elements found in a browser, so that looking up the same locator again does not need another search
+ * as long as the page has not changed.
+ * <p>
+ * A small script keeps a mutation counter in each document the browser loads, along with an id for the document itself.
+ * Elements are cached against the document they were found in, so cached elements are never used after navigating
+ * to another page or in another frame, and they are only reused while the mutation counter has not moved.
+ */
+class ElementCache {
+
+    private static final int MAXIMUM_CACHED_ELEMENTS = 256;
+
+    static final String PAGE_STATE_SCRIPT =
+            "var state = window.__serenityPageState;" +
+            "if (!state) {" +
+            "  state = window.__serenityPageState = {id: Date.now().toString(36) + Math.random().toString(36).slice(2), generation: 0};" +
+            "  new MutationObserver(function() { state.generation++; })" +
+            "      .observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}" +
+            "return state.id + ':' + state.generation;";
+
+    private final Map<CacheKey, CachedElement> cachedElements = new LinkedHashMap<CacheKey, CachedElement>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedElement> eldest) {
+            return size() > MAXIMUM_CACHED_ELEMENTS;
+        }
+    };
+
+    /**
+     * @param pageState   reads the page state from the browser, or returns null if it cannot be read
+     * @param findElement searches the browser for the element
+     */
+    synchronized WebElement findElement(By by, Supplier<String> pageState, Function<By, WebElement> findElement) {
+        String currentPageState = pageState.get();
+        if (currentPageState == null) {
+            return findElement.apply(by);
+        }
+        int generationStarts = currentPageState.lastIndexOf(':');
+        CacheKey key = new CacheKey(currentPageState.substring(0, generationStarts), by);
+        String generation = currentPageState.substring(generationStarts + 1);
+
+        CachedElement cachedElement = cachedElements.get(key);
+        if (cachedElement != null && cachedElement.generation.equals(generation)) {
+            return cachedElement.element;
+        }
+        // The generation is read before searching, so a page that changes during the search is searched again next time
+        WebElement element = findElement.apply(by);
+        cachedElements.put(key, new CachedElement(element, generation));
+        return element;
+    }
+
+    synchronized void clear() {
+        cachedElements.clear();
+    }
+
+    synchronized int size() {
+        return cachedElements.size();
+    }
+
+    private static class CacheKey {
+        private final String document;
+        private final By by;
+
+        CacheKey(String document, By by) {
+            this.document = document;
+            this.by = by;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return document.equals(cacheKey.document) && by.equals(cacheKey.by);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(document, by);
+        }
+    }
+
+    private static class CachedElement {
+        private final WebElement element;
+        private final String generation;
+
+        CachedElement(WebElement element, String generation) {
+            this.element = element;
+            this.generation = generation;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.time.Duration;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -42,6 +43,10 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     private String options = "";
 
+    private boolean holdsBrowserSlot;
+
+    private ElementCache elementCache;
+
     /**
      * Implicit timeout values recorded to that they can be restored after calling findElements()
      */
@@ -59,6 +64,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         this.webDriverFactory = webDriverFactory;
         this.environmentVariables = environmentVariables;
         this.implicitTimeout = defaultImplicitWait();
+        this.elementCache = elementCacheIfEnabled();
     }
 
     public WebDriverFacade(final WebDriver driver,
@@ -69,6 +75,11 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         this.webDriverFactory = webDriverFactory;
         this.environmentVariables = environmentVariables;
         this.implicitTimeout = defaultImplicitWait();
+        this.elementCache = elementCacheIfEnabled();
+    }
+
+    private ElementCache elementCacheIfEnabled() {
+        return ThucydidesSystemProperty.SERENITY_ELEMENT_CACHE.booleanFrom(environmentVariables, false) ? new ElementCache() : null;
     }
 
     private Duration defaultImplicitWait() {
@@ -90,7 +101,9 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
 
     public WebDriverFacade withTimeoutOf(Duration implicitTimeout) {
-        return new WebDriverFacade(driverClass, webDriverFactory, proxiedWebDriver, implicitTimeout);
+        WebDriverFacade facadeWithTimeout = new WebDriverFacade(driverClass, webDriverFactory, proxiedWebDriver, implicitTimeout);
+        facadeWithTimeout.elementCache = elementCache;
+        return facadeWithTimeout;
     }
 
     public Class<? extends WebDriver>  getDriverClass() {
@@ -124,13 +137,16 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             forcedQuit();
         }
         proxiedWebDriver = null;
-
+        releaseBrowserSlot();
+        clearElementCache();
     }
 
     private void forcedQuit() {
         try {
             getDriverInstance().quit();
             proxiedWebDriver = null;
+            releaseBrowserSlot();
+            clearElementCache();
         } catch (WebDriverException e) {
             LOGGER.warn("Closing a driver that was already closed: " + e.getMessage());
         }
@@ -146,7 +162,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
                 return new WebDriverStub();
             } else {
                 webDriverFactory.setupFixtureServices();
-                return webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
+                return newBrowserInstance();
             }
         } catch (UnsupportedDriverException e) {
             LOGGER.error("FAILED TO CREATE NEW WEBDRIVER_DRIVER INSTANCE " + driverClass + ": " + e.getMessage(), e);
@@ -154,6 +170,37 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         }
     }
 
+    /**
+     * Each real browser takes one of the browser slots shared by all the tests running in this JVM, until it is closed.
+     */
+    private WebDriver newBrowserInstance() {
+        BrowserSlots.shared().acquire();
+        holdsBrowserSlot = true;
+        boolean browserStarted = false;
+        try {
+            WebDriver browser = webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
+            browserStarted = true;
+            return browser;
+        } finally {
+            if (!browserStarted) {
+                releaseBrowserSlot();
+            }
+        }
+    }
+
+    private void clearElementCache() {
+        if (elementCache != null) {
+            elementCache.clear();
+        }
+    }
+
+    private void releaseBrowserSlot() {
+        if (holdsBrowserSlot) {
+            holdsBrowserSlot = false;
+            BrowserSlots.shared().release();
+        }
+    }
+
     public <X> X getScreenshotAs(final OutputType<X> target) {
         if (proxyInstanciated() && driverCanTakeScreenshots()) {
             try {
@@ -178,11 +225,35 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return;
         }
 //        openIgnoringHtmlUnitScriptErrors(url);
-        getProxiedDriver().get(url);
+        long start = System.nanoTime();
+        try {
+            getProxiedDriver().get(url);
+        } finally {
+            recordWebdriverCallSince(start);
+        }
         setTimeouts();
     }
 
 
+    /**
+     * Run a WebDriver command, recording the call and the time it took against the current test step.
+     */
+    private <T> T timed(Supplier<T> command) {
+        long start = System.nanoTime();
+        try {
+            return command.get();
+        } finally {
+            recordWebdriverCallSince(start);
+        }
+    }
+
+    private void recordWebdriverCallSince(long startInNanos) {
+        long durationInMillis = (System.nanoTime() - startInNanos) / 1000000;
+        StepEventBus.getEventBus().currentStepTimingRecorder().ifPresent(
+                recorder -> recorder.record(timings -> timings.recordWebdriverCall(durationInMillis))
+        );
+    }
+
     private void setTimeouts() {
         webDriverFactory.setTimeouts(getProxiedDriver(), implicitTimeout);
     }
@@ -192,7 +263,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return StringUtils.EMPTY;
         }
 
-        return getProxiedDriver().getCurrentUrl();
+        return timed(() -> getProxiedDriver().getCurrentUrl());
     }
 
     public String getTitle() {
@@ -200,7 +271,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return StringUtils.EMPTY;
         }
 
-        return getProxiedDriver().getTitle();
+        return timed(() -> getProxiedDriver().getTitle());
     }
 
     @Override
@@ -211,7 +282,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         List<WebElement> elements;
         try {
             webDriverFactory.setTimeouts(getProxiedDriver(), getCurrentImplicitTimeout());
-            elements = getProxiedDriver().findElements(by);
+            elements = timed(() -> getProxiedDriver().findElements(by));
         } finally {
             webDriverFactory.resetTimeouts(getProxiedDriver());
         }
@@ -224,16 +295,38 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return new WebElementFacadeStub();
         }
 
+        if (elementCache != null) {
+            return elementCache.findElement(by, this::currentPageState, this::findElementInBrowser);
+        }
+        return findElementInBrowser(by);
+   }
+
+    private WebElement findElementInBrowser(By by) {
         WebElement element;
 
         try {
             webDriverFactory.setTimeouts(getProxiedDriver(), getCurrentImplicitTimeout());
-            element = getProxiedDriver().findElement(by);
+            element = timed(() -> getProxiedDriver().findElement(by));
         } finally {
             webDriverFactory.resetTimeouts(getProxiedDriver());
         }
         return element;
-   }
+    }
+
+    /**
+     * The id of the current document and the number of times it has changed, or null if the browser cannot tell us.
+     */
+    private String currentPageState() {
+        if (!(getProxiedDriver() instanceof JavascriptExecutor)) {
+            return null;
+        }
+        try {
+            Object pageState = executeScript(ElementCache.PAGE_STATE_SCRIPT);
+            return (pageState instanceof String) ? (String) pageState : null;
+        } catch (WebDriverException pageStateUnavailable) {
+            return null;
+        }
+    }
 
     //    public <T extends WebElement> List<T> findElements(final By by) {
 //        if (!isEnabled()) {
@@ -271,7 +364,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return StringUtils.EMPTY;
         }
         try {
-            return getProxiedDriver().getPageSource();
+            return timed(() -> getProxiedDriver().getPageSource());
         } catch (WebDriverException pageSourceNotSupported) {
             return StringUtils.EMPTY;
         } catch (RuntimeException pageSourceFailedForSomeReason) {
@@ -323,6 +416,8 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
                 LOGGER.warn("Error while quitting the driver (" + e.getMessage() + ")");
             }
             proxiedWebDriver = null;
+            releaseBrowserSlot();
+            clearElementCache();
         }
     }
 
@@ -335,7 +430,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return new HashSet<>();
         }
 
-        return getProxiedDriver().getWindowHandles();
+        return timed(() -> getProxiedDriver().getWindowHandles());
     }
 
     public String getWindowHandle() {
@@ -343,7 +438,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
             return StringUtils.EMPTY;
         }
 
-        return getProxiedDriver().getWindowHandle();
+        return timed(() -> getProxiedDriver().getWindowHandle());
     }
 
     public TargetLocator switchTo() {
@@ -408,14 +503,14 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         if (!isEnabled()) {
             return null;
         }
-        return ((JavascriptExecutor) getProxiedDriver()).executeScript(script, parameters);
+        return timed(() -> ((JavascriptExecutor) getProxiedDriver()).executeScript(script, parameters));
     }
 
     public Object executeAsyncScript(String script, Object... parameters) {
         if (!isEnabled()) {
             return null;
         }
-        return ((JavascriptExecutor) getProxiedDriver()).executeAsyncScript(script, parameters);
+        return timed(() -> ((JavascriptExecutor) getProxiedDriver()).executeAsyncScript(script, parameters));
     }
 
     @Override
@@ -6,6 +6,7 @@ import net.serenitybdd.core.model.sampleexceptions.MyFailureException
 import net.thucydides.core.model.failures.FailureAnalysis
 import net.thucydides.core.steps.StepFailureException
 import net.thucydides.core.util.MockEnvironmentVariables
+import net.thucydides.core.util.SystemEnvironmentVariables
 import net.thucydides.core.webdriver.WebdriverAssertionError
 import org.assertj.core.api.SoftAssertionError
 import org.junit.internal.ArrayComparisonFailure
@@ -140,4 +141,29 @@ class WhenReportingExceptions extends Specification {
             result == FAILURE
     }
 
+    def "exception classifications should not leak between different configurations"() {
+        given:
+            def defaultConfiguration = new MockEnvironmentVariables()
+            def pendingConfiguration = new MockEnvironmentVariables()
+            pendingConfiguration.setProperty("serenity.pending.on", "net.serenitybdd.core.model.sampleexceptions.MyFailureException")
+        when:
+            def defaultResult = new FailureAnalysis(defaultConfiguration).resultFor(MyFailureException)
+            def pendingResult = new FailureAnalysis(pendingConfiguration).resultFor(MyFailureException)
+        then:
+            defaultResult == ERROR
+            pendingResult == PENDING
+        and: "the same class is classified consistently on repeated calls"
+            new FailureAnalysis(defaultConfiguration).resultFor(MyFailureException) == ERROR
+            new FailureAnalysis(pendingConfiguration).resultFor(MyFailureException) == PENDING
+    }
+
+    def "exception classifications should follow changes to a configuration"() {
+        given:
+            def environmentVariables = new SystemEnvironmentVariables()
+            assert new FailureAnalysis(environmentVariables).resultFor(MyFailureException) == ERROR
+        when:
+            environmentVariables.setProperty("serenity.fail.on", "net.serenitybdd.core.model.sampleexceptions.MyFailureException")
+        then:
+            new FailureAnalysis(environmentVariables).resultFor(MyFailureException) == FAILURE
+    }
 }
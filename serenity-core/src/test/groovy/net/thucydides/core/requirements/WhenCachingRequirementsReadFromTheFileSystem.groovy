@@ -0,0 +1,107 @@
+package net.thucydides.core.requirements
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class WhenCachingRequirementsReadFromTheFileSystem extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    File requirementsDirectory
+    File outputDirectory
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def setup() {
+        requirementsDirectory = temporaryFolder.newFolder("features")
+        outputDirectory = temporaryFolder.newFolder("output")
+        environmentVariables.setProperty("serenity.outputDirectory", outputDirectory.absolutePath)
+
+        featureFile("grow_apples/grow_red_apples.feature", "Feature: Grow red apples")
+        featureFile("grow_apples/grow_green_apples.feature", "Feature: Grow green apples")
+        featureFile("grow_potatoes/grow_new_potatoes.feature", "Feature: Grow new potatoes")
+        featureFile("grow_potatoes/grow_sweet_potatoes/grow_orange_sweet_potatoes.feature", "Feature: Grow orange sweet potatoes")
+    }
+
+    def featureFile(String path, String contents) {
+        def file = new File(requirementsDirectory, path)
+        file.parentFile.mkdirs()
+        file.text = contents
+        return file
+    }
+
+    def cachedRequirementFiles() {
+        new File(outputDirectory, "requirements").listFiles().findAll { it.name.startsWith("filesystem-requirements-") }
+    }
+
+    def provider() {
+        new FileSystemRequirementsTagProvider(requirementsDirectory.absolutePath, environmentVariables)
+    }
+
+    def namesIn(requirements) {
+        requirements.collect { [it.name, namesIn(it.children)] }
+    }
+
+    def "should read the requirements tree the same way in parallel"() {
+        when:
+            def requirements = provider().requirements
+        then:
+            namesIn(requirements) == [["Grow apples", [["Grow green apples", []], ["Grow red apples", []]]],
+                                      ["Grow potatoes", [["Grow new potatoes", []],
+                                                         ["Grow sweet potatoes", [["Grow orange sweet potatoes", []]]]]]]
+        and:
+            requirements[1].children[1].children[0].parent == "Grow sweet potatoes"
+    }
+
+    def "should cache the requirements read from the file system"() {
+        when:
+            def requirements = provider().requirements
+        then:
+            cachedRequirementFiles().size() == 1
+        and:
+            namesIn(provider().requirements) == namesIn(requirements)
+            provider().requirements == requirements
+    }
+
+    def "should reuse the cached requirements while the requirements directories are unchanged"() {
+        given:
+            provider().requirements
+        when:
+            cachedRequirementFiles()[0].text = '[{"name":"Cached requirement","type":"capability"}]'
+        then:
+            provider().requirements.collect { it.name } == ["Cached requirement"]
+    }
+
+    def "should read the requirements again when a requirements file is added"() {
+        given:
+            provider().requirements
+        when:
+            featureFile("grow_zucchinis/grow_yellow_zucchinis.feature", "Feature: Grow yellow zucchinis")
+        then:
+            provider().requirements.collect { it.name } == ["Grow apples", "Grow potatoes", "Grow zucchinis"]
+        and: "the outdated cache is replaced"
+            cachedRequirementFiles().size() == 1
+    }
+
+    def "should read the requirements again when a requirements file is modified"() {
+        given:
+            provider().requirements
+        when:
+            def featureFile = featureFile("grow_apples/grow_red_apples.feature", "Feature: Grow shiny red apples")
+            featureFile.lastModified = featureFile.lastModified() + 2000
+        then:
+            provider().requirements[0].children.collect { it.name }.contains("Grow shiny red apples")
+    }
+
+    def "should not cache the requirements if caching is disabled"() {
+        given:
+            environmentVariables.setProperty("serenity.cache.requirements", "false")
+        when:
+            def requirements = provider().requirements
+        then:
+            requirements.collect { it.name } == ["Grow apples", "Grow potatoes"]
+            !new File(outputDirectory, "requirements").exists()
+    }
+}
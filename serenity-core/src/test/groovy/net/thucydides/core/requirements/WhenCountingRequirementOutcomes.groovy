@@ -0,0 +1,117 @@
+package net.thucydides.core.requirements
+
+import net.thucydides.core.issues.IssueTracking
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.reports.html.ReportNameProvider
+import net.thucydides.core.requirements.model.Requirement
+import net.thucydides.core.requirements.reports.RequirementsOutcomes
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+class WhenCountingRequirementOutcomes extends Specification {
+
+    def issueTracking = Mock(IssueTracking)
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def redApples = Requirement.named("Red apples").withType("feature").withNarrative("")
+    def greenApples = Requirement.named("Green apples").withType("feature").withNarrative("")
+    def growApples = Requirement.named("Grow apples").withType("capability").withNarrative("").withChildren([redApples, greenApples])
+    def nashiPears = Requirement.named("Nashi pears").withType("feature").withNarrative("")
+    def growPears = Requirement.named("Grow pears").withType("capability").withNarrative("").withChildren([nashiPears])
+    def growPlums = Requirement.named("Grow plums").withType("capability").withNarrative("")
+
+    def testOutcomes = TestOutcomes.of([testFor(redApples, TestResult.SUCCESS),
+                                        testFor(redApples, TestResult.SUCCESS),
+                                        testFor(greenApples, TestResult.FAILURE),
+                                        testFor(growPlums, TestResult.PENDING)])
+
+    def testFor(Requirement requirement, TestResult result) {
+        def outcome = TestOutcome.forTestInStory("a " + result.name().toLowerCase() + " test for " + requirement.name + " " + UUID.randomUUID(),
+                                                 Story.called(requirement.name))
+        outcome.addTags([requirement.asTag()])
+        outcome.setAnnotatedResult(result)
+        return outcome
+    }
+
+    def requirementsOutcomes() {
+        new RequirementsOutcomes([growApples, growPears, growPlums], testOutcomes, issueTracking,
+                                 environmentVariables, [], new ReportNameProvider())
+    }
+
+    def outcomeFor(RequirementsOutcomes outcomes, String name) {
+        outcomes.requirementOutcomes.find { it.requirement.name == name }
+    }
+
+    def "should count the requirements with each status"() {
+        when:
+            def outcomes = requirementsOutcomes()
+        then:
+            outcomes.completedRequirementsCount == 0
+            outcomes.failingRequirementsCount == 1
+            outcomes.pendingRequirementsCount == 1
+            outcomes.errorRequirementsCount == 0
+            outcomes.compromisedRequirementsCount == 0
+            outcomes.ignoredRequirementsCount == 0
+            outcomes.unsuccessfulRequirementsCount == 1
+    }
+
+    def "should count the nested requirements and the tests"() {
+        when:
+            def outcomes = requirementsOutcomes()
+        then:
+            outcomes.flattenedRequirementCount == 6
+            outcomes.totalRequirements == 6
+            outcomes.totalTestCount == 4
+    }
+
+    def "should count the requirements without tests in each requirement tree"() {
+        when:
+            def outcomes = requirementsOutcomes()
+        then:
+            outcomeFor(outcomes, "Grow apples").requirementsWithoutTestsCount == 0
+            outcomeFor(outcomes, "Grow pears").requirementsWithoutTestsCount == 2
+            outcomeFor(outcomes, "Grow pears").estimatedUnimplementedTests == 8
+            outcomeFor(outcomes, "Grow plums").requirementsWithoutTestsCount == 0
+    }
+
+    def "should estimate the unimplemented tests from the top-level requirements without tests"() {
+        when:
+            def outcomes = requirementsOutcomes()
+        then:
+            outcomes.requirementsWithoutTestsCount == 1
+            outcomes.estimatedUnimplementedTests == 4
+        and: "requirements without tests are not counted as ignored requirements"
+            outcomes.ignoredRequirementsCount == 0
+    }
+
+    def "should report the status of a requirement from the tests of its child requirements"() {
+        when:
+            def applesOutcome = outcomeFor(requirementsOutcomes(), "Grow apples")
+        then:
+            applesOutcome.failure
+            !applesOutcome.complete
+            !applesOutcome.pending
+            applesOutcome.testCount == 3
+        and:
+            applesOutcome.count("AUTOMATED").withResult("SUCCESS") == 2
+            applesOutcome.count("AUTOMATED").withResult("FAILURE") == 1
+            applesOutcome.count("MANUAL").withAnyResult() == 3
+            applesOutcome.count("MANUAL").withResult("SUCCESS") == 0
+            applesOutcome.total.withIndeterminateResult() == 0
+    }
+
+    def "should report a requirement as complete when it and its children only have passing tests"() {
+        given:
+            def outcomes = new RequirementsOutcomes([redApples], testOutcomes, issueTracking,
+                                                    environmentVariables, [], new ReportNameProvider())
+        when:
+            def redApplesOutcome = outcomeFor(outcomes, "Red apples")
+        then:
+            redApplesOutcome.complete
+            !redApplesOutcome.failure
+            outcomes.completedRequirementsCount == 1
+    }
+}
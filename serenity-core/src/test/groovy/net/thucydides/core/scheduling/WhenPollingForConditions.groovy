@@ -0,0 +1,130 @@
+package net.thucydides.core.scheduling
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.function.Function
+
+class WhenPollingForConditions extends Specification {
+
+    static final Duration USUAL_INTERVAL = Duration.ofMillis(250)
+
+    def withoutJitter = new AdaptivePollingStrategy({ 0.5d })
+
+    def "fixed polling should always wait for the usual interval"() {
+        given:
+        def polling = new FixedPollingStrategy().startPolling("#search", USUAL_INTERVAL)
+        expect:
+        (1..5).collect { polling.nextInterval().toMillis() } == [250, 250, 250, 250, 250]
+    }
+
+    def "adaptive polling should start with short intervals and back off exponentially"() {
+        given:
+        def polling = withoutJitter.startPolling("#search", USUAL_INTERVAL)
+        expect:
+        (1..10).collect { polling.nextInterval().toMillis() } == [62, 93, 140, 209, 314, 471, 706, 1000, 1000, 1000]
+    }
+
+    def "adaptive polling should vary each interval at random by up to 20 percent"() {
+        given:
+        def fastest = new AdaptivePollingStrategy({ 0d }).startPolling("#search", USUAL_INTERVAL)
+        def slowest = new AdaptivePollingStrategy({ 1d }).startPolling("#search", USUAL_INTERVAL)
+        expect:
+        fastest.nextInterval().toMillis() == 50
+        slowest.nextInterval().toMillis() == 74
+    }
+
+    def "adaptive polling should start later for conditions that usually take a while"() {
+        given:
+        withoutJitter.recordTimeToSuccess("#slow-search", 400)
+        expect:
+        withoutJitter.firstIntervalFor("#slow-search", USUAL_INTERVAL).toMillis() == 200
+        and:
+        withoutJitter.firstIntervalFor("#search", USUAL_INTERVAL).toMillis() == 62
+    }
+
+    def "the time a condition takes should be averaged over several waits"() {
+        given:
+        withoutJitter.recordTimeToSuccess("#search", 400)
+        withoutJitter.recordTimeToSuccess("#search", 0)
+        expect:
+        withoutJitter.firstIntervalFor("#search", USUAL_INTERVAL).toMillis() == 140
+    }
+
+    def "the first interval should never be longer than the usual interval"() {
+        given:
+        withoutJitter.recordTimeToSuccess("#very-slow-search", 10000)
+        expect:
+        withoutJitter.firstIntervalFor("#very-slow-search", USUAL_INTERVAL) == USUAL_INTERVAL
+    }
+
+    def "adaptive polling should notice a condition sooner than fixed polling"() {
+        when:
+        def fixed = pollUntilConditionIsMetAfter(100, new FixedPollingStrategy())
+        def adaptive = pollUntilConditionIsMetAfter(100, withoutJitter)
+        then:
+        fixed.delayInMillis == 150
+        adaptive.delayInMillis == 55
+    }
+
+    def "adaptive polling should check a slow condition fewer times than fixed polling"() {
+        when:
+        def fixed = pollUntilConditionIsMetAfter(5000, new FixedPollingStrategy())
+        def adaptive = pollUntilConditionIsMetAfter(5000, withoutJitter)
+        then:
+        fixed.checks == 21
+        adaptive.checks == 12
+    }
+
+    def "polling should be adaptive unless configured otherwise"() {
+        given:
+        def environmentVariables = new MockEnvironmentVariables()
+        expect:
+        PollingStrategies.forEnvironment(environmentVariables) instanceof AdaptivePollingStrategy
+        when:
+        environmentVariables.setProperty("serenity.polling.strategy", "fixed")
+        then:
+        PollingStrategies.forEnvironment(environmentVariables) instanceof FixedPollingStrategy
+    }
+
+    def "conditions that describe themselves should be recognized by their description"() {
+        expect:
+        PollingConditions.keyFor(new SearchResultsAreShown()) == "search results are shown"
+        PollingConditions.keyFor(new ConditionWithoutADescription()) == ConditionWithoutADescription.name
+    }
+
+    def "lambdas should be recognized by the code that waits for them rather than by their generated class"() {
+        when:
+        def key = keyForALambdaCondition()
+        then:
+        key == keyForALambdaCondition()
+        key.startsWith("java.util.function.Function waited for in ${WhenPollingForConditions.name}.keyForALambdaCondition:")
+        !key.contains('$$Lambda$')
+    }
+
+    def keyForALambdaCondition() {
+        PollingConditions.keyFor(Function.identity())
+    }
+
+    static class SearchResultsAreShown {
+        String toString() { "search results are shown" }
+    }
+
+    static class ConditionWithoutADescription {}
+
+    /**
+     * Simulates a wait for a condition that is met after a given time, counting the checks the wait makes
+     * and how long after the condition was met the wait finishes.
+     */
+    def pollUntilConditionIsMetAfter(long conditionMetAfter, PollingStrategy strategy) {
+        def polling = strategy.startPolling("#search", USUAL_INTERVAL)
+        long time = 0
+        int checks = 1
+        while (time < conditionMetAfter) {
+            time += polling.nextInterval().toMillis()
+            checks++
+        }
+        [checks: checks, delayInMillis: time - conditionMetAfter]
+    }
+}
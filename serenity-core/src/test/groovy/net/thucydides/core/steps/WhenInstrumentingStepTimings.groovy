@@ -0,0 +1,90 @@
+package net.thucydides.core.steps
+
+import net.serenitybdd.core.listeners.AbstractStepListener
+import net.thucydides.core.scheduling.NormalFluentWait
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class WhenInstrumentingStepTimings extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    StepEventBus eventBus
+    BaseStepListener baseStepListener
+
+    static class SlowListener extends AbstractStepListener {
+        @Override
+        void stepFinished() {
+            Thread.sleep(50)
+        }
+    }
+
+    def setup() {
+        StepEventBus.getEventBus().reset()
+        eventBus = StepEventBus.getEventBus()
+        baseStepListener = new BaseStepListener(temporaryFolder.newFolder())
+        eventBus.registerListener(baseStepListener)
+        eventBus.testSuiteStarted(WhenInstrumentingStepTimings)
+        eventBus.testStarted("a test")
+    }
+
+    def cleanup() {
+        eventBus.reset()
+    }
+
+    def recordedStep() {
+        baseStepListener.testOutcomes[0].testSteps[0]
+    }
+
+    def "steps with nothing instrumented should carry no timings"() {
+        when:
+            eventBus.stepStarted(ExecutedStepDescription.withTitle("a quick step"))
+            eventBus.stepFinished()
+        then:
+            recordedStep().timings == null
+    }
+
+    def "time spent in other listeners should be charged to the step"() {
+        given:
+            eventBus.registerListener(new SlowListener())
+        when:
+            eventBus.stepStarted(ExecutedStepDescription.withTitle("a step with a slow listener"))
+            eventBus.stepFinished()
+        then:
+            recordedStep().timings.listenerTime >= 50
+    }
+
+    def "time spent in other listeners by a nested step should only be charged to that step"() {
+        given:
+            eventBus.registerListener(new SlowListener())
+        when:
+            eventBus.stepStarted(ExecutedStepDescription.withTitle("a parent step"))
+            eventBus.stepStarted(ExecutedStepDescription.withTitle("a nested step"))
+            eventBus.stepFinished()
+            eventBus.stepFinished()
+        then:
+            def nestedStep = recordedStep().children[0]
+            nestedStep.timings.listenerTime >= 50
+        and:
+            recordedStep().timings.listenerTime >= 50
+            recordedStep().timings.listenerTime < 100
+    }
+
+    def "time spent waiting for a condition should be recorded against the current step"() {
+        given:
+            int checks = 0
+            def wait = new NormalFluentWait("the page")
+                    .withTimeout(2, TimeUnit.SECONDS)
+                    .pollingEvery(10, TimeUnit.MILLISECONDS)
+        when:
+            eventBus.stepStarted(ExecutedStepDescription.withTitle("a step that waits"))
+            wait.until({ Thread.sleep(30); ++checks == 3 })
+            eventBus.stepFinished()
+        then:
+            recordedStep().timings.waitTime >= 90
+    }
+}
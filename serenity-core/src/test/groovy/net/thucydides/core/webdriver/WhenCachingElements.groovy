@@ -0,0 +1,80 @@
+package net.thucydides.core.webdriver
+
+import org.openqa.selenium.By
+import org.openqa.selenium.WebElement
+import spock.lang.Specification
+
+class WhenCachingElements extends Specification {
+
+    def cache = new ElementCache()
+    def searches = 0
+    def pageState = "page-1:0"
+
+    def findElement = { By by ->
+        searches++
+        Mock(WebElement)
+    }
+
+    def find(By by) {
+        cache.findElement(by, { pageState }, findElement)
+    }
+
+    def "an element should only be searched for once while the page does not change"() {
+        when:
+        def first = find(By.id("search"))
+        def second = find(By.id("search"))
+        then:
+        searches == 1
+        first.is(second)
+    }
+
+    def "an element should be searched for again once the page has changed"() {
+        given:
+        def first = find(By.id("search"))
+        when:
+        pageState = "page-1:1"
+        def second = find(By.id("search"))
+        then:
+        searches == 2
+        !first.is(second)
+    }
+
+    def "elements should be cached separately for each document"() {
+        given:
+        find(By.id("search"))
+        when:
+        pageState = "frame-1:0"
+        find(By.id("search"))
+        pageState = "page-1:0"
+        find(By.id("search"))
+        then:
+        searches == 2
+    }
+
+    def "different locators should be cached separately"() {
+        when:
+        find(By.id("search"))
+        find(By.cssSelector("#search"))
+        then:
+        searches == 2
+        cache.size() == 2
+    }
+
+    def "elements should always be searched for when the page state is not available"() {
+        given:
+        pageState = null
+        when:
+        find(By.id("search"))
+        find(By.id("search"))
+        then:
+        searches == 2
+        cache.size() == 0
+    }
+
+    def "the cache should hold a limited number of elements"() {
+        when:
+        (1..300).each { find(By.id("field-$it")) }
+        then:
+        cache.size() == 256
+    }
+}
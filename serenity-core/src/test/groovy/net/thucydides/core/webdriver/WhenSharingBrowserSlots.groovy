@@ -0,0 +1,51 @@
+package net.thucydides.core.webdriver
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class WhenSharingBrowserSlots extends Specification {
+
+    def "browsers should not be limited by default"() {
+        when:
+            def slots = BrowserSlots.forEnvironment(new MockEnvironmentVariables())
+            10.times { slots.acquire() }
+        then:
+            !slots.limited
+    }
+
+    def "should count the browser slots in use"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            environmentVariables.setProperty("serenity.browser.slots", "2")
+            def slots = BrowserSlots.forEnvironment(environmentVariables)
+        when:
+            slots.acquire()
+        then:
+            slots.availableSlots() == 1
+        when:
+            slots.release()
+        then:
+            slots.availableSlots() == 2
+    }
+
+    def "a test should wait for a free browser slot"() {
+        given:
+            def slots = new BrowserSlots(1)
+            slots.acquire()
+            def slotTaken = new CountDownLatch(1)
+        when:
+            Thread.start {
+                slots.acquire()
+                slotTaken.countDown()
+            }
+        then:
+            !slotTaken.await(200, TimeUnit.MILLISECONDS)
+        when:
+            slots.release()
+        then:
+            slotTaken.await(5, TimeUnit.SECONDS)
+    }
+}
@@ -12,8 +12,11 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -329,4 +332,95 @@ public class WhenLoadingTestDataFromACSVFile {
         assertThat(row.get("address"), is("10 main street, Bill\\nVille"));
         assertThat(row.get("phone"), is("123456789"));
     }
+
+    @Test
+    public void should_stream_the_same_rows_as_the_loaded_data() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "name, address,        phone",
+                "Bill, 10 main street, 123456789",
+                "Tim,  12 main street, 123456700");
+
+        CSVTestDataSource testdata = new CSVTestDataSource(testDataFile.getAbsolutePath());
+
+        try (Stream<Map<String, String>> rows = testdata.streamData()) {
+            assertThat(rows.collect(Collectors.toList()), is(testdata.getData()));
+        }
+    }
+
+    @Test
+    public void should_count_data_rows_across_several_files() throws IOException {
+        File firstDataFile = useTestDataIn("testdata1.csv",
+                "name, address,        phone",
+                "Bill, 10 main street, 123456789",
+                "Tim,  12 main street, 123456700");
+        File secondDataFile = useTestDataIn("testdata2.csv",
+                "name, address,        phone",
+                "Jane, 14 main street, 123456711");
+
+        CSVTestDataSource testdata = new CSVTestDataSource(Arrays.asList(firstDataFile.getAbsolutePath(), secondDataFile.getAbsolutePath()), ',');
+
+        assertThat(testdata.countDataRows(), is(3));
+    }
+
+    @Test
+    public void should_read_a_slice_of_the_data_spanning_several_files() throws IOException {
+        File firstDataFile = useTestDataIn("testdata1.csv",
+                "name, address,        phone",
+                "Bill, 10 main street, 123456789",
+                "Tim,  12 main street, 123456700");
+        File secondDataFile = useTestDataIn("testdata2.csv",
+                "name, address,        phone",
+                "Jane, 14 main street, 123456711",
+                "Joe,  16 main street, 123456722");
+
+        CSVTestDataSource testdata = new CSVTestDataSource(Arrays.asList(firstDataFile.getAbsolutePath(), secondDataFile.getAbsolutePath()), ',');
+
+        List<Map<String, String>> slice = testdata.getData(1, 2);
+
+        assertThat(slice.size(), is(2));
+        assertThat(slice.get(0).get("name"), is("Tim"));
+        assertThat(slice.get(1).get("name"), is("Jane"));
+        assertThat(testdata.getData(3, 10), is(testdata.getData().subList(3, 4)));
+    }
+
+    @Test
+    public void slices_should_start_at_the_right_row_when_values_span_several_lines() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "name, address,        phone",
+                "Bill, \"10 main street",
+                "BillVille\", 123456789",
+                "\"Tim \"\"the tool\"\"\",  12 main street, 123456700",
+                "Jane, 14 main street, 123456711");
+
+        CSVTestDataSource testdata = new CSVTestDataSource(testDataFile.getAbsolutePath());
+
+        assertThat(testdata.countDataRows(), is(3));
+        for (int row = 0; row < 3; row++) {
+            assertThat(testdata.getData(row, 1), is(testdata.getData().subList(row, row + 1)));
+        }
+        assertThat(testdata.getData(1, 1).get(0).get("name"), is("Tim \"the tool\""));
+    }
+
+    @Test
+    public void slices_should_skip_leading_lines() throws IOException {
+        File testDataFile = useTestDataIn("testdata.csv",
+                "Some test data",
+                "name, address,        phone",
+                "Bill, 10 main street, 123456789",
+                "Tim,  12 main street, 123456700");
+
+        CSVTestDataSource testdata = new CSVTestDataSource(Arrays.asList(testDataFile.getAbsolutePath()), ',',
+                CSVReader.DEFAULT_QUOTE_CHARACTER, CSVReader.DEFAULT_ESCAPE_CHARACTER, 1);
+
+        assertThat(testdata.countDataRows(), is(2));
+        assertThat(testdata.getData(1, 1).get(0).get("name"), is("Tim"));
+    }
+
+    @Test
+    public void should_read_a_slice_of_the_data_from_the_classpath() throws IOException {
+        CSVTestDataSource testdata = new CSVTestDataSource("testdata/test.csv");
+
+        assertThat(testdata.countDataRows(), is(3));
+        assertThat(testdata.getData(2, 1), is(testdata.getData().subList(2, 3)));
+    }
 }
@@ -0,0 +1,90 @@
+package net.serenitybdd.plugins.gradle
+
+import groovy.json.JsonOutput
+import net.thucydides.core.ThucydidesSystemProperty
+import net.thucydides.core.reports.html.HtmlResourceCopier
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+
+import java.nio.file.Path
+
+/**
+ * Generates the aggregate Serenity reports for the test outcomes of one project, and writes a partial index
+ * listing the test outcomes, screenshots and package requirements that the reports were generated from.
+ * The aggregateAll task of the root project merges the partial indexes of its subprojects.
+ */
+class SerenityAggregateTask extends SerenityReportTask {
+
+    static final String PARTIAL_INDEX = 'serenity/aggregate-index.json'
+
+    static final List<String> TEST_OUTCOMES = ['*.json', '*.xml']
+    static final List<String> SCREENSHOTS = ['*.png', '*.jpg', '*.jpeg', '*.gif']
+    static final List<String> PACKAGE_REQUIREMENTS = ['requirements/*-package-requirements.json']
+
+    static final String NESTED_TAG_INDEX = 'nested-tag-reports.json'
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileCollection getTestOutcomes() {
+        project.fileTree(reportDirectory.toFile()) {
+            include TEST_OUTCOMES
+            exclude generatedFiles()
+        }
+    }
+
+    @OutputFile
+    File getIndexPage() {
+        reportDirectory.resolve('index.html').toFile()
+    }
+
+    @OutputFile
+    File getPartialIndex() {
+        new File(project.buildDir, PARTIAL_INDEX)
+    }
+
+    @Internal
+    Path getReportDirectory() {
+        SerenityPlugin.aggregateReportDirectory(project)
+    }
+
+    /**
+     * The files that the reporter itself writes to the report directory alongside the test outcomes:
+     * the report resources (icons, etc.) and the index of the nested tag reports.
+     */
+    List<String> generatedFiles() {
+        def environmentVariables = SerenityPlugin.environmentVariables(project)
+        def resourceDirectory = ThucydidesSystemProperty.THUCYDIDES_REPORT_RESOURCES.from(environmentVariables, 'report-resources')
+        [NESTED_TAG_INDEX] + HtmlResourceCopier.copyHtmlResourcesFrom(resourceDirectory).listedResources()
+    }
+
+    @TaskAction
+    void aggregate() {
+        def reportDirectory = getReportDirectory()
+        generateReportsIn(reportDirectory)
+        writePartialIndexOf(reportDirectory)
+    }
+
+    void writePartialIndexOf(Path reportDirectory) {
+        def reportedFiles = project.fileTree(reportDirectory.toFile()) {
+            include TEST_OUTCOMES + SCREENSHOTS + PACKAGE_REQUIREMENTS
+            exclude generatedFiles()
+        }
+        def files = []
+        reportedFiles.visit { file ->
+            if (!file.directory) {
+                files << [path: file.relativePath.pathString, size: file.size, lastModified: file.lastModified]
+            }
+        }
+        def index = [projectKey     : getProjectKey(),
+                     reportDirectory: reportDirectory.toAbsolutePath().toString(),
+                     files          : files.sort { it.path }]
+
+        getPartialIndex().parentFile.mkdirs()
+        getPartialIndex().setText(JsonOutput.prettyPrint(JsonOutput.toJson(index)), 'UTF-8')
+    }
+}
@@ -0,0 +1,95 @@
+package net.serenitybdd.plugins.gradle
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import net.thucydides.core.reports.util.FilePublisher
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Combines the aggregate reports of the subprojects into the report directory of this project.
+ * <p>
+ * Each subproject's aggregate task lists the files its reports were generated from in a partial index, and is
+ * skipped when they have not changed, so its partial index stays the same. The merge only runs when one of the
+ * partial indexes changes: it publishes the listed files that are not already in the report directory
+ * (files that have not changed since the last merge are left alone), removes the files it published from
+ * a subproject that no longer lists them, and generates the reports for the combined test outcomes.
+ */
+class SerenityMergeTask extends SerenityReportTask {
+
+    static final String MERGED_INDEX = 'serenity/merged-index.json'
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileCollection getPartialIndexes() {
+        project.files(aggregatingSubprojects().collect { it.tasks.aggregate.partialIndex })
+    }
+
+    @OutputFile
+    File getIndexPage() {
+        reportDirectory.resolve('index.html').toFile()
+    }
+
+    /**
+     * The files published into the report directory by the last merge.
+     */
+    @OutputFile
+    File getMergedIndex() {
+        new File(project.buildDir, MERGED_INDEX)
+    }
+
+    @Internal
+    Path getReportDirectory() {
+        SerenityPlugin.aggregateReportDirectory(project)
+    }
+
+    def aggregatingSubprojects() {
+        project.subprojects.findAll { it.plugins.hasPlugin(SerenityPlugin) }
+    }
+
+    @TaskAction
+    void merge() {
+        def reportDirectory = getReportDirectory()
+        Files.createDirectories(reportDirectory)
+
+        def publisher = FilePublisher.forEnvironment(SerenityPlugin.environmentVariables(project))
+        def publishedFiles = [] as SortedSet<String>
+        getPartialIndexes().files.findAll { it.exists() }.each { partialIndexFile ->
+            def partialIndex = new JsonSlurper().parse(partialIndexFile, 'UTF-8')
+            def sourceDirectory = new File(partialIndex.reportDirectory as String).toPath()
+            partialIndex.files.each { file ->
+                def source = sourceDirectory.resolve(file.path as String)
+                def target = reportDirectory.resolve(file.path as String)
+                if (Files.exists(source) && source.toAbsolutePath() != target.toAbsolutePath()) {
+                    Files.createDirectories(target.parent)
+                    publisher.publish(source, target)
+                    publishedFiles << (file.path as String)
+                }
+            }
+        }
+        removeFilesNoLongerPublished(reportDirectory, publishedFiles)
+
+        generateReportsIn(reportDirectory)
+
+        getMergedIndex().parentFile.mkdirs()
+        getMergedIndex().setText(JsonOutput.prettyPrint(JsonOutput.toJson([files: publishedFiles as List])), 'UTF-8')
+    }
+
+    void removeFilesNoLongerPublished(Path reportDirectory, Set<String> publishedFiles) {
+        if (!getMergedIndex().exists()) {
+            return
+        }
+        def previouslyPublished = new JsonSlurper().parse(getMergedIndex(), 'UTF-8').files as List<String>
+        previouslyPublished.findAll { !publishedFiles.contains(it) }.each { path ->
+            Files.deleteIfExists(reportDirectory.resolve(path))
+        }
+    }
+}
@@ -4,7 +4,8 @@ import net.serenitybdd.core.history.FileSystemTestOutcomeSummaryRecorder
 import net.thucydides.core.ThucydidesSystemProperty
 import net.thucydides.core.guice.Injectors
 import net.thucydides.core.reports.ResultChecker
-import net.thucydides.core.reports.html.HtmlAggregateStoryReporter
+import net.thucydides.core.requirements.RootDirectory
+import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.webdriver.Configuration
 import net.thucydides.core.configuration.SystemPropertiesConfiguration
 import org.apache.commons.io.FileUtils
@@ -28,27 +29,16 @@ class SerenityPlugin implements Plugin<Project> {
     void apply(Project project) {
         updateSystemPath(project)
         project.extensions.create("serenity", SerenityPluginExtension)
-        project.task('aggregate') {
+        project.tasks.create('aggregate', SerenityAggregateTask) {
             group = 'Serenity BDD'
             description = 'Generates aggregated Serenity reports'
-            doLast {
-                updateProperties(project)
-                reportDirectory = prepareReportDirectory(project)
-                if (!project.serenity.projectKey) {
-                    project.serenity.projectKey = project.name
-                }
-                logger.lifecycle("Generating Serenity Reports for ${project.serenity.projectKey} to directory $reportDirectory")
-                System.properties['serenity.project.key'] = project.serenity.projectKey
-                def reporter = new HtmlAggregateStoryReporter(project.serenity.projectKey)
-
-                reporter.outputDirectory = reportDirectory.toFile()
-
-                reporter.issueTrackerUrl = project.serenity.issueTrackerUrl
-                reporter.jiraUrl = project.serenity.jiraUrl
-                reporter.jiraProject = project.serenity.jiraProject
-                reporter.generateReportsForTestResultsFrom(reportDirectory.toFile())
-            }
         }
+        SerenityMergeTask aggregateAll = project.tasks.create('aggregateAll', SerenityMergeTask) {
+            group = 'Serenity BDD'
+            description = 'Generates aggregated Serenity reports combining the reports of the subprojects'
+        }
+        aggregateAll.dependsOn { aggregateAll.aggregatingSubprojects().collect { it.tasks.aggregate } }
+        aggregateAll.onlyIf { !aggregateAll.aggregatingSubprojects().empty }
 
         project.task('checkOutcomes') {
             group = 'Serenity BDD'
@@ -107,7 +97,7 @@ class SerenityPlugin implements Plugin<Project> {
         }
 
         project.tasks.aggregate.mustRunAfter project.tasks.test
-        project.tasks.checkOutcomes.mustRunAfter project.tasks.aggregate
+        project.tasks.checkOutcomes.mustRunAfter project.tasks.aggregate, project.tasks.aggregateAll
 
         project.tasks.clean {
             it.dependsOn 'clearReports'
@@ -118,13 +108,67 @@ class SerenityPlugin implements Plugin<Project> {
     }
 
     static Path prepareReportDirectory(Project project) {
-        Path outputDir = Paths.get(project.serenity.outputDirectory)
+        Path outputDir = Paths.get(project.serenity.outputDirectory.toString())
         if (!outputDir.isAbsolute()) {
             outputDir = project.projectDir.toPath().resolve(outputDir)
         }
         return outputDir
     }
 
+    static Path aggregateReportDirectory(Project project) {
+        updateProperties(project)
+        return prepareReportDirectory(project)
+    }
+
+    static EnvironmentVariables environmentVariables(Project project) {
+        updateSystemPath(project)
+        SystemPropertiesConfiguration configuration = (SystemPropertiesConfiguration) Injectors.getInjector().getProvider(Configuration.class).get()
+        return configuration.environmentVariables
+    }
+
+    /**
+     * The feature and story files are found in the same directories as the reporter reads them from,
+     * including a serenity.requirements.dir or serenity.test.requirements.basedir outside the project.
+     * Package requirements (serenity.test.root) are recorded in the report directory while the tests run,
+     * and are otherwise read from the test classes.
+     */
+    static def requirementsFiles(Project project) {
+        def environmentVariables = environmentVariables(project)
+        def requirementsDirectories = RootDirectory.definedIn(environmentVariables).requirementsDirectoryPaths()
+        def requirementsFiles = project.files(requirementsDirectories.collect { project.fileTree(it) })
+
+        requirementsFiles.from(project.fileTree(aggregateReportDirectory(project).resolve('requirements').toFile()) {
+            include '*-package-requirements.json'
+        })
+        def testClasses = project.hasProperty('sourceSets') ? project.sourceSets.findByName('test')?.output : null
+        if (ThucydidesSystemProperty.THUCYDIDES_TEST_ROOT.isDefinedIn(environmentVariables) && testClasses) {
+            requirementsFiles.from(testClasses)
+        }
+        return requirementsFiles
+    }
+
+    static def configurationFiles(Project project) {
+        project.files('serenity.properties', 'serenity.conf', 'src/test/resources/serenity.conf')
+    }
+
+    /**
+     * The Serenity settings the reporter will see, whether they come from the configuration files
+     * or from the command line (-Dserenity.*). The project key is set by the task itself, and is a separate input.
+     */
+    static Map<String, String> serenitySettings(Project project) {
+        def environmentVariables = environmentVariables(project)
+        def settingNames = ThucydidesSystemProperty.values().collect { it.propertyName } as Set
+        def settings = new TreeMap<String, String>()
+        environmentVariables.keys.findAll { name ->
+            name.startsWith('serenity.') || name.startsWith('thucydides.') || settingNames.contains(name)
+        }.findAll { name ->
+            !(name in ['serenity.project.key', 'thucydides.project.key'])
+        }.each { name ->
+            settings[name] = environmentVariables.getProperty(name) ?: ''
+        }
+        return settings
+    }
+
     static Path prepareHistoryDirectory(Project project) {
         def outputDir = Paths.get(project.serenity.historyDirectory)
         if (!outputDir.isAbsolute()) {
@@ -0,0 +1,99 @@
+package net.serenitybdd.plugins.gradle
+
+import net.thucydides.core.reports.FormatConfiguration
+import net.thucydides.core.reports.html.HtmlAggregateStoryReporter
+import net.thucydides.core.requirements.RootDirectory
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+
+import java.nio.file.Path
+
+/**
+ * A task that generates the aggregate Serenity reports. The reporter's configuration (the project key,
+ * the issue tracker, the requirements and the report formats) is declared as task inputs,
+ * so that the reports are only generated again when it changes.
+ */
+abstract class SerenityReportTask extends DefaultTask {
+
+    @Input
+    String getProjectKey() {
+        project.serenity.projectKey ?: project.name
+    }
+
+    @Input
+    @Optional
+    String getIssueTrackerUrl() {
+        project.serenity.issueTrackerUrl
+    }
+
+    @Input
+    @Optional
+    String getJiraUrl() {
+        project.serenity.jiraUrl
+    }
+
+    @Input
+    @Optional
+    String getJiraProject() {
+        project.serenity.jiraProject
+    }
+
+    /**
+     * The directories the requirements are read from (serenity.requirements.dir, serenity.test.requirements.basedir
+     * or the default feature and story directories).
+     */
+    @Input
+    List<String> getRequirementsDirectories() {
+        def environmentVariables = SerenityPlugin.environmentVariables(project)
+        RootDirectory.definedIn(environmentVariables).requirementsDirectoryPaths().sort()
+    }
+
+    /**
+     * The test outcome formats the reporter reads (serenity.output.formats), preferred format first.
+     */
+    @Input
+    List<String> getOutcomeFormats() {
+        new FormatConfiguration(SerenityPlugin.environmentVariables(project)).formats*.name()
+    }
+
+    /**
+     * Any other Serenity settings, from the configuration files or from the command line.
+     */
+    @Input
+    Map<String, String> getSerenitySettings() {
+        SerenityPlugin.serenitySettings(project)
+    }
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileCollection getRequirementsFiles() {
+        SerenityPlugin.requirementsFiles(project)
+    }
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileCollection getConfigurationFiles() {
+        SerenityPlugin.configurationFiles(project)
+    }
+
+    protected void generateReportsIn(Path reportDirectory) {
+        SerenityPlugin.updateProperties(project)
+        def projectKey = getProjectKey()
+        project.serenity.projectKey = projectKey
+        logger.lifecycle("Generating Serenity Reports for ${projectKey} to directory $reportDirectory")
+        System.properties['serenity.project.key'] = projectKey
+
+        def reporter = new HtmlAggregateStoryReporter(projectKey)
+        reporter.outputDirectory = reportDirectory.toFile()
+        reporter.sourceDirectory = reportDirectory.toFile()
+        reporter.issueTrackerUrl = getIssueTrackerUrl()
+        reporter.jiraUrl = getJiraUrl()
+        reporter.jiraProject = getJiraProject()
+        reporter.generateReportsForTestResultsFrom(reportDirectory.toFile())
+    }
+}
@@ -0,0 +1,171 @@
+package net.serenitybdd.plugins.gradle
+
+import org.gradle.testkit.runner.BuildResult
+import org.gradle.testkit.runner.GradleRunner
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import static org.gradle.testkit.runner.TaskOutcome.SKIPPED
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE
+
+class WhenAggregatingReportsWithGradle extends Specification {
+
+    static final String GRADLE_VERSION = '4.0'
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    File projectDir
+
+    def setup() {
+        projectDir = temporaryFolder.root
+        new File(projectDir, 'settings.gradle').text = """
+            rootProject.name = 'orchard'
+            include 'apples', 'pears'
+        """
+        new File(projectDir, 'build.gradle').text = """
+            plugins {
+                id 'java'
+                id 'net.serenity-bdd.aggregator'
+            }
+            subprojects {
+                apply plugin: 'java'
+                apply plugin: 'net.serenity-bdd.aggregator'
+            }
+        """
+        recordTestOutcome('apples', 'Pick apples')
+        recordTestOutcome('pears', 'Pick pears')
+    }
+
+    def "the aggregate reports should not be generated again when nothing has changed"() {
+        given:
+            gradle(':apples:aggregate')
+        when:
+            def result = gradle(':apples:aggregate')
+        then:
+            result.task(':apples:aggregate').outcome == UP_TO_DATE
+    }
+
+    def "the aggregate reports should be generated again when the test outcomes change"() {
+        given:
+            gradle(':apples:aggregate')
+        when:
+            recordTestOutcome('apples', 'Pick more apples')
+            def result = gradle(':apples:aggregate')
+        then:
+            result.task(':apples:aggregate').outcome == SUCCESS
+    }
+
+    def "the aggregate reports should be generated again when the reporter configuration changes"() {
+        given:
+            gradle(':apples:aggregate')
+        when:
+            new File(projectDir, 'build.gradle') << """
+                project(':apples') {
+                    serenity {
+                        jiraProject = 'FRUIT'
+                    }
+                }
+            """
+            def result = gradle(':apples:aggregate')
+        then:
+            result.task(':apples:aggregate').outcome == SUCCESS
+    }
+
+    def "the reports of the subprojects should be merged into the reports of the root project"() {
+        when:
+            def result = gradle('aggregateAll')
+        then:
+            result.task(':apples:aggregate').outcome == SUCCESS
+            result.task(':pears:aggregate').outcome == SUCCESS
+            result.task(':aggregateAll').outcome == SUCCESS
+        and: "the subprojects have nothing to merge"
+            result.task(':apples:aggregateAll').outcome == SKIPPED
+        and:
+            new File(reportDirectoryOf(''), 'outcome-apples.json').exists()
+            new File(reportDirectoryOf(''), 'outcome-pears.json').exists()
+            new File(reportDirectoryOf(''), 'index.html').exists()
+    }
+
+    def "only the subprojects whose test outcomes have changed should be aggregated again before merging"() {
+        given:
+            gradle('aggregateAll')
+        when:
+            recordTestOutcome('pears', 'Pick ripe pears')
+            def result = gradle('aggregateAll')
+        then:
+            result.task(':apples:aggregate').outcome == UP_TO_DATE
+            result.task(':pears:aggregate').outcome == SUCCESS
+            result.task(':aggregateAll').outcome == SUCCESS
+        and:
+            new File(reportDirectoryOf(''), 'outcome-pears.json').text.contains('Pick ripe pears')
+    }
+
+    def "the merged reports should not be generated again when no subproject has changed"() {
+        given:
+            gradle('aggregateAll')
+        when:
+            def result = gradle('aggregateAll')
+        then:
+            result.task(':aggregateAll').outcome == UP_TO_DATE
+    }
+
+    def "test outcomes that a subproject no longer has should be removed from the merged reports"() {
+        given:
+            gradle('aggregateAll')
+        when:
+            new File(reportDirectoryOf('pears'), 'outcome-pears.json').delete()
+            gradle('aggregateAll')
+        then:
+            !new File(reportDirectoryOf(''), 'outcome-pears.json').exists()
+            new File(reportDirectoryOf(''), 'outcome-apples.json').exists()
+    }
+
+    File reportDirectoryOf(String subproject) {
+        new File(new File(projectDir, subproject), 'target/site/serenity')
+    }
+
+    void recordTestOutcome(String subproject, String title) {
+        def reportDirectory = reportDirectoryOf(subproject)
+        reportDirectory.mkdirs()
+        new File(reportDirectory, "outcome-${subproject}.json").text = """
+            {
+              "title": "${title}",
+              "name": "${title}",
+              "result": "SUCCESS",
+              "duration": "10",
+              "timestamp": "2017-06-15T10:15:30.000+01:00",
+              "user-story": {
+                "qualifiedStoryClassName": "harvest",
+                "storyName": "Harvest",
+                "path": "stories/harvest.story"
+              },
+              "issues": [],
+              "tags": [
+                { "name": "Harvest", "type": "story" }
+              ],
+              "test-steps": [
+                {
+                  "description": "${title}",
+                  "duration": 10,
+                  "startTime": 1497518130000,
+                  "screenshots": [],
+                  "result": "SUCCESS",
+                  "children": []
+                }
+              ]
+            }
+        """
+    }
+
+    BuildResult gradle(String... arguments) {
+        GradleRunner.create()
+                .withGradleVersion(GRADLE_VERSION)
+                .withProjectDir(projectDir)
+                .withPluginClasspath()
+                .withArguments(arguments.toList() + '--stacktrace')
+                .build()
+    }
+}
@@ -5,7 +5,6 @@ import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.steps.FilePathParser;
 import net.thucydides.core.steps.stepdata.CSVTestDataSource;
-import net.thucydides.core.steps.stepdata.TestDataSource;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.junit.annotations.TestData;
 import net.thucydides.junit.annotations.UseTestDataFrom;
@@ -22,6 +21,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DataDrivenAnnotations {
 
@@ -56,13 +57,21 @@ public class DataDrivenAnnotations {
         return new DataDrivenAnnotations(this.testClass, environmentVariables);
     }
 
+    /**
+     * A table of every row in the test data source. The parameterized runner does not use this: it reads the rows
+     * one at a time from getTestDataSource() instead, so that the whole data set is never in memory at once.
+     */
     public DataTable getParametersTableFromTestDataSource() throws Throwable {
-        TestDataSource testDataSource = new CSVTestDataSource(findTestDataSource(), findTestDataSeparator());
-        List<Map<String, String>> testData = testDataSource.getData();
-        List<String> headers = testDataSource.getHeaders();
-        return DataTable.withHeaders(headers)
-                .andMappedRows(testData)
-                .build();
+        CSVTestDataSource testDataSource = getTestDataSource();
+        try (Stream<Map<String, String>> testData = testDataSource.streamData()) {
+            return DataTable.withHeaders(testDataSource.getHeaders())
+                    .andMappedRows(testData.collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    public CSVTestDataSource getTestDataSource() throws IOException {
+        return new CSVTestDataSource(findTestDataSource(), findTestDataSeparator());
     }
 
     public FrameworkMethod getTestMethod() {
@@ -181,13 +190,11 @@ public class DataDrivenAnnotations {
     }
 
     public <T> List<T> getDataAsInstancesOf(final Class<T> clazz) throws IOException {
-        TestDataSource testdata = new CSVTestDataSource(findTestDataSource(), findTestDataSeparator());
-        return testdata.getDataAsInstancesOf(clazz);
+        return getTestDataSource().getDataAsInstancesOf(clazz);
     }
 
     public int countDataEntries() throws IOException {
-        TestDataSource testdata = new CSVTestDataSource(findTestDataSource(), findTestDataSeparator());
-        return testdata.getData().size();
+        return getTestDataSource().countDataRows();
     }
 
     private char findTestDataSeparator() {
@@ -35,7 +35,7 @@ public class ParameterizedJUnitStepListener extends JUnitStepListener {
             super.testStarted(description);
             StepEventBus.getEventBus().useExamplesFrom(dataTableRow());
             if (!ignoredOrPending(description))
-                StepEventBus.getEventBus().exampleStarted(parametersTable.row(parameterSetNumber).toStringMap());
+                StepEventBus.getEventBus().exampleStarted(parametersTable.row(rowNumber()).toStringMap());
         }
     }
 
@@ -52,7 +52,14 @@ public class ParameterizedJUnitStepListener extends JUnitStepListener {
     }
 
     private DataTable dataTableRow() {
-        return DataTable.withHeaders(parametersTable.getHeaders()).andCopyRowDataFrom(parametersTable.getRows().get(parameterSetNumber)).build();
+        return DataTable.withHeaders(parametersTable.getHeaders()).andCopyRowDataFrom(parametersTable.getRows().get(rowNumber())).build();
+    }
+
+    /**
+     * Runners for a test data source are given a table holding only their own row.
+     */
+    private int rowNumber() {
+        return (parametersTable.getSize() == 1) ? 0 : parameterSetNumber;
     }
 
     private DataTable dataTable() {
@@ -10,18 +10,28 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * JUnit scheduler for parallel parameterized tests.
+ * Tests run on the thread pool shared by all the Serenity runners, and each test class runs at most
+ * its configured number of tests at the same time. Tests waiting for a free slot do not hold a thread,
+ * so threads left idle by one class can run the tests of another.
+ * A thread's Serenity state is cleared before it runs a test from another class, and after it runs the last waiting test of a class.
  */
 class ParameterizedRunnerScheduler implements RunnerScheduler {
 
-    private ExecutorService executorService;
-    private CompletionService<Void> completionService;
-    private Queue<Future<Void>> tasks;
+    private static final ThreadLocal<ParameterizedRunnerScheduler> schedulerOfPreviousTest = new ThreadLocal<>();
 
-    public ParameterizedRunnerScheduler(final Class<?> klass, final int threadCount) {
+    private final ExecutorService executorService;
+    private final int threadCount;
+    private final Queue<Future<Void>> tasks;
+    private final Queue<FutureTask<Void>> waitingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningTasks = new AtomicInteger();
 
+    public ParameterizedRunnerScheduler(final Class<?> klass, final int threadCount) {
+        this(SharedTestPool.pool(), threadCount);
+    }
 
-        executorService = Executors.newFixedThreadPool(threadCount, new NamedThreadFactory(klass.getSimpleName()));
-        completionService = new ExecutorCompletionService<>(executorService);
+    ParameterizedRunnerScheduler(final ExecutorService executorService, final int threadCount) {
+        this.executorService = executorService;
+        this.threadCount = Math.max(1, threadCount);
         tasks = new LinkedList<>();
     }
 
@@ -30,34 +40,84 @@ class ParameterizedRunnerScheduler implements RunnerScheduler {
     }
 
     public void schedule(final Runnable childStatement) {
+        FutureTask<Void> task = new FutureTask<>(childStatement, null);
+        tasks.offer(task);
+        waitingTasks.offer(task);
+        startWaitingTasks();
+    }
+
+    private void startWaitingTasks() {
+        while (!waitingTasks.isEmpty()) {
+            int running = runningTasks.get();
+            if (running >= threadCount) {
+                return;
+            }
+            if (runningTasks.compareAndSet(running, running + 1)) {
+                FutureTask<Void> nextTask = waitingTasks.poll();
+                if (nextTask == null) {
+                    runningTasks.decrementAndGet();
+                } else {
+                    executorService.execute(() -> runThenStartWaitingTasks(nextTask));
+                }
+            }
+        }
+    }
+
+    private void runThenStartWaitingTasks(FutureTask<Void> task) {
+        clearStateLeftByAnotherTestClass();
+        try {
+            task.run();
+        } finally {
+            // A cancelled test may leave the thread interrupted, which should not affect the next test it runs
+            Thread.interrupted();
+            if (waitingTasks.isEmpty()) {
+                finishedWithThisTestClass();
+            }
+            runningTasks.decrementAndGet();
+            startWaitingTasks();
+        }
+    }
+
+    private void clearStateLeftByAnotherTestClass() {
+        ParameterizedRunnerScheduler previousScheduler = schedulerOfPreviousTest.get();
+        if (previousScheduler != this) {
+            if (previousScheduler != null) {
+                SharedTestPool.clearTestStateOfCurrentThread();
+            }
+            schedulerOfPreviousTest.set(this);
+        }
+    }
 
-        tasks.offer(completionService.submit(childStatement, null));
+    private void finishedWithThisTestClass() {
+        SharedTestPool.clearTestStateOfCurrentThread();
+        schedulerOfPreviousTest.remove();
     }
 
     public void finished() {
         try {
             while (!tasks.isEmpty()) {
-                tasks.remove(completionService.take());
+                waitFor(tasks.peek());
+                tasks.remove();
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-        } finally {
-            executorService.shutdownNow();
+            cancelUnfinishedTests();
         }
     }
 
-    static final class NamedThreadFactory implements ThreadFactory {
-        private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final ThreadGroup group;
-
-        NamedThreadFactory(final String poolName) {
-            group = new ThreadGroup(poolName + "-" + POOL_NUMBER.getAndIncrement());
+    private void cancelUnfinishedTests() {
+        waitingTasks.clear();
+        for (Future<Void> task : tasks) {
+            task.cancel(true);
         }
+        tasks.clear();
+    }
 
-        public Thread newThread(final Runnable r) {
-            return new Thread(group, r, group.getName() + "-thread-" + threadNumber.getAndIncrement(), 0);
+    private void waitFor(Future<Void> task) throws InterruptedException {
+        try {
+            task.get();
+        } catch (ExecutionException | CancellationException testFailedToRun) {
+            // Test failures are reported to the run notifier by the child runners
         }
     }
-
 }
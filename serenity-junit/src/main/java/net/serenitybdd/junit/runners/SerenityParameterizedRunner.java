@@ -6,6 +6,7 @@ import net.thucydides.core.guice.*;
 import net.thucydides.core.model.*;
 import net.thucydides.core.reports.*;
 import net.thucydides.core.steps.*;
+import net.thucydides.core.steps.stepdata.*;
 import net.thucydides.core.tags.*;
 import net.thucydides.core.webdriver.*;
 import net.thucydides.junit.*;
@@ -18,6 +19,7 @@ import org.junit.runners.model.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.stream.*;
 
 /**
  * Run a Serenity test suite using a set of data.
@@ -135,18 +137,24 @@ public class SerenityParameterizedRunner extends Suite implements Taggable {
         }
 
         List<Runner> runners = new ArrayList<>();
-        List<?> testCases = getTestAnnotations().getDataAsInstancesOf(getTestClass().getJavaClass());
-        DataTable parametersTable = getTestAnnotations().getParametersTableFromTestDataSource();
-        for (int i = 0; i < testCases.size(); i++) {
-            Object testCase = testCases.get(i);
-            SerenityRunner runner = new TestClassRunnerForInstanciatedTestCase(testCase,
-                    configuration,
-                    webDriverFactory,
-                    batchManager,
-                    parametersTable,
-                    i);
-            runner.useQualifier(getQualifierFor(testCase));
-            runners.add(runner);
+        Class<?> testClass = getTestClass().getJavaClass();
+        CSVTestDataSource testDataSource = getTestAnnotations().getTestDataSource();
+        List<String> headers = testDataSource.getHeaders();
+        try (Stream<Map<String, String>> testData = testDataSource.streamData()) {
+            Iterator<Map<String, String>> rows = testData.iterator();
+            for (int i = 0; rows.hasNext(); i++) {
+                String qualifier = getQualifierFor(testDataSource.getInstanceFrom(rows.next(), testClass));
+                SerenityRunner runner = new TestClassRunnerForTestDataRow(testClass,
+                        testDataSource,
+                        headers,
+                        qualifier,
+                        configuration,
+                        webDriverFactory,
+                        batchManager,
+                        i);
+                runner.useQualifier(qualifier);
+                runners.add(runner);
+            }
         }
         return runners;
     }
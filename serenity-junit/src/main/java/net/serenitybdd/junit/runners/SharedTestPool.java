@@ -0,0 +1,53 @@
+package net.serenitybdd.junit.runners;
+
+import net.serenitybdd.core.eventbus.Broadcaster;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single work-stealing thread pool shared by all the parallel Serenity runners in this JVM.
+ * Threads are only started when there are tests waiting to run, and stop after a period of inactivity,
+ * so the number of threads follows the number of tests that the runners allow to run at the same time.
+ * The number of browsers open at once is limited separately, by the browser slots.
+ */
+final class SharedTestPool {
+
+    /**
+     * The upper limit on the number of threads. The number of tests each runner starts at once is limited by its own thread count.
+     */
+    private static final int MAXIMUM_THREADS = 256;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(MAXIMUM_THREADS, new SerenityWorkerThreadFactory(), null, true);
+
+    private SharedTestPool() {}
+
+    static ForkJoinPool pool() {
+        return POOL;
+    }
+
+    /**
+     * Threads in the shared pool run the tests of many classes, so the state Serenity keeps for each thread
+     * (browsers, pages and step libraries, the step event bus and its listeners) is cleared when a thread
+     * has finished with a test class.
+     */
+    static void clearTestStateOfCurrentThread() {
+        ThucydidesWebDriverSupport.reset();
+        StepEventBus.clearEventBusForCurrentThread();
+        Broadcaster.unregisterAllListeners();
+    }
+
+    private static class SerenityWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("serenity-test-thread-" + threadNumber.getAndIncrement());
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.serenitybdd.junit.runners;
+
+import net.thucydides.core.batches.*;
+import net.thucydides.core.csv.*;
+import net.thucydides.core.model.*;
+import net.thucydides.core.pages.*;
+import net.thucydides.core.steps.stepdata.*;
+import net.thucydides.core.webdriver.*;
+import net.thucydides.junit.listeners.*;
+import org.junit.runner.notification.*;
+import org.junit.runners.model.*;
+
+import java.util.*;
+
+import static org.apache.commons.lang3.StringUtils.*;
+
+/**
+ * Runs a data-driven test for one row of a test data source.
+ * The runner only keeps the number of its row: the row is read back from the test data source when the test runs,
+ * seeking straight to it through the source's row index, so a large data source is never held in memory.
+ */
+class TestClassRunnerForTestDataRow extends QualifiedTestsRunner {
+    private final int parameterSetNumber;
+    private final CSVTestDataSource testDataSource;
+    private final List<String> headers;
+    private final String qualifier;
+
+    TestClassRunnerForTestDataRow(final Class<?> testClass,
+                                  final CSVTestDataSource testDataSource,
+                                  final List<String> headers,
+                                  final String qualifier,
+                                  DriverConfiguration configuration,
+                                  WebDriverFactory webDriverFactory,
+                                  final BatchManager batchManager,
+                                  final int parameterSetNumber) throws InitializationError {
+        super(testClass, configuration, webDriverFactory, batchManager);
+        this.testDataSource = testDataSource;
+        this.headers = headers;
+        this.qualifier = qualifier;
+        this.parameterSetNumber = parameterSetNumber;
+    }
+
+    @Override
+    protected JUnitStepListener initListenersUsing(final Pages pageFactory) {
+        setStepListener(JUnitStepListener.withOutputDirectory(getConfiguration().getOutputDirectory())
+                .and().withPageFactory(pageFactory)
+                .and().withParameterSetNumber(parameterSetNumber)
+                .and().withParametersTable(parametersTable())
+                .and().withTestClass(getTestClass().getJavaClass())
+                .and().build());
+        return getStepListener();
+    }
+
+    @Override
+    protected JUnitStepListener initListeners() {
+        setStepListener(JUnitStepListener.withOutputDirectory(getConfiguration().getOutputDirectory())
+              .and().withParameterSetNumber(parameterSetNumber)
+              .and().withParametersTable(parametersTable())
+              .and().withTestClass(getTestClass().getJavaClass())
+              .and().build());
+        return getStepListener();
+    }
+
+    /**
+     * A table holding just the row for this runner.
+     */
+    private DataTable parametersTable() {
+        return DataTable.withHeaders(headers)
+                .andMappedRows(Collections.singletonList(rowData()))
+                .build();
+    }
+
+    private Map<String, String> rowData() {
+        List<Map<String, String>> rows = testDataSource.getData(parameterSetNumber, 1);
+        if (rows.isEmpty()) {
+            throw new FailedToInitializeTestData("Could not read row " + parameterSetNumber + " of the test data");
+        }
+        return rows.get(0);
+    }
+
+    @Override
+    protected Object initializeTest() throws Exception {
+        return testDataSource.getInstanceFrom(rowData(), getTestClass().getJavaClass());
+    }
+
+
+    @Override
+    protected String getName() {
+        return (isEmpty(qualifier)) ? super.getName() : qualifier;
+    }
+
+    @Override
+    protected String testName(final FrameworkMethod method) {
+        return String.format("%s[%s]", method.getName(), parameterSetNumber);
+    }
+
+    @Override
+    protected Statement classBlock(final RunNotifier notifier) {
+        return childrenInvoker(notifier);
+    }
+
+    @Override
+    protected void generateReports() {
+        //do not generate reports at example level
+    }
+}
@@ -1,13 +1,24 @@
 package net.serenitybdd.junit.runners;
 
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.samples.SampleParallelDataDrivenScenario;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class WhenSchedulingParallelTestJobs {
 
@@ -47,4 +58,78 @@ public class WhenSchedulingParallelTestJobs {
         assertThat(scheduler.getTaskQueue().size(), is(0));
     }
 
+    @Test
+    public void no_more_than_the_configured_number_of_tests_should_run_at_the_same_time() {
+        ParameterizedRunnerScheduler scheduler
+                = new ParameterizedRunnerScheduler(SampleParallelDataDrivenScenario.class, 2);
+
+        AtomicInteger runningTests = new AtomicInteger();
+        AtomicInteger mostTestsRunningAtOnce = new AtomicInteger();
+        AtomicInteger completedTests = new AtomicInteger();
+        for (int test = 0; test < 20; test++) {
+            scheduler.schedule(() -> {
+                mostTestsRunningAtOnce.accumulateAndGet(runningTests.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                runningTests.decrementAndGet();
+                completedTests.incrementAndGet();
+            });
+        }
+        scheduler.finished();
+
+        assertThat(completedTests.get(), is(20));
+        assertThat(mostTestsRunningAtOnce.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void interrupting_the_end_of_the_run_should_cancel_the_tests_still_running() throws Exception {
+        ParameterizedRunnerScheduler scheduler
+                = new ParameterizedRunnerScheduler(SampleParallelDataDrivenScenario.class, 1);
+
+        CountDownLatch testStarted = new CountDownLatch(1);
+        CountDownLatch testInterrupted = new CountDownLatch(1);
+        AtomicInteger testsRun = new AtomicInteger();
+        scheduler.schedule(() -> {
+            testsRun.incrementAndGet();
+            testStarted.countDown();
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException cancelled) {
+                testInterrupted.countDown();
+            }
+        });
+        scheduler.schedule(testsRun::incrementAndGet);
+        testStarted.await();
+
+        Thread.currentThread().interrupt();
+        scheduler.finished();
+
+        assertThat(Thread.interrupted(), is(true));
+        assertThat(testInterrupted.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(scheduler.getTaskQueue().size(), is(0));
+        assertThat(testsRun.get(), is(1));
+    }
+
+    @Test
+    public void a_pooled_thread_should_not_keep_the_event_bus_of_a_previous_test_class() throws Exception {
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            ParameterizedRunnerScheduler firstClass = new ParameterizedRunnerScheduler(singleThread, 1);
+            ParameterizedRunnerScheduler secondClass = new ParameterizedRunnerScheduler(singleThread, 1);
+
+            AtomicReference<StepEventBus> eventBusOfFirstClass = new AtomicReference<>();
+            AtomicReference<StepEventBus> eventBusOfSecondClass = new AtomicReference<>();
+            firstClass.schedule(() -> eventBusOfFirstClass.set(StepEventBus.getEventBus()));
+            firstClass.finished();
+            secondClass.schedule(() -> eventBusOfSecondClass.set(StepEventBus.getEventBus()));
+            secondClass.finished();
+
+            assertThat(eventBusOfSecondClass.get(), is(not(sameInstance(eventBusOfFirstClass.get()))));
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
 }
@@ -222,6 +222,21 @@ public class WhenRunningADataDrivenTestScenario {
     }
 
 
+    @Test
+    public void each_test_using_data_from_a_CSV_file_should_be_run_with_the_data_from_its_own_row() throws Throwable {
+
+        SerenityParameterizedRunner runner = getTestRunnerUsing(SampleCSVDataDrivenScenario.class);
+        runner.run(new RunNotifier());
+
+        List<TestOutcome> executedScenarios = ParameterizedTestsOutcomeAggregator.from(runner).getTestOutcomesForAllParameterSets();
+
+        assertThat(executedScenarios.size(), is(24));
+        for (TestOutcome executedScenario : executedScenarios) {
+            String nameInTestData = executedScenario.getDataTable().row(0).toStringMap().get("NAME");
+            assertThat(executedScenario.getQualifier().get(), is(nameInTestData));
+        }
+    }
+
     @Test
     public void a_separate_json_report_should_be_generated_for_each_scenario() throws Throwable {
 
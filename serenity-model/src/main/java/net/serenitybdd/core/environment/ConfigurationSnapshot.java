@@ -0,0 +1,77 @@
+package net.serenitybdd.core.environment;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+
+/**
+ * An immutable copy of the values of every ThucydidesSystemProperty, resolved and parsed once.
+ * Values defined with the serenity.* prefix take precedence over the legacy thucydides.* names,
+ * exactly as in ThucydidesSystemProperty.from(). Reading a value from a snapshot is a simple array access,
+ * so it is suitable for code that reads configuration on every step or every report page.
+ * <p>
+ * Environment variables that support snapshots cache them, and build a new one when a property is changed.
+ */
+public class ConfigurationSnapshot {
+
+    private static final ThucydidesSystemProperty[] PROPERTIES = ThucydidesSystemProperty.values();
+
+    private final String[] values;
+    private final Integer[] integerValues;
+    private final Boolean[] booleanValues;
+
+    private ConfigurationSnapshot(EnvironmentVariables environmentVariables) {
+        values = new String[PROPERTIES.length];
+        integerValues = new Integer[PROPERTIES.length];
+        booleanValues = new Boolean[PROPERTIES.length];
+
+        for (ThucydidesSystemProperty property : PROPERTIES) {
+            String value = property.lookupIn(environmentVariables, null);
+            if (value != null) {
+                int index = property.ordinal();
+                values[index] = value;
+                integerValues[index] = integerValueOf(value);
+                booleanValues[index] = Boolean.valueOf(value.trim());
+            }
+        }
+    }
+
+    public static ConfigurationSnapshot of(EnvironmentVariables environmentVariables) {
+        return new ConfigurationSnapshot(environmentVariables);
+    }
+
+    private static Integer integerValueOf(String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException notAnInteger) {
+            return null;
+        }
+    }
+
+    public boolean isDefined(ThucydidesSystemProperty property) {
+        return values[property.ordinal()] != null;
+    }
+
+    public String getValue(ThucydidesSystemProperty property, String defaultValue) {
+        String value = values[property.ordinal()];
+        return (value != null) ? value : defaultValue;
+    }
+
+    /**
+     * @throws NumberFormatException if the property is defined but is not an integer, as for ThucydidesSystemProperty.integerFrom()
+     */
+    public int getIntegerValue(ThucydidesSystemProperty property, int defaultValue) {
+        int index = property.ordinal();
+        if (integerValues[index] != null) {
+            return integerValues[index];
+        }
+        if (values[index] != null) {
+            return Integer.parseInt(values[index].trim());
+        }
+        return defaultValue;
+    }
+
+    public Boolean getBooleanValue(ThucydidesSystemProperty property, Boolean defaultValue) {
+        Boolean value = booleanValues[property.ordinal()];
+        return (value != null) ? value : defaultValue;
+    }
+}
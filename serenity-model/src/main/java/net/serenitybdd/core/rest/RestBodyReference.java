@@ -0,0 +1,49 @@
+package net.serenitybdd.core.rest;
+
+/**
+ * A pointer to a REST request or response body that was too large to keep in the test outcome,
+ * and was written to a separate gzip file in the output directory instead.
+ */
+public class RestBodyReference {
+
+    private final String fileName;
+    private final long size;
+
+    public RestBodyReference(String fileName, long size) {
+        this.fileName = fileName;
+        this.size = size;
+    }
+
+    /**
+     * The name of the gzip file containing the full body, relative to the output directory.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * The length of the full body, in characters.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        RestBodyReference that = (RestBodyReference) o;
+        return size == that.size && fileName.equals(that.fileName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fileName.hashCode() + (int) (size ^ (size >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return fileName + " (" + size + " characters)";
+    }
+}
@@ -0,0 +1,105 @@
+package net.serenitybdd.core.rest;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.digest.Digest;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A content-addressed store for large REST request and response bodies.
+ * Bodies are written once to a gzip file named after the SHA-256 hash of their content, next to the screenshots
+ * in the output directory, so identical payloads returned by many calls are only stored once.
+ */
+public class RestBodyStore {
+
+    public static final int DEFAULT_STORAGE_THRESHOLD = 100000;
+    public static final int PREVIEW_LENGTH = 2000;
+
+    private static final String BODY_FILE_PREFIX = "restbody-";
+    private static final String BODY_FILE_SUFFIX = ".txt.gz";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestBodyStore.class);
+
+    private final Path directory;
+    private final int threshold;
+
+    public RestBodyStore(Path directory, int threshold) {
+        this.directory = directory;
+        this.threshold = threshold;
+    }
+
+    public static RestBodyStore inDirectory(Path directory, EnvironmentVariables environmentVariables) {
+        return new RestBodyStore(directory,
+                ThucydidesSystemProperty.SERENITY_REST_BODY_STORAGE_THRESHOLD.integerFrom(environmentVariables,
+                        DEFAULT_STORAGE_THRESHOLD));
+    }
+
+    public boolean shouldStore(String body) {
+        return directory != null && threshold > 0 && body != null && body.length() > threshold;
+    }
+
+    /**
+     * Write the body to the store, unless a body with the same content is already there.
+     * @return a reference to the stored body, or nothing if the body could not be written
+     */
+    public Optional<RestBodyReference> store(String body) {
+        String fileName = BODY_FILE_PREFIX + Digest.ofTextValue(body) + BODY_FILE_SUFFIX;
+        Path bodyFile = directory.resolve(fileName);
+        try {
+            if (Files.notExists(bodyFile)) {
+                writeCompressed(body, bodyFile);
+            }
+            return Optional.of(new RestBodyReference(fileName, body.length()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not store REST body in {}: {}", bodyFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The body is written to a uniquely named file next to the body file, then moved into place.
+     * The temporary file is created like any other file (rather than with Files.createTempFile, which makes it
+     * readable only by its owner), so the stored body can be read by whoever can read the rest of the report.
+     */
+    private void writeCompressed(String body, Path bodyFile) throws IOException {
+        Files.createDirectories(directory);
+        Path temporaryFile = directory.resolve(BODY_FILE_PREFIX + UUID.randomUUID() + ".tmp");
+        try {
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temporaryFile, CREATE_NEW, WRITE)),
+                                                        StandardCharsets.UTF_8)) {
+                writer.write(body);
+            }
+            Files.move(temporaryFile, bodyFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException anotherThreadGotThereFirst) {
+            LOGGER.trace("REST body {} was stored by another thread", bodyFile);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Read a stored body back from the store.
+     */
+    public String load(RestBodyReference reference) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(directory.resolve(reference.getFileName())))) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+    }
+
+    public static String previewOf(String body) {
+        return (body.length() <= PREVIEW_LENGTH) ? body : body.substring(0, PREVIEW_LENGTH);
+    }
+}
@@ -19,10 +19,13 @@ public class RestQuery {
     private final Optional<? extends Map<String, ?>> parameterMap;
     private final String responseBody;
     private final Integer statusCode;
+    private final RestBodyReference contentReference;
+    private final RestBodyReference responseBodyReference;
 
     private RestQuery(RestMethod method, String path, List<Object> parameters, Map<String, ?> parameterMap,
                       String content, String contentType, String responseBody, Integer statusCode,
-                      String requestHeaders, String requestCookies, String responseHeaders, String responseCookies) {
+                      String requestHeaders, String requestCookies, String responseHeaders, String responseCookies,
+                      RestBodyReference contentReference, RestBodyReference responseBodyReference) {
         this.method = method;
         this.path = path;
         this.parameters = Optional.ofNullable(parameters);
@@ -35,61 +38,90 @@ public class RestQuery {
         this.requestCookies = requestCookies;
         this.responseHeaders = responseHeaders;
         this.responseCookies = responseCookies;
-
+        this.contentReference = contentReference;
+        this.responseBodyReference = responseBodyReference;
     }
 
     public RestQuery(RestMethod method, String path) {
-        this(method, path, null, null, null, null, null, null, null, null, null, null);
+        this(method, path, null, null, null, null, null, null, null, null, null, null, null, null);
     }
 
 
     public RestQuery withParameters(List<Object> parameters) {
         return new RestQuery(method, path, parameters, null, content, contentType, responseBody, statusCode,
-                requestHeaders, requestCookies, responseHeaders, responseCookies);
+                requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withParameters( Map<String, ?> parameterMap) {
         return new RestQuery(method, path, null, parameterMap, content, contentType, responseBody, statusCode,
-                requestHeaders, requestCookies, responseHeaders, responseCookies);
+                requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponse(String responseBody) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, null);
     }
 
     public RestQuery withStatusCode(Integer statusCode) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withContent(String content) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, null, responseBodyReference);
     }
 
     public RestQuery withContentType(String contentType) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponseCookies(String responseCookies) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withResponseHeaders(String responseHeaders) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
     public RestQuery withRequestCookies(String requestCookies) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
     }
 
     public RestQuery withRequestHeaders(String requestHeaders) {
         return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), content, contentType,
-                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies);
+                responseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies, contentReference, responseBodyReference);
+    }
+
+    /**
+     * Move request and response bodies that are too large to keep in the test outcome into the body store,
+     * keeping only a truncated preview and a reference to the stored body.
+     */
+    public RestQuery withBodiesStoredIn(RestBodyStore bodyStore) {
+        String storedContent = content;
+        RestBodyReference storedContentReference = contentReference;
+        if (bodyStore.shouldStore(content)) {
+            Optional<RestBodyReference> reference = bodyStore.store(content);
+            if (reference.isPresent()) {
+                storedContent = RestBodyStore.previewOf(content);
+                storedContentReference = reference.get();
+            }
+        }
+        String storedResponseBody = responseBody;
+        RestBodyReference storedResponseBodyReference = responseBodyReference;
+        if (bodyStore.shouldStore(responseBody)) {
+            Optional<RestBodyReference> reference = bodyStore.store(responseBody);
+            if (reference.isPresent()) {
+                storedResponseBody = RestBodyStore.previewOf(responseBody);
+                storedResponseBodyReference = reference.get();
+            }
+        }
+        return new RestQuery(method, path, parameters.orElse(null), parameterMap.orElse(null), storedContent, contentType,
+                storedResponseBody, statusCode, requestHeaders, requestCookies, responseHeaders, responseCookies,
+                storedContentReference, storedResponseBodyReference);
     }
 
     public RestMethod getMethod() {
@@ -140,6 +172,30 @@ public class RestQuery {
         return responseCookies;
     }
 
+    /**
+     * A reference to the full request body, if it was moved to the body store.
+     * In this case, getContent() only returns a preview of the body.
+     */
+    public RestBodyReference getContentReference() {
+        return contentReference;
+    }
+
+    /**
+     * A reference to the full response body, if it was moved to the body store.
+     * In this case, getResponseBody() only returns a preview of the body.
+     */
+    public RestBodyReference getResponseBodyReference() {
+        return responseBodyReference;
+    }
+
+    public boolean isContentStored() {
+        return contentReference != null;
+    }
+
+    public boolean isResponseBodyStored() {
+        return responseBodyReference != null;
+    }
+
     public boolean hasParameters() {
         return parameters.isPresent() || parameterMap.isPresent();
     }
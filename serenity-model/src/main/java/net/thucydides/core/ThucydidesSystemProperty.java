@@ -1,5 +1,6 @@
 package net.thucydides.core;
 
+import net.serenitybdd.core.environment.ConfigurationSnapshot;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -123,6 +124,13 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_REPORT_ENCODING,
 
+    /**
+     * How screenshots are published to the report directory: 'link' (the default) creates hard links
+     * where the source and report directories are on the same file system and copies the files otherwise,
+     * 'copy' always copies them. Test results and other files are always copied.
+     */
+    SERENITY_REPORT_PUBLISHING,
+
     @Deprecated
     THUCYDIDES_OUTPUT_DIRECTORY("thucydides.outputDirectory"),
 
@@ -279,6 +287,13 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_RESTART_BROWSER_FOR_EACH,
 
+    /**
+     * The maximum number of browsers that can be open at the same time in this JVM, across all the tests running in parallel.
+     * Tests that need a browser wait for a free slot. By default, the number of browsers is not limited.
+     * This should be at least the number of browsers that a single test opens.
+     */
+    SERENITY_BROWSER_SLOTS,
+
     @Deprecated
     THUCYDIDES_DIFFERENT_BROWSER_FOR_EACH_ACTOR,
 
@@ -561,6 +576,19 @@ public enum ThucydidesSystemProperty {
      */
     WEBDRIVER_WAIT_FOR_TIMEOUT,
 
+    /**
+     * How waits poll for their conditions: 'adaptive' (the default) or 'fixed'.
+     * Adaptive polling checks often at first and then less and less often, starting later for conditions that usually take a while.
+     * Fixed polling checks at the same interval until the condition is met.
+     */
+    SERENITY_POLLING_STRATEGY,
+
+    /**
+     * Set to true to reuse elements already found in the browser when the same locator is used again on an unchanged page.
+     * A small script is run before each search to check whether the page has changed.
+     */
+    SERENITY_ELEMENT_CACHE,
+
     @Deprecated
     THUCYDIDES_EXT_PACKAGES,
 
@@ -760,6 +788,13 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_REQUIREMENTS_DIR,
 
+    /**
+     * Requirements read from the file system are cached in the output directory, and reused as long as no requirements
+     * directories or files have been added, removed or modified. Set this property to false to always read the
+     * requirements from the file system (it is true by default).
+     */
+    SERENITY_CACHE_REQUIREMENTS,
+
     @Deprecated
     THUCYDIDES_USE_REQUIREMENTS_DIRECTORIES,
 
@@ -1237,9 +1272,25 @@ public enum ThucydidesSystemProperty {
      * Disable Webdriver integration. Turn this off to avoid Serenity loading WebDriver classes unnecessarily.
      */
     SERENITY_WEBDRIVER_INTEGRATION,
+
+    /**
+     * REST request and response bodies longer than this number of characters are written to separate compressed
+     * files next to the screenshots, and only a preview is kept in the test outcome.
+     * Defaults to 100000. Set to 0 to always keep the full bodies in the test outcomes.
+     */
+    SERENITY_REST_BODY_STORAGE_THRESHOLD,
+
+    /**
+     * For very long tests, the number of finished top-level steps to keep in memory before they are moved
+     * to a temporary file. The spilled steps are merged back into the JSON report when the test finishes.
+     * Defaults to 0, which keeps all of the steps in memory.
+     */
+    SERENITY_STEP_SPILL_THRESHOLD,
     ;
 
     private String propertyName;
+    private final String serenityPropertyName;
+    private final String legacyPropertyName;
     public static final int DEFAULT_HEIGHT = 700;
     public static final int DEFAULT_WIDTH = 960;
 
@@ -1250,10 +1301,14 @@ public enum ThucydidesSystemProperty {
 
     ThucydidesSystemProperty(final String propertyName) {
         this.propertyName = propertyName;
+        this.serenityPropertyName = withSerenityPrefix(propertyName);
+        this.legacyPropertyName = withLegacyPrefix(propertyName);
     }
 
     ThucydidesSystemProperty() {
         this.propertyName = name().replaceAll("_",".").toLowerCase();
+        this.serenityPropertyName = withSerenityPrefix(propertyName);
+        this.legacyPropertyName = withLegacyPrefix(propertyName);
     }
 
     public String getPropertyName() {
@@ -1270,7 +1325,7 @@ public enum ThucydidesSystemProperty {
     }
 
     private Optional<String> legacyPropertyValueIfPresentIn(EnvironmentVariables environmentVariables) {
-        String legacyValue = environmentVariables.getProperty(withLegacyPrefix(getPropertyName()));
+        String legacyValue = environmentVariables.getProperty(legacyPropertyName);
         if (StringUtils.isNotEmpty(legacyValue)) {
             logger.warn("Legacy property format detected for {}, please use the serenity.* format instead.",getPropertyName());
         }
@@ -1286,18 +1341,29 @@ public enum ThucydidesSystemProperty {
     }
 
     public String preferredName(){
-        return withSerenityPrefix(getPropertyName());
+        return serenityPropertyName;
     }
 
     public List<String> legacyNames(){
         List<String> names = new ArrayList<>(1);
-        names.add(withLegacyPrefix(getPropertyName()));
+        names.add(legacyPropertyName);
         return names;
     }
 
     public String from(EnvironmentVariables environmentVariables, String defaultValue) {
+        Optional<ConfigurationSnapshot> snapshot = environmentVariables.getConfigurationSnapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().getValue(this, defaultValue);
+        }
+        return lookupIn(environmentVariables, defaultValue);
+    }
+
+    /**
+     * Read the value of this property directly from the environment variables, without using a configuration snapshot.
+     */
+    public String lookupIn(EnvironmentVariables environmentVariables, String defaultValue) {
         Optional<String> newPropertyValue
-                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
+                = Optional.ofNullable(environmentVariables.getProperty(serenityPropertyName));
 
         if (isDefined(newPropertyValue)) {
             return newPropertyValue.get();
@@ -1316,8 +1382,13 @@ public enum ThucydidesSystemProperty {
     }
 
     public int integerFrom(EnvironmentVariables environmentVariables, int defaultValue) {
+        Optional<ConfigurationSnapshot> snapshot = environmentVariables.getConfigurationSnapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().getIntegerValue(this, defaultValue);
+        }
+
         Optional<String> newPropertyValue
-                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
+                = Optional.ofNullable(environmentVariables.getProperty(serenityPropertyName));
 
         if (isDefined(newPropertyValue)) {
             return Integer.parseInt(newPropertyValue.get().trim());
@@ -1334,8 +1405,13 @@ public enum ThucydidesSystemProperty {
     public Boolean booleanFrom(EnvironmentVariables environmentVariables, Boolean defaultValue) {
         if (environmentVariables == null) { return defaultValue; }
 
+        Optional<ConfigurationSnapshot> snapshot = environmentVariables.getConfigurationSnapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().getBooleanValue(this, defaultValue);
+        }
+
         Optional<String> newPropertyValue
-                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
+                = Optional.ofNullable(environmentVariables.getProperty(serenityPropertyName));
 
         if (isDefined(newPropertyValue)) {
             return Boolean.valueOf(newPropertyValue.get().trim());
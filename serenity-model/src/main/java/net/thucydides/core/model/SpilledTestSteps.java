@@ -0,0 +1,299 @@
+package net.thucydides.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Finished top-level test steps that have been moved out of memory during a very long test.
+ * Steps are appended to a temporary file, one JSON document per line, and only the aggregate values
+ * needed while the test is still running or being reported on (step counts, results, duration and
+ * screenshots) are kept in memory, so that these can be read without going back to the file.
+ */
+public class SpilledTestSteps {
+
+    private static final Gson GSON = GsonJSONConverter.serenityGsonBuilder().create();
+
+    private final Path spillFile;
+
+    private int stepCount;
+    private int leafStepCount;
+    private int flattenedStepCount;
+    private long duration;
+    private boolean hasRestQueries;
+    private final EnumSet<TestResult> results = EnumSet.noneOf(TestResult.class);
+    private final Map<TestResult, Integer> leafStepResults = new EnumMap<>(TestResult.class);
+    private final List<ScreenshotAndHtmlSource> screenshots = new ArrayList<>();
+    private int nextStepNumber = 1;
+
+    public SpilledTestSteps(Path spillFile) {
+        this.spillFile = spillFile;
+    }
+
+    public static SpilledTestSteps inTemporaryFile() throws IOException {
+        Path spillFile = Files.createTempFile("serenity-steps-", ".jsonl");
+        spillFile.toFile().deleteOnExit();
+        return new SpilledTestSteps(spillFile);
+    }
+
+    /**
+     * Append finished top-level steps to the spill file. The steps are renumbered so that numbering
+     * carries on from the steps already spilled.
+     */
+    public synchronized void append(List<TestStep> steps) throws IOException {
+        try (Writer out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8, CREATE, APPEND)) {
+            for (TestStep step : steps) {
+                nextStepNumber = step.renumberFrom(nextStepNumber);
+                GSON.toJson(step, TestStep.class, out);
+                out.write('\n');
+
+                recordSummaryOf(step);
+            }
+        }
+    }
+
+    private void recordSummaryOf(TestStep step) {
+        stepCount++;
+        duration += step.getDuration();
+        results.add(step.getResult());
+
+        List<TestStep> flattenedSteps = new ArrayList<>();
+        flattenedSteps.add(step);
+        flattenedSteps.addAll(step.getFlattenedSteps());
+        flattenedStepCount += flattenedSteps.size();
+        for (TestStep flattenedStep : flattenedSteps) {
+            screenshots.addAll(flattenedStep.getScreenshots());
+            hasRestQueries = hasRestQueries || flattenedStep.hasRestQuery();
+        }
+
+        if (step.isAGroup()) {
+            step.getLeafTestSteps().forEach(this::recordLeafStep);
+        } else {
+            recordLeafStep(step);
+        }
+    }
+
+    private void recordLeafStep(TestStep leafStep) {
+        leafStepCount++;
+        leafStepResults.merge(leafStep.getResult(), 1, Integer::sum);
+    }
+
+    /**
+     * Read the spilled steps back into memory.
+     */
+    public synchronized List<TestStep> load() {
+        List<TestStep> steps = new ArrayList<>(stepCount);
+        forEachStep(steps::add);
+        return steps;
+    }
+
+    /**
+     * Read the spilled steps one top-level step at a time, so that only one step tree is in memory at once.
+     */
+    public synchronized void forEachStep(Consumer<TestStep> action) {
+        forEachSerializedStep(step -> action.accept(GSON.fromJson(step, TestStep.class)));
+    }
+
+    /**
+     * Read the spilled steps lazily, one top-level step at a time, as the stream is consumed.
+     * The spill file stays open until the stream is closed.
+     */
+    public Stream<TestStep> stream() {
+        StepReader reader = new StepReader(spillFile);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(reader::close);
+    }
+
+    /**
+     * A copy of these spilled steps in a file of its own, so that the copy can be restored or discarded
+     * without affecting the original.
+     */
+    public synchronized SpilledTestSteps copy() {
+        try {
+            SpilledTestSteps copy = inTemporaryFile();
+            Files.copy(spillFile, copy.spillFile, StandardCopyOption.REPLACE_EXISTING);
+            copy.stepCount = stepCount;
+            copy.leafStepCount = leafStepCount;
+            copy.flattenedStepCount = flattenedStepCount;
+            copy.duration = duration;
+            copy.hasRestQueries = hasRestQueries;
+            copy.results.addAll(results);
+            copy.leafStepResults.putAll(leafStepResults);
+            copy.screenshots.addAll(screenshots);
+            copy.nextStepNumber = nextStepNumber;
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy spilled test steps from " + spillFile, e);
+        }
+    }
+
+    /**
+     * Read the spilled steps one at a time, without building the whole step tree in memory.
+     */
+    public synchronized void forEachSerializedStep(Consumer<JsonElement> action) {
+        JsonParser parser = new JsonParser();
+        try (BufferedReader in = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    action.accept(parser.parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled test steps from " + spillFile, e);
+        }
+    }
+
+    public synchronized void discard() {
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException ignored) {
+            // Will be removed when the JVM exits
+        }
+        stepCount = 0;
+        leafStepCount = 0;
+        flattenedStepCount = 0;
+        duration = 0;
+        hasRestQueries = false;
+        results.clear();
+        leafStepResults.clear();
+        screenshots.clear();
+        nextStepNumber = 1;
+    }
+
+    public boolean isEmpty() {
+        return stepCount == 0;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public int getLeafStepCount() {
+        return leafStepCount;
+    }
+
+    public int getFlattenedStepCount() {
+        return flattenedStepCount;
+    }
+
+    public int getLeafStepCount(TestResult result) {
+        return leafStepResults.getOrDefault(result, 0);
+    }
+
+    public boolean hasRestQueries() {
+        return hasRestQueries;
+    }
+
+    public synchronized List<ScreenshotAndHtmlSource> getScreenshotAndHtmlSources() {
+        return new ArrayList<>(screenshots);
+    }
+
+    public synchronized java.util.Optional<ScreenshotAndHtmlSource> getLastScreenshotAndHtmlSource() {
+        return screenshots.isEmpty() ? java.util.Optional.empty() : java.util.Optional.of(screenshots.get(screenshots.size() - 1));
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public Set<TestResult> getResults() {
+        return EnumSet.copyOf(results);
+    }
+
+    public int getNextStepNumber() {
+        return nextStepNumber;
+    }
+
+    /**
+     * Reads one step per line from the spill file, closing the file once the last step has been read.
+     */
+    private static class StepReader implements Iterator<TestStep>, Closeable {
+        private final Path spillFile;
+        private BufferedReader in;
+        private String nextLine;
+        private boolean finished;
+
+        private StepReader(Path spillFile) {
+            this.spillFile = spillFile;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextLine == null && !finished) {
+                nextLine = readNextLine();
+            }
+            return nextLine != null;
+        }
+
+        @Override
+        public TestStep next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TestStep step = GSON.fromJson(nextLine, TestStep.class);
+            nextLine = null;
+            return step;
+        }
+
+        private String readNextLine() {
+            try {
+                if (in == null) {
+                    in = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8);
+                }
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        return line;
+                    }
+                }
+                close();
+                return null;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Could not read spilled test steps from " + spillFile, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                    // Nothing more will be read from the file
+                }
+                in = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package net.thucydides.core.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A breakdown of where the time in a test step was spent.
+ * Timings are recorded in milliseconds as the step runs, and are kept as primitive counters
+ * so that they cost next to nothing to record and serialise.
+ */
+public class StepTimings {
+
+    private long waitTime;
+    private int webdriverCalls;
+    private long webdriverTime;
+    private long screenshotTime;
+    private long restTime;
+    private long listenerTime;
+    private int networkRequests;
+    private long networkBytes;
+    private List<NetworkRequest> slowestRequests;
+
+    public StepTimings() {}
+
+    public synchronized void recordWait(long durationInMillis) {
+        waitTime += durationInMillis;
+    }
+
+    public synchronized void recordWebdriverCall(long durationInMillis) {
+        webdriverCalls++;
+        webdriverTime += durationInMillis;
+    }
+
+    public synchronized void recordScreenshot(long durationInMillis) {
+        screenshotTime += durationInMillis;
+    }
+
+    public synchronized void recordRestCall(long durationInMillis) {
+        restTime += durationInMillis;
+    }
+
+    public synchronized void recordListenerTime(long durationInMillis) {
+        listenerTime += durationInMillis;
+    }
+
+    /**
+     * Record the network traffic seen by a recording proxy while this step was running.
+     */
+    public synchronized void recordNetworkActivity(int requests, long bytes, List<NetworkRequest> slowestRequests) {
+        this.networkRequests = requests;
+        this.networkBytes = bytes;
+        this.slowestRequests = slowestRequests.isEmpty() ? null : new ArrayList<>(slowestRequests);
+    }
+
+    public long getWaitTime() {
+        return waitTime;
+    }
+
+    public int getWebdriverCalls() {
+        return webdriverCalls;
+    }
+
+    public long getWebdriverTime() {
+        return webdriverTime;
+    }
+
+    public long getScreenshotTime() {
+        return screenshotTime;
+    }
+
+    public long getRestTime() {
+        return restTime;
+    }
+
+    public long getListenerTime() {
+        return listenerTime;
+    }
+
+    public int getNetworkRequests() {
+        return networkRequests;
+    }
+
+    public long getNetworkBytes() {
+        return networkBytes;
+    }
+
+    public List<NetworkRequest> getSlowestRequests() {
+        return (slowestRequests == null) ? new ArrayList<>() : new ArrayList<>(slowestRequests);
+    }
+
+    public long getInstrumentedTime() {
+        return waitTime + webdriverTime + screenshotTime + restTime + listenerTime;
+    }
+
+    public boolean isEmpty() {
+        return webdriverCalls == 0 && networkRequests == 0 && getInstrumentedTime() == 0;
+    }
+
+    public StepTimings copy() {
+        StepTimings copy = new StepTimings();
+        copy.waitTime = waitTime;
+        copy.webdriverCalls = webdriverCalls;
+        copy.webdriverTime = webdriverTime;
+        copy.screenshotTime = screenshotTime;
+        copy.restTime = restTime;
+        copy.listenerTime = listenerTime;
+        copy.networkRequests = networkRequests;
+        copy.networkBytes = networkBytes;
+        copy.slowestRequests = slowestRequests;
+        return copy;
+    }
+
+    /**
+     * The timings as a list of segments, with the time not accounted for by any of the
+     * instrumented categories reported as "Test code".
+     *
+     * @param totalDuration the overall duration of the step, in milliseconds
+     */
+    public List<TimingSegment> segmentsFor(long totalDuration) {
+        long total = Math.max(totalDuration, getInstrumentedTime());
+
+        List<TimingSegment> segments = new ArrayList<>();
+        addSegment(segments, "wait", "Waiting", waitTime, total);
+        addSegment(segments, "webdriver", "WebDriver (" + webdriverCalls + " calls)", webdriverTime, total);
+        addSegment(segments, "screenshot", "Screenshots", screenshotTime, total);
+        addSegment(segments, "rest", "REST calls", restTime, total);
+        addSegment(segments, "listener", "Listeners", listenerTime, total);
+        addSegment(segments, "code", "Test code", total - getInstrumentedTime(), total);
+        return segments;
+    }
+
+    private void addSegment(List<TimingSegment> segments, String category, String label, long time, long total) {
+        if (time > 0) {
+            segments.add(new TimingSegment(category, label, time, total));
+        }
+    }
+
+    /**
+     * Records timings against a particular test step (see {@link TestStep#recordTimings(Consumer)}).
+     */
+    @FunctionalInterface
+    public interface Recorder {
+        void record(Consumer<StepTimings> update);
+    }
+
+    public static class NetworkRequest {
+        private final String url;
+        private final long time;
+
+        public NetworkRequest(String url, long time) {
+            this.url = url;
+            this.time = time;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public long getTime() {
+            return time;
+        }
+    }
+
+    public static class TimingSegment {
+        private final String category;
+        private final String label;
+        private final long time;
+        private final double percentage;
+
+        TimingSegment(String category, String label, long time, long total) {
+            this.category = category;
+            this.label = label;
+            this.time = time;
+            this.percentage = (total == 0) ? 0.0 : (time * 100.0) / total;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public double getPercentage() {
+            return percentage;
+        }
+    }
+}
@@ -49,9 +49,12 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
@@ -103,6 +106,27 @@ public class TestOutcome {
      */
     private final List<TestStep> testSteps = new ArrayList<>();
 
+    /**
+     * Finished top-level steps moved out of memory during very long tests, if step spilling is enabled.
+     * These steps come before the ones in testSteps.
+     */
+    private transient SpilledTestSteps spilledTestSteps;
+
+    private transient Integer stepSpillThreshold;
+
+    /**
+     * Incremented whenever steps are added to or removed from this outcome.
+     */
+    private transient long stepListVersion;
+
+    /**
+     * Incremented by the steps of this outcome when their results, child steps or screenshots change.
+     * Copies of an outcome hold the same step objects, and so share this count with the original.
+     */
+    private transient AtomicLong stepModifications;
+
+    private transient DerivedStepValues derivedStepValues;
+
     /**
      * A test can be linked to the user story it tests using the Story annotation.
      */
@@ -422,7 +446,7 @@ public class TestOutcome {
     }
 
     public TestOutcome copy() {
-        return new TestOutcome(this.startTime,
+        return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                 this.duration,
                 this.title,
                 this.description,
@@ -444,7 +468,7 @@ public class TestOutcome {
                 this.driver,
                 this.manual,
                 this.projectKey,
-                this.environmentVariables);
+                this.environmentVariables));
     }
 
     protected TestOutcome(final ZonedDateTime startTime,
@@ -525,7 +549,7 @@ public class TestOutcome {
 
     public TestOutcome withQualifier(String qualifier) {
         if (qualifier != null) {
-            return new TestOutcome(this.startTime,
+            return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                     this.duration,
                     this.title,
                     this.description,
@@ -547,14 +571,14 @@ public class TestOutcome {
                     this.driver,
                     this.manual,
                     this.projectKey,
-                    this.environmentVariables);
+                    this.environmentVariables));
         } else {
             return this;
         }
     }
 
     public TestOutcome withIssues(List<String> issues) {
-        return new TestOutcome(this.startTime,
+        return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                 this.duration,
                 this.title,
                 this.description,
@@ -576,11 +600,11 @@ public class TestOutcome {
                 this.driver,
                 this.manual,
                 this.projectKey,
-                this.environmentVariables);
+                this.environmentVariables));
     }
 
     public TestOutcome withTags(Set<TestTag> tags) {
-        return new TestOutcome(this.startTime,
+        return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                 this.duration,
                 this.title,
                 this.description,
@@ -602,19 +626,19 @@ public class TestOutcome {
                 this.driver,
                 this.manual,
                 this.projectKey,
-                this.environmentVariables);
+                this.environmentVariables));
     }
 
     public TestOutcome withMethodName(String methodName) {
         if (methodName != null) {
-            return new TestOutcome(this.startTime,
+            return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                     this.duration,
                     this.title,
                     this.description,
                     methodName,
                     identifierFrom(methodName, testCase, userStory),
                     this.testCase,
-                    this.getTestSteps(),
+                    this.testSteps,
                     this.coreIssues,
                     this.additionalIssues,
                     this.tags,
@@ -629,7 +653,7 @@ public class TestOutcome {
                     this.driver,
                     this.manual,
                     this.projectKey,
-                    this.environmentVariables);
+                    this.environmentVariables));
         } else {
             return this;
         }
@@ -685,6 +709,7 @@ public class TestOutcome {
     }
 
     public void setAllStepsTo(TestResult result) {
+        restoreSpilledTestSteps();
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
@@ -710,6 +735,7 @@ public class TestOutcome {
     }
 
     public void resetFailingStepsCausedBy(Class<? extends Throwable> expected) {
+        restoreSpilledTestSteps();
         for (TestStep step : testSteps) {
             resetFailingStepsIn(step).causedBy(expected);
         }
@@ -734,6 +760,9 @@ public class TestOutcome {
     public void mergeMostRecentSteps(int maxStepsToMerge) {
         checkArgument(maxStepsToMerge > 0);
 
+        if (testSteps.size() < maxStepsToMerge) {
+            restoreSpilledTestSteps();
+        }
         List<TestStep> stepsToMerge = getLast(maxStepsToMerge).steps();
         TestStep mergedStep = merge(stepsToMerge);
         replace(stepsToMerge).with(mergedStep);
@@ -789,7 +818,7 @@ public class TestOutcome {
     }
 
     public TestOutcome withId(String id) {
-        return new TestOutcome(this.startTime,
+        return withSpilledTestStepsOf(this, new TestOutcome(this.startTime,
                 this.duration,
                 this.title,
                 this.description,
@@ -811,10 +840,11 @@ public class TestOutcome {
                 this.driver,
                 this.manual,
                 this.projectKey,
-                this.environmentVariables);
+                this.environmentVariables));
     }
 
     public void updateTopLevelStepResultsTo(TestResult result) {
+        restoreSpilledTestSteps();
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
@@ -853,7 +883,7 @@ public class TestOutcome {
     }
 
     public int getTestStepCount() {
-        return getTestSteps().size();
+        return getStepCount();
     }
 
     private static class TestOutcomeWithEnvironmentBuilder {
@@ -883,7 +913,7 @@ public class TestOutcome {
 
         public List<TestStep> steps() {
 
-            List<List<TestStep>> testStepPartitions = partition(reverse(getTestSteps()), maxCount);
+            List<List<TestStep>> testStepPartitions = partition(reverse(new ArrayList<>(testSteps)), maxCount);
             return reverse(testStepPartitions.get(0));
         }
     }
@@ -1069,18 +1099,121 @@ public class TestOutcome {
      * a small test, which follows on from the previous one. The outcome of the
      * acceptance test as a whole depends on the outcome of all of the steps.
      *
+     * If some of the steps have been moved out of memory during a very long test, they are all read back from disk,
+     * so aggregate values such as step counts and screenshots should be read through the dedicated methods instead,
+     * and the steps themselves through streamTestSteps().
+     *
      * @return A list of top-level test steps for this test.
      */
     public List<TestStep> getTestSteps() {
+        if (hasSpilledTestSteps()) {
+            List<TestStep> allTestSteps = spilledTestSteps.load();
+            allTestSteps.addAll(testSteps);
+            return allTestSteps;
+        }
         return new ArrayList<>(testSteps);
     }
 
+    /**
+     * The top-level steps of this test, reading any spilled steps back from disk one at a time as the stream
+     * is consumed, so that only one of them is in memory at once. The stream should be closed once it has been read.
+     */
+    public Stream<TestStep> streamTestSteps() {
+        List<TestStep> inMemoryTestSteps = new ArrayList<>(testSteps);
+        if (hasSpilledTestSteps()) {
+            return Stream.concat(spilledTestSteps.stream(), inMemoryTestSteps.stream());
+        }
+        return inMemoryTestSteps.stream();
+    }
+
+    /**
+     * The top-level steps of this test, for the report templates. As with streamTestSteps(), spilled steps are read
+     * back from disk one at a time, and the iterator can only be used once.
+     */
+    public Iterator<TestStep> getTestStepIterator() {
+        return streamTestSteps().iterator();
+    }
+
+    /**
+     * The top-level step before the most recent one, if there is one.
+     */
+    public Optional<TestStep> getPreviousTopLevelStep() {
+        return (testSteps.size() > 1) ? Optional.of(testSteps.get(testSteps.size() - 2)) : Optional.empty();
+    }
+
+    /**
+     * True if some of the finished steps of this test have been moved out of memory to a temporary file.
+     * The spilled steps are read back from the file by getTestSteps() and streamTestSteps(), and streamed into the JSON report.
+     * Counts, results and screenshots are kept in memory for the spilled steps, so they can be read without going back to the file.
+     */
+    public boolean hasSpilledTestSteps() {
+        return spilledTestSteps != null && !spilledTestSteps.isEmpty();
+    }
+
+    public SpilledTestSteps getSpilledTestSteps() {
+        return spilledTestSteps;
+    }
+
+    private static TestOutcome withSpilledTestStepsOf(TestOutcome original, TestOutcome copy) {
+        if (original.hasSpilledTestSteps()) {
+            copy.spilledTestSteps = original.spilledTestSteps.copy();
+            copy.renumberTestSteps();
+        }
+        copy.stepModifications = original.stepModifications();
+        copy.derivedStepValues = null;
+        return copy;
+    }
+
+    private void spillFinishedStepsIfNeeded() {
+        int threshold = stepSpillThreshold();
+        if (threshold <= 0 || testSteps.size() <= Math.max(threshold, 2)) {
+            return;
+        }
+        // Keep the step that has just finished as well as the new one, as listeners may still refer to it
+        List<TestStep> finishedSteps = new ArrayList<>(testSteps.subList(0, testSteps.size() - 2));
+        try {
+            if (spilledTestSteps == null) {
+                spilledTestSteps = SpilledTestSteps.inTemporaryFile();
+            }
+            updateOverallResultsFor(finishedSteps);
+            spilledTestSteps.append(finishedSteps);
+            testSteps.removeAll(finishedSteps);
+            stepListChanged();
+        } catch (IOException e) {
+            LOGGER.warn("Could not move finished test steps out of memory: {}", e.getMessage());
+            stepSpillThreshold = 0;
+        }
+    }
+
+    private int stepSpillThreshold() {
+        if (stepSpillThreshold == null) {
+            stepSpillThreshold = (environmentVariables == null) ? 0
+                    : ThucydidesSystemProperty.SERENITY_STEP_SPILL_THRESHOLD.integerFrom(environmentVariables, 0);
+        }
+        return stepSpillThreshold;
+    }
+
+    /**
+     * Bring any spilled steps back into memory, before making changes that apply to every step in the test.
+     */
+    private void restoreSpilledTestSteps() {
+        if (hasSpilledTestSteps()) {
+            testSteps.addAll(0, spilledTestSteps.load());
+            spilledTestSteps.discard();
+            spilledTestSteps = null;
+            stepListChanged();
+        }
+    }
+
     public boolean hasScreenshots() {
         return !getScreenshots().isEmpty();
     }
 
     public boolean hasRestQueries() {
-        for (TestStep step : getFlattenedTestSteps()) {
+        if (hasSpilledTestSteps() && spilledTestSteps.hasRestQueries()) {
+            return true;
+        }
+        for (TestStep step : inMemoryFlattenedTestSteps()) {
             if (step.hasRestQuery()) {
                 return true;
             }
@@ -1089,24 +1222,38 @@ public class TestOutcome {
     }
 
     public List<ScreenshotAndHtmlSource> getScreenshotAndHtmlSources() {
-        List<TestStep> testStepsWithScreenshots = getFlattenedTestSteps();
+        DerivedStepValues derivedValues = derivedStepValues();
+        if (derivedValues.screenshotAndHtmlSources == null) {
+            List<ScreenshotAndHtmlSource> screenshotAndHtmlSources = (hasSpilledTestSteps())
+                    ? spilledTestSteps.getScreenshotAndHtmlSources() : new ArrayList<>();
+            inMemoryFlattenedTestSteps().forEach(testStep -> screenshotAndHtmlSources.addAll(testStep.getScreenshots()));
+            derivedValues.screenshotAndHtmlSources = Collections.unmodifiableList(screenshotAndHtmlSources);
+        }
+        return derivedValues.screenshotAndHtmlSources;
+    }
 
-        return testStepsWithScreenshots.stream()
-                .flatMap(testStep -> testStep.getScreenshots().stream())
-                .collect(Collectors.toList());
+    /**
+     * The most recent screenshot taken during this test, if any.
+     */
+    public Optional<ScreenshotAndHtmlSource> getLastScreenshotAndHtmlSource() {
+        List<TestStep> stepsInReverseOrder = new ArrayList<>(inMemoryFlattenedTestSteps());
+        Collections.reverse(stepsInReverseOrder);
+        for (TestStep step : stepsInReverseOrder) {
+            if (!step.getScreenshots().isEmpty()) {
+                return Optional.of(step.getScreenshots().get(step.getScreenshots().size() - 1));
+            }
+        }
+        return (hasSpilledTestSteps()) ? spilledTestSteps.getLastScreenshotAndHtmlSource() : Optional.empty();
     }
 
     public List<Screenshot> getScreenshots() {
-        List<Screenshot> screenshots = new ArrayList<>();
-
-        List<TestStep> testStepsWithScreenshots = getFlattenedTestSteps();// select(getFlattenedTestSteps(),
-//                having(on(TestStep.class).needsScreenshots()));
-
-        for (TestStep currentStep : testStepsWithScreenshots) {
-            screenshots.addAll(screenshotsIn(currentStep));
+        DerivedStepValues derivedValues = derivedStepValues();
+        if (derivedValues.screenshots == null) {
+            List<Screenshot> screenshots = new ArrayList<>();
+            forEachFlattenedTestStep(currentStep -> screenshots.addAll(screenshotsIn(currentStep)));
+            derivedValues.screenshots = Collections.unmodifiableList(screenshots);
         }
-
-        return new ArrayList<>(screenshots);
+        return derivedValues.screenshots;
     }
 
     private List<Screenshot> screenshotsIn(TestStep currentStep) {
@@ -1132,35 +1279,161 @@ public class TestOutcome {
 
     public boolean hasNonStepFailure() {
         boolean stepsContainFailure = false;
-        for (TestStep step : getFlattenedTestSteps()) {
+        for (TestStep step : inMemoryFlattenedTestSteps()) {
             if (step.getResult() == TestResult.FAILURE || step.getResult() == TestResult.ERROR || step.getResult() == TestResult.COMPROMISED) {
                 stepsContainFailure = true;
             }
         }
+        if (hasSpilledTestSteps()) {
+            // A failing nested step also fails the top-level step it belongs to
+            Set<TestResult> spilledResults = spilledTestSteps.getResults();
+            stepsContainFailure = stepsContainFailure || spilledResults.contains(TestResult.FAILURE)
+                    || spilledResults.contains(TestResult.ERROR) || spilledResults.contains(TestResult.COMPROMISED);
+        }
         return (!stepsContainFailure && (getResult() == TestResult.ERROR || getResult() == TestResult.FAILURE || getResult() == TestResult.COMPROMISED));
     }
 
+    /**
+     * All of the steps in this test, including nested steps.
+     * Steps that have been moved out of memory are read back from disk on each call, and are not cached,
+     * so that they do not stay in memory.
+     */
     public List<TestStep> getFlattenedTestSteps() {
-        List<TestStep> flattenedTestSteps = new ArrayList<>();
-        for (TestStep step : getTestSteps()) {
-            flattenedTestSteps.add(step);
-            if (step.isAGroup()) {
-                flattenedTestSteps.addAll(step.getFlattenedSteps());
-            }
+        if (hasSpilledTestSteps()) {
+            List<TestStep> flattenedTestSteps = new ArrayList<>();
+            forEachFlattenedTestStep(flattenedTestSteps::add);
+            return Collections.unmodifiableList(flattenedTestSteps);
+        }
+        return inMemoryFlattenedTestSteps();
+    }
+
+    private List<TestStep> inMemoryFlattenedTestSteps() {
+        DerivedStepValues derivedValues = derivedStepValues();
+        if (derivedValues.flattenedTestSteps == null) {
+            List<TestStep> flattenedTestSteps = new ArrayList<>();
+            testSteps.forEach(step -> addFlattenedStepsOf(step, flattenedTestSteps::add));
+            derivedValues.flattenedTestSteps = Collections.unmodifiableList(flattenedTestSteps);
+        }
+        return derivedValues.flattenedTestSteps;
+    }
+
+    /**
+     * Visit each step in this test, including nested steps, reading any spilled steps from disk
+     * one top-level step at a time.
+     */
+    private void forEachFlattenedTestStep(Consumer<TestStep> action) {
+        if (hasSpilledTestSteps()) {
+            spilledTestSteps.forEachStep(step -> addFlattenedStepsOf(step, action));
+        }
+        inMemoryFlattenedTestSteps().forEach(action);
+    }
+
+    private static void addFlattenedStepsOf(TestStep step, Consumer<TestStep> action) {
+        action.accept(step);
+        if (step.isAGroup()) {
+            step.getFlattenedSteps().forEach(action);
         }
-        return flattenedTestSteps;
     }
 
+    /**
+     * The steps in this test that have no nested steps.
+     * As with getFlattenedTestSteps(), steps that have been moved out of memory are read back from disk on each call.
+     */
     public List<TestStep> getLeafTestSteps() {
-        List<TestStep> leafTestSteps = new ArrayList<TestStep>();
-        for (TestStep step : getTestSteps()) {
-            if (step.isAGroup()) {
-                leafTestSteps.addAll(step.getLeafTestSteps());
-            } else {
-                leafTestSteps.add(step);
+        if (hasSpilledTestSteps()) {
+            List<TestStep> leafTestSteps = new ArrayList<>();
+            spilledTestSteps.forEachStep(step -> addLeafStepsOf(step, leafTestSteps));
+            leafTestSteps.addAll(inMemoryLeafTestSteps());
+            return Collections.unmodifiableList(leafTestSteps);
+        }
+        return inMemoryLeafTestSteps();
+    }
+
+    private List<TestStep> inMemoryLeafTestSteps() {
+        DerivedStepValues derivedValues = derivedStepValues();
+        if (derivedValues.leafTestSteps == null) {
+            List<TestStep> leafTestSteps = new ArrayList<TestStep>();
+            testSteps.forEach(step -> addLeafStepsOf(step, leafTestSteps));
+            derivedValues.leafTestSteps = Collections.unmodifiableList(leafTestSteps);
+        }
+        return derivedValues.leafTestSteps;
+    }
+
+    private static void addLeafStepsOf(TestStep step, List<TestStep> leafTestSteps) {
+        if (step.isAGroup()) {
+            leafTestSteps.addAll(step.getLeafTestSteps());
+        } else {
+            leafTestSteps.add(step);
+        }
+    }
+
+    /**
+     * Values derived from the test steps are calculated once and reused until the steps change,
+     * either because steps are added to or removed from this outcome, or because a step itself is modified.
+     */
+    private DerivedStepValues derivedStepValues() {
+        AtomicLong modifications = stepModifications();
+        long modificationCount = modifications.get();
+        DerivedStepValues derivedValues = derivedStepValues;
+        if (derivedValues == null || !derivedValues.isUpToDateWith(stepListVersion, modificationCount)) {
+            // Steps may have been added or deserialized without an owner: make sure they report their changes from now on
+            for (TestStep step : testSteps) {
+                step.ownedBy(modifications);
             }
+            derivedValues = new DerivedStepValues(stepListVersion, modificationCount);
+            derivedStepValues = derivedValues;
+        }
+        return derivedValues;
+    }
+
+    private synchronized AtomicLong stepModifications() {
+        if (stepModifications == null) {
+            stepModifications = new AtomicLong();
+        }
+        return stepModifications;
+    }
+
+    private void stepListChanged() {
+        stepListVersion++;
+    }
+
+    private static class DerivedStepValues {
+        private final long stepListVersion;
+        private final long stepModifications;
+
+        private volatile List<TestStep> flattenedTestSteps;
+        private volatile List<TestStep> leafTestSteps;
+        private volatile List<ScreenshotAndHtmlSource> screenshotAndHtmlSources;
+        private volatile List<Screenshot> screenshots;
+        private volatile CalculatedResult result;
+
+        DerivedStepValues(long stepListVersion, long stepModifications) {
+            this.stepListVersion = stepListVersion;
+            this.stepModifications = stepModifications;
+        }
+
+        boolean isUpToDateWith(long stepListVersion, long stepModifications) {
+            return this.stepListVersion == stepListVersion && this.stepModifications == stepModifications;
+        }
+    }
+
+    /**
+     * The overall result calculated from the steps, along with the outcome-level values it was calculated from.
+     */
+    private static class CalculatedResult {
+        private final TestResult result;
+        private final TestResult annotatedResult;
+        private final String testFailureClassname;
+
+        CalculatedResult(TestResult result, TestResult annotatedResult, String testFailureClassname) {
+            this.result = result;
+            this.annotatedResult = annotatedResult;
+            this.testFailureClassname = testFailureClassname;
+        }
+
+        boolean wasCalculatedFrom(TestResult annotatedResult, String testFailureClassname) {
+            return this.annotatedResult == annotatedResult && Objects.equals(this.testFailureClassname, testFailureClassname);
         }
-        return new ArrayList<>(leafTestSteps);
     }
 
     /**
@@ -1182,6 +1455,16 @@ public class TestOutcome {
             return annotatedResult;
         }
 
+        DerivedStepValues derivedValues = derivedStepValues();
+        CalculatedResult calculatedResult = derivedValues.result;
+        if (calculatedResult == null || !calculatedResult.wasCalculatedFrom(annotatedResult, testFailureClassname)) {
+            calculatedResult = new CalculatedResult(calculateResult(), annotatedResult, testFailureClassname);
+            derivedValues.result = calculatedResult;
+        }
+        return calculatedResult.result;
+    }
+
+    private TestResult calculateResult() {
         TestResult testResultFromFailureClassname = testResultFromFailureClassname();
 
         List<TestResult> overallResults = new ArrayList<>(getCurrentTestResults());
@@ -1228,16 +1511,19 @@ public class TestOutcome {
 
     private void addStep(TestStep step) {
         testSteps.add(step);
+        stepListChanged();
+        spillFinishedStepsIfNeeded();
         renumberTestSteps();
     }
 
     private void addSteps(List<TestStep> steps) {
         testSteps.addAll(steps);
+        stepListChanged();
         renumberTestSteps();
     }
 
     private void renumberTestSteps() {
-        int count = 1;
+        int count = (spilledTestSteps == null) ? 1 : spilledTestSteps.getNextStepNumber();
         for (TestStep step : testSteps) {
             count = step.renumberFrom(count);
         }
@@ -1272,9 +1558,13 @@ public class TestOutcome {
     }
 
     private List<TestResult> getCurrentTestResults() {
-        return testSteps.stream()
+        List<TestResult> results = testSteps.stream()
                 .map(TestStep::getResult)
                 .collect(Collectors.toList());
+        if (hasSpilledTestSteps()) {
+            results.addAll(spilledTestSteps.getResults());
+        }
+        return results;
     }
 
     /**
@@ -1647,7 +1937,10 @@ public class TestOutcome {
             if (lastStep.hasChildren()) {
                 addFailingStepAsSibling(lastStep.children(), testFailureCause);
             } else {
-                testStepList.add(failingStep(testFailureCause));
+                TestStep failingStep = failingStep(testFailureCause);
+                failingStep.ownedBy(stepModifications());
+                testStepList.add(failingStep);
+                stepListChanged();
             }
         }
     }
@@ -1983,7 +2276,7 @@ public class TestOutcome {
     }
 
     public Integer getStepCount() {
-        return testSteps.size();
+        return (hasSpilledTestSteps()) ? spilledTestSteps.getStepCount() + testSteps.size() : testSteps.size();
     }
 
     public Integer getRunningStepCount() {
@@ -2003,38 +2296,36 @@ public class TestOutcome {
     }
 
     public Integer getNestedStepCount() {
-        return getFlattenedTestSteps().size();
+        int spilledSteps = (hasSpilledTestSteps()) ? spilledTestSteps.getFlattenedStepCount() : 0;
+        return spilledSteps + inMemoryFlattenedTestSteps().size();
     }
 
     public Long getSuccessCount() {
-        return count(TestStep.SUCCESSFUL_TESTSTEPS).in(getLeafTestSteps());
+        return count(TestStep.SUCCESSFUL_TESTSTEPS, TestResult.SUCCESS).in(inMemoryLeafTestSteps());
     }
 
     public Long getFailureCount() {
-        return count(TestStep.FAILING_TESTSTEPS).in(getLeafTestSteps());
+        return count(TestStep.FAILING_TESTSTEPS, TestResult.FAILURE).in(inMemoryLeafTestSteps());
     }
 
     public Long getErrorCount() {
-        return count(TestStep.ERROR_TESTSTEPS).in(getLeafTestSteps());
+        return count(TestStep.ERROR_TESTSTEPS, TestResult.ERROR).in(inMemoryLeafTestSteps());
     }
 
     public Long getCompromisedCount() {
-        return count(TestStep.COMPROMISED_TESTSTEPS).in(getLeafTestSteps());
+        return count(TestStep.COMPROMISED_TESTSTEPS, TestResult.COMPROMISED).in(inMemoryLeafTestSteps());
     }
 
-    public Long getIgnoredCount() { return count(TestStep.IGNORED_TESTSTEPS).in(getLeafTestSteps()); }
+    public Long getIgnoredCount() { return count(TestStep.IGNORED_TESTSTEPS, TestResult.IGNORED).in(inMemoryLeafTestSteps()); }
 
     public Long getSkippedOrIgnoredCount() {
         return getIgnoredCount() + getSkippedCount();
     }
 
-    public Long getSkippedCount() { return count(TestStep.SKIPPED_TESTSTEPS).in(getLeafTestSteps()); }
+    public Long getSkippedCount() { return count(TestStep.SKIPPED_TESTSTEPS, TestResult.SKIPPED).in(inMemoryLeafTestSteps()); }
 
     public Long getPendingCount() {
-        return getLeafTestSteps()
-                .stream()
-                .filter(TestStep::isPending)
-                .count();
+        return count(TestStep::isPending, TestResult.PENDING).in(inMemoryLeafTestSteps());
     }
 
     public Boolean isSuccess() {
@@ -2078,7 +2369,8 @@ public class TestOutcome {
     public Long getDuration() {
         if (duration > 0) { return duration; }
 
-        return testSteps
+        long spilledDuration = (hasSpilledTestSteps()) ? spilledTestSteps.getDuration() : 0;
+        return spilledDuration + testSteps
                 .stream()
                 .mapToLong(TestStep::getDuration)
                 .sum();
@@ -2108,18 +2400,25 @@ public class TestOutcome {
         this.sessionId = sessionId;
     }
 
-    private StepCountBuilder count(Predicate<TestStep> filter) {
-        return new StepCountBuilder(filter);
+    /**
+     * Count the leaf steps matching a filter. Spilled steps are counted from the results recorded when they were spilled,
+     * rather than read back from disk.
+     */
+    private StepCountBuilder count(Predicate<TestStep> filter, TestResult result) {
+        long spilledSteps = (hasSpilledTestSteps()) ? spilledTestSteps.getLeafStepCount(result) : 0;
+        return new StepCountBuilder(filter, spilledSteps);
     }
     public static class StepCountBuilder {
         private final Predicate<TestStep> stepFilter;
+        private final long spilledSteps;
 
-        private StepCountBuilder(Predicate<TestStep> filter) {
+        private StepCountBuilder(Predicate<TestStep> filter, long spilledSteps) {
             this.stepFilter = filter;
+            this.spilledSteps = spilledSteps;
         }
 
         long in(List<TestStep> steps) {
-            return steps.stream()
+            return spilledSteps + steps.stream()
                     .filter( stepFilter )
                     .count();
         }
@@ -2127,7 +2426,8 @@ public class TestOutcome {
 
 
     public Integer countTestSteps() {
-        return countLeafStepsIn(testSteps);
+        int spilledLeafSteps = (hasSpilledTestSteps()) ? spilledTestSteps.getLeafStepCount() : 0;
+        return spilledLeafSteps + countLeafStepsIn(testSteps);
     }
 
     private Integer countLeafStepsIn(List<TestStep> testSteps) {
@@ -2241,17 +2541,16 @@ public class TestOutcome {
     }
 
     private List<TestStep> firstNonPreconditionStepChildren() {
-
-        for (TestStep step : getTestSteps()) {
-            if (!step.isAPrecondition() && step.hasChildren()) {
-                return step.getChildren();
-            }
+        try (Stream<TestStep> steps = streamTestSteps()) {
+            return steps.filter(step -> !step.isAPrecondition() && step.hasChildren())
+                        .findFirst()
+                        .map(TestStep::getChildren)
+                        .orElseGet(ArrayList::new);
         }
-        return new ArrayList<>();
     }
 
     public String getDataDrivenSampleScenario() {
-        if (!isDataDriven() || getTestSteps().isEmpty() || !atLeastOneStepHasChildren()) {
+        if (!isDataDriven() || getStepCount() == 0 || !atLeastOneStepHasChildren()) {
             return "";
         }
 
@@ -2278,7 +2577,9 @@ public class TestOutcome {
 
 
     private boolean atLeastOneStepHasChildren() {
-        return getTestSteps().stream().anyMatch(TestStep::hasChildren);
+        try (Stream<TestStep> steps = streamTestSteps()) {
+            return steps.anyMatch(TestStep::hasChildren);
+        }
     }
 
     public DataTable getDataTable() {
@@ -2378,6 +2679,7 @@ public class TestOutcome {
         for (TestStep testStep : currentTestSteps) {
             if (stepsToReplace.contains(testStep)) {
                 testSteps.remove(testStep);
+                stepListChanged();
             }
         }
     }
@@ -18,6 +18,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -45,6 +47,7 @@ public class TestStep implements Cloneable {
     private TestResult result;
     private RestQuery restQuery;
     private boolean precondition;
+    private StepTimings timings;
 
 
     public final static Predicate<TestStep> IGNORED_TESTSTEPS = testStep -> testStep.getResult() == IGNORED;
@@ -57,6 +60,28 @@ public class TestStep implements Cloneable {
 
     private List<TestStep> children = new ArrayList<>();
 
+    /**
+     * The modification count of the test outcome holding this step, incremented when the result, child steps
+     * or screenshots of this step change, so that the outcome knows when the values it derives from its steps are out of date.
+     */
+    private transient AtomicLong ownerModifications;
+
+    void ownedBy(AtomicLong modifications) {
+        if (ownerModifications != modifications) {
+            ownerModifications = modifications;
+            for (TestStep child : children) {
+                child.ownedBy(modifications);
+            }
+        }
+    }
+
+    private void modified() {
+        AtomicLong modifications = ownerModifications;
+        if (modifications != null) {
+            modifications.incrementAndGet();
+        }
+    }
+
     public TestStep() {
         startTime = now();
     }
@@ -108,6 +133,7 @@ public class TestStep implements Cloneable {
         if (result != null) {
             if (getResultFromChildren().overrides(result)) {
                 result = null;
+                modified();
             }
         }
     }
@@ -189,6 +215,7 @@ public class TestStep implements Cloneable {
         newTestStep.number = number;
         newTestStep.children = NewList.copyOf(children);
         newTestStep.precondition = precondition;
+        newTestStep.timings = (timings == null) ? null : timings.copy();
         return newTestStep;
     }
 
@@ -268,6 +295,7 @@ public class TestStep implements Cloneable {
      */
     public void setResult(final TestResult result) {
         this.result = result;
+        modified();
     }
 
     public TestResult getResult() {
@@ -346,6 +374,31 @@ public class TestStep implements Cloneable {
         return TestDuration.of(duration).inSeconds();
     }
 
+    /**
+     * Record part of the timing breakdown for this step.
+     * The timings are only kept once something non-zero has been recorded, so steps with nothing to report
+     * carry no timing data at all and keep the serialised outcomes small.
+     */
+    public synchronized void recordTimings(Consumer<StepTimings> update) {
+        StepTimings updatedTimings = (timings == null) ? new StepTimings() : timings;
+        update.accept(updatedTimings);
+        if (!updatedTimings.isEmpty()) {
+            timings = updatedTimings;
+        }
+    }
+
+    public boolean hasTimings() {
+        return timings != null && !timings.isEmpty();
+    }
+
+    public StepTimings getTimings() {
+        return timings;
+    }
+
+    public List<StepTimings.TimingSegment> getTimingSegments() {
+        return hasTimings() ? timings.segmentsFor(duration) : new ArrayList<>();
+    }
+
     /**
      * Indicate that this step failed with a given error.
      *
@@ -433,6 +486,10 @@ public class TestStep implements Cloneable {
 
     public TestStep addChildStep(final TestStep step) {
         children.add(step);
+        if (ownerModifications != null) {
+            step.ownedBy(ownerModifications);
+        }
+        modified();
         return this;
     }
 
@@ -455,6 +512,7 @@ public class TestStep implements Cloneable {
     public TestStep addScreenshot(ScreenshotAndHtmlSource screenshotAndHtmlSource) {
         if (thisIsANew(screenshotAndHtmlSource)) {
             screenshots.add(screenshotAndHtmlSource);
+            modified();
         }
         return this;
     }
@@ -478,6 +536,7 @@ public class TestStep implements Cloneable {
 
     public void removeScreenshot(int index) {
         screenshots.remove(index);
+        modified();
     }
 
     @Override
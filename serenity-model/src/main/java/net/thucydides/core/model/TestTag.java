@@ -85,12 +85,22 @@ public class TestTag implements Comparable<TestTag> {
         if (this.equals(testTag)) {
             return true;
         }
-        if ((this.normalisedName().endsWith("/" + testTag.normalisedName())) && (this.getType().equals(testTag.getType()))) {
+        if (endsWithAPathElementCalled(this.normalisedName(), testTag.normalisedName()) && (this.getType().equals(testTag.getType()))) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Equivalent to name.endsWith("/" + pathElement), without building a new string for every comparison.
+     */
+    private static boolean endsWithAPathElementCalled(String name, String pathElement) {
+        int separatorPosition = name.length() - pathElement.length() - 1;
+        return separatorPosition >= 0
+                && name.charAt(separatorPosition) == '/'
+                && name.endsWith(pathElement);
+    }
+
     public static class TestTagBuilder {
         private final String name;
 
@@ -34,26 +34,17 @@ public class FailureAnalysis {
         this(ConfiguredEnvironment.getEnvironmentVariables());
     }
 
-    private final FailureAnalysisConfiguration configured;
+    private final FailureClassifier classifier;
 
     public FailureAnalysis(EnvironmentVariables environmentVariables) {
-        this.configured = new FailureAnalysisConfiguration(environmentVariables);
+        this.classifier = FailureClassifier.forConfiguration(environmentVariables);
     }
 
     public TestResult resultFor(Class testFailureCause) {
-        if (reportAsPending(testFailureCause)) {
-            return PENDING;
-        }
-        if (reportAsSkipped(testFailureCause)) {
-            return SKIPPED;
-        }
-        if (reportAsCompromised(testFailureCause)) {
-            return COMPROMISED;
-        }
-        if (reportAsFailure(testFailureCause)) {
-            return FAILURE;
+        if (testFailureCause == null) {
+            return ERROR;
         }
-        return ERROR;
+        return classifier.classificationOf(testFailureCause).result;
     }
 
     private static final List<Class<?>> DEFAULT_FAILURE_TYPES = new ArrayList<>();
@@ -81,67 +72,23 @@ public class FailureAnalysis {
     }
 
     public boolean reportAsFailure(Class<?> testFailureCause) {
-        if (testFailureCause == null) {
-            return false;
-        }
-        for (Class<?> validFailureType : configured.failureTypes()) {
-            if (isA(validFailureType, testFailureCause)) {
-                return true;
-            }
-        }
-        return false;
+        return (testFailureCause != null) && classifier.classificationOf(testFailureCause).failure;
     }
 
     public boolean reportAsCompromised(Class<?> testFailureCause) {
-        if (testFailureCause == null) {
-            return false;
-        }
-        for (Class<?> validCompromisedType : configured.compromisedTypes()) {
-            if (isA(validCompromisedType, testFailureCause)) {
-                return true;
-            }
-        }
-        return false;
+        return (testFailureCause != null) && classifier.classificationOf(testFailureCause).compromised;
     }
 
     public boolean reportAsPending(Class<?> testFailureCause) {
-        if (testFailureCause == null) {
-            return false;
-        }
-        for (Class<?> validPendingType : configured.pendingTypes()) {
-            if (isA(validPendingType, testFailureCause)) {
-                return true;
-            }
-        }
-        return false;
+        return (testFailureCause != null) && classifier.classificationOf(testFailureCause).pending;
     }
 
     public boolean reportAsSkipped(Class<?> testFailureCause) {
-        if (testFailureCause == null) {
-            return false;
-        }
-        for (Class<?> validSkippedType : configured.skippedTypes()) {
-            if (isA(validSkippedType, testFailureCause)) {
-                return true;
-            }
-        }
-        return false;
+        return (testFailureCause != null) && classifier.classificationOf(testFailureCause).skipped;
     }
 
     public boolean reportAsError(Class<?> testFailureCause) {
-        if (testFailureCause == null) {
-            return false;
-        }
-        for (Class<?> validErrorType : configured.errorTypes()) {
-            if (isA(validErrorType, testFailureCause)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isA(Class<?> expectedClass, Class testFailureCause) {
-        return expectedClass.isAssignableFrom(testFailureCause);
+        return (testFailureCause != null) && classifier.classificationOf(testFailureCause).error;
     }
 
     public TestResult resultFor(Throwable testFailureCause) {
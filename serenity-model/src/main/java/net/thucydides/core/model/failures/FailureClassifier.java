@@ -0,0 +1,123 @@
+package net.thucydides.core.model.failures;
+
+import net.serenitybdd.core.environment.ConfigurationSnapshot;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.thucydides.core.ThucydidesSystemProperty.*;
+import static net.thucydides.core.model.TestResult.*;
+
+/**
+ * The exception types associated with each test result, resolved once for a given configuration.
+ * The classification of each exception class is then worked out the first time it is needed and cached,
+ * so classifying a failure is a single lookup.
+ */
+class FailureClassifier {
+
+    private static final Map<List<String>, FailureClassifier> CLASSIFIERS = new ConcurrentHashMap<>();
+
+    private static final Map<ConfigurationSnapshot, FailureClassifier> CLASSIFIERS_BY_SNAPSHOT
+            = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<Class<?>> failureTypes;
+    private final List<Class<?>> compromisedTypes;
+    private final List<Class<?>> pendingTypes;
+    private final List<Class<?>> skippedTypes;
+    private final List<Class<?>> errorTypes;
+
+    private final ClassValue<Classification> classifications = new ClassValue<Classification>() {
+        @Override
+        protected Classification computeValue(Class<?> exceptionType) {
+            return new Classification(exceptionType);
+        }
+    };
+
+    FailureClassifier(FailureAnalysisConfiguration configuration) {
+        this.failureTypes = Collections.unmodifiableList(configuration.failureTypes());
+        this.compromisedTypes = Collections.unmodifiableList(configuration.compromisedTypes());
+        this.pendingTypes = Collections.unmodifiableList(configuration.pendingTypes());
+        this.skippedTypes = Collections.unmodifiableList(configuration.skippedTypes());
+        this.errorTypes = Collections.unmodifiableList(configuration.errorTypes());
+    }
+
+    /**
+     * Classifiers are shared between all FailureAnalysis instances that use the same exception type properties.
+     * Where the environment variables provide a configuration snapshot, the classifier is also remembered for
+     * that snapshot, so the properties are only read again once the configuration changes.
+     */
+    static FailureClassifier forConfiguration(EnvironmentVariables environmentVariables) {
+        Optional<ConfigurationSnapshot> snapshot = environmentVariables.getConfigurationSnapshot();
+        if (snapshot.isPresent()) {
+            return CLASSIFIERS_BY_SNAPSHOT.computeIfAbsent(snapshot.get(),
+                    configuration -> forConfiguredTypesIn(environmentVariables));
+        }
+        return forConfiguredTypesIn(environmentVariables);
+    }
+
+    private static FailureClassifier forConfiguredTypesIn(EnvironmentVariables environmentVariables) {
+        List<String> configuredTypes = Arrays.asList(
+                SERENITY_FAIL_ON.from(environmentVariables, ""),
+                SERENITY_COMPROMISED_ON.from(environmentVariables, ""),
+                SERENITY_PENDING_ON.from(environmentVariables, ""),
+                SERENITY_SKIPPED_ON.from(environmentVariables, ""),
+                SERENITY_ERROR_ON.from(environmentVariables, ""));
+
+        return CLASSIFIERS.computeIfAbsent(configuredTypes,
+                key -> new FailureClassifier(new FailureAnalysisConfiguration(environmentVariables)));
+    }
+
+    Classification classificationOf(Class<?> exceptionType) {
+        return classifications.get(exceptionType);
+    }
+
+    private static boolean isOneOf(List<Class<?>> types, Class<?> exceptionType) {
+        for (Class<?> type : types) {
+            if (type.isAssignableFrom(exceptionType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    class Classification {
+        final boolean failure;
+        final boolean compromised;
+        final boolean pending;
+        final boolean skipped;
+        final boolean error;
+        final TestResult result;
+
+        Classification(Class<?> exceptionType) {
+            this.failure = isOneOf(failureTypes, exceptionType);
+            this.compromised = isOneOf(compromisedTypes, exceptionType);
+            this.pending = isOneOf(pendingTypes, exceptionType);
+            this.skipped = isOneOf(skippedTypes, exceptionType);
+            this.error = isOneOf(errorTypes, exceptionType);
+            this.result = resultFrom(pending, skipped, compromised, failure);
+        }
+
+        private TestResult resultFrom(boolean pending, boolean skipped, boolean compromised, boolean failure) {
+            if (pending) {
+                return PENDING;
+            }
+            if (skipped) {
+                return SKIPPED;
+            }
+            if (compromised) {
+                return COMPROMISED;
+            }
+            if (failure) {
+                return FAILURE;
+            }
+            return ERROR;
+        }
+    }
+}
@@ -9,10 +9,16 @@ import net.thucydides.core.util.NameConverter;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+/**
+ * The error type, message and stack trace of a test failure.
+ * Failure causes read from the reports are shared between test outcomes (see FailureCauseInterner),
+ * so they cannot be modified once they have been created.
+ */
 public class FailureCause {
 
     public static final String ERROR_MESSAGE_LABEL_1 = "{'errorMessage':";
@@ -24,17 +30,26 @@ public class FailureCause {
             "Expecting",
             "ComparisonFailure");
 
-    private String errorType;
-    private String message;
-    private StackTraceElement[] stackTrace;
-    private FailureCause rootCause;
+    private final String errorType;
+    private final String message;
+    private final StackTraceElement[] stackTrace;
+    private final FailureCause rootCause;
 
     /**
      * Used within a test run but not stored for reporting
      */
-    private transient Throwable originalCause;
+    private final transient Throwable originalCause;
 
     public FailureCause() {
+        this(null, null, null, null, null);
+    }
+
+    private FailureCause(String errorType, String message, StackTraceElement[] stackTrace, FailureCause rootCause, Throwable originalCause) {
+        this.errorType = errorType;
+        this.message = message;
+        this.stackTrace = stackTrace;
+        this.rootCause = rootCause;
+        this.originalCause = originalCause;
     }
 
     public FailureCause(Throwable cause) {
@@ -75,12 +90,10 @@ public class FailureCause {
     }
 
     public FailureCause(String errorType, String message, StackTraceElement[] stackTrace) {
-        this.errorType = errorType;
-        this.message = parseErrorMessage(message);
-        this.stackTrace = (stackTrace == null) ? null : Arrays.copyOf(stackTrace,stackTrace.length);
+        this(errorType, parseErrorMessage(message), (stackTrace == null) ? null : Arrays.copyOf(stackTrace,stackTrace.length), null, null);
     }
 
-    private String parseErrorMessage(String message) {
+    private static String parseErrorMessage(String message) {
         if ((message != null) && (message.startsWith(ERROR_MESSAGE_LABEL_1) || message.startsWith(ERROR_MESSAGE_LABEL_2))) {
             return extractErrorMessageTextFrom(message);
         } else {
@@ -88,7 +101,7 @@ public class FailureCause {
         }
     }
 
-    private String extractErrorMessageTextFrom(String message) {
+    private static String extractErrorMessageTextFrom(String message) {
         message = message.substring(ERROR_MESSAGE_LABEL_1.length() + 1);
         int endOfMessage = message.indexOf("','");
         if (endOfMessage == -1) {
@@ -131,8 +144,11 @@ public class FailureCause {
         return Arrays.copyOf(stackTrace, stackTrace.length);
     }
 
-    public void setStackTrace(StackTraceElement[] stackTrace) {
-        this.stackTrace = Arrays.copyOf(stackTrace,stackTrace.length);
+    /**
+     * A copy of this failure cause with a different stack trace.
+     */
+    public FailureCause withStackTrace(StackTraceElement[] stackTrace) {
+        return new FailureCause(errorType, message, Arrays.copyOf(stackTrace,stackTrace.length), rootCause, originalCause);
     }
 
     public Class<? extends Throwable> exceptionClass() {
@@ -143,6 +159,26 @@ public class FailureCause {
         }
     }
 
+    /**
+     * Failure causes are equal when they have the same error type, message, stack trace and root cause,
+     * whatever exception instance they came from.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof FailureCause)) return false;
+        FailureCause that = (FailureCause) other;
+        return Objects.equals(errorType, that.errorType)
+                && Objects.equals(message, that.message)
+                && Arrays.equals(stackTrace, that.stackTrace)
+                && Objects.equals(rootCause, that.rootCause);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(errorType, message, Arrays.hashCode(stackTrace), rootCause);
+    }
+
     @Override
     public String toString() {
         return "FailureCause{" +
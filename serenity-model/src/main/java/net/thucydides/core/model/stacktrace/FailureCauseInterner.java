@@ -0,0 +1,26 @@
+package net.thucydides.core.model.stacktrace;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Shares a single instance of each distinct failure cause read from the test outcome reports.
+ * When a grid node or a back end goes down, thousands of outcomes and test steps record the same failure,
+ * with the same long stack trace, and only one copy of it needs to be kept in memory.
+ * <p>
+ * Failure causes that are no longer used by any outcome can still be garbage collected.
+ * Failure causes recorded during a test run keep the exception they came from, so they are never interned.
+ */
+public class FailureCauseInterner {
+
+    private static final Interner<FailureCause> FAILURE_CAUSES = Interners.newWeakInterner();
+
+    private FailureCauseInterner() {}
+
+    public static FailureCause intern(FailureCause failureCause) {
+        if (failureCause == null || failureCause.getOriginalCause() != null) {
+            return failureCause;
+        }
+        return FAILURE_CAUSES.intern(failureCause);
+    }
+}
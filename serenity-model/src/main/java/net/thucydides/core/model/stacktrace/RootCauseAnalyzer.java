@@ -14,6 +14,7 @@ public class RootCauseAnalyzer {
     private final Throwable thrownException;
     private final FailureAnalysis failureAnalysis;
     private final EnvironmentVariables environmentVariables;
+    private FailureCause rootCause;
 
     public RootCauseAnalyzer(Throwable thrownException) {
         this.thrownException = thrownException;
@@ -22,6 +23,13 @@ public class RootCauseAnalyzer {
     }
 
     public FailureCause getRootCause() {
+        if (rootCause == null) {
+            rootCause = rootCauseOf(thrownException);
+        }
+        return rootCause;
+    }
+
+    private FailureCause rootCauseOf(Throwable thrownException) {
 
         Throwable originalException = originalExceptionFrom(thrownException);
         StackTraceSanitizer stackTraceSanitizer = StackTraceSanitizer.forStackTrace(originalException.getStackTrace());
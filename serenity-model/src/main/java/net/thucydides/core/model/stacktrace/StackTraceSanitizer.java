@@ -1,5 +1,7 @@
 package net.thucydides.core.model.stacktrace;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.util.EnvironmentVariables;
 
@@ -48,6 +50,13 @@ public class StackTraceSanitizer {
             "net.thucydides.plugins",
             "net.thucydides.jbehave");
 
+    /**
+     * The same stack traces come up again and again when many tests fail for the same reason,
+     * so each distinct stack trace is only simplified once. Simplified stack traces are never modified, so they can be shared.
+     */
+    private final static Cache<StackTrace, StackTraceElement[]> SIMPLIFIED_STACK_TRACES_CACHE
+            = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     public StackTraceSanitizer(EnvironmentVariables environmentVariables, StackTraceElement[] stackTrace) {
         this.environmentVariables = environmentVariables;
         this.stackTrace = Arrays.copyOf(stackTrace,stackTrace.length);
@@ -68,6 +77,16 @@ public class StackTraceSanitizer {
     }
 
     private StackTraceElement[] simplifiedStackTrace(StackTraceElement[] stackTrace) {
+        StackTrace key = new StackTrace(stackTrace);
+        StackTraceElement[] simplified = SIMPLIFIED_STACK_TRACES_CACHE.getIfPresent(key);
+        if (simplified == null) {
+            simplified = withoutMaskedElements(stackTrace);
+            SIMPLIFIED_STACK_TRACES_CACHE.put(new StackTrace(stackTrace.clone()), simplified);
+        }
+        return simplified;
+    }
+
+    private StackTraceElement[] withoutMaskedElements(StackTraceElement[] stackTrace) {
         List<StackTraceElement> cleanStackTrace = new ArrayList<>();
         for(StackTraceElement element : stackTrace) {
             if (shouldDisplayInStackTrace(element)) {
@@ -92,4 +111,27 @@ public class StackTraceSanitizer {
     public StackTraceElement[] getSanitizedStackTrace() {
         return sanitized(stackTrace);
     }
+
+    private static class StackTrace {
+        private final StackTraceElement[] elements;
+        private final int hash;
+
+        private StackTrace(StackTraceElement[] elements) {
+            this.elements = elements;
+            this.hash = Arrays.hashCode(elements);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof StackTrace)) return false;
+            StackTrace that = (StackTrace) other;
+            return hash == that.hash && Arrays.equals(elements, that.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
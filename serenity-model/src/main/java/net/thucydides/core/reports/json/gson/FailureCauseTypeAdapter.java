@@ -0,0 +1,46 @@
+package net.thucydides.core.reports.json.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import net.thucydides.core.model.stacktrace.FailureCause;
+import net.thucydides.core.model.stacktrace.FailureCauseInterner;
+
+import java.io.IOException;
+
+/**
+ * Reads failure causes with the default field mapping, and shares one instance of each distinct failure cause
+ * between all the test outcomes and test steps that are loaded.
+ */
+public class FailureCauseTypeAdapter extends TypeAdapter<FailureCause> {
+
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != FailureCause.class) {
+                return null;
+            }
+            return (TypeAdapter<T>) new FailureCauseTypeAdapter(gson.getDelegateAdapter(this, TypeToken.get(FailureCause.class)));
+        }
+    };
+
+    private final TypeAdapter<FailureCause> adapter;
+
+    public FailureCauseTypeAdapter(TypeAdapter<FailureCause> adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, FailureCause value) throws IOException {
+        adapter.write(out, value);
+    }
+
+    @Override
+    public FailureCause read(JsonReader in) throws IOException {
+        return FailureCauseInterner.intern(adapter.read(in));
+    }
+}
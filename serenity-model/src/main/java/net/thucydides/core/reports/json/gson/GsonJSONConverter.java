@@ -2,6 +2,10 @@ package net.thucydides.core.reports.json.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import com.google.inject.Inject;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.model.TestOutcome;
@@ -16,6 +20,7 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Map;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -24,6 +29,8 @@ public class GsonJSONConverter implements JSONConverter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GsonJSONConverter.class);
 
+    private static final String TEST_STEPS_FIELD = "testSteps";
+
     private final EnvironmentVariables environmentVariables;
 
     Gson gson;
@@ -38,8 +45,17 @@ public class GsonJSONConverter implements JSONConverter {
     public GsonJSONConverter(EnvironmentVariables environmentVariables) {
         this.environmentVariables = environmentVariables;
         encoding = ThucydidesSystemProperty.THUCYDIDES_REPORT_ENCODING.from(environmentVariables, StandardCharsets.UTF_8.name());
-        GsonBuilder gsonBuilder = new GsonBuilder()
+        GsonBuilder gsonBuilder = serenityGsonBuilder();
+        this.gson = (usePrettyPrinting()) ? gsonBuilder.setPrettyPrinting().create() : gsonBuilder.create();
+    }
+
+    /**
+     * A Gson builder with the type adapters needed to read and write Serenity test outcomes and test steps.
+     */
+    public static GsonBuilder serenityGsonBuilder() {
+        return new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+                .registerTypeAdapterFactory(FailureCauseTypeAdapter.FACTORY)
 //                .registerTypeAdapterFactory(GuavaOptionalTypeAdapter.FACTORY)
                 .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
                 .registerTypeAdapter(Flag.class, new InterfaceAdapter<Flag>())
@@ -47,7 +63,6 @@ public class GsonJSONConverter implements JSONConverter {
                 .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
                 .registerTypeAdapter(File.class, new FileDeserializer())
                 .registerTypeAdapter(Class.class, new ClassTypeAdapter());
-        this.gson = (usePrettyPrinting()) ? gsonBuilder.setPrettyPrinting().create() : gsonBuilder.create();
     }
 
     @Override
@@ -80,8 +95,47 @@ public class GsonJSONConverter implements JSONConverter {
     public void toJson(TestOutcome testOutcome, OutputStream outputStream) throws IOException {
         testOutcome.calculateDynamicFieldValues();
         try (Writer out = new OutputStreamWriter(outputStream, encoding)) {
-            gson.toJson(testOutcome, out);
+            if (testOutcome.hasSpilledTestSteps()) {
+                writeWithSpilledTestSteps(testOutcome, out);
+            } else {
+                gson.toJson(testOutcome, out);
+            }
+        }
+    }
+
+    /**
+     * Write a test outcome whose earlier steps were spilled to disk during the test,
+     * streaming the spilled steps into the testSteps array ahead of the steps still held in memory.
+     */
+    private void writeWithSpilledTestSteps(TestOutcome testOutcome, Writer out) throws IOException {
+        JsonObject outcomeFields = gson.toJsonTree(testOutcome).getAsJsonObject();
+        JsonWriter writer = gson.newJsonWriter(out);
+        writer.beginObject();
+        boolean testStepsWritten = false;
+        for (Map.Entry<String, JsonElement> field : outcomeFields.entrySet()) {
+            writer.name(field.getKey());
+            if (field.getKey().equals(TEST_STEPS_FIELD)) {
+                writeTestSteps(testOutcome, field.getValue().getAsJsonArray(), writer);
+                testStepsWritten = true;
+            } else {
+                gson.toJson(field.getValue(), writer);
+            }
+        }
+        if (!testStepsWritten) {
+            writer.name(TEST_STEPS_FIELD);
+            writeTestSteps(testOutcome, new JsonArray(), writer);
+        }
+        writer.endObject();
+        writer.flush();
+    }
+
+    private void writeTestSteps(TestOutcome testOutcome, JsonArray stepsInMemory, JsonWriter writer) throws IOException {
+        writer.beginArray();
+        testOutcome.getSpilledTestSteps().forEachSerializedStep(step -> gson.toJson(step, writer));
+        for (JsonElement step : stepsInMemory) {
+            gson.toJson(step, writer);
         }
+        writer.endArray();
     }
 
     private boolean usePrettyPrinting() {
@@ -3,89 +3,104 @@ package net.thucydides.core.reports.junit;
 import net.thucydides.core.model.*;
 import net.thucydides.core.model.stacktrace.FailureCause;
 import net.thucydides.core.reports.TestOutcomes;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
+/**
+ * Writes test outcomes as JUnit XML, one test case element at a time, rather than building a DOM for the whole test class.
+ * The output is the same as the XML the JDK serializer produces for the equivalent DOM: attributes in alphabetical order,
+ * empty elements closed in place and the same character escaping.
+ */
 public class JUnitXMLConverter {
 
     private final static DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss");
 
-    public void write(String testCaseName, List<TestOutcome> outcomes, OutputStream outputStream) throws ParserConfigurationException, TransformerException {
-        DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
 
-        TestOutcomes testCaseOutcomes = TestOutcomes.of(outcomes);
+    // The DOM serializer writes new lines in text using the platform line separator
+    private static final String LINE_SEPARATOR_IN_TEXT = System.lineSeparator().equals("\n") ? null : System.lineSeparator();
 
-        // root elements
-        Document doc = docBuilder.newDocument();
+    public void write(String testCaseName, List<TestOutcome> outcomes, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(XML_DECLARATION);
+        writeTestSuite(new XMLOutput(writer), testCaseName, outcomes);
+        writer.flush();
+    }
 
-        Element testSuiteElement = buildTestSuiteElement(doc, testCaseName, testCaseOutcomes);
+    private void writeTestSuite(XMLOutput xml, String testCaseName, List<TestOutcome> outcomes) throws IOException {
+        TestOutcomes testCaseOutcomes = TestOutcomes.of(outcomes);
 
-        for(TestOutcome outcome : outcomes) {
-            Element testCaseElement = buildTestCaseElement(doc, outcome);
-            testSuiteElement.appendChild(testCaseElement);
-        }
-        doc.appendChild(testSuiteElement);
+        int errors = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.ERROR);
+        int failures = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.FAILURE);
+        int success = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.SUCCESS);
+        int skipped = testCaseOutcomes.getTotal() - errors - failures - success;
 
-        // write the content into xml file
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
-        DOMSource source = new DOMSource(doc);
-        StreamResult result = new StreamResult(outputStream);
+        xml.startElement("testsuite");
+        xml.attribute("errors", Integer.toString(errors));
+        xml.attribute("failures", Integer.toString(failures));
+        xml.attribute("name", testCaseName);
+        xml.attribute("skipped", Integer.toString(skipped));
+        xml.attribute("tests", Integer.toString(testCaseOutcomes.getTestCount()));
+        xml.attribute("time", Double.toString(testCaseOutcomes.getDurationInSeconds()));
+        if (testCaseOutcomes.getStartTime().isPresent()) {
+            xml.attribute("timestamp", TIMESTAMP_FORMAT.format(testCaseOutcomes.getStartTime().get()));
+        }
 
-        transformer.transform(source, result);
+        for (TestOutcome outcome : outcomes) {
+            writeTestCase(xml, outcome);
+        }
+        xml.endElement();
     }
 
-    private Element buildTestCaseElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("testcase");
-
+    private void writeTestCase(XMLOutput xml, TestOutcome outcome) throws IOException {
+        xml.startElement("testcase");
         if (outcome.getTestCase() != null) {
-            testCaseElement.setAttribute("classname", outcome.getTestCase().getName());
+            xml.attribute("classname", outcome.getTestCase().getName());
         }
         if (outcome.getTitle() != null) {
-            testCaseElement.setAttribute("name", outcome.getTitle());
+            xml.attribute("name", outcome.getTitle());
         }
 
         if (outcome.isFailure()) {
-            addFailureElement(doc, outcome, testCaseElement);
+            writeFailureCause(xml, "failure", outcome.getNestedTestFailureCause());
         } else if (outcome.isError()) {
-            addErrorElement(doc, outcome, testCaseElement);
+            writeFailureCause(xml, "error", outcome.getNestedTestFailureCause());
         } else if (outcome.isCompromised()) {
-            addCompromisedElement(doc, outcome, testCaseElement);
-        } else  if (outcome.isSkipped() || outcome.isPending()) {
-            testCaseElement.appendChild(doc.createElement("skipped"));
+            writeFailureCause(xml, "compromised", outcome.getNestedTestFailureCause());
+        } else if (outcome.isSkipped() || outcome.isPending()) {
+            xml.startElement("skipped");
+            xml.endElement();
         } else {
             String flakyTestDescription = getFlakyTestDescription(outcome);
             if (flakyTestDescription != null) {
-                addFlakyFailureElement(doc, outcome, testCaseElement, flakyTestDescription);
+                writeFlakyFailure(xml, outcome, flakyTestDescription);
             }
         }
-        return testCaseElement;
-
+        xml.endElement();
     }
 
     private String getFlakyTestDescription(TestOutcome outcome) {
         Set<TestTag> tags = outcome.getTags();
         for(TestTag tag : tags) {
             if(tag.getType().equals("unstable test")) {
-                List<TestStep> testSteps = outcome.getTestSteps();
-                for(TestStep step: testSteps) {
-                    if(step.getDescription().startsWith("UNSTABLE TEST:")) {
-                        return step.getDescription();
+                try (Stream<TestStep> testSteps = outcome.streamTestSteps()) {
+                    Optional<String> unstableTestDescription = testSteps.map(TestStep::getDescription)
+                            .filter(description -> description.startsWith("UNSTABLE TEST:"))
+                            .findFirst();
+                    if (unstableTestDescription.isPresent()) {
+                        return unstableTestDescription.get();
                     }
                 }
             }
@@ -93,110 +108,162 @@ public class JUnitXMLConverter {
         return null;
     }
 
-    private void addErrorElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(errorElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
+    private void writeFailureCause(XMLOutput xml, String elementName, FailureCause failureCause) throws IOException {
+        xml.startElement(elementName);
+        writeFailureCauseDetails(xml, failureCause, (failureCause != null) ? failureCause.getMessage() : null);
+        xml.endElement();
+        if (failureCause != null) {
+            writeSystemErr(xml, failureCause);
         }
     }
 
-    private void addCompromisedElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(compromisedElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
-        }
-    }
+    private void writeFlakyFailure(XMLOutput xml, TestOutcome outcome, String flakyTestDescription) throws IOException {
+        FailureCause failureCause = (outcome.getFlakyTestFailureCause() != null) ? outcome.getFlakyTestFailureCause().getRootCause() : null;
 
-    private void addFailureElement(Document doc, TestOutcome outcome, Element testCaseElement) {
-        testCaseElement.appendChild(failureElement(doc, outcome));
-        if (outcome.getNestedTestFailureCause() != null) {
-            testCaseElement.appendChild(syserrorElement(doc, outcome.getNestedTestFailureCause()));
+        xml.startElement("flakyFailure");
+        writeFailureCauseDetails(xml, failureCause, flakyTestDescription);
+        if (failureCause != null) {
+            writeSystemErr(xml, failureCause);
         }
+        xml.endElement();
     }
 
-    private void addFlakyFailureElement(Document doc, TestOutcome outcome, Element testCaseElement,String flakyTestDescription) {
-        Node flakyFailureElement = testCaseElement.appendChild(flakyFailureElement(doc, outcome, flakyTestDescription));
-        if (outcome.getFlakyTestFailureCause() != null) {
-            flakyFailureElement.appendChild(syserrorElement(doc, outcome.getFlakyTestFailureCause().getRootCause()));
+    private void writeFailureCauseDetails(XMLOutput xml, FailureCause failureCause, String description) throws IOException {
+        boolean hasMessage = (failureCause != null) && (failureCause.getMessage() != null);
+        if (hasMessage) {
+            xml.attribute("message", failureCause.getMessage());
+        }
+        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
+            xml.attribute("type", failureCause.getErrorType());
+        }
+        if (hasMessage) {
+            xml.text(description);
         }
     }
 
-    private Element syserrorElement(Document doc, FailureCause nestedTestFailureCause) {
-        Element testCaseElement = doc.createElement("system-err");
-
+    private void writeSystemErr(XMLOutput xml, FailureCause failureCause) throws IOException {
         StringBuilder printedStackTrace = new StringBuilder();
-        printedStackTrace.append(nestedTestFailureCause.getMessage());
+        printedStackTrace.append(failureCause.getMessage());
         printedStackTrace.append(System.lineSeparator());
-        for(StackTraceElement element : nestedTestFailureCause.getStackTrace()) {
+        for(StackTraceElement element : failureCause.getStackTrace()) {
             printedStackTrace.append(element.toString());
             printedStackTrace.append(System.lineSeparator());
         }
-        testCaseElement.appendChild(doc.createTextNode(printedStackTrace.toString()));
-        return testCaseElement;
-    }
 
-    private Element failureElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("failure");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
+        xml.startElement("system-err");
+        xml.text(printedStackTrace.toString());
+        xml.endElement();
     }
 
-    private Element flakyFailureElement(Document doc, TestOutcome outcome,String flakyTestDescription) {
-        Element testCaseElement = doc.createElement("flakyFailure");
-        addFlakyFailureCause(doc, testCaseElement, outcome.getFlakyTestFailureCause().getRootCause(),flakyTestDescription);
-        return testCaseElement;
-    }
+    /**
+     * Writes elements straight to the output. Elements with no content are closed in place, as the DOM serializer does.
+     */
+    private static class XMLOutput {
+        private final Writer writer;
+        private final Deque<String> openElements = new ArrayDeque<>();
+        private boolean startTagIsOpen;
 
-    private void addFailureCause(Document doc, Element testCaseElement, FailureCause failureCause) {
-        if ((failureCause != null) && (failureCause.getMessage() != null)) {
-            testCaseElement.setAttribute("message", failureCause.getMessage());
-            testCaseElement.appendChild(doc.createTextNode(failureCause.getMessage()));
+        XMLOutput(Writer writer) {
+            this.writer = writer;
         }
-        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
-            testCaseElement.setAttribute("type", failureCause.getErrorType());
+
+        void startElement(String name) throws IOException {
+            closeStartTag();
+            writer.write('<');
+            writer.write(name);
+            openElements.push(name);
+            startTagIsOpen = true;
         }
-    }
 
-    private void addFlakyFailureCause(Document doc, Element testCaseElement, FailureCause failureCause,String failureCauseDescription) {
-        if ((failureCause != null) && (failureCause.getMessage() != null)) {
-            testCaseElement.setAttribute("message", failureCause.getMessage());
-            testCaseElement.appendChild(doc.createTextNode(failureCauseDescription));
+        void attribute(String name, String value) throws IOException {
+            writer.write(' ');
+            writer.write(name);
+            writer.write("=\"");
+            writer.write(escaped(value, true));
+            writer.write('"');
         }
-        if ((failureCause != null) && (failureCause.getErrorType() != null)) {
-            testCaseElement.setAttribute("type", failureCause.getErrorType());
+
+        void text(String value) throws IOException {
+            if (value.isEmpty()) {
+                return;
+            }
+            closeStartTag();
+            writer.write(escaped(value, false));
         }
-    }
 
-    private Element errorElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("error");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
-    }
+        void endElement() throws IOException {
+            String name = openElements.pop();
+            if (startTagIsOpen) {
+                writer.write("/>");
+                startTagIsOpen = false;
+            } else {
+                writer.write("</");
+                writer.write(name);
+                writer.write('>');
+            }
+        }
 
-    private Element compromisedElement(Document doc, TestOutcome outcome) {
-        Element testCaseElement = doc.createElement("compromised");
-        addFailureCause(doc, testCaseElement, outcome.getNestedTestFailureCause());
-        return testCaseElement;
+        private void closeStartTag() throws IOException {
+            if (startTagIsOpen) {
+                writer.write('>');
+                startTagIsOpen = false;
+            }
+        }
     }
 
-    private Element buildTestSuiteElement(Document doc, String testCaseName, TestOutcomes testCaseOutcomes) {
-        int errors = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.ERROR);
-        int failures = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.FAILURE);
-        int success = testCaseOutcomes.count(TestType.ANY).withResult(TestResult.SUCCESS);
-        int skipped = testCaseOutcomes.getTotal() - errors - failures - success;
+    /**
+     * Escape text in the same way as the JDK XML serializer.
+     */
+    static String escaped(String value, boolean inAttribute) {
+        StringBuilder escapedValue = null;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char character = value.charAt(i);
+            String replacement = null;
+            int codePoint = character;
+            if (Character.isHighSurrogate(character) && (i + 1 < length) && Character.isLowSurrogate(value.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(character, value.charAt(i + 1));
+                replacement = characterReference(codePoint);
+            } else {
+                replacement = inAttribute ? attributeReplacementFor(character) : textReplacementFor(character);
+            }
+            if (replacement != null) {
+                if (escapedValue == null) {
+                    escapedValue = new StringBuilder(length + 16).append(value, 0, i);
+                }
+                escapedValue.append(replacement);
+                if (codePoint != character) {
+                    i++;
+                }
+            } else if (escapedValue != null) {
+                escapedValue.append(character);
+            }
+        }
+        return (escapedValue == null) ? value : escapedValue.toString();
+    }
 
-        Element testSuiteElement = doc.createElement("testsuite");
-        testSuiteElement.setAttribute("name", testCaseName);
-        testSuiteElement.setAttribute("time", Double.toString(testCaseOutcomes.getDurationInSeconds()));
-        testSuiteElement.setAttribute("tests", Integer.toString(testCaseOutcomes.getTestCount()));
-        testSuiteElement.setAttribute("errors", Integer.toString(errors));
-        testSuiteElement.setAttribute("skipped", Integer.toString(skipped));
-        testSuiteElement.setAttribute("failures", Integer.toString(failures));
+    private static String attributeReplacementFor(char character) {
+        switch (character) {
+            case '&': return "&amp;";
+            case '<': return "&lt;";
+            case '>': return "&gt;";
+            case '"': return "&quot;";
+            default: return (character < 0x20) ? characterReference(character) : null;
+        }
+    }
 
-        testCaseOutcomes.getStartTime().ifPresent(
-                startTime -> testSuiteElement.setAttribute("timestamp", TIMESTAMP_FORMAT.format(startTime))
-        );
+    private static String textReplacementFor(char character) {
+        switch (character) {
+            case '&': return "&amp;";
+            case '<': return "&lt;";
+            case '>': return "&gt;";
+            case '\n': return LINE_SEPARATOR_IN_TEXT;
+            case '\t': return null;
+            default: return ((character < 0x20) || (character >= 0x7F && character <= 0x9F)) ? characterReference(character) : null;
+        }
+    }
 
-        return testSuiteElement;
+    private static String characterReference(int codePoint) {
+        return "&#" + codePoint + ";";
     }
 }
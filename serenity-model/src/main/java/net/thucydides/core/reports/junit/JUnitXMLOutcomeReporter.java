@@ -9,8 +9,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
 import java.io.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,7 +44,7 @@ public class JUnitXMLOutcomeReporter {
                     try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(report))) {
                         junitXMLConverter.write(testCase, testCaseOutcomes.asJava(), outputStream);
                         outputStream.flush();
-                    } catch (ParserConfigurationException | TransformerException | IOException e) {
+                    } catch (IOException e) {
                         LOGGER.warn("Failed to generate JUnit XML report", e);
                     }
                 }
@@ -11,13 +11,20 @@ import static org.asciidoctor.Asciidoctor.Factory.create;
 
 public class AsciidocMarkupRenderer implements MarkupRenderer {
 
-    Asciidoctor asciidoctor;
+    private volatile Asciidoctor asciidoctor;
 
     public AsciidocMarkupRenderer() {}
 
+    /**
+     * Starting Asciidoctor creates a JRuby runtime, so make sure report threads share a single instance.
+     */
     private Asciidoctor getAsciidoctor() {
         if (asciidoctor == null) {
-            asciidoctor = create();
+            synchronized (this) {
+                if (asciidoctor == null) {
+                    asciidoctor = create();
+                }
+            }
         }
         return asciidoctor;
     }
@@ -30,7 +30,9 @@ public class FreemarkerReportTemplate implements ReportTemplate {
 
     public void merge(Map<String, Object> context, Writer writer) throws TemplateMergeException {
         try {
-            Environment environment = template.createProcessingEnvironment(context, writer);
+            Object dataModel = (context instanceof ReportContext) ?
+                    ((ReportContext) context).asTemplateModel(template.getObjectWrapper()) : context;
+            Environment environment = template.createProcessingEnvironment(dataModel, writer);
             environment.setOutputEncoding(StandardCharsets.UTF_8.name());
             environment.setTemplateExceptionHandler(new TemplateExceptionHandler() {
                 @Override
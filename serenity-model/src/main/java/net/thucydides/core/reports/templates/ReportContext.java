@@ -0,0 +1,83 @@
+package net.thucydides.core.reports.templates;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The values used to generate a single report page, layered over values shared by every page in the report run.
+ * Page values take precedence over the shared values, so a reporting task can override any shared value for its pages.
+ * Shared values are never copied into the page context: FreeMarker reads them through a layered template model.
+ * Only page values can be removed.
+ */
+public class ReportContext extends AbstractMap<String, Object> {
+
+    private final SharedTemplateValues sharedValues;
+    private final Map<String, Object> pageValues = new HashMap<>();
+
+    public ReportContext(SharedTemplateValues sharedValues) {
+        this.sharedValues = sharedValues;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return pageValues.containsKey(key) ? pageValues.get(key) : sharedValues.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return pageValues.containsKey(key) || sharedValues.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previousValue = get(key);
+        pageValues.put(key, value);
+        return previousValue;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return pageValues.remove(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> allValues = new HashMap<>(sharedValues.asMap());
+        allValues.putAll(pageValues);
+        return Collections.unmodifiableMap(allValues).entrySet();
+    }
+
+    TemplateHashModel asTemplateModel(ObjectWrapper wrapper) {
+        return new LayeredTemplateModel(wrapper);
+    }
+
+    private class LayeredTemplateModel implements TemplateHashModel {
+
+        private final ObjectWrapper wrapper;
+
+        LayeredTemplateModel(ObjectWrapper wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            if (pageValues.containsKey(key)) {
+                return wrapper.wrap(pageValues.get(key));
+            }
+            return sharedValues.wrapped(key, wrapper);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return pageValues.isEmpty() && sharedValues.asMap().isEmpty();
+        }
+    }
+}
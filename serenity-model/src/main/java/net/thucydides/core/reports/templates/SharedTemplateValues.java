@@ -0,0 +1,72 @@
+package net.thucydides.core.reports.templates;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable template values that are the same for every page in a report run, such as the formatters,
+ * the report options and the build information.
+ * They are calculated once, and each value is only wrapped for FreeMarker the first time a template uses it.
+ */
+public class SharedTemplateValues {
+
+    private final Map<String, Object> values;
+    private volatile WrappedValues wrappedValues;
+
+    public SharedTemplateValues(Map<String, Object> values) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+    }
+
+    public Object get(Object key) {
+        return values.get(key);
+    }
+
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    public Map<String, Object> asMap() {
+        return values;
+    }
+
+    TemplateModel wrapped(String key, ObjectWrapper wrapper) throws TemplateModelException {
+        Object value = values.get(key);
+        if (value == null) {
+            return null;
+        }
+        return wrappedValuesFor(wrapper).wrapped(key, value);
+    }
+
+    private WrappedValues wrappedValuesFor(ObjectWrapper wrapper) {
+        WrappedValues currentValues = wrappedValues;
+        if (currentValues == null || currentValues.wrapper != wrapper) {
+            currentValues = new WrappedValues(wrapper);
+            wrappedValues = currentValues;
+        }
+        return currentValues;
+    }
+
+    private static class WrappedValues {
+        private final ObjectWrapper wrapper;
+        private final Map<String, TemplateModel> models = new ConcurrentHashMap<>();
+
+        private WrappedValues(ObjectWrapper wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        TemplateModel wrapped(String key, Object value) throws TemplateModelException {
+            TemplateModel model = models.get(key);
+            if (model == null) {
+                model = wrapper.wrap(value);
+                models.putIfAbsent(key, model);
+            }
+            return model;
+        }
+    }
+}
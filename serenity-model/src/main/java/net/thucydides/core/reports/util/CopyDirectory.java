@@ -1,5 +1,8 @@
 package net.thucydides.core.reports.util;
 
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.util.EnvironmentVariables;
+
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -8,18 +11,22 @@ public class CopyDirectory extends SimpleFileVisitor<Path> {
 
     private Path source;
     private Path target;
+    private final FilePublisher publisher;
 
     public CopyDirectory(Path source, Path target) {
+        this(source, target, FilePublisher.forEnvironment(Injectors.getInjector().getProvider(EnvironmentVariables.class).get()));
+    }
+
+    public CopyDirectory(Path source, Path target, FilePublisher publisher) {
         this.source = source;
         this.target = target;
+        this.publisher = publisher;
     }
 
     @Override
     public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
             throws IOException {
-        if (!Files.exists(target.resolve(source.relativize(file)))) {
-            Files.copy(file, target.resolve(source.relativize(file)));
-        }
+        publisher.publish(file, target.resolve(source.relativize(file)));
         return FileVisitResult.CONTINUE;
     }
 
@@ -36,4 +43,4 @@ public class CopyDirectory extends SimpleFileVisitor<Path> {
         }
         return FileVisitResult.CONTINUE;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package net.thucydides.core.reports.util;
+
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REPORT_PUBLISHING;
+
+/**
+ * Publishes screenshots and test result files into the report directory.
+ * Files that are already in the report directory with the same size and modification time are left alone,
+ * as are files that have been written there since the source file was last modified (such as a page generated
+ * in the report directory while the test results were being published). Older files, left over from an earlier run,
+ * are replaced by a new file rather than written through, so that any other links to them keep their contents.
+ * <p>
+ * Screenshots are never modified once they have been saved, so they are hard-linked where the file system allows it,
+ * and no data is copied. Any other file (test results, pages, etc.) may later be rewritten in either directory,
+ * so it is always copied. Once a hard link cannot be created (for example because the report directory is on
+ * another file system), the publisher copies the remaining files without trying again.
+ */
+public class FilePublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilePublisher.class);
+
+    private static final List<String> SCREENSHOT_EXTENSIONS = Arrays.asList(".png", ".jpg", ".jpeg", ".gif");
+
+    public enum Mode {LINK, COPY}
+
+    private final Mode mode;
+    private volatile boolean linksSupported;
+
+    public FilePublisher(Mode mode) {
+        this.mode = mode;
+        this.linksSupported = (mode == Mode.LINK);
+    }
+
+    public static FilePublisher forEnvironment(EnvironmentVariables environmentVariables) {
+        return new FilePublisher(publishingModeFrom(environmentVariables));
+    }
+
+    private static Mode publishingModeFrom(EnvironmentVariables environmentVariables) {
+        String configuredMode = SERENITY_REPORT_PUBLISHING.from(environmentVariables, Mode.LINK.name());
+        try {
+            return Mode.valueOf(configuredMode.trim().toUpperCase());
+        } catch (IllegalArgumentException unknownMode) {
+            LOGGER.warn("Unknown report publishing mode '{}': using {}", configuredMode, Mode.LINK);
+            return Mode.LINK;
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * The target is up to date if it is the source file itself (e.g. a hard link to it),
+     * if it has the same size and modification time, or if it has been modified more recently than the source.
+     */
+    public boolean isUpToDate(Path source, Path target) throws IOException {
+        BasicFileAttributes targetAttributes;
+        try {
+            targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+        } catch (NoSuchFileException noPublishedFile) {
+            return false;
+        }
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+
+        if (sourceAttributes.fileKey() != null && sourceAttributes.fileKey().equals(targetAttributes.fileKey())) {
+            return true;
+        }
+        if (sourceAttributes.size() == targetAttributes.size()
+                && sourceAttributes.lastModifiedTime().equals(targetAttributes.lastModifiedTime())) {
+            return true;
+        }
+        return targetAttributes.lastModifiedTime().compareTo(sourceAttributes.lastModifiedTime()) > 0;
+    }
+
+    /**
+     * Publish the source file to the target path, unless the file already there is up to date.
+     */
+    public Path publish(Path source, Path target) throws IOException {
+        if (isUpToDate(source, target)) {
+            return target;
+        }
+        if (Files.exists(target)) {
+            return replace(source, target);
+        }
+        try {
+            return publishNew(source, target);
+        } catch (FileAlreadyExistsException publishedConcurrently) {
+            return target;
+        }
+    }
+
+    private Path publishNew(Path source, Path target) throws IOException {
+        if (linksSupported && isScreenshot(source) && link(source, target)) {
+            return target;
+        }
+        return Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    private Path replace(Path source, Path target) throws IOException {
+        Path replacement = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            publishNew(source, replacement);
+            try {
+                Files.move(replacement, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException atomicMovesNotSupported) {
+                Files.move(replacement, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return target;
+        } finally {
+            Files.deleteIfExists(replacement);
+        }
+    }
+
+    private boolean isScreenshot(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return SCREENSHOT_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+
+    private boolean link(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+            return true;
+        } catch (FileAlreadyExistsException publishedConcurrently) {
+            throw publishedConcurrently;
+        } catch (UnsupportedOperationException | FileSystemException linkNotPossible) {
+            LOGGER.debug("Could not link {} to {} ({}): copying report files instead", target, source, linkNotPossible.getMessage());
+            linksSupported = false;
+            return false;
+        }
+    }
+}
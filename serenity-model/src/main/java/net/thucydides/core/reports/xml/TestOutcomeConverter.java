@@ -16,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.File;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -136,9 +137,8 @@ public class TestOutcomeConverter implements Converter {
         addVersionsTo(writer, testOutcome.getVersions());
         addTagsTo(writer, testOutcome.getTags());
         addExamplesTo(writer, testOutcome.getDataTable());
-        List<TestStep> steps = testOutcome.getTestSteps();
-        for (TestStep step : steps) {
-            writeStepTo(writer, step);
+        try (Stream<TestStep> steps = testOutcome.streamTestSteps()) {
+            steps.forEach(step -> writeStepTo(writer, step));
         }
     }
 
@@ -11,11 +11,15 @@ import java.io.*;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
 public class FileSystemRequirementsStore implements RequirementsStore {
     private final File outputDirectory;
     private final String storeName;
@@ -60,8 +64,14 @@ public class FileSystemRequirementsStore implements RequirementsStore {
 
         ensureThatTheOutputDirectoryExists();
 
-        try( Writer writer = new OutputStreamWriter(new FileOutputStream(jsonRequirementsFile()), StandardCharsets.UTF_8)) {
-            gson.toJson(requirements, writer);
+        Path temporaryFile = Files.createTempFile(outputDirectory.toPath(), storeName, ".tmp");
+        try {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(temporaryFile.toFile()), StandardCharsets.UTF_8)) {
+                gson.toJson(requirements, writer);
+            }
+            Files.move(temporaryFile, jsonRequirementsFile().toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
         }
     }
 
@@ -2,10 +2,13 @@ package net.thucydides.core.requirements;
 
 import net.serenitybdd.core.collect.NewList;
 import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.configuration.SystemPropertiesConfiguration;
+import net.thucydides.core.digest.Digest;
 import net.thucydides.core.files.TheDirectoryStructure;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.NumberOfThreads;
 import net.thucydides.core.requirements.model.*;
 import net.thucydides.core.requirements.model.cucumber.CucumberParser;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -19,10 +22,14 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static net.thucydides.core.files.TheDirectoryStructure.startingAt;
@@ -50,6 +57,12 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
     private final RequirementsConfiguration requirementsConfiguration;
 
+    /**
+     * Where the requirements read by this provider are cached, if they are cached at all.
+     * Only top-level providers cache their requirements, as they include the requirements read by the child providers.
+     */
+    private final Optional<File> requirementsCacheDirectory;
+
     //    @Transient
     private List<Requirement> requirements;
 
@@ -99,6 +112,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         this.narrativeReader = NarrativeReader.forRootDirectory(rootDirectory)
                 .withRequirementTypes(getRequirementTypes());
         this.requirementsConfiguration = new RequirementsConfiguration(environmentVariables);
+        this.requirementsCacheDirectory = requirementsCacheDirectoryFor(environmentVariables);
 
         Set<String> directoryPaths = rootDirectories(rootDirectory, environmentVariables);
         this.level = requirementsConfiguration.startLevelForADepthOf(maxDirectoryDepthIn(directoryPaths) + 1);
@@ -109,9 +123,17 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         this.narrativeReader = NarrativeReader.forRootDirectory(rootDirectory)
                 .withRequirementTypes(getRequirementTypes());
         this.requirementsConfiguration = new RequirementsConfiguration(environmentVariables);
+        this.requirementsCacheDirectory = Optional.empty();
         this.level = level;
     }
 
+    private static Optional<File> requirementsCacheDirectoryFor(EnvironmentVariables environmentVariables) {
+        if (!ThucydidesSystemProperty.SERENITY_CACHE_REQUIREMENTS.booleanFrom(environmentVariables, true)) {
+            return Optional.empty();
+        }
+        return Optional.of(new File(new SystemPropertiesConfiguration(environmentVariables).getOutputDirectory(), "requirements"));
+    }
+
     private static Set<String> rootDirectories(String rootDirectory, EnvironmentVariables environmentVariables) {
         return new RootDirectory(environmentVariables, rootDirectory).getRootDirectoryPaths();
     }
@@ -132,29 +154,109 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         if (requirements == null) {
             requirementsLock.lock();
             try {
-                Set<Requirement> allRequirements = new HashSet();
-                Set<String> directoryPaths = getRootDirectoryPaths();
-
-                for (String path : directoryPaths) {
-                    File rootDirectory = new File(path);
-                    logger.trace("Loading requirements from {}", rootDirectory);
-                    if (rootDirectory.exists()) {
-                        allRequirements.addAll(loadCapabilitiesFrom(rootDirectory.listFiles(thatAreFeatureDirectories())));
-                        allRequirements.addAll(loadStoriesFrom(rootDirectory.listFiles(thatAreStories())));
-                    }
+                if (requirements == null) {
+                    requirements = loadRequirements();
                 }
-                requirements = new ArrayList<>(allRequirements);
-                Collections.sort(requirements);
-            } catch (IOException e) {
-                requirements = NO_REQUIREMENTS;
-                throw new IllegalArgumentException("Could not load requirements from '" + rootDirectory + "'", e);
+            } finally {
+                requirementsLock.unlock();
             }
-            requirements = addParentsTo(requirements);
-            requirementsLock.unlock();
         }
         return requirements;
     }
 
+    private List<Requirement> loadRequirements() {
+        Set<String> directoryPaths;
+        try {
+            directoryPaths = getRootDirectoryPaths();
+        } catch (IOException e) {
+            requirements = NO_REQUIREMENTS;
+            throw new IllegalArgumentException("Could not load requirements from '" + rootDirectory + "'", e);
+        }
+
+        Optional<RequirementsStore> requirementsCache = requirementsCacheFor(directoryPaths);
+        Optional<List<Requirement>> cachedRequirements = requirementsCache.flatMap(this::requirementsCachedIn);
+        if (cachedRequirements.isPresent()) {
+            logger.trace("Reusing the cached requirements for {}", directoryPaths);
+            return cachedRequirements.get();
+        }
+
+        Set<Requirement> allRequirements = new HashSet();
+        for (String path : directoryPaths) {
+            File rootDirectory = new File(path);
+            logger.trace("Loading requirements from {}", rootDirectory);
+            if (rootDirectory.exists()) {
+                allRequirements.addAll(loadCapabilitiesFrom(rootDirectory.listFiles(thatAreFeatureDirectories())));
+                allRequirements.addAll(loadStoriesFrom(rootDirectory.listFiles(thatAreStories())));
+            }
+        }
+        List<Requirement> sortedRequirements = new ArrayList<>(allRequirements);
+        Collections.sort(sortedRequirements);
+        List<Requirement> loadedRequirements = addParentsTo(sortedRequirements);
+
+        requirementsCache.ifPresent(cache -> cacheRequirementsIn(cache, loadedRequirements, directoryPaths));
+        return loadedRequirements;
+    }
+
+    /**
+     * The cache holds the requirements read from one state of the requirements directories:
+     * if any requirements directories or files change, or the feature files are to be read in another
+     * language or encoding, a different cache file is used.
+     */
+    private Optional<RequirementsStore> requirementsCacheFor(Set<String> directoryPaths) {
+        if (!requirementsCacheDirectory.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<String> fingerprint = new RequirementsDirectoryFingerprint(this::isARequirementsFile)
+                .of(directoryPaths,
+                    rootDirectory,
+                    Integer.toString(level),
+                    getRequirementTypes().toString(),
+                    ThucydidesSystemProperty.FEATURE_FILE_LANGUAGE.from(environmentVariables, "en"),
+                    ThucydidesSystemProperty.FEATURE_FILE_ENCODING.from(environmentVariables, Charset.defaultCharset().name()));
+
+        return fingerprint.map(
+                key -> new FileSystemRequirementsStore(requirementsCacheDirectory.get(), cacheFilePrefixFor(directoryPaths) + key + ".json")
+        );
+    }
+
+    private String cacheFilePrefixFor(Set<String> directoryPaths) {
+        return "filesystem-requirements-" + Digest.ofTextValue(new TreeSet<>(directoryPaths).toString()).substring(0, 12) + "-";
+    }
+
+    private boolean isARequirementsFile(Path file) {
+        return thatAreStories().accept(file.toFile()) || thatAreNarratives().accept(file.toFile());
+    }
+
+    private Optional<List<Requirement>> requirementsCachedIn(RequirementsStore requirementsCache) {
+        try {
+            return requirementsCache.read();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read the cached requirements - reloading requirements from the file system", e);
+            return Optional.empty();
+        }
+    }
+
+    private void cacheRequirementsIn(RequirementsStore requirementsCache,
+                                     List<Requirement> requirements,
+                                     Set<String> directoryPaths) {
+        File cacheDirectory = requirementsCacheDirectory.get();
+        try {
+            removeOutdatedCacheFilesFrom(cacheDirectory, directoryPaths);
+            cacheDirectory.mkdirs();
+            requirementsCache.write(requirements);
+        } catch (IOException e) {
+            logger.warn("Could not cache the requirements in {}", cacheDirectory, e);
+        }
+    }
+
+    private void removeOutdatedCacheFilesFrom(File cacheDirectory, Set<String> directoryPaths) {
+        String cacheFilePrefix = cacheFilePrefixFor(directoryPaths);
+        File[] outdatedCacheFiles = cacheDirectory.listFiles((directory, name) -> name.startsWith(cacheFilePrefix));
+        if (outdatedCacheFiles != null) {
+            Arrays.stream(outdatedCacheFiles).forEach(File::delete);
+        }
+    }
+
     private int maxDirectoryDepthIn(Set<String> directoryPaths) {
         return directoryPaths.stream()
                 .mapToInt(directoryPath -> TheDirectoryStructure.startingAt(new File(directoryPath)).maxDepth())
@@ -511,19 +613,37 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private List<Requirement> loadCapabilitiesFrom(File[] requirementDirectories) {
-
-        return Arrays.stream(requirementDirectories)
-                .map(this::readRequirementFrom)
-                .collect(Collectors.toList());
+        return readInParallel(requirementDirectories, this::readRequirementFrom);
     }
 
 
     private List<Requirement> loadStoriesFrom(File[] storyFiles) {
-        return Arrays.stream(storyFiles)
-                .map(this::readRequirementsFromStoryOrFeatureFile)
+        return readInParallel(storyFiles, this::readRequirementsFromStoryOrFeatureFile);
+    }
+
+    /**
+     * Requirements are read in a pool sized for IO operations, as reading them is mostly waiting for the file system.
+     * Child providers are called from within the pool, so the whole directory tree is read by the same pool.
+     */
+    private List<Requirement> readInParallel(File[] files, Function<File, Requirement> reader) {
+        ForkJoinPool requirementReaders = RequirementReaders.POOL;
+        if (ForkJoinTask.getPool() == requirementReaders) {
+            return readEach(files, reader);
+        }
+        return requirementReaders.invoke(ForkJoinTask.adapt(() -> readEach(files, reader)));
+    }
+
+    private List<Requirement> readEach(File[] files, Function<File, Requirement> reader) {
+        return Arrays.stream(files)
+                .parallel()
+                .map(reader)
                 .collect(Collectors.toList());
     }
 
+    private static class RequirementReaders {
+        private static final ForkJoinPool POOL = new ForkJoinPool(NumberOfThreads.forIOOperations());
+    }
+
     public Requirement readRequirementFrom(File requirementDirectory) {
         java.util.Optional<Narrative> requirementNarrative = narrativeReader.loadFrom(requirementDirectory, level);
 
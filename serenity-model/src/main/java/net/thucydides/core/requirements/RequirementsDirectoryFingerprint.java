@@ -0,0 +1,76 @@
+package net.thucydides.core.requirements;
+
+import net.thucydides.core.digest.Digest;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Identifies the state of a requirements directory tree, so that requirements read from an unchanged tree can be reused.
+ * The fingerprint covers the path of every directory (so that added or removed directories are noticed), and the
+ * path, size and modification time of every requirements file (directory modification times alone do not change
+ * when a file is edited in place).
+ */
+class RequirementsDirectoryFingerprint {
+
+    private final Predicate<Path> isARequirementsFile;
+
+    RequirementsDirectoryFingerprint(Predicate<Path> isARequirementsFile) {
+        this.isARequirementsFile = isARequirementsFile;
+    }
+
+    /**
+     * @param settings any configuration that changes how the requirements are read from the files
+     * @return a digest of the directory trees and settings, or nothing if a directory could not be read
+     */
+    Optional<String> of(Collection<String> directoryPaths, String... settings) {
+        SortedSet<String> entries = new TreeSet<>();
+        for (String setting : settings) {
+            entries.add("setting:" + setting);
+        }
+        try {
+            for (String directoryPath : directoryPaths) {
+                Path directory = Paths.get(directoryPath);
+                if (Files.isDirectory(directory)) {
+                    Files.walkFileTree(directory, recordingEntriesIn(directory, entries));
+                }
+            }
+        } catch (IOException | RuntimeException couldNotReadTheDirectories) {
+            return Optional.empty();
+        }
+        return Optional.of(Digest.ofTextValue(String.join("\n", entries)));
+    }
+
+    private SimpleFileVisitor<Path> recordingEntriesIn(Path rootDirectory, SortedSet<String> entries) {
+        return new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                if (!directory.equals(rootDirectory) && directory.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                entries.add("dir:" + directory.toAbsolutePath());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (isARequirementsFile.test(file)) {
+                    entries.add("file:" + file.toAbsolutePath()
+                            + ":" + attributes.size()
+                            + ":" + attributes.lastModifiedTime().toMillis());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        };
+    }
+}
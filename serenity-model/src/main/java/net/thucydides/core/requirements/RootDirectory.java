@@ -75,6 +75,15 @@ public class RootDirectory {
         }
     }
 
+    /**
+     * The directories that the FileSystemRequirementsTagProvider reads the requirements from,
+     * starting from the features or stories root directory for this configuration.
+     */
+    public Set<String> requirementsDirectoryPaths() {
+        String requirementsRoot = featuresOrStoriesRootDirectory().orElse(Paths.get(".")).toString();
+        return new RootDirectory(environmentVariables, requirementsRoot).getRootDirectoryPaths();
+    }
+
     public String featureDirectoryName() {
         return featureDirectoryName;
     }
@@ -29,15 +29,37 @@ public class RequirementOutcome {
     private final EnvironmentVariables environmentVariables;
     private ReportFormatter reportFormatter;
 
+    /**
+     * The report templates ask for the status and test counts of each requirement many times over,
+     * so they are worked out once, on first use, and kept here.
+     */
+    private volatile boolean statusesKnown = false;
+    private boolean complete;
+    private boolean failure;
+    private boolean error;
+    private boolean compromised;
+    private boolean pending;
+    private boolean ignored;
+    private int testCount;
+
+    private final int[][] resultCountsByTestType = new int[TestType.values().length][];
+
     public RequirementOutcome(Requirement requirement, TestOutcomes testOutcomes,
                               long requirementsWithoutTests, long estimatedUnimplementedTests,
                               IssueTracking issueTracking) {
+        this(requirement, testOutcomes, requirementsWithoutTests, estimatedUnimplementedTests, issueTracking,
+             Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    private RequirementOutcome(Requirement requirement, TestOutcomes testOutcomes,
+                               long requirementsWithoutTests, long estimatedUnimplementedTests,
+                               IssueTracking issueTracking, EnvironmentVariables environmentVariables) {
         this.requirement = requirement;
         this.testOutcomes = testOutcomes;
         this.requirementsWithoutTests = requirementsWithoutTests;
         this.estimatedUnimplementedTests = estimatedUnimplementedTests;
         this.issueTracking = issueTracking;
-        this.environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+        this.environmentVariables = environmentVariables;
     }
 
     public RequirementOutcome(Requirement requirement, TestOutcomes testOutcomes, IssueTracking issueTracking) {
@@ -45,7 +67,8 @@ public class RequirementOutcome {
     }
 
     public RequirementOutcome withTestOutcomes(TestOutcomes testOutcomes) {
-        return new RequirementOutcome(requirement, testOutcomes, requirementsWithoutTests, estimatedUnimplementedTests, issueTracking);
+        return new RequirementOutcome(requirement, testOutcomes, requirementsWithoutTests, estimatedUnimplementedTests,
+                                      issueTracking, environmentVariables);
     }
 
     public Requirement getRequirement() {
@@ -61,28 +84,33 @@ public class RequirementOutcome {
      * A Requirement is considered complete if it has associated tests to all of the tests are successful.
      */
     public boolean isComplete() {
-        return (!getTestOutcomes().getTests().isEmpty()) && getTestOutcomes().getResult() == TestResult.SUCCESS && allChildRequirementsAreSuccessful();
+        knowStatuses();
+        return complete;
     }
 
     public boolean isFailure() {
-        return getTestOutcomes().getResult() == TestResult.FAILURE || anyChildRequirementsAreFailures();
+        knowStatuses();
+        return failure;
     }
 
     public boolean isError() {
-        return getTestOutcomes().getResult() == TestResult.ERROR || anyChildRequirementsAreErrors();
+        knowStatuses();
+        return error;
     }
 
     public boolean isCompromised() {
-        return getTestOutcomes().getResult() == TestResult.COMPROMISED || anyChildRequirementsAreCompromised();
+        knowStatuses();
+        return compromised;
     }
 
     public boolean isPending() {
-//        return (getTestOutcomes().getTestCount() == 0) || getTestOutcomes().getResult() == TestResult.PENDING || anyChildRequirementsArePending();
-        return getTestOutcomes().getResult() == TestResult.PENDING || anyChildRequirementsArePending();
+        knowStatuses();
+        return pending;
     }
 
     public boolean isIgnored() {
-        return getTestOutcomes().getResult() == TestResult.IGNORED || anyChildRequirementsAreIgnored();
+        knowStatuses();
+        return ignored;
     }
 
     public int getFlattenedRequirementCount() {
@@ -109,114 +137,76 @@ public class RequirementOutcome {
     }
 
 
-    private boolean allChildRequirementsAreSuccessful() {
-        if (requirement.hasChildren()) {
-            return allChildRequirementsAreSuccessfulFor(requirement.getChildren());
-        } else {
-            return true;
-        }
-    }
-
-    private boolean anyChildRequirementsAreFailures() {
-        return anyChildRequirementsAreFailuresFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsAreErrors() {
-        return anyChildRequirementsAreErrorsFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsAreCompromised() {
-        return anyChildRequirementsAreCompromisedFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsArePending() {
-        return anyChildRequirementsArePendingFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsAreIgnored() {
-        return anyChildRequirementsAreIgnoredFor(requirement.getChildren());
-    }
-
-    private boolean allChildRequirementsAreSuccessfulFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                                                                      testOutcomes.forRequirement(requirement),
-                                                                      issueTracking);
-            if (!childOutcomes.isComplete()) {
-                return false;
-            } else if (!allChildRequirementsAreSuccessfulFor(childRequirement.getChildren())) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private boolean anyChildRequirementsAreErrorsFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isError()) {
-                return true;
-            } else if (anyChildRequirementsAreErrorsFor(childRequirement.getChildren())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean anyChildRequirementsAreFailuresFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isFailure()) {
-                return true;
-            } else if (anyChildRequirementsAreFailuresFor(childRequirement.getChildren())) {
-                return true;
-            }
+    /**
+     * Work out all of the statuses of this requirement in a single pass over its child requirements.
+     */
+    private void knowStatuses() {
+        if (statusesKnown) {
+            return;
         }
-        return false;
-    }
-
-    private boolean anyChildRequirementsAreCompromisedFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isCompromised()) {
-                return true;
-            } else if (anyChildRequirementsAreErrorsFor(childRequirement.getChildren())) {
-                return true;
+        synchronized (this) {
+            if (statusesKnown) {
+                return;
             }
+            TestResult result = testOutcomes.getResult();
+            ChildStatuses childStatuses = requirement.hasChildren()
+                    ? statusesOf(requirement.getChildren(), testOutcomes.forRequirement(requirement)) : new ChildStatuses();
+
+            testCount = testOutcomes.getTotal();
+            complete = (!testOutcomes.getTests().isEmpty()) && result == TestResult.SUCCESS && childStatuses.allComplete;
+            failure = result == TestResult.FAILURE || childStatuses.anyFailure;
+            error = result == TestResult.ERROR || childStatuses.anyError;
+            compromised = result == TestResult.COMPROMISED || childStatuses.anyCompromised;
+            pending = result == TestResult.PENDING || childStatuses.anyPending;
+            ignored = result == TestResult.IGNORED || childStatuses.anyIgnored;
+            statusesKnown = true;
         }
-        return false;
     }
 
-    private boolean anyChildRequirementsArePendingFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isPending()) {
-                return true;
-            } else if (anyChildRequirementsArePendingFor(childRequirement.getChildren())) {
-                return true;
-            }
+    /**
+     * Each child requirement is checked against the tests of this requirement, along with its own children.
+     * Below the direct children, errors are what make a requirement compromised.
+     */
+    private ChildStatuses statusesOf(List<Requirement> childRequirements, TestOutcomes testsForThisRequirement) {
+        ChildStatuses childStatuses = new ChildStatuses();
+        for (Requirement childRequirement : childRequirements) {
+            RequirementOutcome childOutcome = new RequirementOutcome(childRequirement, testsForThisRequirement,
+                                                                     0, 0, issueTracking, environmentVariables);
+            ChildStatuses nestedStatuses = statusesOf(childRequirement.getChildren(), testsForThisRequirement);
+
+            childStatuses.allComplete &= childOutcome.isComplete() && nestedStatuses.allComplete;
+            childStatuses.anyFailure |= childOutcome.isFailure() || nestedStatuses.anyFailure;
+            childStatuses.anyError |= childOutcome.isError() || nestedStatuses.anyError;
+            childStatuses.anyCompromised |= childOutcome.isCompromised() || nestedStatuses.anyError;
+            childStatuses.anyPending |= childOutcome.isPending() || nestedStatuses.anyPending;
+            childStatuses.anyIgnored |= childOutcome.isIgnored() || nestedStatuses.anyIgnored;
         }
-        return false;
-    }
-
-    private boolean anyChildRequirementsAreIgnoredFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isIgnored()) {
-                return true;
-            } else if (anyChildRequirementsAreIgnoredFor(childRequirement.getChildren())) {
-                return true;
+        return childStatuses;
+    }
+
+    private static class ChildStatuses {
+        boolean allComplete = true;
+        boolean anyFailure;
+        boolean anyError;
+        boolean anyCompromised;
+        boolean anyPending;
+        boolean anyIgnored;
+    }
+
+    private synchronized int[] resultCountsFor(TestType testType) {
+        int[] resultCounts = resultCountsByTestType[testType.ordinal()];
+        if (resultCounts == null) {
+            resultCounts = new int[TestResult.values().length];
+            for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+                for (TestResult result : TestResult.values()) {
+                    resultCounts[result.ordinal()] += outcome.countResults(result, testType);
+                }
             }
+            resultCountsByTestType[testType.ordinal()] = resultCounts;
         }
-        return false;
+        return resultCounts;
     }
 
-
     public String getCardNumberWithLinks() {
         if (requirement.getCardNumber() != null) {
             return getFormatter().addLinks(requirement.getCardNumber());
@@ -239,7 +229,8 @@ public class RequirementOutcome {
     }
 
     public int getTestCount() {
-        return testOutcomes.getTotal();
+        knowStatuses();
+        return testCount;
     }
 
     public TestOutcomes getTests() {
@@ -251,7 +242,7 @@ public class RequirementOutcome {
     }
 
     private long totalEstimatedAndImplementedTests() {
-        int totalImplementedTests = testOutcomes.getTotal();
+        int totalImplementedTests = getTestCount();
         return totalImplementedTests + estimatedUnimplementedTests;
     }
 
@@ -322,7 +313,8 @@ public class RequirementOutcome {
                 .collect(Collectors.toList());
 
         Requirement prunedRequirement = getRequirement().withChildren(childRequirementsWithTests);
-        return new RequirementOutcome(prunedRequirement, testOutcomes, requirementsWithoutTests, estimatedUnimplementedTests, issueTracking);
+        return new RequirementOutcome(prunedRequirement, testOutcomes, requirementsWithoutTests, estimatedUnimplementedTests,
+                                      issueTracking, environmentVariables);
     }
 
     public boolean shouldPrune(RequirementOutcome requirementOutcome) {
@@ -346,13 +338,11 @@ public class RequirementOutcome {
         }
 
         public int withResult(TestResult expectedResult) {
-            return testOutcomes.getOutcomes().stream()
-                    .mapToInt(outcome -> outcome.countResults(expectedResult, testType))
-                    .sum();
+            return resultCountsFor(testType)[expectedResult.ordinal()];
         }
 
         public int withIndeterminateResult() {
-            return testOutcomes.getTotal() - withResult(TestResult.SUCCESS)
+            return getTestCount() - withResult(TestResult.SUCCESS)
                                            - withResult(TestResult.FAILURE)
                                            - withResult(TestResult.ERROR);
         }
@@ -362,7 +352,7 @@ public class RequirementOutcome {
         }
 
         public int withAnyResult() {
-            return testOutcomes.getTotal();
+            return getTestCount();
         }
     }
 
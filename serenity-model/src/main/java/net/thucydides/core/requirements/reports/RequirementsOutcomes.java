@@ -6,6 +6,7 @@ import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.OutcomeCounter;
 import net.thucydides.core.model.Release;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
 import net.thucydides.core.model.TestType;
 import net.thucydides.core.releases.ReleaseManager;
 import net.thucydides.core.reports.TestOutcomes;
@@ -16,7 +17,6 @@ import net.thucydides.core.requirements.model.Requirement;
 import net.thucydides.core.util.EnvironmentVariables;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -37,7 +37,21 @@ public class RequirementsOutcomes {
 
     public final static Integer DEFAULT_TESTS_PER_REQUIREMENT = 4;
 
-    private final Map<String, Integer> totalCountCache = new ConcurrentHashMap<>();
+    /**
+     * The requirement counts are all worked out in a single pass the first time one of them is needed,
+     * as the report templates ask for them many times over.
+     */
+    private volatile boolean requirementsCounted = false;
+    private int flattenedRequirementCount;
+    private int completedRequirementsCount;
+    private int errorRequirementsCount;
+    private int failingRequirementsCount;
+    private int pendingRequirementsCount;
+    private int compromisedRequirementsCount;
+    private int ignoredRequirementsCount;
+    private int requirementsWithoutTestsCount;
+    private int totalTestCount;
+    private int estimatedTestsPerRequirement;
 
     public RequirementsOutcomes(List<Requirement> requirements,
                                 TestOutcomes testOutcomes,
@@ -85,7 +99,7 @@ public class RequirementsOutcomes {
     private RequirementOutcome requirementOutcomeFor(Requirement requirement) {
         TestOutcomes outcomesForRequirement = testOutcomes.forRequirement(requirement);
 
-        long requirementsWithoutTests = countRequirementsWithoutTestsIn(requirement);
+        long requirementsWithoutTests = countRequirementsWithoutTestsIn(requirement, outcomesForRequirement);
         long estimatedUnimplementedTests = requirementsWithoutTests * estimatedTestsPerRequirement();
         return new RequirementOutcome(requirement, outcomesForRequirement, requirementsWithoutTests,
                                       estimatedUnimplementedTests, issueTracking);
@@ -119,38 +133,102 @@ public class RequirementsOutcomes {
                 reportNameProvider).withoutUnrelatedRequirements();
     }
 
-    private long countRequirementsWithoutTestsIn(Requirement rootRequirement) {
-        return getFlattenedRequirements(rootRequirement).stream()
-                .filter( requirement -> testOutcomes.forRequirement(requirement).getTotal() == 0)
-                .count();
+    /**
+     * Count the requirements in a requirement tree that have no tests, working up from the leaves.
+     * The tests of any requirement in the tree are also tests of the root requirement,
+     * so only the tests of the root requirement need to be searched.
+     */
+    private long countRequirementsWithoutTestsIn(Requirement rootRequirement, TestOutcomes outcomesForRootRequirement) {
+        long[] requirementsWithoutTests = {0};
+        countRequirementsWithoutTestsIn(rootRequirement, outcomesForRootRequirement, requirementsWithoutTests);
+        return requirementsWithoutTests[0];
+    }
+
+    private boolean countRequirementsWithoutTestsIn(Requirement requirement,
+                                                    TestOutcomes candidateOutcomes,
+                                                    long[] requirementsWithoutTests) {
+        boolean hasTests = hasTestsTaggedWith(requirement, candidateOutcomes);
+        if (requirement.hasChildren()) {
+            for (Requirement child : requirement.getChildren()) {
+                hasTests |= countRequirementsWithoutTestsIn(child, candidateOutcomes, requirementsWithoutTests);
+            }
+        }
+        if (!hasTests) {
+            requirementsWithoutTests[0]++;
+        }
+        return hasTests;
     }
 
-    public int getFlattenedRequirementCount() {
-        if (totalIsCachedFor("FlattenedRequirementCount")) { return cachedTotalOf("FlattenedRequirementCount"); }
-
-        int requirementCount = requirementOutcomes.stream()
-                .mapToInt(RequirementOutcome::getFlattenedRequirementCount)
-                .sum();
+    private boolean hasTestsTaggedWith(Requirement requirement, TestOutcomes candidateOutcomes) {
+        if (containTests(candidateOutcomes.withTag(requirement.asTag()))) {
+            return true;
+        }
+        return (requirement.getCardNumber() != null)
+                && containTests(candidateOutcomes.withCardNumber(requirement.getCardNumber()));
+    }
 
-        return cachedTotal("FlattenedRequirementCount", requirementCount);
+    private boolean containTests(TestOutcomes outcomes) {
+        return outcomes.getOutcomes().stream().anyMatch(outcome -> outcome.getTestCount() > 0);
     }
 
-    private int cachedTotal(String key, int total) {
-        totalCountCache.put(key, total);
-        return total;
+    public int getFlattenedRequirementCount() {
+        countRequirements();
+        return flattenedRequirementCount;
     }
 
-    private int cachedTotalOf(String key) {
-        return totalCountCache.get(key);
+    private void countRequirements() {
+        if (requirementsCounted) {
+            return;
+        }
+        synchronized (this) {
+            if (requirementsCounted) {
+                return;
+            }
+            TestedRequirements testedRequirements = null;
+            for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+                flattenedRequirementCount += requirementOutcome.getFlattenedRequirementCount();
+
+                if (requirementOutcome.isComplete()) { completedRequirementsCount++; }
+                if (requirementOutcome.isError()) { errorRequirementsCount++; }
+                if (requirementOutcome.isFailure()) { failingRequirementsCount++; }
+                if (requirementOutcome.isPending()) { pendingRequirementsCount++; }
+                if (requirementOutcome.isCompromised()) { compromisedRequirementsCount++; }
+                if (requirementOutcome.isIgnored()) { ignoredRequirementsCount++; }
+
+                if (requirementOutcome.getTestCount() == 0 && !isPending(requirementOutcome.getRequirement())) {
+                    if (testedRequirements == null) {
+                        testedRequirements = new TestedRequirements(requirementOutcomes);
+                    }
+                    if (!testedRequirements.include(requirementOutcome.getRequirement())) {
+                        requirementsWithoutTestsCount++;
+                    }
+                }
+            }
+            totalTestCount = testOutcomes.getTotal();
+            estimatedTestsPerRequirement = estimatedTestsPerRequirement();
+            requirementsCounted = true;
+        }
     }
 
-    private boolean totalIsCachedFor(String key) { return totalCountCache.containsKey(key); }
+    /**
+     * A requirement without tests of its own still counts as tested if the tests of another requirement are tagged with it.
+     */
+    private static class TestedRequirements {
+        private final Set<Requirement> requirements = new HashSet<>();
+        private final Set<TestTag> tags = new HashSet<>();
+
+        TestedRequirements(List<RequirementOutcome> requirementOutcomes) {
+            for (RequirementOutcome outcome : requirementOutcomes) {
+                if (outcome.getTestCount() > 0) {
+                    requirements.add(outcome.getRequirement());
+                    tags.addAll(outcome.getTestOutcomes().getTags());
+                }
+            }
+        }
 
-    private List<Requirement> getFlattenedRequirements(Requirement rootRequirement) {
-        List<Requirement> flattenedRequirements = new ArrayList<>();
-        flattenedRequirements.add(rootRequirement);
-        flattenedRequirements.addAll(rootRequirement.getNestedChildren());
-        return flattenedRequirements;
+        boolean include(Requirement requirement) {
+            return requirements.contains(requirement) || tags.contains(requirement.asTag());
+        }
     }
 
     public Optional<Requirement> getParentRequirement() {
@@ -223,15 +301,8 @@ public class RequirementsOutcomes {
     }
 
     public int getCompletedRequirementsCount() {
-        if (totalIsCachedFor("CompletedRequirementsCount")) { return cachedTotalOf("CompletedRequirementsCount"); }
-
-        int completedRequirements = 0;
-        for (RequirementOutcome requirementOutcome : requirementOutcomes) {
-            if (requirementOutcome.isComplete()) {
-                completedRequirements++;
-            }
-        }
-        return cachedTotal("CompletedRequirementsCount", completedRequirements);
+        countRequirements();
+        return completedRequirementsCount;
     }
 
     public int getUnsuccessfulRequirementsCount() {
@@ -239,66 +310,33 @@ public class RequirementsOutcomes {
     }
 
     public int getErrorRequirementsCount() {
-        if (totalIsCachedFor("ErrorRequirementsCount")) { return cachedTotalOf("ErrorRequirementsCount"); }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isError)
-                .count();
-
-        return cachedTotal("ErrorRequirementsCount", matchingRequirements);
+        countRequirements();
+        return errorRequirementsCount;
     }
 
     public int getFailingRequirementsCount() {
-        if (totalIsCachedFor("FailingRequirementsCount")) { return cachedTotalOf("FailingRequirementsCount"); }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isFailure)
-                .count();
-
-        return cachedTotal("FailingRequirementsCount", matchingRequirements);
+        countRequirements();
+        return failingRequirementsCount;
     }
 
     public int getPendingRequirementsCount() {
-        if (totalIsCachedFor("PendingRequirementsCount")) { return cachedTotalOf("PendingRequirementsCount"); }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isPending)
-                .count();
-
-        return cachedTotal("PendingRequirementsCount", matchingRequirements);
+        countRequirements();
+        return pendingRequirementsCount;
     }
 
     public int getCompromisedRequirementsCount() {
-        if (totalIsCachedFor("CompromisedRequirementsCount")) { return cachedTotalOf("CompromisedRequirementsCount"); }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isCompromised)
-                .count();
-
-        return cachedTotal("CompromisedRequirementsCount", matchingRequirements);
+        countRequirements();
+        return compromisedRequirementsCount;
     }
 
     public int getIgnoredRequirementsCount() {
-        if (totalIsCachedFor("IgnoredRequirementsCount")) { return cachedTotalOf("IgnoredRequirementsCount"); }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isIgnored)
-                .count();
-
-
-        return cachedTotal("IgnoredRequirementsCount", matchingRequirements);
+        countRequirements();
+        return ignoredRequirementsCount;
     }
 
     public int getRequirementsWithoutTestsCount() {
-        if (totalIsCachedFor("RequirementsWithoutTestsCount")) { return cachedTotalOf("RequirementsWithoutTestsCount"); }
-
-        int requirementsWithNoTests = 0;
-        for (Requirement requirement : getTopLevelRequirements()) {
-            if (!testsRecordedFor(requirement) && !isPending(requirement)) {
-                requirementsWithNoTests++;
-            }
-        }
-        return cachedTotal("IgnoredRequirementsCount", requirementsWithNoTests);
+        countRequirements();
+        return requirementsWithoutTestsCount;
     }
 
     private boolean isPending(Requirement requirement) {
@@ -310,15 +348,6 @@ public class RequirementsOutcomes {
         return false;
     }
 
-    private boolean testsRecordedFor(Requirement requirement) {
-        for (RequirementOutcome outcome : requirementOutcomes) {
-            if (outcome.testsRequirement(requirement) && outcome.getTestCount() > 0) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private List<Requirement> getAllRequirements() {
         List<Requirement> allRequirements = new ArrayList<>();
         for (RequirementOutcome outcome : requirementOutcomes) {
@@ -327,16 +356,9 @@ public class RequirementsOutcomes {
         return allRequirements;
     }
 
-    private List<Requirement> getTopLevelRequirements() {
-        List<Requirement> requirements = new ArrayList<>();
-        for (RequirementOutcome outcome : requirementOutcomes) {
-            requirements.add(outcome.getRequirement());
-        }
-        return requirements;
-    }
-
     public int getTotalRequirements() {
-        return getAllRequirements().size();
+        countRequirements();
+        return flattenedRequirementCount;
     }
 
     private void addFlattenedRequirements(Requirement requirement, List<Requirement> allRequirements) {
@@ -388,7 +410,8 @@ public class RequirementsOutcomes {
     }
 
     public int getTotalTestCount() {
-        return testOutcomes.getTotal();
+        countRequirements();
+        return totalTestCount;
     }
 
     /**
@@ -412,7 +435,8 @@ public class RequirementsOutcomes {
     }
 
     public int getEstimatedUnimplementedTests() {
-        return getRequirementsWithoutTestsCount() * estimatedTestsPerRequirement();
+        countRequirements();
+        return requirementsWithoutTestsCount * estimatedTestsPerRequirement;
     }
 
     private int estimatedTestsPerRequirement() {
@@ -1,6 +1,9 @@
 package net.thucydides.core.util;
 
+import net.serenitybdd.core.environment.ConfigurationSnapshot;
+
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -49,4 +52,12 @@ public interface EnvironmentVariables {
     boolean aValueIsDefinedFor(String property);
 
     String injectSystemPropertiesInto(String value);
+
+    /**
+     * A snapshot of the current Serenity configuration, if these environment variables can provide one cheaply.
+     * ThucydidesSystemProperty reads values from the snapshot when it is available.
+     */
+    default Optional<ConfigurationSnapshot> getConfigurationSnapshot() {
+        return Optional.empty();
+    }
 }
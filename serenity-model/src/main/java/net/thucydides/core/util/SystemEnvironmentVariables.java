@@ -1,6 +1,7 @@
 package net.thucydides.core.util;
 
 import net.serenitybdd.core.collect.*;
+import net.serenitybdd.core.environment.ConfigurationSnapshot;
 import org.apache.commons.lang3.*;
 
 import java.io.*;
@@ -15,6 +16,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
     private Map<String, String> properties;
     private Map<String, String> systemValues;
+    private volatile CachedSnapshot cachedSnapshot;
 
     public SystemEnvironmentVariables() {
         this(System.getProperties(), System.getenv());
@@ -167,6 +169,31 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
         return new SystemEnvironmentVariables(getProperties(), systemValues);
     }
 
+    /**
+     * The property map is replaced rather than modified whenever a property is set or cleared,
+     * so a snapshot stays valid for as long as the map it was built from is current.
+     */
+    @Override
+    public Optional<ConfigurationSnapshot> getConfigurationSnapshot() {
+        Map<String, String> currentProperties = properties;
+        CachedSnapshot cached = cachedSnapshot;
+        if (cached == null || cached.properties != currentProperties) {
+            cached = new CachedSnapshot(currentProperties, ConfigurationSnapshot.of(this));
+            cachedSnapshot = cached;
+        }
+        return cached.snapshot;
+    }
+
+    private static class CachedSnapshot {
+        private final Map<String, String> properties;
+        private final Optional<ConfigurationSnapshot> snapshot;
+
+        private CachedSnapshot(Map<String, String> properties, ConfigurationSnapshot snapshot) {
+            this.properties = properties;
+            this.snapshot = Optional.of(snapshot);
+        }
+    }
+
     public static EnvironmentVariables createEnvironmentVariables() {
         EnvironmentVariables environmentVariables = new SystemEnvironmentVariables();
         LocalPreferences localPreferences = new PropertiesFileLocalPreferences(environmentVariables);
@@ -0,0 +1,84 @@
+package net.serenitybdd.core.environment
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import net.thucydides.core.util.SystemEnvironmentVariables
+import spock.lang.Specification
+
+import static net.thucydides.core.ThucydidesSystemProperty.*
+
+class WhenReadingConfigurationSnapshots extends Specification {
+
+    def environmentVariables = new SystemEnvironmentVariables(new Properties(), [:])
+
+    def "should read values from a snapshot of the configuration"() {
+        given:
+            environmentVariables.setProperty("webdriver.driver", "chrome")
+            environmentVariables.setProperty("serenity.step.delay", "250")
+            environmentVariables.setProperty("serenity.use.unique.browser", "true")
+        when:
+            def snapshot = ConfigurationSnapshot.of(environmentVariables)
+        then:
+            snapshot.getValue(WEBDRIVER_DRIVER, "firefox") == "chrome"
+            snapshot.getIntegerValue(SERENITY_STEP_DELAY, 0) == 250
+            snapshot.getBooleanValue(THUCYDIDES_USE_UNIQUE_BROWSER, false)
+        and:
+            snapshot.getValue(WEBDRIVER_BASE_URL, "http://localhost") == "http://localhost"
+            !snapshot.isDefined(WEBDRIVER_BASE_URL)
+    }
+
+    def "serenity properties should take precedence over legacy properties"() {
+        given:
+            environmentVariables.setProperty("thucydides.step.delay", "100")
+            environmentVariables.setProperty("serenity.step.delay", "200")
+            environmentVariables.setProperty("thucydides.report.encoding", "ISO-8859-1")
+        when:
+            def snapshot = ConfigurationSnapshot.of(environmentVariables)
+        then:
+            snapshot.getIntegerValue(SERENITY_STEP_DELAY, 0) == 200
+            snapshot.getValue(SERENITY_REPORT_ENCODING, "UTF-8") == "ISO-8859-1"
+    }
+
+    def "an invalid integer value should still be reported"() {
+        given:
+            environmentVariables.setProperty("serenity.step.delay", "soon")
+        when:
+            SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0)
+        then:
+            thrown(NumberFormatException)
+    }
+
+    def "properties should read the same values with or without a snapshot"() {
+        given:
+            def mockEnvironmentVariables = new MockEnvironmentVariables()
+            [environmentVariables, mockEnvironmentVariables].each {
+                it.setProperty("thucydides.step.delay", "100")
+                it.setProperty("serenity.take.screenshots", "FOR_FAILURES")
+                it.setProperty("serenity.use.unique.browser", "false")
+            }
+        expect:
+            environmentVariables.configurationSnapshot.isPresent()
+            !mockEnvironmentVariables.configurationSnapshot.isPresent()
+        and:
+            SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0) == SERENITY_STEP_DELAY.integerFrom(mockEnvironmentVariables, 0)
+            SERENITY_TAKE_SCREENSHOTS.from(environmentVariables) == SERENITY_TAKE_SCREENSHOTS.from(mockEnvironmentVariables)
+            THUCYDIDES_USE_UNIQUE_BROWSER.booleanFrom(environmentVariables, true) == THUCYDIDES_USE_UNIQUE_BROWSER.booleanFrom(mockEnvironmentVariables, true)
+            WEBDRIVER_BASE_URL.from(environmentVariables, "none") == WEBDRIVER_BASE_URL.from(mockEnvironmentVariables, "none")
+    }
+
+    def "the snapshot should be reused until a property changes"() {
+        given:
+            environmentVariables.setProperty("webdriver.driver", "chrome")
+            def snapshot = environmentVariables.configurationSnapshot.get()
+        expect:
+            environmentVariables.configurationSnapshot.get().is(snapshot)
+        when:
+            environmentVariables.setProperty("webdriver.driver", "firefox")
+        then:
+            !environmentVariables.configurationSnapshot.get().is(snapshot)
+            WEBDRIVER_DRIVER.from(environmentVariables) == "firefox"
+        when:
+            environmentVariables.clearProperty("webdriver.driver")
+        then:
+            WEBDRIVER_DRIVER.from(environmentVariables, "none") == "none"
+    }
+}
@@ -0,0 +1,71 @@
+package net.serenitybdd.core.rest
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.nio.file.FileSystems
+import java.nio.file.Files
+
+class WhenStoringLargeRestBodies extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    File outputDirectory
+
+    def setup() {
+        outputDirectory = temporaryFolder.newFolder()
+    }
+
+    def "Small bodies are kept in the REST query"() {
+        given:
+            def bodyStore = new RestBodyStore(outputDirectory.toPath(), 100)
+            def query = RestQuery.withMethod(RestMethod.GET).andPath("/somepath").withResponse("small body")
+        when:
+            def storedQuery = query.withBodiesStoredIn(bodyStore)
+        then:
+            storedQuery.responseBody == "small body"
+            !storedQuery.responseBodyStored
+            outputDirectory.list().length == 0
+    }
+
+    def "Large bodies are moved to the body store and only a preview is kept"() {
+        given:
+            def bodyStore = new RestBodyStore(outputDirectory.toPath(), 100)
+            def largeBody = "x" * 5000
+            def query = RestQuery.withMethod(RestMethod.POST).andPath("/somepath").withContent(largeBody).withResponse(largeBody)
+        when:
+            def storedQuery = query.withBodiesStoredIn(bodyStore)
+        then:
+            storedQuery.responseBodyStored
+            storedQuery.contentStored
+            storedQuery.responseBody.length() == RestBodyStore.PREVIEW_LENGTH
+            storedQuery.responseBodyReference.size == 5000
+        and: "identical bodies are only stored once"
+            storedQuery.contentReference == storedQuery.responseBodyReference
+            outputDirectory.list().length == 1
+        and:
+            bodyStore.load(storedQuery.responseBodyReference) == largeBody
+    }
+
+    @Requires({ FileSystems.default.supportedFileAttributeViews().contains("posix") })
+    def "Stored bodies can be read by anyone who can read the other report files"() {
+        given:
+            def bodyStore = new RestBodyStore(outputDirectory.toPath(), 100)
+            def reportFile = Files.createFile(outputDirectory.toPath().resolve("report.html"))
+        when:
+            def reference = bodyStore.store("x" * 5000).get()
+        then:
+            Files.getPosixFilePermissions(outputDirectory.toPath().resolve(reference.fileName)) ==
+                    Files.getPosixFilePermissions(reportFile)
+    }
+
+    def "Bodies are not stored when the threshold is zero"() {
+        given:
+            def bodyStore = new RestBodyStore(outputDirectory.toPath(), 0)
+        expect:
+            !bodyStore.shouldStore("x" * 5000)
+    }
+}
@@ -0,0 +1,123 @@
+package net.thucydides.core.model
+
+import net.thucydides.core.screenshots.ScreenshotAndHtmlSource
+import spock.lang.Specification
+
+class WhenCachingDerivedTestOutcomeValues extends Specification {
+
+    class SomeTestScenario {
+        void a_test() {}
+    }
+
+    def outcome = TestOutcome.forTest("a_test", SomeTestScenario)
+
+    def "derived step lists should be reused while the steps are unchanged"() {
+        given:
+            outcome.recordStep(TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS))
+            outcome.recordStep(TestStep.forStepCalled("Step 2").withResult(TestResult.SUCCESS))
+        expect:
+            outcome.flattenedTestSteps.is(outcome.flattenedTestSteps)
+            outcome.leafTestSteps.is(outcome.leafTestSteps)
+            outcome.screenshotAndHtmlSources.is(outcome.screenshotAndHtmlSources)
+    }
+
+    def "derived values should be recalculated when a step is added"() {
+        given:
+            outcome.recordStep(TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS))
+            def stepsBefore = outcome.flattenedTestSteps
+        when:
+            outcome.recordStep(TestStep.forStepCalled("Step 2").withResult(TestResult.FAILURE))
+        then:
+            outcome.flattenedTestSteps.size() == 2
+            !outcome.flattenedTestSteps.is(stepsBefore)
+            outcome.result == TestResult.FAILURE
+    }
+
+    def "the result should be recalculated when a step result changes"() {
+        given:
+            def step = TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS)
+            outcome.recordStep(step)
+            assert outcome.result == TestResult.SUCCESS
+        when:
+            step.setResult(TestResult.ERROR)
+        then:
+            outcome.result == TestResult.ERROR
+    }
+
+    def "the result should be recalculated when a child step is added to a group"() {
+        given:
+            def group = TestStep.forStepCalled("A group").withResult(TestResult.SUCCESS)
+            outcome.recordStep(group)
+            group.addChildStep(TestStep.forStepCalled("Child 1").withResult(TestResult.SUCCESS))
+            assert outcome.leafTestSteps.size() == 1
+        when:
+            group.addChildStep(TestStep.forStepCalled("Child 2").withResult(TestResult.PENDING))
+        then:
+            outcome.leafTestSteps.size() == 2
+            outcome.result == TestResult.PENDING
+    }
+
+    def "the result should be recalculated when the annotated result changes"() {
+        given:
+            outcome.recordStep(TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS))
+            assert outcome.result == TestResult.SUCCESS
+        when:
+            outcome.setAnnotatedResult(TestResult.COMPROMISED)
+        then:
+            outcome.result == TestResult.COMPROMISED
+    }
+
+    def "changes to the steps of one outcome should not invalidate the values derived for another"() {
+        given:
+            outcome.recordStep(TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS))
+            def otherOutcome = TestOutcome.forTest("another_test", SomeTestScenario)
+            def otherStep = TestStep.forStepCalled("Other step").withResult(TestResult.SUCCESS)
+            otherOutcome.recordStep(otherStep)
+            assert otherOutcome.result == TestResult.SUCCESS
+            def stepsBefore = outcome.flattenedTestSteps
+        when:
+            otherStep.setResult(TestResult.FAILURE)
+        then:
+            outcome.flattenedTestSteps.is(stepsBefore)
+            otherOutcome.result == TestResult.FAILURE
+    }
+
+    def "reading the child steps of a step should not invalidate derived values"() {
+        given:
+            def group = TestStep.forStepCalled("A group").withResult(TestResult.SUCCESS)
+            group.addChildStep(TestStep.forStepCalled("Child 1").withResult(TestResult.SUCCESS))
+            outcome.recordStep(group)
+            def stepsBefore = outcome.flattenedTestSteps
+        when:
+            group.children()
+        then:
+            outcome.flattenedTestSteps.is(stepsBefore)
+    }
+
+    def "a copy of an outcome should see changes to the steps it shares with the original"() {
+        given:
+            def step = TestStep.forStepCalled("Step 1").withResult(TestResult.SUCCESS)
+            outcome.recordStep(step)
+            def copy = outcome.withQualifier("a qualifier")
+            assert copy.result == TestResult.SUCCESS
+            assert outcome.result == TestResult.SUCCESS
+        when:
+            step.setResult(TestResult.ERROR)
+        then:
+            copy.result == TestResult.ERROR
+            outcome.result == TestResult.ERROR
+    }
+
+    def "nested steps should notify the outcome when they change"() {
+        given:
+            def child = TestStep.forStepCalled("Child 1").withResult(TestResult.SUCCESS)
+            def group = TestStep.forStepCalled("A group").withResult(TestResult.SUCCESS)
+            group.addChildStep(child)
+            outcome.recordStep(group)
+            assert outcome.result == TestResult.SUCCESS
+        when:
+            child.addScreenshot(new ScreenshotAndHtmlSource(new File("screenshot.png")))
+        then:
+            outcome.screenshotAndHtmlSources.size() == 1
+    }
+}
@@ -0,0 +1,63 @@
+package net.thucydides.core.model
+
+import spock.lang.Specification
+
+class WhenRecordingStepTimings extends Specification {
+
+    def "Test steps have no timing data by default"() {
+        when:
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        then:
+            !step.hasTimings()
+            step.timings == null
+            step.timingSegments.isEmpty()
+    }
+
+    def "Timings that are all zero are not kept"() {
+        given:
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        when:
+            step.recordTimings { it.recordListenerTime(0) }
+            step.recordTimings { it.recordWait(0) }
+        then:
+            !step.hasTimings()
+            step.timings == null
+    }
+
+    def "WebDriver calls are counted and timed"() {
+        given:
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+        when:
+            step.recordTimings { it.recordWebdriverCall(10) }
+            step.recordTimings { it.recordWebdriverCall(15) }
+        then:
+            step.hasTimings()
+            step.timings.webdriverCalls == 2
+            step.timings.webdriverTime == 25
+    }
+
+    def "Time not spent in instrumented activities is reported as test code"() {
+        given:
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+            step.setDuration(1000)
+        when:
+            step.recordTimings { it.recordWait(200) }
+            step.recordTimings { it.recordScreenshot(300) }
+            step.recordTimings { it.recordRestCall(100) }
+        then:
+            step.timingSegments.collect { it.category } == ["wait", "screenshot", "rest", "code"]
+            step.timingSegments.collect { it.time } == [200, 300, 100, 400]
+            step.timingSegments.collect { it.percentage } == [20.0, 30.0, 10.0, 40.0]
+    }
+
+    def "Timings are copied when a step is cloned"() {
+        given:
+            def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS)
+            step.recordTimings { it.recordListenerTime(50) }
+        when:
+            def copy = step.clone()
+            step.recordTimings { it.recordListenerTime(50) }
+        then:
+            copy.timings.listenerTime == 50
+    }
+}
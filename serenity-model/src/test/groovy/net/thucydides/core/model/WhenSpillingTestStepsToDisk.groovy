@@ -0,0 +1,174 @@
+package net.thucydides.core.model
+
+import net.thucydides.core.reports.json.gson.GsonJSONConverter
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter
+import net.thucydides.core.screenshots.ScreenshotAndHtmlSource
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.nio.file.FileSystems
+import java.nio.file.Files
+
+class WhenSpillingTestStepsToDisk extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    class SomeTestScenario {
+        void a_long_test() {}
+    }
+
+    def "finished top-level steps should be moved out of memory once the threshold is reached"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "5")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+        when:
+            (1..20).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        then:
+            outcome.hasSpilledTestSteps()
+            outcome.spilledTestSteps.stepCount > 0
+            outcome.stepCount == 20
+            outcome.countTestSteps() == 20
+        and:
+            outcome.testSteps*.description == (1..20).collect { "Step $it" }
+            outcome.testSteps*.number == (1..20).toList()
+    }
+
+    def "the test result should take the spilled steps into account"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+        when:
+            outcome.recordStep(TestStep.forStepCalled("Failing step").withResult(TestResult.FAILURE))
+            (1..10).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        then:
+            outcome.hasSpilledTestSteps()
+            outcome.result == TestResult.FAILURE
+    }
+
+    def "spilled steps should be written to the JSON report in order"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            def converter = new GsonJSONConverter(environmentVariables)
+        and:
+            (1..12).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            def json = new ByteArrayOutputStream()
+            converter.toJson(outcome, json)
+            def reloadedOutcome = converter.fromJson(new ByteArrayInputStream(json.toByteArray())).get()
+        then:
+            !reloadedOutcome.hasSpilledTestSteps()
+            reloadedOutcome.testSteps*.description == (1..12).collect { "Step $it" }
+            reloadedOutcome.name == "a_long_test"
+    }
+
+    def "steps should be kept in memory by default"() {
+        given:
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+        when:
+            (1..20).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        then:
+            !outcome.hasSpilledTestSteps()
+    }
+
+    def "spilled steps should be restored before updating the results of every step"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            (1..10).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            outcome.setAllStepsTo(TestResult.PENDING)
+        then:
+            !outcome.hasSpilledTestSteps()
+            outcome.testSteps.every { it.result == TestResult.PENDING }
+            outcome.stepCount == 10
+    }
+
+    def "step counts and screenshots for spilled steps should be read without going back to the spill file"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            def screenshot = new ScreenshotAndHtmlSource(new File("screenshot_1.png"))
+        and:
+            def group = TestStep.forStepCalled("A group of steps").withResult(TestResult.FAILURE)
+            group.addChildStep(TestStep.forStepCalled("A passing step").withResult(TestResult.SUCCESS))
+            group.addChildStep(TestStep.forStepCalled("A failing step").withResult(TestResult.FAILURE))
+            group.children[0].addScreenshot(screenshot)
+            outcome.recordStep(group)
+            (1..6).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            Files.delete(outcome.spilledTestSteps.spillFile)
+        then:
+            outcome.successCount == 7
+            outcome.failureCount == 1
+            outcome.nestedStepCount == 9
+            outcome.lastScreenshotAndHtmlSource.get() == screenshot
+            outcome.screenshotAndHtmlSources == [screenshot]
+    }
+
+    def "copies of an outcome should keep their spilled steps when the original outcome restores its own"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            (1..10).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            def copy = outcome.withQualifier("a qualifier")
+            outcome.setAllStepsTo(TestResult.PENDING)
+        then:
+            copy.hasSpilledTestSteps()
+            copy.testSteps*.description == (1..10).collect { "Step $it" }
+            copy.testSteps.take(copy.spilledTestSteps.stepCount).every { it.result == TestResult.SUCCESS }
+    }
+
+    def "spilled steps should be streamed from the spill file without bringing them back into memory"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            (1..10).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            def steps = outcome.streamTestSteps()
+            def streamedDescriptions = steps.collect { it.description }
+            steps.close()
+        then:
+            streamedDescriptions == (1..10).collect { "Step $it" }
+            outcome.hasSpilledTestSteps()
+            outcome.stepCount == 10
+    }
+
+    @Requires({ FileSystems.default.supportedFileAttributeViews().contains("posix") })
+    def "the template step iterator should read the spilled steps lazily"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            (1..10).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            def steps = outcome.testStepIterator
+            def firstStep = steps.next()
+            Files.delete(outcome.spilledTestSteps.spillFile)
+        then:
+            firstStep.description == "Step 1"
+        and: "steps already opened for reading are still available"
+            steps.next().description == "Step 2"
+    }
+
+    def "spilled steps should be written to the XML report in order"() {
+        given:
+            environmentVariables.setProperty("serenity.step.spill.threshold", "3")
+            def outcome = TestOutcome.inEnvironment(environmentVariables).forTest("a_long_test", SomeTestScenario)
+            def reporter = new XMLTestOutcomeReporter()
+            reporter.outputDirectory = temporaryFolder.newFolder()
+            (1..12).each { outcome.recordStep(TestStep.forStepCalled("Step $it").withResult(TestResult.SUCCESS)) }
+        when:
+            def report = reporter.generateReportFor(outcome)
+            def reloadedOutcome = reporter.loadReportFrom(report).get()
+        then:
+            outcome.hasSpilledTestSteps()
+            reloadedOutcome.testSteps*.description == (1..12).collect { "Step $it" }
+    }
+}
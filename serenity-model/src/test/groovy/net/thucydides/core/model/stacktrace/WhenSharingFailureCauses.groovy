@@ -0,0 +1,75 @@
+package net.thucydides.core.model.stacktrace
+
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestStep
+import net.thucydides.core.reports.json.gson.GsonJSONConverter
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+class WhenSharingFailureCauses extends Specification {
+
+    def stackTrace = [new StackTraceElement("com.acme.Checkout", "pay", "Checkout.java", 42),
+                      new StackTraceElement("org.junit.Assert", "fail", "Assert.java", 88)] as StackTraceElement[]
+
+    def "failure causes with the same type, message and stack trace should be equal"() {
+        expect:
+            new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace) ==
+                    new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace.clone())
+        and:
+            new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace) !=
+                    new FailureCause("java.lang.IllegalStateException", "Back end down", stackTrace)
+    }
+
+    def "equal recorded failure causes should be interned as a single instance"() {
+        given:
+            def cause = new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace)
+            def sameCause = new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace.clone())
+        expect:
+            FailureCauseInterner.intern(cause).is(FailureCauseInterner.intern(sameCause))
+    }
+
+    def "failure causes recorded from a live exception should not be interned"() {
+        given:
+            def cause = new FailureCause(new IllegalStateException("Grid node lost"))
+        expect:
+            FailureCauseInterner.intern(cause).is(cause)
+    }
+
+    def "changing the stack trace of a shared failure cause should not affect the other outcomes that use it"() {
+        given:
+            def sharedCause = FailureCauseInterner.intern(new FailureCause("java.lang.IllegalStateException", "Grid node lost", stackTrace))
+        when:
+            def changedCause = sharedCause.withStackTrace([new StackTraceElement("com.acme.Basket", "add", "Basket.java", 7)] as StackTraceElement[])
+        then:
+            sharedCause.stackTrace.collect { it.className } == ["com.acme.Checkout", "org.junit.Assert"]
+            changedCause.stackTrace.collect { it.className } == ["com.acme.Basket"]
+            changedCause.message == "Grid node lost"
+    }
+
+    def "each distinct stack trace should only be simplified once"() {
+        given:
+            def sanitizer = new StackTraceSanitizer(new MockEnvironmentVariables(), stackTrace)
+            def sameStackTraceSanitizer = new StackTraceSanitizer(new MockEnvironmentVariables(), stackTrace.clone())
+        when:
+            def simplified = sanitizer.sanitizedStackTrace
+        then:
+            simplified.collect { it.className } == ["com.acme.Checkout"]
+            sameStackTraceSanitizer.sanitizedStackTrace.is(simplified)
+    }
+
+    def "test steps loaded with the same failure should share the failure cause"() {
+        given:
+            def converter = new GsonJSONConverter(new MockEnvironmentVariables())
+            def exception = new IllegalStateException("Grid node lost")
+            def failingStep = TestStep.forStepCalled("a failing step").withResult(TestResult.ERROR)
+            failingStep.failedWith(exception)
+            def anotherFailingStep = TestStep.forStepCalled("another failing step").withResult(TestResult.ERROR)
+            anotherFailingStep.failedWith(exception)
+        when:
+            def loadedStep = converter.gson.fromJson(converter.gson.toJson(failingStep), TestStep)
+            def anotherLoadedStep = converter.gson.fromJson(converter.gson.toJson(anotherFailingStep), TestStep)
+        then:
+            loadedStep.exception.is(anotherLoadedStep.exception)
+            loadedStep.exception.message == "Grid node lost"
+    }
+}
@@ -0,0 +1,102 @@
+package net.thucydides.core.reports.junit
+
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.reports.integration.TestStepFactory
+import net.thucydides.core.steps.TestFailureCause
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class WhenStreamingJUnitXMLReports extends Specification {
+
+    private static final ZonedDateTime FIRST_OF_JANUARY = ZonedDateTime.of(2013, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault())
+
+    static final String AWKWARD_TEXT = 'Expected <"a & b"> but was \'c\'\n\tat line 1\r\n\u00e9\u0085\u007f \u0001 \ud83d\ude00 ]]>'
+
+    def converter = new JUnitXMLConverter()
+    def referenceConverter = new DOMJUnitXMLConverter()
+
+    class SomeTestScenario {
+        public void should_do_this() {}
+    }
+
+    def outcomeFor(String name) {
+        def outcome = TestOutcome.forTest(name, SomeTestScenario)
+        outcome.startTime = FIRST_OF_JANUARY
+        // The tags are only read to find unstable tests, so don't look them up in the requirements
+        outcome.tags = [] as Set
+        return outcome
+    }
+
+    def outcomeWithStep(String name, step) {
+        def outcome = outcomeFor(name)
+        outcome.recordStep(step.startingAt(FIRST_OF_JANUARY))
+        return outcome
+    }
+
+    def failingOutcome(String name, Throwable cause) {
+        def step = TestStepFactory.failingTestStepCalled("a failing step")
+        step.failedWith(cause)
+        return outcomeWithStep(name, step)
+    }
+
+    def flakyOutcome(String name) {
+        def outcome = outcomeFor(name)
+        outcome.addTag(TestTag.withName("Retries: 1").andType("unstable test"))
+        outcome.setFlakyTestFailureCause(TestFailureCause.from(new AssertionError("Flaky " + AWKWARD_TEXT)))
+        outcome.recordStep(TestStepFactory.flakyTestStepCalled("UNSTABLE TEST:FailureHistory").startingAt(FIRST_OF_JANUARY))
+        outcome.recordStep(TestStepFactory.successfulTestStepCalled("step 1").startingAt(FIRST_OF_JANUARY))
+        return outcome
+    }
+
+    def streamed(String testCaseName, List<TestOutcome> outcomes) {
+        def output = new ByteArrayOutputStream()
+        converter.write(testCaseName, outcomes, output)
+        return output.toByteArray()
+    }
+
+    def fromDOM(String testCaseName, List<TestOutcome> outcomes) {
+        def output = new ByteArrayOutputStream()
+        referenceConverter.write(testCaseName, outcomes, output)
+        return output.toByteArray()
+    }
+
+    @Unroll
+    def "streamed reports should be byte-for-byte identical to the DOM reports for #description"() {
+        expect:
+            streamed("Some test case " + AWKWARD_TEXT, outcomes) == fromDOM("Some test case " + AWKWARD_TEXT, outcomes)
+        where:
+            description             | outcomes
+            "passing tests"         | [outcomeWithStep("should_do_this", TestStepFactory.successfulTestStepCalled("step 1"))]
+            "failing tests"         | [failingOutcome("should_do_this", new AssertionError(AWKWARD_TEXT))]
+            "failures with no text" | [failingOutcome("should_do_this", new AssertionError())]
+            "failures with empty text" | [failingOutcome("should_do_this", new AssertionError(""))]
+            "errors"                | [outcomeWithStep("should_do_this", TestStepFactory.errorTestStepCalled("step 1"))]
+            "skipped tests"         | [outcomeWithStep("should_do_this", TestStepFactory.skippedTestStepCalled("step 1"))]
+            "pending tests"         | [outcomeWithStep("should_do_this", TestStepFactory.pendingTestStepCalled("step 1"))]
+            "flaky tests"           | [flakyOutcome("should_do_this")]
+            "no tests"              | []
+    }
+
+    def "compromised tests should be reported in the same way as before"() {
+        given:
+            def outcome = failingOutcome("should_do_this", new IllegalStateException(AWKWARD_TEXT))
+            outcome.annotatedResult = TestResult.COMPROMISED
+        expect:
+            streamed("Some test case", [outcome]) == fromDOM("Some test case", [outcome])
+    }
+
+    def "a large parameterised test class should be reported in the same way as before"() {
+        given:
+            def outcomes = (1..200).collect {
+                (it % 7 == 0) ? failingOutcome("should_do_this", new AssertionError("Row $it failed: " + AWKWARD_TEXT))
+                              : outcomeWithStep("should_do_this", TestStepFactory.successfulTestStepCalled("Row $it"))
+            }
+        expect:
+            streamed("A parameterised test", outcomes) == fromDOM("A parameterised test", outcomes)
+    }
+}
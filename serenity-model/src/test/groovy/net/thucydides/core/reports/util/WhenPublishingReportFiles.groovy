@@ -0,0 +1,117 @@
+package net.thucydides.core.reports.util
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+
+class WhenPublishingReportFiles extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    Path sourceDirectory
+    Path reportDirectory
+
+    def setup() {
+        sourceDirectory = temporaryFolder.newFolder("source").toPath()
+        reportDirectory = temporaryFolder.newFolder("report").toPath()
+    }
+
+    def "should link files into the report directory by default"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            def screenshot = sourceFile("screenshot.png", "screenshot data")
+            def publisher = FilePublisher.forEnvironment(environmentVariables)
+        when:
+            def published = publisher.publish(screenshot, reportDirectory.resolve("screenshot.png"))
+        then:
+            publisher.mode == FilePublisher.Mode.LINK
+            Files.isSameFile(published, screenshot)
+            published.text == "screenshot data"
+    }
+
+    def "should copy files with their modification time when linking is disabled"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            environmentVariables.setProperty("serenity.report.publishing", "copy")
+            def screenshot = sourceFile("screenshot.png", "screenshot data")
+            def publisher = FilePublisher.forEnvironment(environmentVariables)
+        when:
+            def published = publisher.publish(screenshot, reportDirectory.resolve("screenshot.png"))
+        then:
+            publisher.mode == FilePublisher.Mode.COPY
+            !Files.isSameFile(published, screenshot)
+            published.text == "screenshot data"
+            Files.getLastModifiedTime(published) == Files.getLastModifiedTime(screenshot)
+    }
+
+    def "should copy files that may be rewritten later rather than link them"() {
+        given:
+            def testResult = sourceFile("outcome.json", "{}")
+        when:
+            def published = new FilePublisher(FilePublisher.Mode.LINK).publish(testResult, reportDirectory.resolve("outcome.json"))
+        then:
+            !Files.isSameFile(published, testResult)
+            published.text == "{}"
+    }
+
+    def "should not replace a file that has been written to the report directory since the source was saved"() {
+        given:
+            def screenshot = sourceFile("screenshot.png", "new screenshot data")
+            def existingFile = reportFile("screenshot.png", "existing screenshot data")
+        when:
+            new FilePublisher(mode).publish(screenshot, existingFile)
+        then:
+            existingFile.text == "existing screenshot data"
+        where:
+            mode << [FilePublisher.Mode.LINK, FilePublisher.Mode.COPY]
+    }
+
+    def "should replace a file left in the report directory by an earlier run"() {
+        given:
+            def testResult = sourceFile("outcome.json", "{new:true}")
+            def stalePage = reportFile("outcome.json", "{old:true}")
+            Files.setLastModifiedTime(stalePage, FileTime.fromMillis(900_000_000_000L))
+            def linkedPage = reportDirectory.resolve("linked-outcome.json")
+            Files.createLink(linkedPage, stalePage)
+        when:
+            new FilePublisher(mode).publish(testResult, stalePage)
+        then:
+            stalePage.text == "{new:true}"
+            linkedPage.text == "{old:true}"
+            reportDirectory.toFile().list().sort() == ["linked-outcome.json", "outcome.json"]
+        where:
+            mode << [FilePublisher.Mode.LINK, FilePublisher.Mode.COPY]
+    }
+
+    def "should publish a directory tree"() {
+        given:
+            sourceFile("outcome.json", "{}")
+            Files.createDirectories(sourceDirectory.resolve("nested"))
+            sourceFile("nested/screenshot.png", "screenshot data")
+        when:
+            Files.walkFileTree(sourceDirectory, new CopyDirectory(sourceDirectory, reportDirectory, new FilePublisher(FilePublisher.Mode.LINK)))
+        then:
+            reportDirectory.resolve("outcome.json").text == "{}"
+            reportDirectory.resolve("nested/screenshot.png").text == "screenshot data"
+            Files.isSameFile(reportDirectory.resolve("nested/screenshot.png"), sourceDirectory.resolve("nested/screenshot.png"))
+    }
+
+    private Path sourceFile(String name, String content) {
+        Path file = sourceDirectory.resolve(name)
+        file.text = content
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000_000_000L))
+        file
+    }
+
+    private Path reportFile(String name, String content) {
+        Path file = reportDirectory.resolve(name)
+        file.text = content
+        file
+    }
+}
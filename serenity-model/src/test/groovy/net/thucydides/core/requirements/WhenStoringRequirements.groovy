@@ -0,0 +1,34 @@
+package net.thucydides.core.requirements
+
+import net.thucydides.core.requirements.model.Requirement
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class WhenStoringRequirements extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def "should read back the requirements that were written to the store"() {
+        given:
+            def store = new FileSystemRequirementsStore(temporaryFolder.newFolder(), "requirements.json")
+        when:
+            store.write([Requirement.named("a capability").withType("capability").withNarrative("a narrative")])
+        then:
+            store.read().get()*.name == ["a capability"]
+    }
+
+    def "should replace the stored requirements without leaving temporary files behind"() {
+        given:
+            def storeDirectory = temporaryFolder.newFolder()
+            def store = new FileSystemRequirementsStore(storeDirectory, "requirements.json")
+            store.write([Requirement.named("a capability").withType("capability").withNarrative("a narrative")])
+        when:
+            store.write([Requirement.named("another capability").withType("capability").withNarrative("a narrative")])
+        then:
+            store.read().get()*.name == ["another capability"]
+        and:
+            storeDirectory.list() as List == ["requirements.json"]
+    }
+}
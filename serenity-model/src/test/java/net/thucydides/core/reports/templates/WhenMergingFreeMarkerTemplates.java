@@ -28,6 +28,37 @@ public class WhenMergingFreeMarkerTemplates {
 
     }
 
+    @Test
+    public void should_merge_page_values_layered_over_values_shared_by_all_pages() throws Exception {
+        FreeMarkerTemplateManager templateManager = new FreeMarkerTemplateManager();
+        ReportTemplate template = templateManager.getTemplateFrom("templates/test.ftl");
+
+        Map<String, Object> sharedValues = new HashMap<String, Object>();
+        sharedValues.put("name","Joe");
+        sharedValues.put("age",20);
+        Map<String, Object> context = new ReportContext(new SharedTemplateValues(sharedValues));
+        context.put("age", 30);
+        StringWriter sw = new StringWriter();
+        template.merge(context, sw);
+
+        assertThat(sw.toString(), is("Hi Joe, aged 30. Next year you will be 31"));
+    }
+
+    @Test
+    public void page_values_should_not_change_the_shared_values() throws Exception {
+        Map<String, Object> sharedValues = new HashMap<String, Object>();
+        sharedValues.put("name","Joe");
+        SharedTemplateValues values = new SharedTemplateValues(sharedValues);
+
+        Map<String, Object> firstPage = new ReportContext(values);
+        firstPage.put("name", "Jill");
+        Map<String, Object> secondPage = new ReportContext(values);
+
+        assertThat(firstPage.get("name"), is("Jill"));
+        assertThat(secondPage.get("name"), is("Joe"));
+        assertThat(firstPage.size(), is(1));
+    }
+
     @Test(expected = TemplateMergeException.class)
     public void should_handle_data_errors_in_template() throws Exception {
         FreeMarkerTemplateManager templateManager = new FreeMarkerTemplateManager();
@@ -283,6 +283,15 @@
                 </#if>
             </#macro>
 
+            <#macro storedRestBody(reference, target) >
+                <p>
+                    <em>Showing the first part of the body only.</em>
+                    <a href="${reference.fileName}" onClick="return loadStoredRestBody('${reference.fileName}', '${target}')">
+                        Load the full body (${reference.size} characters)
+                    </a>
+                </p>
+            </#macro>
+
             <#macro restQueryData(restQuery, number) >
                 <span>
                     <button type="button" class="btn btn-success btn-sm" data-toggle="modal"
@@ -316,7 +325,10 @@
                                 </#if>
                                 <#if restQuery.content?has_content>
                                     <h5>Content Body</h5>
-                                    <pre>${(formatter.renderText(restQuery.content))!}</pre>
+                                    <pre id="restContent-${number}">${(formatter.renderText(restQuery.content))!}</pre>
+                                    <#if restQuery.contentStored>
+                                        <@storedRestBody reference=restQuery.contentReference target="restContent-${number}"/>
+                                    </#if>
                                 </#if>
                                 <#if restQuery.requestCookies?has_content>
                                     <h5>Request Cookies</h5>
@@ -328,7 +340,10 @@
                                 </#if>
                                 <h5>Response Body</h5>
                                 <#if restQuery.responseHeaders?has_content>
-                                    <pre>${formatter.renderText(restQuery.responseBody)}</pre>
+                                    <pre id="restResponse-${number}">${formatter.renderText(restQuery.responseBody)}</pre>
+                                    <#if restQuery.responseBodyStored>
+                                        <@storedRestBody reference=restQuery.responseBodyReference target="restResponse-${number}"/>
+                                    </#if>
                                 </#if>
                                 <#if restQuery.responseCookies?has_content && (!(restQuery.requestCookies?has_content) || restQuery.responseCookies!=restQuery.requestCookies)>
                                     <h5>Response Cookies</h5>
@@ -425,7 +440,23 @@
                         </td>
                     </#if>
                     <td width="100"><span class="${step_class_root}-step">${step.result}</span></td>
-                    <td width="100"><span class="${step_class_root}-step">${step.durationInSeconds}s</span></td>
+                    <td width="100"><span class="${step_class_root}-step">${step.durationInSeconds}s</span>
+                        <#if step.hasTimings()>
+                            <#assign stepTimings = step.getTimings()>
+                            <#if (stepTimings.networkRequests > 0)>
+                                <#assign networkSummary>${stepTimings.networkRequests} requests, ${stepTimings.networkBytes} bytes<#list stepTimings.slowestRequests as request>&#10;${request.time}ms ${request.url?html}</#list></#assign>
+                            <#else>
+                                <#assign networkSummary = "">
+                            </#if>
+                            <div class="step-timings" title="${networkSummary}">
+                                <#list step.timingSegments as segment>
+                                    <span class="step-timing step-timing-${segment.category}"
+                                          style="width:${segment.percentage?c}%"
+                                          title="${segment.label}: ${segment.time}ms"></span>
+                                </#list>
+                            </div>
+                        </#if>
+                    </td>
                 </tr>
                 <#if (step.errorMessage?has_content) && !step.hasNestedErrors()>
                     <tr class="test-${step.result}">
@@ -448,7 +479,7 @@
                 </#if>
             </#macro>
             <#-- Test step results -->
-            <#list testOutcome.testSteps as step>
+            <#list testOutcome.testStepIterator as step>
                 <@write_step step=step step_number=step_index />
             </#list>
             <#if testOutcome.hasNonStepFailure()>
@@ -505,6 +536,25 @@
     </div>
 
 
+    <script type="text/javascript">
+        function loadStoredRestBody(fileName, targetId) {
+            if (!window.fetch || !window.DecompressionStream) {
+                return true;
+            }
+            fetch(fileName)
+                .then(function (response) {
+                    return new Response(response.body.pipeThrough(new DecompressionStream('gzip'))).text();
+                })
+                .then(function (body) {
+                    $("#" + targetId).text(body);
+                })
+                .catch(function () {
+                    window.location.href = fileName;
+                });
+            return false;
+        }
+    </script>
+
     <script type="text/javascript">
         function toggleDiv(divId) {
             $("#" + divId).toggle();
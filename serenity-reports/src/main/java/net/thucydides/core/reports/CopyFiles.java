@@ -1,5 +1,8 @@
 package net.thucydides.core.reports;
 
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.reports.util.FilePublisher;
+import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,11 +21,17 @@ import java.util.concurrent.Future;
 
 public class CopyFiles {
     private final File sourceDirectory;
+    private final FilePublisher publisher;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CopyFiles.class);
 
     public CopyFiles(File sourceDirectory) {
+        this(sourceDirectory, FilePublisher.forEnvironment(Injectors.getInjector().getProvider(EnvironmentVariables.class).get()));
+    }
+
+    public CopyFiles(File sourceDirectory, FilePublisher publisher) {
         this.sourceDirectory = sourceDirectory;
+        this.publisher = publisher;
     }
 
     public static CopyFiles from(File sourceDirectory) {
@@ -42,7 +51,7 @@ public class CopyFiles {
         final List<Callable<Path>> partitions = new ArrayList<>();
 
         for (Path fileToCopy : filesToCopy) {
-            partitions.add(new FileCopier(fileToCopy, targetDirectory));
+            partitions.add(new FileCopier(fileToCopy, targetDirectory, publisher));
         }
 
         final ExecutorService executorPool = Executors.newFixedThreadPool(numberOfThreads);
@@ -69,7 +78,7 @@ public class CopyFiles {
         try (DirectoryStream<Path> directoryContents = Files.newDirectoryStream(sourcePath)) {
             for (Path sourceFile : directoryContents) {
                 Path destinationFile = targetPath.resolve(sourceFile.getFileName());
-                if (Files.notExists(destinationFile)) {
+                if (Files.isDirectory(sourceFile) ? Files.notExists(destinationFile) : !publisher.isUpToDate(sourceFile, destinationFile)) {
                     filesToCopy.add(sourceFile);
                 }
             }
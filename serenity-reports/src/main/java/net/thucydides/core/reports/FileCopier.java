@@ -1,5 +1,6 @@
 package net.thucydides.core.reports;
 
+import net.thucydides.core.reports.util.FilePublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,20 +17,25 @@ class FileCopier implements Callable<Path> {
 
     private final Path sourcePath;
         private final Path targetDirectory;
+        private final FilePublisher publisher;
 
-        FileCopier(Path sourcePath, Path targetDirectory) {
+        FileCopier(Path sourcePath, Path targetDirectory, FilePublisher publisher) {
             this.sourcePath = sourcePath;
             this.targetDirectory = targetDirectory;
+            this.publisher = publisher;
         }
 
         @Override
         public Path call() throws Exception {
             Path destinationFile = targetDirectory.resolve(sourcePath.getFileName());
             try {
-                return Files.copy(sourcePath, destinationFile, COPY_OPTIONS);
+                if (Files.isDirectory(sourcePath)) {
+                    return Files.copy(sourcePath, destinationFile, COPY_OPTIONS);
+                }
+                return publisher.publish(sourcePath, destinationFile);
             } catch (IOException e) {
                 LOGGER.error("Error during copying files to the target directory", e);
                 return null;
             }
         }
-    }
\ No newline at end of file
+    }
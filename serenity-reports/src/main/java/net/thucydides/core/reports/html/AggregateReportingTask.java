@@ -49,4 +49,9 @@ public class AggregateReportingTask extends BaseReportingTask implements Reporti
          LOGGER.debug("Aggregate reports generated in {} ms ", stopwatch.stop());
     }
 
+    @Override
+    public long estimatedCost() {
+        return testOutcomes.getOutcomes().size();
+    }
+
 }
@@ -7,11 +7,8 @@ import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -42,14 +39,27 @@ public abstract class BaseReportingTask implements ReportingTask {
         LOGGER.debug("Generating report in {}", outputFile);
 
         Path outputPath = outputDirectory.toPath().resolve(outputFile);
-        try(BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            mergeTemplate(template).withContext(context).to(writer);
-            writer.flush();
-        }
+        mergeTemplate(template).withContext(context).toFile(outputPath);
 
         LOGGER.debug("Generated report {} in {} ms", outputFile, stopwatch.stop());
     }
 
+    /**
+     * Write a page that sends the browser straight on to another report page, in place of a page that would
+     * show exactly the same thing.
+     */
+    protected void generateRedirectPage(final String outputFile, final String targetReport) throws IOException {
+        LOGGER.debug("Redirecting {} to {}", outputFile, targetReport);
+
+        Path outputPath = outputDirectory.toPath().resolve(outputFile);
+        Merger.writePage(outputPath, writer -> writer.write(String.format(REDIRECT_PAGE, targetReport, targetReport, targetReport)));
+    }
+
+    private static final String REDIRECT_PAGE = "<!DOCTYPE html>%n"
+            + "<html><head><meta charset=\"UTF-8\"><meta http-equiv=\"refresh\" content=\"0; url=%s\">"
+            + "<link rel=\"canonical\" href=\"%s\"></head>%n"
+            + "<body><a href=\"%s\">Show the report</a></body></html>%n";
+
     protected Merger mergeTemplate(final String templateFile) {
         return new Merger(templateFile);
     }
@@ -58,5 +68,6 @@ public abstract class BaseReportingTask implements ReportingTask {
     protected void generateCSVReportFor(TestOutcomes testOutcomes, String reportName) throws IOException {
         CSVReporter csvReporter = new CSVReporter(outputDirectory, environmentVariables);
         csvReporter.generateReportFor(testOutcomes, reportName);
+        ReportExecutor.recordProgress();
     }
 }
@@ -10,6 +10,7 @@ import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.options.MutableDataSet;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.reports.html.RenderedMarkupCache.MarkupType;
 import net.thucydides.core.reports.renderer.Asciidoc;
 import net.thucydides.core.reports.renderer.MarkupRenderer;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -59,13 +60,28 @@ public class Formatter  {
 
     public static String[][] UNICODE_CHARS_ESCAPE = new String[][]{{"\\u", "&#92;"}};
 
+    // Flexmark parsers and renderers are immutable, so they can be shared between threads
+    private static final Parser MARKDOWN_PARSER;
+    private static final HtmlRenderer MARKDOWN_RENDERER;
+
+    static {
+        MutableDataSet options = new MutableDataSet();
+
+        // uncomment to set optional extensions
+        //options.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()));
+
+        // uncomment to convert soft-breaks to hard breaks
+        //options.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
+
+        MARKDOWN_PARSER = Parser.builder(options).build();
+        MARKDOWN_RENDERER = HtmlRenderer.builder(options).build();
+    }
+
     private final EnvironmentVariables environmentVariables;
     private final MarkupRenderer asciidocRenderer;
+    private final RenderedMarkupCache renderedMarkup = RenderedMarkupCache.sharedCache();
     Configuration markdownEncodingConfiguration;
 
-    Parser parser;
-    HtmlRenderer renderer;
-
     @Inject
     public Formatter(EnvironmentVariables environmentVariables) {
         this.environmentVariables = environmentVariables;
@@ -73,20 +89,6 @@ public class Formatter  {
 
         String encoding = ThucydidesSystemProperty.REPORT_CHARSET.from(environmentVariables,"UTF-8");
         markdownEncodingConfiguration = Configuration.builder().setEncoding(encoding).build();
-
-
-        /////////////
-        MutableDataSet options = new MutableDataSet();
-
-        // uncomment to set optional extensions
-        //options.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()));
-
-        // uncomment to convert soft-breaks to hard breaks
-        //options.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
-
-        parser = Parser.builder(options).build();
-        renderer = HtmlRenderer.builder(options).build();
-
     }
 
     public Formatter() {
@@ -94,14 +96,19 @@ public class Formatter  {
     }
 
     public String renderAsciidoc(String text) {
-        return stripNewLines(asciidocRenderer.render(text));
+        return renderedMarkup.rendered(MarkupType.ASCIIDOC, asciidocRenderer, text,
+                                       textToRender -> stripNewLines(asciidocRenderer.render(textToRender)));
     }
 
     public String renderMarkdown(String text) {
         if (text == null) { return ""; }
 
-        Node document = parser.parse(text);
-        String html = renderer.render(document);
+        return renderedMarkup.rendered(MarkupType.MARKDOWN, MARKDOWN_RENDERER, text, this::renderMarkdownDocument);
+    }
+
+    private String renderMarkdownDocument(String text) {
+        Node document = MARKDOWN_PARSER.parse(text);
+        String html = MARKDOWN_RENDERER.render(document);
 
         return stripSurroundingParagraphTagsFrom(html);
     }
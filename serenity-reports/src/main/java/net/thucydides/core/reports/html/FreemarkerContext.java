@@ -1,5 +1,7 @@
 package net.thucydides.core.reports.html;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import net.serenitybdd.core.buildinfo.BuildInfoProvider;
 import net.serenitybdd.core.buildinfo.BuildProperties;
 import net.serenitybdd.core.reports.styling.TagStylist;
@@ -9,6 +11,8 @@ import net.thucydides.core.model.ReportType;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.ReportOptions;
 import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.templates.ReportContext;
+import net.thucydides.core.reports.templates.SharedTemplateValues;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.Inflector;
@@ -32,6 +36,7 @@ public class FreemarkerContext {
     private final String relativeLink;
     private final BuildProperties buildProperties;
     private final TestTag parentTag;
+    private final Supplier<SharedTemplateValues> sharedValues;
 
 
     public FreemarkerContext(EnvironmentVariables environmentVariables,
@@ -45,6 +50,17 @@ public class FreemarkerContext {
         this.relativeLink = relativeLink;
         buildProperties = new BuildInfoProvider(environmentVariables).getBuildProperties();
         this.parentTag = parentTag;
+        this.sharedValues = Suppliers.memoize(this::sharedTemplateValues);
+    }
+
+    private FreemarkerContext(FreemarkerContext parentContext, TestTag parentTag) {
+        this.environmentVariables = parentContext.environmentVariables;
+        this.requirements = parentContext.requirements;
+        this.issueTracking = parentContext.issueTracking;
+        this.relativeLink = parentContext.relativeLink;
+        this.buildProperties = parentContext.buildProperties;
+        this.parentTag = parentTag;
+        this.sharedValues = parentContext.sharedValues;
     }
 
 
@@ -58,7 +74,7 @@ public class FreemarkerContext {
     public Map<String, Object> getBuildContext(TestOutcomes testOutcomesForTagType,
                                              ReportNameProvider reportName,
                                              boolean useFiltering) {
-        Map<String, Object> context = new HashMap();
+        Map<String, Object> context = new ReportContext(sharedValues.get());
         TagFilter tagFilter = new TagFilter(environmentVariables);
         context.put("testOutcomes", testOutcomesForTagType);
         context.put("allTestOutcomes", testOutcomesForTagType.getRootOutcomes());
@@ -70,21 +86,27 @@ public class FreemarkerContext {
         context.put("currentTag", TestTag.EMPTY_TAG);
         context.put("parentTag", parentTag);
         context.put("reportName", reportName);
+        context.put("timestamp", timestampFrom(new DateTime()));
 
-        context.put("absoluteReportName", new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirements));
+        return context;
+    }
 
-        context.put("reportOptions", new ReportOptions(environmentVariables));
-        context.put("timestamp", timestampFrom(new DateTime()));
+    /**
+     * Values that are the same for every page generated with this context (and with copies of it for other parent tags).
+     */
+    private SharedTemplateValues sharedTemplateValues() {
+        Map<String, Object> context = new HashMap();
+
+        context.put("absoluteReportName", new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirements));
         context.put("requirementTypes", requirements.getRequirementTypes());
         addFormattersToContext(context);
 
-
         VersionProvider versionProvider = new VersionProvider(environmentVariables);
         context.put("serenityVersionNumber", versionProvider.getVersion());
         context.put("buildNumber", versionProvider.getBuildNumberText());
         context.put("build", buildProperties);
 
-        return context;
+        return new SharedTemplateValues(context);
     }
 
     private void addFormattersToContext(final Map<String, Object> context) {
@@ -103,6 +125,6 @@ public class FreemarkerContext {
     }
 
     public FreemarkerContext withParentTag(TestTag knownTag) {
-        return new FreemarkerContext(environmentVariables, requirements, issueTracking, relativeLink, knownTag);
+        return new FreemarkerContext(this, knownTag);
     }
 }
@@ -7,6 +7,7 @@ import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.ReportType;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.*;
+import net.thucydides.core.reports.util.FilePublisher;
 import net.thucydides.core.requirements.DefaultRequirements;
 import net.thucydides.core.requirements.Requirements;
 import net.thucydides.core.requirements.model.RequirementsConfiguration;
@@ -21,7 +22,6 @@ import java.io.IOException;
 import java.nio.file.CopyOption;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -136,7 +136,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     private void copyScreenshotsFrom(File sourceDirectory) {
-        CopyFiles.from(sourceDirectory).to(getOutputDirectory());
+        new CopyFiles(sourceDirectory, FilePublisher.forEnvironment(environmentVariables)).to(getOutputDirectory());
     }
 
     public void generateReportsForTestResultsIn(TestOutcomes testOutcomes) throws IOException {
@@ -168,7 +168,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         reportingTasks.add(new CopyResourcesTask());
         reportingTasks.add(new CopyTestResultsTask());
         reportingTasks.add(new AggregateReportingTask(context, environmentVariables, requirements.getRequirementsService(), getOutputDirectory(), testOutcomes));
-        reportingTasks.add(new TagTypeReportingTask(context, environmentVariables, getOutputDirectory(), reportNameProvider, testOutcomes));
+        reportingTasks.addAll(TagTypeReportingTask.tagTypeReportsFor(testOutcomes).using(context, environmentVariables, getOutputDirectory(), reportNameProvider));
         reportingTasks.addAll(TagReportingTask.tagReportsFor(testOutcomes).using(context,
                                                                 environmentVariables,
                                                                 getOutputDirectory(),
@@ -196,18 +196,11 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     private Set<ReportingTask> nestedTagReports(TestOutcomes testOutcomes, FreemarkerContext context, List<String> knownRequirementReportNames) {
-        Set<ReportingTask> reportingTasks = new HashSet<>();
-
-        for(TestTag knownTag : testOutcomes.getTags()) {
-            reportingTasks.addAll(TagReportingTask.tagReportsFor(testOutcomes.withTag(knownTag)).using(
-                    context.withParentTag(knownTag),
-                    environmentVariables,
-                    getOutputDirectory(),
-                    reportNameProvider.inContext(knownTag.getCompleteName()),
-                    testOutcomes.getTags(),
-                    knownRequirementReportNames));
-        }
-        return reportingTasks;
+        return NestedTagReports.nestedTagReportsFor(testOutcomes).using(context,
+                                                                        environmentVariables,
+                                                                        getOutputDirectory(),
+                                                                        reportNameProvider,
+                                                                        knownRequirementReportNames);
     }
 
     private List<String> requirementReportNamesFrom(RequirementsOutcomes requirementsOutcomes,
@@ -300,6 +293,11 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         public void generateReports() throws IOException {
             copyTestResultsToOutputDirectory();
         }
+
+        @Override
+        public long estimatedCost() {
+            return countTestResultFiles();
+        }
     }
 
 }
@@ -6,6 +6,7 @@ import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.ThucydidesReporter;
 import net.thucydides.core.reports.templates.TemplateManager;
 import net.thucydides.core.reports.util.CopyDirectory;
+import net.thucydides.core.reports.util.FilePublisher;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,8 +16,10 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.EnumSet;
 import java.util.Map;
 
@@ -96,10 +99,25 @@ public abstract class HtmlReporter extends ThucydidesReporter {
 
     private void copyDirectoryContents(Path sourcePath, Path destinationPath) throws IOException {
         Files.walkFileTree(sourcePath, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
-                Integer.MAX_VALUE, new CopyDirectory(sourcePath, destinationPath));
+                Integer.MAX_VALUE, new CopyDirectory(sourcePath, destinationPath, FilePublisher.forEnvironment(environmentVariables)) {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                        FileVisitResult result = super.visitFile(file, attributes);
+                        ReportExecutor.recordProgress();
+                        return result;
+                    }
+                });
 
     }
 
+    /**
+     * The number of files in the test results directory, which are all copied to the output directory.
+     */
+    protected long countTestResultFiles() {
+        String[] testResultFiles = getSourceDirectoryOrDefault().list();
+        return (testResultFiles == null) ? 0 : testResultFiles.length;
+    }
+
     private File getSourceDirectoryOrDefault() {
         String source = (getSourceDirectory() != null) ? getSourceDirectory().getAbsolutePath() : DEFAULT_SOURCE_DIR;
         return new File(source);
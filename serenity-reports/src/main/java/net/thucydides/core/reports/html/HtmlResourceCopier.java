@@ -1,20 +1,41 @@
 package net.thucydides.core.reports.html;
 
+import net.thucydides.core.reports.NumberOfThreads;
 import net.thucydides.core.resources.FileResources;
 import net.thucydides.core.resources.ResourceList;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Utility class that copies HTML resource files (images, stylesheets...) from a JAR to a target directory.
  */
 public class HtmlResourceCopier {
 
+    private static final Map<String, Optional<ReportResourceManifest>> MANIFESTS = new ConcurrentHashMap<>();
+    private static final Map<Path, Object> TARGET_DIRECTORY_LOCKS = new ConcurrentHashMap<>();
+
     private String resourceDirectory;
     private Pattern resourcePattern;
 
@@ -28,9 +49,18 @@ public class HtmlResourceCopier {
      * Resources (stylesheets, images) etc are all stored in the
      * src/main/resources/reports directory. When the jar is deployed, they will
      * end up on the classpath.
+     * If the resources come with a manifest, only the assets that are missing or different in the target directory are copied,
+     * and the digest of the manifest is recorded in the target directory so that the assets are not checked again.
+     * Otherwise the classpath is scanned for resources, and they are copied once to a given directory.
      */
     public void to(final File targetDirectory) throws IOException {
 
+        Optional<ReportResourceManifest> manifest = manifestFor(resourceDirectory);
+        if (manifest.isPresent()) {
+            copyAssetsListedIn(manifest.get(), targetDirectory.toPath());
+            return;
+        }
+
         if (resourceFilesAreAlreadyPresentIn(targetDirectory)) {
             return;
         }
@@ -49,6 +79,109 @@ public class HtmlResourceCopier {
         }
     }
 
+    /**
+     * The paths of the resources that are copied to the target directory, relative to the target directory,
+     * if the resources come with a manifest. Without a manifest, the resources are not known until they are copied.
+     */
+    public List<String> listedResources() throws IOException {
+        return manifestFor(resourceDirectory)
+                .map(manifest -> manifest.getAssets().stream().map(ReportResourceManifest.Asset::getPath).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * The manifest is read from the classpath once, rather than for every report.
+     */
+    private Optional<ReportResourceManifest> manifestFor(String resourceDirectory) throws IOException {
+        try {
+            return MANIFESTS.computeIfAbsent(resourceDirectory, directory -> {
+                try {
+                    return ReportResourceManifest.in(directory, getClass().getClassLoader());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void copyAssetsListedIn(ReportResourceManifest manifest, Path targetDirectory) throws IOException {
+        if (assetsAreRecordedIn(targetDirectory, manifest)) {
+            return;
+        }
+        synchronized (lockFor(targetDirectory)) {
+            if (!assetsAreRecordedIn(targetDirectory, manifest)) {
+                copyAssetsTo(targetDirectory, manifest);
+                recordAssetsIn(targetDirectory, manifest);
+            }
+        }
+    }
+
+    private Object lockFor(Path targetDirectory) {
+        return TARGET_DIRECTORY_LOCKS.computeIfAbsent(targetDirectory.toAbsolutePath().normalize(), directory -> new Object());
+    }
+
+    private boolean assetsAreRecordedIn(Path targetDirectory, ReportResourceManifest manifest) throws IOException {
+        try {
+            String recordedDigest = new String(Files.readAllBytes(resourceMarkerIn(targetDirectory.toFile())), StandardCharsets.UTF_8);
+            return recordedDigest.trim().equals(manifest.getDigest());
+        } catch (NoSuchFileException notCopiedYet) {
+            return false;
+        }
+    }
+
+    private void recordAssetsIn(Path targetDirectory, ReportResourceManifest manifest) throws IOException {
+        Files.createDirectories(targetDirectory);
+        Path marker = resourceMarkerIn(targetDirectory.toFile());
+        Path temporaryMarker = Files.createTempFile(targetDirectory, marker.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporaryMarker, manifest.getDigest().getBytes(StandardCharsets.UTF_8));
+            Files.move(temporaryMarker, marker, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryMarker);
+        }
+    }
+
+    private void copyAssetsTo(Path targetDirectory, ReportResourceManifest manifest) throws IOException {
+        List<Callable<Void>> assetCopiers = new ArrayList<>();
+        for (ReportResourceManifest.Asset asset : manifest.getAssets()) {
+            assetCopiers.add(() -> {
+                copyAsset(asset, targetDirectory.resolve(asset.getPath()));
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> copiedAsset : AssetCopiers.POOL.invokeAll(assetCopiers)) {
+                copiedAsset.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while copying the report resources", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not copy the report resources to " + targetDirectory, e.getCause());
+        }
+    }
+
+    private static class AssetCopiers {
+        private static final ForkJoinPool POOL = new ForkJoinPool(NumberOfThreads.forIOOperations());
+    }
+
+    private void copyAsset(ReportResourceManifest.Asset asset, Path targetFile) throws IOException {
+        if (asset.isAlreadyIn(targetFile)) {
+            return;
+        }
+        Files.createDirectories(targetFile.getParent());
+        String assetResource = resourceDirectory + "/" + asset.getPath();
+        try (InputStream assetContent = getClass().getClassLoader().getResourceAsStream(assetResource)) {
+            if (assetContent == null) {
+                throw new FileNotFoundException("Report resource not found on the classpath: " + assetResource);
+            }
+            Files.copy(assetContent, targetFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     private void recordResourceMarkerIn(File targetDirectory) throws IOException {
         Files.createDirectories(targetDirectory.toPath());
         resourceMarkerIn(targetDirectory).toFile().createNewFile();
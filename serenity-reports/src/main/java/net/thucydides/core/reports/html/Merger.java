@@ -3,8 +3,22 @@ package net.thucydides.core.reports.html;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.reports.templates.TemplateManager;
 
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 public class Merger {
     final String templateFile;
@@ -39,6 +53,66 @@ public class Merger {
                 throw new RuntimeException("Failed to merge template: " + e.getMessage(), e);
             }
         }
+
+        /**
+         * Merge the template into the page, writing it as described in writePage().
+         */
+        public void toFile(Path page) throws IOException {
+            writePage(page, this::to);
+        }
+    }
+
+    interface PageContents {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Write a report file into a temporary file next to it, then move it into place.
+     * A page is never seen half-written, and an existing page is replaced rather than written through,
+     * so any other links to the old file keep their contents.
+     * The temporary file is created like any other file, so the page can be read by whoever can read the rest
+     * of the report.
+     */
+    static void writePage(Path page, PageContents contents) throws IOException {
+        Path temporaryPage = page.resolveSibling(page.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (BufferedWriter writer = new BufferedWriter(new ProgressRecordingWriter(
+                    new OutputStreamWriter(Files.newOutputStream(temporaryPage, CREATE_NEW, WRITE), StandardCharsets.UTF_8)))) {
+                contents.writeTo(writer);
+            }
+            moveIntoPlace(temporaryPage, page);
+        } finally {
+            Files.deleteIfExists(temporaryPage);
+        }
     }
 
+    /**
+     * Shows that the reporting task is still making progress each time a block of the page is written,
+     * so that a large page that takes a long time to write is not taken for a stalled report.
+     */
+    private static class ProgressRecordingWriter extends FilterWriter {
+        ProgressRecordingWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            super.write(buffer, offset, length);
+            ReportExecutor.recordProgress();
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            super.write(text, offset, length);
+            ReportExecutor.recordProgress();
+        }
+    }
+
+    private static void moveIntoPlace(Path temporaryPage, Path page) throws IOException {
+        try {
+            Files.move(temporaryPage, page, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException atomicMovesNotSupported) {
+            Files.move(temporaryPage, page, REPLACE_EXISTING);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a JSON index of the distinct nested tag reports, so that they can be listed and filtered in the browser
+ * without loading each report page. Each test is listed once, and each report refers to its tests by their
+ * position in that list.
+ */
+class NestedTagIndexReportingTask extends BaseReportingTask {
+
+    static final String NESTED_TAG_INDEX = "nested-tag-reports.json";
+
+    private final TestOutcomes testOutcomes;
+    private final List<NestedTagReports.NestedTagReport> nestedTagReports;
+    private final SharedCSVReports sharedCSVReports;
+
+    NestedTagIndexReportingTask(FreemarkerContext freemarker,
+                                EnvironmentVariables environmentVariables,
+                                File outputDirectory,
+                                TestOutcomes testOutcomes,
+                                List<NestedTagReports.NestedTagReport> nestedTagReports,
+                                SharedCSVReports sharedCSVReports) {
+        super(freemarker, environmentVariables, outputDirectory);
+        this.testOutcomes = testOutcomes;
+        this.nestedTagReports = nestedTagReports;
+        this.sharedCSVReports = sharedCSVReports;
+    }
+
+    @Override
+    public void generateReports() throws IOException {
+        Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+        NestedTagIndex index = indexOf(testOutcomes, nestedTagReports);
+        Merger.writePage(outputDirectory.toPath().resolve(NESTED_TAG_INDEX), writer -> gson.toJson(index, writer));
+    }
+
+    @Override
+    public long estimatedCost() {
+        return nestedTagReports.size();
+    }
+
+    NestedTagIndex indexOf(TestOutcomes testOutcomes, List<NestedTagReports.NestedTagReport> nestedTagReports) {
+        NestedTagIndex index = new NestedTagIndex();
+        Map<TestOutcome, Integer> testPositions = new IdentityHashMap<>();
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            testPositions.put(outcome, index.tests.size());
+            index.tests.add(new IndexedTest(outcome));
+        }
+        for (NestedTagReports.NestedTagReport report : nestedTagReports) {
+            index.reports.add(new IndexedReport(report, sharedCSVReports.reportNameFor(report.getReportedOutcomes()), testPositions));
+        }
+        return index;
+    }
+
+    static class NestedTagIndex {
+        final List<IndexedTest> tests = new ArrayList<>();
+        final List<IndexedReport> reports = new ArrayList<>();
+    }
+
+    static class IndexedTest {
+        final String id;
+        final String title;
+        final String result;
+        final String report;
+
+        IndexedTest(TestOutcome outcome) {
+            this.id = outcome.getId();
+            this.title = outcome.getTitle();
+            this.result = outcome.getResult().name();
+            this.report = outcome.getHtmlReport();
+        }
+    }
+
+    static class IndexedReport {
+        final IndexedTag tag;
+        final List<IndexedTag> within;
+        final String report;
+        final String csv;
+        final List<Integer> tests;
+
+        IndexedReport(NestedTagReports.NestedTagReport nestedTagReport, String csv, Map<TestOutcome, Integer> testPositions) {
+            this.tag = new IndexedTag(nestedTagReport.getTag());
+            this.within = nestedTagReport.getOuterTags().stream().map(IndexedTag::new).collect(Collectors.toList());
+            this.report = nestedTagReport.getReportName();
+            this.csv = csv;
+            this.tests = nestedTagReport.getReportedOutcomes().getOutcomes().stream()
+                    .map(testPositions::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static class IndexedTag {
+        final String name;
+        final String type;
+
+        IndexedTag(TestTag tag) {
+            this.name = tag.getName();
+            this.type = tag.getType();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Nested tag report index";
+    }
+}
@@ -0,0 +1,129 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Plans the nested tag reports, which show the tests for a tag within the context of another tag.
+ * <p>
+ * Reports are only planned for the tags that appear in the tests of the outer tag. Many of them list exactly
+ * the same tests for the same tag, for example when two outer tags are always used together: each distinct report
+ * is generated once, in the context of the first outer tag that shows it, and the reports for the other outer tags
+ * redirect to it. The distinct reports are listed, with their tests, in a JSON index (see NestedTagIndexReportingTask).
+ */
+class NestedTagReports {
+
+    private final TestOutcomes testOutcomes;
+
+    NestedTagReports(TestOutcomes testOutcomes) {
+        this.testOutcomes = testOutcomes;
+    }
+
+    static NestedTagReports nestedTagReportsFor(TestOutcomes testOutcomes) {
+        return new NestedTagReports(testOutcomes);
+    }
+
+    /**
+     * One distinct nested tag report, along with the other contexts in which it would be shown.
+     */
+    static class NestedTagReport {
+        private final TestTag tag;
+        private final TestTag outerTag;
+        private final TestOutcomes outcomesForOuterTag;
+        private final TestOutcomes reportedOutcomes;
+        private final ReportNameProvider reportNameProvider;
+        private final List<TestTag> otherOuterTags = new ArrayList<>();
+        private final List<ReportNameProvider> otherContexts = new ArrayList<>();
+
+        NestedTagReport(TestTag tag, TestTag outerTag, TestOutcomes outcomesForOuterTag, TestOutcomes reportedOutcomes,
+                        ReportNameProvider reportNameProvider) {
+            this.tag = tag;
+            this.outerTag = outerTag;
+            this.outcomesForOuterTag = outcomesForOuterTag;
+            this.reportedOutcomes = reportedOutcomes;
+            this.reportNameProvider = reportNameProvider;
+        }
+
+        void alsoShownWithin(TestTag otherOuterTag, ReportNameProvider otherContext) {
+            otherOuterTags.add(otherOuterTag);
+            otherContexts.add(otherContext);
+        }
+
+        TestTag getTag() {
+            return tag;
+        }
+
+        List<TestTag> getOuterTags() {
+            List<TestTag> outerTags = new ArrayList<>();
+            outerTags.add(outerTag);
+            outerTags.addAll(otherOuterTags);
+            return outerTags;
+        }
+
+        TestOutcomes getReportedOutcomes() {
+            return reportedOutcomes;
+        }
+
+        String getReportName() {
+            return reportNameProvider.forTag(tag);
+        }
+    }
+
+    List<NestedTagReport> distinctReports(ReportNameProvider reportNameProvider, List<String> knownRequirementReportNames) {
+        Map<String, NestedTagReport> reportsByContents = new LinkedHashMap<>();
+
+        for (TestTag outerTag : testOutcomes.getTags()) {
+            TestOutcomes outcomesForOuterTag = testOutcomes.withTag(outerTag);
+            ReportNameProvider reportNamesInContext = reportNameProvider.inContext(outerTag.getCompleteName());
+
+            for (TestTag tag : TagReportingTask.tagsReportedIn(outcomesForOuterTag)) {
+                if (knownRequirementReportNames.contains(reportNamesInContext.forTag(tag))) {
+                    continue;
+                }
+                TestOutcomes reportedOutcomes = outcomesForOuterTag.withTag(tag);
+                String contents = tag.getCompleteName() + ":" + SharedCSVReports.digestOfTestsIn(reportedOutcomes);
+
+                NestedTagReport report = reportsByContents.get(contents);
+                if (report == null) {
+                    reportsByContents.put(contents,
+                            new NestedTagReport(tag, outerTag, outcomesForOuterTag, reportedOutcomes, reportNamesInContext));
+                } else {
+                    report.alsoShownWithin(outerTag, reportNamesInContext);
+                }
+            }
+        }
+        return new ArrayList<>(reportsByContents.values());
+    }
+
+    Set<ReportingTask> using(final FreemarkerContext freemarker,
+                             final EnvironmentVariables environmentVariables,
+                             final File outputDirectory,
+                             final ReportNameProvider reportNameProvider,
+                             final List<String> knownRequirementReportNames) {
+
+        SharedCSVReports sharedCSVReports = new SharedCSVReports();
+        List<TestTag> allTags = testOutcomes.getTags();
+        List<NestedTagReport> distinctReports = distinctReports(reportNameProvider, knownRequirementReportNames);
+
+        Set<ReportingTask> reportingTasks = new HashSet<>();
+        for (NestedTagReport report : distinctReports) {
+            reportingTasks.add(new TagReportingTask(freemarker.withParentTag(report.outerTag),
+                                                    environmentVariables,
+                                                    outputDirectory,
+                                                    report.reportNameProvider,
+                                                    report.getReportName(),
+                                                    report.tag,
+                                                    allTags,
+                                                    report.outcomesForOuterTag,
+                                                    Optional.of(sharedCSVReports),
+                                                    report.otherContexts));
+        }
+        reportingTasks.add(new NestedTagIndexReportingTask(freemarker, environmentVariables, outputDirectory,
+                                                           testOutcomes, distinctReports, sharedCSVReports));
+        return reportingTasks;
+    }
+}
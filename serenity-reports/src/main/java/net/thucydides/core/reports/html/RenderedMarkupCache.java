@@ -0,0 +1,84 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Rendered markdown and asciidoc text, shared by all the threads generating the HTML reports.
+ * The same narratives, requirement descriptions and step titles appear on many report pages,
+ * so each piece of text is only rendered once for a given markup type and renderer.
+ */
+class RenderedMarkupCache {
+
+    enum MarkupType {MARKDOWN, ASCIIDOC}
+
+    private static final long MAX_SIZE = 10000;
+
+    private static final RenderedMarkupCache SHARED_CACHE = new RenderedMarkupCache(MAX_SIZE);
+
+    private final Cache<RenderedText, String> renderedText;
+
+    RenderedMarkupCache(long maximumSize) {
+        this.renderedText = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    static RenderedMarkupCache sharedCache() {
+        return SHARED_CACHE;
+    }
+
+    /**
+     * @param renderer the object that does the rendering, such as the injected MarkupRenderer, so that text
+     *                 rendered by different renderers of the same markup type is cached separately
+     */
+    String rendered(MarkupType type, Object renderer, String text, Function<String, String> rendering) {
+        if (text == null) {
+            return rendering.apply(null);
+        }
+        try {
+            return renderedText.get(new RenderedText(type, renderer, text), () -> rendering.apply(text));
+        } catch (ExecutionException | UncheckedExecutionException renderingFailed) {
+            Throwables.throwIfUnchecked(renderingFailed.getCause());
+            throw new IllegalStateException("Could not render " + type + " text", renderingFailed.getCause());
+        }
+    }
+
+    long size() {
+        return renderedText.size();
+    }
+
+    void clear() {
+        renderedText.invalidateAll();
+    }
+
+    private static class RenderedText {
+        private final MarkupType type;
+        private final Object renderer;
+        private final String text;
+        private final int hash;
+
+        private RenderedText(MarkupType type, Object renderer, String text) {
+            this.type = type;
+            this.renderer = renderer;
+            this.text = text;
+            this.hash = 31 * (31 * type.hashCode() + System.identityHashCode(renderer)) + text.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof RenderedText)) return false;
+            RenderedText that = (RenderedText) other;
+            return hash == that.hash && type == that.type && renderer == that.renderer && text.equals(that.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -10,6 +10,11 @@ import java.util.concurrent.Callable;
 
 class ReportExecutor implements Callable<Void> {
     private final ReportingTask reportingTask;
+    private final long estimatedCost;
+    private volatile boolean started;
+    private volatile long lastProgressTime;
+
+    private static final ThreadLocal<ReportExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(ReportExecutor.class);
 
@@ -17,23 +22,58 @@ class ReportExecutor implements Callable<Void> {
 
     public ReportExecutor(ReportingTask reportingTask) {
         this.reportingTask = reportingTask;
+        this.estimatedCost = reportingTask.estimatedCost();
     }
 
     public ReportingTask getReportingTask() {
         return reportingTask;
     }
 
+    public long getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public boolean hasStarted() {
+        return started;
+    }
+
+    /**
+     * When this task last showed that it was still making progress (as a System.nanoTime() value),
+     * either by starting or by writing some of its reports.
+     */
+    public long getLastProgressTime() {
+        return lastProgressTime;
+    }
+
+    /**
+     * Called while a report is being written, to show that the reporting task running in this thread
+     * is still making progress rather than being stuck.
+     */
+    static void recordProgress() {
+        ReportExecutor currentExecutor = CURRENT_EXECUTOR.get();
+        if (currentExecutor != null) {
+            currentExecutor.lastProgressTime = System.nanoTime();
+        }
+    }
+
     @Override
     public Void call() throws Exception {
-        Stopwatch reportingStopwatch = Stopwatch.started();
-        if (verboseReporting()) {
-            LOGGER.info("Generating report {}...", reportingTask);
-        }
-        reportingTask.generateReports();
-        if (verboseReporting()) {
-            LOGGER.info("Report {} generated in {} ms", reportingTask, reportingStopwatch.stop());
+        lastProgressTime = System.nanoTime();
+        started = true;
+        CURRENT_EXECUTOR.set(this);
+        try {
+            Stopwatch reportingStopwatch = Stopwatch.started();
+            if (verboseReporting()) {
+                LOGGER.info("Generating report {}...", reportingTask);
+            }
+            reportingTask.generateReports();
+            if (verboseReporting()) {
+                LOGGER.info("Report {} generated in {} ms", reportingTask, reportingStopwatch.stop());
+            }
+            return null;
+        } finally {
+            CURRENT_EXECUTOR.remove();
         }
-        return null;
     }
 
     private Boolean verboseReporting() {
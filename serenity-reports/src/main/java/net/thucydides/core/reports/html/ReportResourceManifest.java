@@ -0,0 +1,103 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The list of report assets generated when the report resources are built.
+ * Each line holds the SHA-256 hash, the size in bytes and the path of an asset, relative to the resource directory.
+ * The digest of the manifest itself identifies this set of assets as a whole.
+ */
+class ReportResourceManifest {
+
+    static final String MANIFEST_NAME = "resources.manifest";
+
+    private final List<Asset> assets;
+    private final String digest;
+
+    private ReportResourceManifest(List<Asset> assets, String digest) {
+        this.assets = Collections.unmodifiableList(assets);
+        this.digest = digest;
+    }
+
+    static Optional<ReportResourceManifest> in(String resourceDirectory, ClassLoader classLoader) throws IOException {
+        try (InputStream manifest = classLoader.getResourceAsStream(resourceDirectory + "/" + MANIFEST_NAME)) {
+            if (manifest == null) {
+                return Optional.empty();
+            }
+            byte[] manifestContent = ByteStreams.toByteArray(manifest);
+            return Optional.of(new ReportResourceManifest(assetsListedIn(manifestContent),
+                                                          Hashing.sha256().hashBytes(manifestContent).toString()));
+        }
+    }
+
+    private static List<Asset> assetsListedIn(byte[] manifest) throws IOException {
+        List<Asset> assets = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(manifest), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                assets.add(Asset.from(line));
+            }
+        }
+        return assets;
+    }
+
+    List<Asset> getAssets() {
+        return assets;
+    }
+
+    String getDigest() {
+        return digest;
+    }
+
+    static class Asset {
+        private final String hash;
+        private final long size;
+        private final String path;
+
+        private Asset(String hash, long size, String path) {
+            this.hash = hash;
+            this.size = size;
+            this.path = path;
+        }
+
+        private static Asset from(String manifestLine) {
+            String[] fields = manifestLine.split(" ", 3);
+            if (fields.length != 3) {
+                throw new IllegalStateException("Invalid report resource manifest entry: " + manifestLine);
+            }
+            return new Asset(fields[0], Long.parseLong(fields[1]), fields[2]);
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        /**
+         * The hash is only calculated when the sizes match, so most changed assets are spotted without reading them.
+         */
+        boolean isAlreadyIn(Path targetFile) throws IOException {
+            try {
+                return Files.size(targetFile) == size
+                        && com.google.common.io.Files.asByteSource(targetFile.toFile()).hash(Hashing.sha256()).toString().equals(hash);
+            } catch (NoSuchFileException notCopiedYet) {
+                return false;
+            }
+        }
+    }
+}
@@ -14,51 +14,74 @@ import java.util.stream.*;
 class Reporter {
 
     private static final TimeoutValue DEFAULT_TIMEOUT = new TimeoutValue(30, TimeUnit.SECONDS);
+    private static final long MAXIMUM_CHECK_INTERVAL_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HtmlAggregateStoryReporter.class);
 
     private final Collection<ReportingTask> reportingTasks;
 
-    private final EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+    private final EnvironmentVariables environmentVariables;
 
     private Reporter(Collection<ReportingTask> reportingTasks) {
+        this(reportingTasks, Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    Reporter(Collection<ReportingTask> reportingTasks, EnvironmentVariables environmentVariables) {
         this.reportingTasks = reportingTasks;
+        this.environmentVariables = environmentVariables;
     }
 
     public static void generateReportsFor(Collection<ReportingTask> reportingTasks) {
         new Reporter(reportingTasks).generateReports();
     }
 
-    private void generateReports() {
+    void generateReports() {
         Stopwatch stopwatch = Stopwatch.started();
 
         ExecutorService executorPool = Executors.newFixedThreadPool(NumberOfThreads.forIOOperations());
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executorPool);
 
         ErrorTally errorTally = new ErrorTally();
         try {
-            final List<ReportExecutor> partitions
-                    = reportingTasks.stream()
-                    .map(ReportExecutor::new)
-                    .collect(Collectors.toList());
+            final List<ReportExecutor> partitions = inDecreasingOrderOfCost(reportingTasks);
 
-            final List<ReportExecutorFuture> futures
-                    = partitions.stream()
-                    .map( partition -> new ReportExecutorFuture(executorPool.submit(partition), partition.getReportingTask()) )
-                    .collect(Collectors.toList());
+            final Map<Future<Void>, ReportExecutorFuture> unfinishedTasks = new HashMap<>();
+            for (ReportExecutor partition : partitions) {
+                Future<Void> future = completionService.submit(partition);
+                unfinishedTasks.put(future, new ReportExecutorFuture(future, partition));
+            }
 
             final TimeoutValue timeout = TimeoutConfiguration.from(environmentVariables).forProperty("report.timeout", DEFAULT_TIMEOUT);
+            final long timeoutInNanos = timeout.getUnit().toNanos(timeout.getTimeout());
+            final long checkIntervalInNanos = Math.max(1, Math.min(timeoutInNanos / 4, MAXIMUM_CHECK_INTERVAL_IN_NANOS));
 
-            for (ReportExecutorFuture executedTask : futures) {
+            long lastCompletionTime = System.nanoTime();
+            while (!unfinishedTasks.isEmpty()) {
+                Future<Void> finishedTask;
                 try {
-                    executedTask.getFuture().get(timeout.getTimeout(), timeout.getUnit());
-                } catch (TimeoutException reportGenerationTimedOut) {
-                    String errorMessage = reportFailureMessage("Report generation timed out", executedTask, reportGenerationTimedOut);
-                    errorTally.recordReportFailure(errorMessage);
-                    LOGGER.warn(errorMessage);
+                    finishedTask = completionService.poll(checkIntervalInNanos, TimeUnit.NANOSECONDS);
                 } catch (InterruptedException reportGenerationInterrupted) {
-                    String errorMessage = reportFailureMessage("Report generation interrupted", executedTask, reportGenerationInterrupted);
-                    errorTally.recordReportFailure(errorMessage);
-                    LOGGER.warn(errorMessage);
+                    for (ReportExecutorFuture executedTask : unfinishedTasks.values()) {
+                        String errorMessage = reportFailureMessage("Report generation interrupted", executedTask, reportGenerationInterrupted);
+                        errorTally.recordReportFailure(errorMessage);
+                        LOGGER.warn(errorMessage);
+                    }
+                    cancel(unfinishedTasks.values());
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (finishedTask == null) {
+                    if (System.nanoTime() - lastActivity(unfinishedTasks.values(), lastCompletionTime) < timeoutInNanos) {
+                        continue;
+                    }
+                    recordStalledTasks(unfinishedTasks.values(), timeout, errorTally);
+                    cancel(unfinishedTasks.values());
+                    break;
+                }
+                lastCompletionTime = System.nanoTime();
+                ReportExecutorFuture executedTask = unfinishedTasks.remove(finishedTask);
+                try {
+                    finishedTask.get();
                 } catch (ExecutionException reportGenerationFailed) {
                     String errorMessage = reportFailureMessage("Failed to generate report", executedTask, reportGenerationFailed);
                     errorTally.recordReportFailure(errorMessage);
@@ -68,7 +91,7 @@ class Reporter {
         } catch (Exception e) {
             LOGGER.error("Report generation failed", e);
         } finally {
-            executorPool.shutdown();
+            executorPool.shutdownNow();
         }
 
         LOGGER.debug("Test outcome reports generated in {} ms", stopwatch.stop());
@@ -82,6 +105,54 @@ class Reporter {
 
     }
 
+    /**
+     * The most expensive tasks are started first, so that the cheap ones can fill in the gaps at the end,
+     * rather than a large task starting last and running on its own.
+     */
+    static List<ReportExecutor> inDecreasingOrderOfCost(Collection<ReportingTask> reportingTasks) {
+        return reportingTasks.stream()
+                .map(ReportExecutor::new)
+                .sorted(Comparator.comparingLong(ReportExecutor::getEstimatedCost).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The report timeout applies to the report generation as a whole: it only gives up when no report has been
+     * completed, and no running report has written anything (see ReportExecutor.recordProgress()), within the timeout.
+     * A large report that is still being written is not abandoned, even once it is the only one left.
+     */
+    private long lastActivity(Collection<ReportExecutorFuture> unfinishedTasks, long lastCompletionTime) {
+        return unfinishedTasks.stream()
+                .filter(ReportExecutorFuture::hasStarted)
+                .mapToLong(ReportExecutorFuture::getLastProgressTime)
+                .reduce(lastCompletionTime, (latest, progressTime) -> (progressTime - latest > 0) ? progressTime : latest);
+    }
+
+    private void recordStalledTasks(Collection<ReportExecutorFuture> unfinishedTasks, TimeoutValue timeout, ErrorTally errorTally) {
+        long unstartedTasks = unfinishedTasks.stream().filter(task -> !task.hasStarted()).count();
+        for (ReportExecutorFuture executedTask : unfinishedTasks) {
+            if (executedTask.hasStarted()) {
+                String errorMessage = String.format("Report generation timed out for %s - no report made any progress in the last %d %s",
+                                                    executedTask, timeout.getTimeout(), timeout.getUnit().toString().toLowerCase());
+                errorTally.recordReportFailure(errorMessage);
+                LOGGER.warn(errorMessage);
+            }
+        }
+        if (unstartedTasks > 0) {
+            String errorMessage = String.format("%d reports were not generated because report generation timed out", unstartedTasks);
+            errorTally.recordReportFailure(errorMessage);
+            LOGGER.warn(errorMessage);
+        }
+    }
+
+    /**
+     * Once we have given up on the remaining reports, the reports that have not started yet are not generated,
+     * and the ones that are still running are interrupted, rather than being left to run on in the background.
+     */
+    private void cancel(Collection<ReportExecutorFuture> unfinishedTasks) {
+        unfinishedTasks.forEach(task -> task.getFuture().cancel(true));
+    }
+
     private boolean showThreaddumpOnReportTimeout() {
         return environmentVariables.getPropertyAsBoolean("report.timeout.threaddumps", false);
     }
@@ -140,18 +211,22 @@ class Reporter {
     }
     static class ReportExecutorFuture {
         private final Future<Void> future;
-        private final ReportingTask reportTask;
+        private final ReportExecutor reportExecutor;
 
-        ReportExecutorFuture(Future<Void> future, ReportingTask reportTask) {
+        ReportExecutorFuture(Future<Void> future, ReportExecutor reportExecutor) {
             this.future = future;
-            this.reportTask = reportTask;
+            this.reportExecutor = reportExecutor;
         }
 
         Future<Void> getFuture() { return future; }
 
+        boolean hasStarted() { return reportExecutor.hasStarted(); }
+
+        long getLastProgressTime() { return reportExecutor.getLastProgressTime(); }
+
         @Override
         public String toString() {
-            return reportTask.toString();
+            return reportExecutor.getReportingTask().toString();
         }
     }
 }
@@ -4,4 +4,12 @@ import java.io.IOException;
 
 public interface ReportingTask {
     void generateReports() throws IOException;
+
+    /**
+     * A rough measure of the work this task does, usually the number of test outcomes it reports on.
+     * The most expensive tasks are started first, so that they do not hold up the end of the report generation.
+     */
+    default long estimatedCost() {
+        return 1;
+    }
 }
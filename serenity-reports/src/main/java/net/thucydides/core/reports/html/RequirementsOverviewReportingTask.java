@@ -103,6 +103,11 @@ class RequirementsOverviewReportingTask extends BaseReportingTask implements Rep
         }
     }
 
+    @Override
+    public long estimatedCost() {
+        return requirementsOutcomes.getTestOutcomes().getOutcomes().size();
+    }
+
     @Override
     public String toString() {
         return "Requirements report " + reportName;
@@ -62,6 +62,11 @@ class RequirementsTypeReportingTask extends BaseReportingTask implements Reporti
 
     }
 
+    @Override
+    public long estimatedCost() {
+        return requirementsOutcomes.getTestOutcomes().getOutcomes().size();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -54,6 +54,11 @@ public class ResultReportingTask extends BaseReportingTask implements ReportingT
         generateCSVReportFor(testOutcomes, csvReport);
     }
 
+    @Override
+    public long estimatedCost() {
+        return testOutcomes.getOutcomes().size();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,67 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.core.digest.Digest;
+import net.thucydides.core.model.ReportNamer;
+import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.TestOutcomes;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * CSV exports shared by the nested tag reports (the reports for a tag within the context of another tag).
+ * Many nested tag reports list exactly the same tests, for example when two tags are always used together,
+ * so each distinct set of tests is exported once, under a name derived from the tests it contains,
+ * and every report listing those tests links to the same file.
+ */
+class SharedCSVReports {
+
+    private final ReportNamer csvReportNamer = ReportNamer.forReportType(ReportType.CSV);
+    private final Set<String> exportedReports = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Object> exportLocks = new ConcurrentHashMap<>();
+
+    interface CSVExport {
+        void writeTo(String reportName) throws IOException;
+    }
+
+    String reportNameFor(TestOutcomes testOutcomes) {
+        return csvReportNamer.getNormalizedTestNameFor("tests_" + digestOfTestsIn(testOutcomes));
+    }
+
+    /**
+     * A digest of the tests, which is the same for any two sets of outcomes containing the same tests.
+     * Tests are identified by their name as well as their id, as outcomes stored in older formats have no id.
+     */
+    static String digestOfTestsIn(TestOutcomes testOutcomes) {
+        String testIds = testOutcomes.getOutcomes().stream()
+                .map(outcome -> outcome.getQualifiedId() + ":" + outcome.getName())
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return Digest.ofTextValue(testIds);
+    }
+
+    /**
+     * Write the report unless it has already been written. A report only counts as exported once it has been
+     * written successfully: if the export fails, the next report listing the same tests tries again.
+     * Reports listing the same tests wait while another thread is writing their report.
+     */
+    void exportOnce(String reportName, CSVExport export) throws IOException {
+        if (exportedReports.contains(reportName)) {
+            return;
+        }
+        synchronized (exportLocks.computeIfAbsent(reportName, name -> new Object())) {
+            if (!exportedReports.contains(reportName)) {
+                export.writeTo(reportName);
+                exportedReports.add(reportName);
+            }
+        }
+    }
+
+    int exportedReportCount() {
+        return exportedReports.size();
+    }
+}
@@ -24,6 +24,8 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
     private final List<TestTag> allTags;
     private final TestOutcomes testOutcomes;
     private final String reportName;
+    private final Optional<SharedCSVReports> sharedCSVReports;
+    private final List<ReportNameProvider> alsoReportedIn;
 
     TagReportingTask(final FreemarkerContext freemarker,
                                final EnvironmentVariables environmentVariables,
@@ -32,13 +34,39 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
                                final String reportName,
                                final TestTag tag,
                                final List<TestTag> allTags,
-                               final TestOutcomes testOutcomes) {
+                               final TestOutcomes testOutcomes,
+                               final Optional<SharedCSVReports> sharedCSVReports) {
+        this(freemarker, environmentVariables, outputDirectory, reportNameProvider, reportName, tag, allTags, testOutcomes,
+             sharedCSVReports, new ArrayList<>());
+    }
+
+    /**
+     * @param alsoReportedIn other contexts in which the report for this tag would list exactly the same tests:
+     *                       their reports redirect to this one rather than being generated again
+     */
+    TagReportingTask(final FreemarkerContext freemarker,
+                     final EnvironmentVariables environmentVariables,
+                     final File outputDirectory,
+                     final ReportNameProvider reportNameProvider,
+                     final String reportName,
+                     final TestTag tag,
+                     final List<TestTag> allTags,
+                     final TestOutcomes testOutcomes,
+                     final Optional<SharedCSVReports> sharedCSVReports,
+                     final List<ReportNameProvider> alsoReportedIn) {
         super(freemarker, environmentVariables, outputDirectory);
         this.reportNameProvider = reportNameProvider;
         this.tag = tag;
         this.allTags = allTags;
         this.testOutcomes = testOutcomes;
         this.reportName = reportName;
+        this.sharedCSVReports = sharedCSVReports;
+        this.alsoReportedIn = alsoReportedIn;
+    }
+
+    @Override
+    public long estimatedCost() {
+        return testOutcomes.getOutcomes().size();
     }
 
     @Override
@@ -75,18 +103,45 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
         context.put("currentTagType", tag.getType());
         context.put("currentTag", tag);
 
-        String csvReport = reportNameProvider.forCSVFiles().forTag(tag);
+        String csvReport = csvReportNameFor(testOutcomesForTag, tag);
         context.put("csvReport", csvReport);
 
         context.put("breadcrumbs", Breadcrumbs.forRequirementsTag(tag).fromTagsIn(allTags));
 
         generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, reportName);
-        generateCSVReportFor(testOutcomesForTag, csvReport);
+        exportCSVReport(testOutcomesForTag, csvReport);
 
         String linkableReport = reportNameProvider.inLinkableForm().forTag(tag);
         if (!linkableReport.equals(reportName) && shouldGenerateLinkableReportsFor(tag, reportNameProvider)) {
             generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, linkableReport);
         }
+
+        for (ReportNameProvider otherContext : alsoReportedIn) {
+            generateRedirectsToThisReportFrom(otherContext);
+        }
+    }
+
+    private void generateRedirectsToThisReportFrom(ReportNameProvider otherContext) throws IOException {
+        String otherReport = otherContext.forTag(tag);
+        generateRedirectPage(otherReport, reportName);
+
+        String otherLinkableReport = otherContext.inLinkableForm().forTag(tag);
+        if (!otherLinkableReport.equals(otherReport) && shouldGenerateLinkableReportsFor(tag, otherContext)) {
+            generateRedirectPage(otherLinkableReport, reportName);
+        }
+    }
+
+    private String csvReportNameFor(TestOutcomes testOutcomesForTag, TestTag tag) {
+        return sharedCSVReports.map(sharedReports -> sharedReports.reportNameFor(testOutcomesForTag))
+                               .orElseGet(() -> reportNameProvider.forCSVFiles().forTag(tag));
+    }
+
+    private void exportCSVReport(TestOutcomes testOutcomesForTag, String csvReport) throws IOException {
+        if (sharedCSVReports.isPresent()) {
+            sharedCSVReports.get().exportOnce(csvReport, reportName -> generateCSVReportFor(testOutcomesForTag, reportName));
+        } else {
+            generateCSVReportFor(testOutcomesForTag, csvReport);
+        }
     }
 
     private boolean shouldGenerateLinkableReportsFor(TestTag tag, ReportNameProvider reportName) {
@@ -114,11 +169,23 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
         return "TagReportingTask for " + tag;
     }
 
+    /**
+     * The tags and flags of these outcomes that get a tag report.
+     */
+    static Set<TestTag> tagsReportedIn(TestOutcomes testOutcomes) {
+        Inflector inflection = Inflector.getInstance();
+
+        Set<TestTag> reportedTags = new HashSet<>(testOutcomes.getTags());
+        testOutcomes.getFlags()
+                .stream()
+                .map(flag -> TestTag.withName(inflection.of(flag.getMessage()).asATitle().toString()).andType("flag"))
+                .forEach(reportedTags::add);
+        return reportedTags;
+    }
+
     public static class TagReportBuilder {
         private final TestOutcomes testOutcomes;
 
-        private final Inflector inflection = Inflector.getInstance();
-
         TagReportBuilder(TestOutcomes testOutcomes) {
             this.testOutcomes = testOutcomes;
         }
@@ -130,16 +197,7 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
                                         final List<TestTag> allTags,
                                         final List<String> knownRequirementReportNames) {
 
-            Set<TestTag> reportedTags = new HashSet<>(testOutcomes.getTags());
-
-            Set<TestTag> reportedFlagTags = testOutcomes.getFlags()
-                    .stream()
-                    .map(flag -> TestTag.withName(inflection.of(flag.getMessage()).asATitle().toString()).andType("flag"))
-                    .collect(Collectors.toSet());
-
-            Set<TestTag> allReportedTags = concat(reportedTags, reportedFlagTags);
-
-            return allReportedTags
+            return tagsReportedIn(testOutcomes)
                     .stream()
                     .filter(tag -> noReportHasBeenGeneratedFor(reportName, knownRequirementReportNames, tag))
                     .map(tag -> new TagReportingTask(
@@ -151,7 +209,8 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
                             tag,
                             allTags,
 //                            concat(allTags, tag),
-                            testOutcomes))
+                            testOutcomes,
+                            Optional.empty()))
                     .collect(Collectors.toSet());
 
         }
@@ -168,11 +227,5 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
             tags.add(tag);
             return tags;
         }
-
-        private Set<TestTag> concat(Set<TestTag> setA, Set<TestTag> setB) {
-            Set<TestTag> concatenatedTags = new HashSet<>(setA);
-            concatenatedTags.addAll(setB);
-            return concatenatedTags;
-        }
     }
 }
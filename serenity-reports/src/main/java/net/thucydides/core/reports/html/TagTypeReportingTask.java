@@ -6,7 +6,12 @@ import net.thucydides.core.util.EnvironmentVariables;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class TagTypeReportingTask extends BaseReportingTask implements ReportingTask  {
 
@@ -14,30 +19,67 @@ public class TagTypeReportingTask extends BaseReportingTask implements Reporting
 
     private ReportNameProvider reportNameProvider;
     private final TestOutcomes testOutcomes;
+    private final Optional<String> tagName;
+    private final boolean includeEachTagName;
+    private final long estimatedCost;
 
     public TagTypeReportingTask(FreemarkerContext freemarker,
                                 EnvironmentVariables environmentVariables,
                                 File outputDirectory,
                                 ReportNameProvider reportNameProvider,
                                 TestOutcomes testOutcomes) {
+        this(freemarker, environmentVariables, outputDirectory, reportNameProvider, testOutcomes,
+             Optional.empty(), true, testOutcomes.getOutcomes().size());
+    }
+
+    private TagTypeReportingTask(FreemarkerContext freemarker,
+                                 EnvironmentVariables environmentVariables,
+                                 File outputDirectory,
+                                 ReportNameProvider reportNameProvider,
+                                 TestOutcomes testOutcomes,
+                                 Optional<String> tagName,
+                                 boolean includeEachTagName,
+                                 long estimatedCost) {
         super(freemarker, environmentVariables, outputDirectory);
         this.reportNameProvider = reportNameProvider;
         this.testOutcomes = testOutcomes;
+        this.tagName = tagName;
+        this.includeEachTagName = includeEachTagName;
+        this.estimatedCost = estimatedCost;
+    }
+
+    /**
+     * The tag type reports for all of the test outcomes, and for the test outcomes with each tag name,
+     * as separate tasks so that they can be generated in parallel.
+     */
+    static TagTypeReportBuilder tagTypeReportsFor(TestOutcomes testOutcomes) {
+        return new TagTypeReportBuilder(testOutcomes);
     }
 
     public void generateReports() throws IOException {
 
         Stopwatch stopwatch = Stopwatch.started();
 
-        generateTagTypeReportsFor(testOutcomes, reportNameProvider);
+        if (tagName.isPresent()) {
+            generateTagTypeReportsFor(testOutcomes.withTag(tagName.get()), new ReportNameProvider(tagName.get()));
+        } else {
+            generateTagTypeReportsFor(testOutcomes, reportNameProvider);
+        }
 
-        for (String name : testOutcomes.getTagNames()) {
-            generateTagTypeReportsFor(testOutcomes.withTag(name), new ReportNameProvider(name));
+        if (includeEachTagName) {
+            for (String name : testOutcomes.getTagNames()) {
+                generateTagTypeReportsFor(testOutcomes.withTag(name), new ReportNameProvider(name));
+            }
         }
 
         LOGGER.trace("Tag type reports generated: {} ms", stopwatch.stop());
     }
 
+    @Override
+    public long estimatedCost() {
+        return estimatedCost;
+    }
+
     private void generateTagTypeReportsFor(TestOutcomes testOutcomes, ReportNameProvider reportNameProvider) throws IOException {
 
         for (String tagType : testOutcomes.getTagTypes()) {
@@ -61,5 +103,41 @@ public class TagTypeReportingTask extends BaseReportingTask implements Reporting
         generateCSVReportFor(testOutcomesForTagType, csvReport);
     }
 
+    @Override
+    public String toString() {
+        return "TagTypeReportingTask" + tagName.map(name -> " for " + name).orElse("");
+    }
 
+    public static class TagTypeReportBuilder {
+        private final TestOutcomes testOutcomes;
+
+        TagTypeReportBuilder(TestOutcomes testOutcomes) {
+            this.testOutcomes = testOutcomes;
+        }
+
+        public Set<ReportingTask> using(final FreemarkerContext freemarker,
+                                        final EnvironmentVariables environmentVariables,
+                                        final File outputDirectory,
+                                        final ReportNameProvider reportNameProvider) {
+            Set<ReportingTask> reportingTasks = new HashSet<>();
+            reportingTasks.add(new TagTypeReportingTask(freemarker, environmentVariables, outputDirectory,
+                                                        reportNameProvider, testOutcomes,
+                                                        Optional.empty(), false, testOutcomes.getOutcomes().size()));
+
+            Map<String, Long> outcomeCountsByTagName = outcomeCountsByTagName();
+            for (String name : testOutcomes.getTagNames()) {
+                reportingTasks.add(new TagTypeReportingTask(freemarker, environmentVariables, outputDirectory,
+                                                            reportNameProvider, testOutcomes,
+                                                            Optional.of(name), false,
+                                                            outcomeCountsByTagName.getOrDefault(name.toLowerCase(), 1L)));
+            }
+            return reportingTasks;
+        }
+
+        private Map<String, Long> outcomeCountsByTagName() {
+            return testOutcomes.getOutcomes().stream()
+                    .flatMap(outcome -> outcome.getTags().stream().map(tag -> tag.getName().toLowerCase()).distinct())
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        }
+    }
 }
@@ -37,6 +37,11 @@ public class TextSummaryReportTask extends BaseReportingTask implements Reportin
         LOGGER.trace("Summary report generated: {} ms", stopwatch.stop());
     }
 
+    @Override
+    public long estimatedCost() {
+        return testOutcomes.getOutcomes().size();
+    }
+
     @Override
     public String toString() {
         return "Test Summary Report";
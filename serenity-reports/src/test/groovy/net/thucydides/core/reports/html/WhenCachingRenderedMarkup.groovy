@@ -0,0 +1,80 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.util.MockEnvironmentVariables
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+import static net.thucydides.core.reports.html.RenderedMarkupCache.MarkupType.ASCIIDOC
+import static net.thucydides.core.reports.html.RenderedMarkupCache.MarkupType.MARKDOWN
+
+class WhenCachingRenderedMarkup extends Specification {
+
+    def cache = new RenderedMarkupCache(100)
+    def renderCount = new AtomicInteger()
+    def renderer = { String text -> renderCount.incrementAndGet(); "<b>" + text + "</b>" }
+
+    def "the same text should only be rendered once"() {
+        when:
+            def first = cache.rendered(MARKDOWN, renderer, "a *narrative*", renderer)
+            def second = cache.rendered(MARKDOWN, renderer, "a *narrative*", renderer)
+        then:
+            first == "<b>a *narrative*</b>"
+            second == first
+            renderCount.get() == 1
+    }
+
+    def "the same text should be rendered separately for each markup type"() {
+        when:
+            cache.rendered(MARKDOWN, renderer, "a *narrative*", renderer)
+            cache.rendered(ASCIIDOC, renderer, "a *narrative*", renderer)
+        then:
+            renderCount.get() == 2
+            cache.size() == 2
+    }
+
+    def "the same text should be rendered separately by each renderer"() {
+        given:
+            def otherRenderer = { String text -> renderCount.incrementAndGet(); "<i>" + text + "</i>" }
+        when:
+            def first = cache.rendered(ASCIIDOC, renderer, "a *narrative*", renderer)
+            def second = cache.rendered(ASCIIDOC, otherRenderer, "a *narrative*", otherRenderer)
+        then:
+            first == "<b>a *narrative*</b>"
+            second == "<i>a *narrative*</i>"
+            renderCount.get() == 2
+    }
+
+    def "the number of cached texts should be bounded"() {
+        when:
+            (1..500).each { cache.rendered(MARKDOWN, renderer, "Narrative $it", renderer) }
+        then:
+            cache.size() <= 100
+    }
+
+    def "text rendered concurrently by several report threads should be rendered once"() {
+        given:
+            def executor = Executors.newFixedThreadPool(8)
+            def tasks = (1..200).collect { { -> cache.rendered(MARKDOWN, renderer, "Narrative ${it % 10}", renderer) } as Callable<String> }
+        when:
+            def results = executor.invokeAll(tasks)*.get()
+        then:
+            results.toSet().size() == 10
+            renderCount.get() == 10
+        cleanup:
+            executor.shutdown()
+    }
+
+    def "formatters should share the rendered markdown"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            def text = "A **cached** narrative ${UUID.randomUUID()}"
+        when:
+            def rendered = new Formatter(environmentVariables).renderMarkdown(text)
+        then:
+            rendered.startsWith("A <strong>cached</strong> narrative")
+            new Formatter(environmentVariables).renderMarkdown(text).is(rendered)
+    }
+}
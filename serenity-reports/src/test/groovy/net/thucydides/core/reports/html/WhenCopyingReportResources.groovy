@@ -0,0 +1,93 @@
+package net.thucydides.core.reports.html
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+class WhenCopyingReportResources extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def "should copy the assets listed in the resource manifest"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            new File(reportDirectory, "css/report.css").text == "body { font-family: sans-serif; }\n"
+            new File(reportDirectory, "scripts/report script.js").text == "function showReport() {}\n"
+    }
+
+    def "should read the assets listed in the resource manifest"() {
+        when:
+            def manifest = ReportResourceManifest.in("sample-report-resources", getClass().getClassLoader()).get()
+        then:
+            manifest.assets.collect { it.path } == ["css/report.css", "scripts/report script.js"]
+    }
+
+    def "should not look for a manifest that is not there"() {
+        expect:
+            !ReportResourceManifest.in("no-such-report-resources", getClass().getClassLoader()).isPresent()
+    }
+
+    def "should leave assets that are already in the report directory alone"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+            def stylesheet = new File(reportDirectory, "css/report.css").toPath()
+            Files.setLastModifiedTime(stylesheet, FileTime.fromMillis(0))
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            Files.getLastModifiedTime(stylesheet) == FileTime.fromMillis(0)
+    }
+
+    def "should replace assets that are different in the report directory"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            new File(reportDirectory, "css").mkdirs()
+            new File(reportDirectory, "css/report.css").text = "body { font-family: SANS-SERIF; }\n"
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            new File(reportDirectory, "css/report.css").text == "body { font-family: sans-serif; }\n"
+    }
+
+    def "should record the manifest digest once the assets have been copied"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            def manifest = ReportResourceManifest.in("sample-report-resources", getClass().getClassLoader()).get()
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            new File(reportDirectory, "serenity-resources").text == manifest.digest
+    }
+
+    def "should not check the assets again once the manifest digest is recorded"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+            def stylesheet = new File(reportDirectory, "css/report.css")
+            stylesheet.text = "body { font-family: SANS-SERIF; }\n"
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            stylesheet.text == "body { font-family: SANS-SERIF; }\n"
+    }
+
+    def "should check the assets again when the recorded digest is for a different manifest"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder("report")
+            new File(reportDirectory, "css").mkdirs()
+            new File(reportDirectory, "css/report.css").text = "body { font-family: SANS-SERIF; }\n"
+            new File(reportDirectory, "serenity-resources").text = "an older manifest digest"
+        when:
+            HtmlResourceCopier.copyHtmlResourcesFrom("sample-report-resources").to(reportDirectory)
+        then:
+            new File(reportDirectory, "css/report.css").text == "body { font-family: sans-serif; }\n"
+    }
+}
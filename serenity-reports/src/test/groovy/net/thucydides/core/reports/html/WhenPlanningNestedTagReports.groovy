@@ -0,0 +1,97 @@
+package net.thucydides.core.reports.html
+
+import com.google.gson.JsonParser
+import net.thucydides.core.model.ReportType
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.requirements.RequirementsService
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT
+
+class WhenPlanningNestedTagReports extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def story = Story.called("Grow apples")
+
+    def fruit = TestTag.withName("Fruit").andType("category")
+    def orchard = TestTag.withName("Orchard").andType("location")
+    def red = TestTag.withName("Red").andType("colour")
+    def green = TestTag.withName("Green").andType("colour")
+
+    def reportNameProvider = new ReportNameProvider(NO_CONTEXT, ReportType.HTML, Mock(RequirementsService))
+
+    def outcomeTagged(String name, List<TestTag> tags) {
+        def outcome = TestOutcome.forTestInStory(name, story)
+        outcome.tags = tags as Set
+        outcome.result = TestResult.SUCCESS
+        return outcome
+    }
+
+    def "tag reports listing the same tests within different outer tags should only be planned once"() {
+        given: "fruit and orchard are always used together"
+            def testOutcomes = TestOutcomes.of([outcomeTagged("Grow red apples", [fruit, orchard, red]),
+                                                outcomeTagged("Grow green apples", [fruit, orchard, green])])
+        when:
+            def reports = new NestedTagReports(testOutcomes).distinctReports(reportNameProvider, [])
+        then:
+            reports.findAll { it.tag == red }.size() == 1
+            reports.find { it.tag == red }.outerTags as Set == [fruit, orchard, red] as Set
+        and: "each of the four tags within each of the four tags would otherwise have its own report"
+            reports.size() == 8
+    }
+
+    def "tag reports listing different tests should each be planned"() {
+        given:
+            def testOutcomes = TestOutcomes.of([outcomeTagged("Grow red apples", [fruit, orchard, red]),
+                                                outcomeTagged("Grow red apples at home", [fruit, red])])
+        when:
+            def reports = new NestedTagReports(testOutcomes).distinctReports(reportNameProvider, [])
+        then:
+            reports.findAll { it.tag == red }*.reportedOutcomes*.testCount as Set == [1, 2] as Set
+    }
+
+    def "the index should list each distinct report with the tests it shows"() {
+        given:
+            def testOutcomes = TestOutcomes.of([outcomeTagged("Grow red apples", [fruit, orchard, red]),
+                                                outcomeTagged("Grow green apples", [fruit, orchard, green])])
+            def reports = new NestedTagReports(testOutcomes).distinctReports(reportNameProvider, [])
+            def outputDirectory = temporaryFolder.newFolder()
+            def indexTask = new NestedTagIndexReportingTask(null, new MockEnvironmentVariables(), outputDirectory,
+                                                            testOutcomes, reports, new SharedCSVReports())
+        when:
+            indexTask.generateReports()
+            def index = new JsonParser().parse(new File(outputDirectory, "nested-tag-reports.json").text).asJsonObject
+        then:
+            index.get("tests").asJsonArray*.asJsonObject*.get("title")*.asString == ["Grow red apples", "Grow green apples"]
+        and:
+            def redReport = index.get("reports").asJsonArray*.asJsonObject.find { it.get("tag").asJsonObject.get("name").asString == "Red" }
+            redReport.get("tests").asJsonArray*.asInt == [0]
+            redReport.get("within").asJsonArray.size() == 3
+            redReport.get("report").asString == reports.find { it.tag == red }.reportName
+            redReport.get("csv").asString.endsWith(".csv")
+    }
+
+    def "a report shown within another outer tag should redirect to the shared report"() {
+        given:
+            def outputDirectory = temporaryFolder.newFolder()
+            def task = new NestedTagIndexReportingTask(null, new MockEnvironmentVariables(), outputDirectory,
+                                                       TestOutcomes.of([]), [], new SharedCSVReports())
+        when:
+            task.generateRedirectPage("context_orchard_red.html", "context_fruit_red.html")
+        then:
+            def page = new File(outputDirectory, "context_orchard_red.html").text
+            page.contains('http-equiv="refresh" content="0; url=context_fruit_red.html"')
+            page.contains('<a href="context_fruit_red.html">')
+        and:
+            outputDirectory.list() as List == ["context_orchard_red.html"]
+    }
+}
@@ -0,0 +1,156 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.issues.IssueTracking
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestTag
+import net.thucydides.core.reports.TestOutcomes
+import net.thucydides.core.requirements.RequirementsService
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class WhenSchedulingReportingTasks extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def taskCosting(long cost, Closure work = {}) {
+        new ReportingTask() {
+            void generateReports() throws IOException { work() }
+
+            long estimatedCost() { cost }
+
+            String toString() { "task costing " + cost }
+        }
+    }
+
+    def "the most expensive reporting tasks should be started first"() {
+        given:
+            def tasks = [taskCosting(5), taskCosting(500), taskCosting(1), taskCosting(50)]
+        when:
+            def scheduledTasks = Reporter.inDecreasingOrderOfCost(tasks)
+        then:
+            scheduledTasks*.estimatedCost == [500, 50, 5, 1]
+    }
+
+    def "reporting tasks should have a nominal cost by default"() {
+        given:
+            def task = { -> } as ReportingTask
+        expect:
+            task.estimatedCost() == 1
+    }
+
+    def "all of the reporting tasks should be run"() {
+        given:
+            def completedTasks = new AtomicInteger()
+            def tasks = (1..50).collect { cost -> taskCosting(cost, { completedTasks.incrementAndGet() }) }
+        when:
+            new Reporter(tasks, environmentVariables).generateReports()
+        then:
+            completedTasks.get() == 50
+    }
+
+    def "should stop waiting for reports when no report has been completed within the report timeout"() {
+        given:
+            environmentVariables.setProperty("report.timeout", "200 milliseconds")
+            def stalledReport = new CountDownLatch(1)
+            def tasks = [taskCosting(10, { stalledReport.await(10, TimeUnit.SECONDS) }), taskCosting(1)]
+        when:
+            def startTime = System.currentTimeMillis()
+            new Reporter(tasks, environmentVariables).generateReports()
+            def waitingTime = System.currentTimeMillis() - startTime
+        then:
+            waitingTime < 5000
+        cleanup:
+            stalledReport.countDown()
+    }
+
+    def "reports that are still running when report generation stalls should be interrupted"() {
+        given:
+            environmentVariables.setProperty("report.timeout", "200 milliseconds")
+            def stalledReportInterrupted = new CountDownLatch(1)
+            def stalledReport = taskCosting(10, {
+                try {
+                    Thread.sleep(10000)
+                } catch (InterruptedException interrupted) {
+                    stalledReportInterrupted.countDown()
+                }
+            })
+        when:
+            new Reporter([stalledReport], environmentVariables).generateReports()
+        then:
+            stalledReportInterrupted.await(5, TimeUnit.SECONDS)
+    }
+
+    def "should stop generating reports and keep the interrupted status when the reporting thread is interrupted"() {
+        given:
+            def stalledReport = new CountDownLatch(1)
+            def tasks = [taskCosting(10, { stalledReport.await(10, TimeUnit.SECONDS) })]
+        when:
+            Thread.currentThread().interrupt()
+            new Reporter(tasks, environmentVariables).generateReports()
+        then:
+            Thread.interrupted()
+        cleanup:
+            stalledReport.countDown()
+    }
+
+    def "should keep waiting for a long report while other reports are being completed"() {
+        given:
+            environmentVariables.setProperty("report.timeout", "500 milliseconds")
+            def longReportCompleted = new AtomicInteger()
+            def longReport = taskCosting(100, { Thread.sleep(1500); longReportCompleted.incrementAndGet() })
+            def shortReports = (1..15).collect { delay -> taskCosting(1, { Thread.sleep(delay * 150) }) }
+        when:
+            new Reporter([longReport] + shortReports, environmentVariables).generateReports()
+        then:
+            longReportCompleted.get() == 1
+    }
+
+    def "should keep waiting for a long report that is still being written after the other reports have finished"() {
+        given:
+            environmentVariables.setProperty("report.timeout", "200 milliseconds")
+            def page = temporaryFolder.newFile("large-report.html").toPath()
+            def longReport = taskCosting(100, {
+                Merger.writePage(page, { writer ->
+                    10.times {
+                        writer.write("x" * 10000)
+                        Thread.sleep(100)
+                    }
+                } as Merger.PageContents)
+            })
+            def shortReports = (1..5).collect { taskCosting(1) }
+        when:
+            new Reporter([longReport] + shortReports, environmentVariables).generateReports()
+        then:
+            page.toFile().length() == 100000
+    }
+
+    def "tag type reports should be generated separately for each tag name"() {
+        given:
+            def story = Story.called("Grow apples")
+            def redApples = TestOutcome.forTestInStory("Grow red apples", story)
+            def greenApples = TestOutcome.forTestInStory("Grow green apples", story)
+            redApples.addTags([TestTag.withName("Fruit").andType("tag"), TestTag.withName("Red").andType("colour")])
+            greenApples.addTags([TestTag.withName("Fruit").andType("tag")])
+            def testOutcomes = TestOutcomes.of([redApples, greenApples])
+            def context = new FreemarkerContext(environmentVariables, Mock(RequirementsService), Mock(IssueTracking), "")
+        when:
+            def tasks = TagTypeReportingTask.tagTypeReportsFor(testOutcomes)
+                                            .using(context, environmentVariables, new File("target"), new ReportNameProvider())
+        then:
+            tasks.size() == 1 + testOutcomes.tagNames.size()
+        and:
+            tasks.find { it.toString() == "TagTypeReportingTask for fruit" }?.estimatedCost() == 2
+            tasks.find { it.toString() == "TagTypeReportingTask for red" }?.estimatedCost() == 1
+            tasks.find { it.toString() == "TagTypeReportingTask" }.estimatedCost() == 2
+    }
+}
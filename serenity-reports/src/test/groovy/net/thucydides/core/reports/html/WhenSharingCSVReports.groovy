@@ -0,0 +1,88 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.reports.TestOutcomes
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class WhenSharingCSVReports extends Specification {
+
+    def sharedReports = new SharedCSVReports()
+
+    def story = Story.called("Grow apples")
+    def redApples = TestOutcome.forTestInStory("Grow red apples", story)
+    def greenApples = TestOutcome.forTestInStory("Grow green apples", story)
+    def yellowApples = TestOutcome.forTestInStory("Grow yellow apples", story)
+
+    def "reports listing the same tests should share a CSV report"() {
+        expect:
+            sharedReports.reportNameFor(TestOutcomes.of([redApples, greenApples])) ==
+                    sharedReports.reportNameFor(TestOutcomes.of([greenApples, redApples]))
+    }
+
+    def "reports listing different tests should have different CSV reports"() {
+        expect:
+            sharedReports.reportNameFor(TestOutcomes.of([redApples, greenApples])) !=
+                    sharedReports.reportNameFor(TestOutcomes.of([redApples, yellowApples]))
+    }
+
+    def "tests stored without an id should be told apart by their names"() {
+        given:
+            def redApplesWithoutId = redApples.withId("null")
+            def greenApplesWithoutId = greenApples.withId("null")
+        expect:
+            sharedReports.reportNameFor(TestOutcomes.of([redApplesWithoutId])) !=
+                    sharedReports.reportNameFor(TestOutcomes.of([greenApplesWithoutId]))
+    }
+
+    def "shared CSV reports should be named like other CSV reports"() {
+        expect:
+            sharedReports.reportNameFor(TestOutcomes.of([redApples])).endsWith(".csv")
+    }
+
+    def "each shared CSV report should only be exported once"() {
+        given:
+            def reportName = sharedReports.reportNameFor(TestOutcomes.of([redApples, greenApples]))
+            def exports = []
+        when:
+            2.times { sharedReports.exportOnce(reportName, { name -> exports << name } as SharedCSVReports.CSVExport) }
+        then:
+            exports == [reportName]
+            sharedReports.exportedReportCount() == 1
+    }
+
+    def "a shared CSV report that could not be written should be exported again"() {
+        given:
+            def exports = []
+        when:
+            sharedReports.exportOnce("report.csv", { name -> throw new IOException("disk full") } as SharedCSVReports.CSVExport)
+        then:
+            thrown(IOException)
+            sharedReports.exportedReportCount() == 0
+        when:
+            sharedReports.exportOnce("report.csv", { name -> exports << name } as SharedCSVReports.CSVExport)
+        then:
+            exports == ["report.csv"]
+            sharedReports.exportedReportCount() == 1
+    }
+
+    def "each shared CSV report should only be exported once by concurrent report threads"() {
+        given:
+            def executor = Executors.newFixedThreadPool(8)
+            def exports = new AtomicInteger()
+            def tasks = (1..200).collect {
+                { -> sharedReports.exportOnce("report-${it % 10}.csv", { name -> exports.incrementAndGet() } as SharedCSVReports.CSVExport) } as Callable<Void>
+            }
+        when:
+            executor.invokeAll(tasks)*.get()
+        then:
+            exports.get() == 10
+            sharedReports.exportedReportCount() == 10
+        cleanup:
+            executor.shutdown()
+    }
+}
@@ -0,0 +1,63 @@
+package net.thucydides.core.reports.html
+
+import net.thucydides.core.reports.templates.ReportTemplate
+import net.thucydides.core.reports.templates.TemplateManager
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.nio.file.FileSystems
+import java.nio.file.Files
+
+class WhenWritingReportPages extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder
+
+    def templateWriting(String content) {
+        def template = Stub(ReportTemplate) {
+            merge(_, _) >> { Map context, Writer writer -> writer.write(content) }
+        }
+        def templateManager = Stub(TemplateManager) {
+            getTemplateFrom(_) >> template
+        }
+        new Merger.MergeBuilder([:], templateManager, "page.ftl")
+    }
+
+    def "should write the merged template to the page"() {
+        given:
+            def page = temporaryFolder.newFolder().toPath().resolve("page.html")
+        when:
+            templateWriting("<html>new page</html>").toFile(page)
+        then:
+            page.text == "<html>new page</html>"
+            page.parent.toFile().list() as List == ["page.html"]
+    }
+
+    def "should replace an existing page rather than write through it"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder().toPath()
+            def page = reportDirectory.resolve("page.html")
+            page.text = "<html>old page</html>"
+            def linkedPage = reportDirectory.resolve("linked-page.html")
+            Files.createLink(linkedPage, page)
+        when:
+            templateWriting("<html>new page</html>").toFile(page)
+        then:
+            page.text == "<html>new page</html>"
+            linkedPage.text == "<html>old page</html>"
+    }
+
+    @Requires({ FileSystems.default.supportedFileAttributeViews().contains("posix") })
+    def "pages should be readable by whoever can read the other report files"() {
+        given:
+            def reportDirectory = temporaryFolder.newFolder().toPath()
+            def page = reportDirectory.resolve("page.html")
+            def otherReportFile = Files.createFile(reportDirectory.resolve("other.html"))
+        when:
+            templateWriting("<html>new page</html>").toFile(page)
+        then:
+            Files.getPosixFilePermissions(page) == Files.getPosixFilePermissions(otherReportFile)
+    }
+}
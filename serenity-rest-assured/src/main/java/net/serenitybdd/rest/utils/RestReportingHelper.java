@@ -76,7 +76,7 @@ public class RestReportingHelper {
         restQuery = restQuery.withStatusCode(response.getStatusCode())
                 .withResponseHeaders(firstNonNull(values.get(LogDetail.HEADERS), ""))
                 .withResponseCookies(firstNonNull(values.get(LogDetail.COOKIES), ""));
-        getEventBus().getBaseStepListener().recordRestQuery(restQuery);
+        getEventBus().getBaseStepListener().recordRestQuery(restQuery, response.getTime());
     }
 
     public void registerCall(final RestMethod method, final RequestSpecificationDecorated spec, final String path,
@@ -1,13 +1,12 @@
 package net.serenitybdd.screenplay.abilities;
 
-import com.google.common.eventbus.Subscribe;
-import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.core.pages.PageObject;
 import net.serenitybdd.screenplay.Ability;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.RefersToActor;
 import net.serenitybdd.screenplay.events.ActorAsksQuestion;
-import net.serenitybdd.screenplay.events.ActorEndsPerformanceEvent;
+import net.serenitybdd.screenplay.events.ActorEventListener;
+import net.serenitybdd.screenplay.events.ActorEvents;
 import net.serenitybdd.screenplay.events.ActorPerforms;
 import net.serenitybdd.screenplay.exceptions.ActorCannotBrowseTheWebException;
 import net.thucydides.core.pages.Pages;
@@ -22,7 +21,7 @@ import org.slf4j.LoggerFactory;
  * Gives an actor the ability to browse theValue web.
  * This extends the classic Serenity PageObject class.
  */
-public class BrowseTheWeb extends PageObject implements Ability, RefersToActor {
+public class BrowseTheWeb extends PageObject implements Ability, RefersToActor, ActorEventListener {
 
     private final WebdriverManager webdriverManager;
 
@@ -37,7 +36,7 @@ public class BrowseTheWeb extends PageObject implements Ability, RefersToActor {
     }
 
     private void registerForEventNotification() {
-        Broadcaster.getEventBus().register(this);
+        ActorEvents.register(this);
     }
 
     public static BrowseTheWeb as(Actor actor) {
@@ -60,20 +59,20 @@ public class BrowseTheWeb extends PageObject implements Ability, RefersToActor {
         return Pages.instrumentedPageObjectUsing(pageObjectClass, getDriver());
     }
 
-    @Subscribe public void perform(ActorPerforms performAction) {
+    @Override
+    public void perform(ActorPerforms performAction) {
         WebDriver driver = webdriverManager.getWebdriver();
         PageObjectDependencyInjector injector = new PageObjectDependencyInjector(new Pages(driver));
         injector.injectDependenciesInto(performAction.getPerformable());
     }
 
-    @Subscribe public void prepareQuestion(ActorAsksQuestion questionEvent) {
+    @Override
+    public void prepareQuestion(ActorAsksQuestion questionEvent) {
         WebDriver driver = webdriverManager.getWebdriver();
         PageObjectDependencyInjector injector = new PageObjectDependencyInjector(new Pages(driver));
         injector.injectDependenciesInto(questionEvent.getQuestion());
     }
 
-    @Subscribe public void endPerformance(ActorEndsPerformanceEvent performanceEvent) {}
-
     @Override
     public <T extends Ability> T asActor(Actor actor) {
         this.actor = actor;
@@ -1,18 +1,86 @@
 package net.serenitybdd.screenplay.targets;
 
-import net.serenitybdd.core.pages.PageObject;
-import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.core.pages.DefaultTimeouts;
+import net.serenitybdd.core.pages.WebElementFacade;
+import net.serenitybdd.core.pages.WebElementFacadeImpl;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
-class TargetResolver extends PageObject {
+import java.util.ArrayList;
+import java.util.List;
 
-    private TargetResolver(WebDriver driver, Target target) {
-        super(driver);
-        IFrameSwitcher.getInstance().switchToIFrame(driver, target);
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_FLUENTWAIT;
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT;
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_WAIT_FOR_TIMEOUT;
+
+/**
+ * Finds the elements of a target in the same way as a page object, but without building one for each lookup.
+ * A resolver is kept for the driver last used in each thread, and the configured timeouts are read once per driver.
+ */
+class TargetResolver {
+
+    private static final ThreadLocal<TargetResolver> currentResolver = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final long implicitTimeoutInMilliseconds;
+    private final long waitForTimeoutInMilliseconds;
+
+    TargetResolver(WebDriver driver, EnvironmentVariables environmentVariables) {
+        this.driver = driver;
+        this.implicitTimeoutInMilliseconds = WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT.integerFrom(environmentVariables,
+                (int) DefaultTimeouts.DEFAULT_IMPLICIT_WAIT_TIMEOUT.toMillis());
+        this.waitForTimeoutInMilliseconds = WEBDRIVER_WAIT_FOR_TIMEOUT.integerFrom(environmentVariables,
+                WEBDRIVER_TIMEOUTS_FLUENTWAIT.integerFrom(environmentVariables,
+                        (int) DefaultTimeouts.DEFAULT_WAIT_FOR_TIMEOUT.toMillis()));
     }
 
     static TargetResolver create(WebDriver driver, Target target) {
-        return new TargetResolver(driver, target);
+        TargetResolver resolver = forDriver(driver);
+        ThucydidesWebDriverSupport.useDriver(driver);
+        IFrameSwitcher.getInstance().switchToIFrame(driver, target);
+        return resolver;
+    }
+
+    private static TargetResolver forDriver(WebDriver driver) {
+        TargetResolver resolver = currentResolver.get();
+        if (resolver == null || resolver.driver != driver) {
+            resolver = new TargetResolver(driver, Injectors.getInjector().getProvider(EnvironmentVariables.class).get());
+            currentResolver.set(resolver);
+        }
+        return resolver;
+    }
+
+    <T extends WebElementFacade> T find(By bySelector) {
+        return WebElementFacadeImpl.wrapWebElement(driver,
+                bySelector,
+                implicitTimeoutInMilliseconds,
+                waitForTimeoutInMilliseconds,
+                bySelector.toString());
     }
 
+    List<WebElementFacade> findAll(By bySelector) {
+        List<WebElement> matchingWebElements = driver.findElements(bySelector);
+
+        List<WebElementFacade> allElements = new ArrayList<>(matchingWebElements.size());
+        for (WebElement matchingElement : matchingWebElements) {
+            allElements.add(WebElementFacadeImpl.wrapWebElement(driver,
+                    matchingElement,
+                    implicitTimeoutInMilliseconds,
+                    waitForTimeoutInMilliseconds,
+                    nameOf(matchingElement)));
+        }
+        return allElements;
+    }
+
+    private String nameOf(WebElement webElement) {
+        try {
+            return webElement.toString();
+        } catch (Exception e) {
+            return "Unknown web element";
+        }
+    }
 }
@@ -3,13 +3,17 @@ package net.serenitybdd.screenplay.targets;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import org.openqa.selenium.By;
 
 import java.util.List;
 import java.util.Optional;
 
+import static net.serenitybdd.core.selectors.Selectors.xpathOrCssSelector;
+
 public class XPathOrCssTarget extends Target {
 
     private final String cssOrXPathSelector;
+    private By locator;
 
     public XPathOrCssTarget(String targetElementName, String cssOrXPathSelector, Optional<IFrame> iFrame) {
         super(targetElementName, iFrame);
@@ -17,11 +21,11 @@ public class XPathOrCssTarget extends Target {
     }
 
     public WebElementFacade resolveFor(Actor actor) {
-        return TargetResolver.create(BrowseTheWeb.as(actor).getDriver(), this).findBy(cssOrXPathSelector);
+        return TargetResolver.create(BrowseTheWeb.as(actor).getDriver(), this).find(locator());
     }
 
     public List<WebElementFacade> resolveAllFor(Actor actor) {
-        return TargetResolver.create(BrowseTheWeb.as(actor).getDriver(), this).findAll(cssOrXPathSelector);
+        return TargetResolver.create(BrowseTheWeb.as(actor).getDriver(), this).findAll(locator());
     }
 
     public Target of(String... parameters) {
@@ -37,6 +41,16 @@ public class XPathOrCssTarget extends Target {
         return cssOrXPathSelector;
     }
 
+    /**
+     * Working out whether the selector is an XPath expression means compiling it, so this is only done once per target.
+     */
+    private By locator() {
+        if (locator == null) {
+            locator = xpathOrCssSelector(cssOrXPathSelector);
+        }
+        return locator;
+    }
+
     private String instantiated(String cssOrXPathSelector, String[] parameters) {
         return new TargetSelectorWithVariables(cssOrXPathSelector).resolvedWith(parameters);
     }
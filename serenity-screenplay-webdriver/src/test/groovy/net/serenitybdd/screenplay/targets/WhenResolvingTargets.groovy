@@ -0,0 +1,74 @@
+package net.serenitybdd.screenplay.targets
+
+import net.serenitybdd.screenplay.Actor
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb
+import net.thucydides.core.util.MockEnvironmentVariables
+import org.openqa.selenium.By
+import org.openqa.selenium.WebDriver
+import org.openqa.selenium.WebElement
+import spock.lang.Specification
+
+class WhenResolvingTargets extends Specification {
+
+    def browser = Mock(WebDriver)
+    def actor = Actor.named("Tracy")
+
+    def setup() {
+        actor.can(BrowseTheWeb.with(browser))
+    }
+
+    def "a target should resolve to the element it locates"() {
+        given:
+            def nameField = Mock(WebElement)
+            browser.findElement(By.cssSelector("#name")) >> nameField
+        when:
+            def resolvedElement = Target.the("name field").locatedBy("#name").resolveFor(actor)
+        then:
+            resolvedElement.element == nameField
+    }
+
+    def "a target should resolve to all the elements it locates"() {
+        given:
+            def firstItem = Mock(WebElement)
+            def secondItem = Mock(WebElement)
+            browser.findElements(By.xpath("//li")) >> [firstItem, secondItem]
+        when:
+            def resolvedElements = Target.the("list items").locatedBy("//li").resolveAllFor(actor)
+        then:
+            resolvedElements*.element == [firstItem, secondItem]
+    }
+
+    def "resolved elements should use the configured timeouts"() {
+        given:
+            def environmentVariables = new MockEnvironmentVariables()
+            environmentVariables.setProperty("webdriver.timeouts.implicitlywait", "1234")
+            environmentVariables.setProperty("webdriver.wait.for.timeout", "5678")
+            def resolver = new TargetResolver(browser, environmentVariables)
+        when:
+            def resolvedElement = resolver.find(By.cssSelector("#name"))
+        then:
+            resolvedElement.implicitTimeoutInMilliseconds == 1234
+            resolvedElement.waitForTimeoutInMilliseconds == 5678
+    }
+
+    def "the same resolver should be used for successive targets on the same browser"() {
+        given:
+            def target = Target.the("name field").locatedBy("#name")
+        expect:
+            TargetResolver.create(browser, target).is(TargetResolver.create(browser, target))
+    }
+
+    def "a resolver should not be reused for a different browser"() {
+        given:
+            def target = Target.the("name field").locatedBy("#name")
+            def anotherBrowser = Mock(WebDriver)
+            def nameFieldInAnotherBrowser = Mock(WebElement)
+            anotherBrowser.findElement(By.cssSelector("#name")) >> nameFieldInAnotherBrowser
+        when:
+            def firstResolver = TargetResolver.create(browser, target)
+            def secondResolver = TargetResolver.create(anotherBrowser, target)
+        then:
+            !secondResolver.is(firstResolver)
+            secondResolver.find(By.cssSelector("#name")).element == nameFieldInAnotherBrowser
+    }
+}
@@ -3,17 +3,13 @@ package net.serenitybdd.screenplay;
 import net.serenitybdd.core.PendingStepException;
 import net.serenitybdd.core.Serenity;
 import net.serenitybdd.core.SkipNested;
-import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.screenplay.events.*;
 import net.serenitybdd.screenplay.exceptions.IgnoreStepException;
-import net.thucydides.core.annotations.Pending;
 import net.thucydides.core.steps.ExecutedStepDescription;
 import net.thucydides.core.steps.StepEventBus;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 public class Actor implements PerformsTasks, SkipNested {
 
@@ -121,21 +117,11 @@ public class Actor implements PerformsTasks, SkipNested {
     }
 
     private <T extends Performable> void notifyPerformanceOf(T todo) {
-        Broadcaster.getEventBus().post(new ActorPerforms(todo));
+        ActorEvents.perform(new ActorPerforms(todo));
     }
 
     private <T extends Performable> boolean isPending(T todo) {
-            Method performAs = getPerformAsForClass(todo.getClass().getSuperclass()).orElse(getPerformAsForClass(todo.getClass()).orElse(null));
-
-            return (performAs != null) && (performAs.getAnnotation(Pending.class) != null);
-    }
-
-    private Optional<Method> getPerformAsForClass(Class taskClass) {
-        try {
-            return Optional.of(taskClass.getMethod("performAs", Actor.class));
-        } catch (NoSuchMethodException e) {
-            return Optional.empty();
-        }
+        return TaskMetadata.of(todo).isPending();
     }
 
     private boolean pendingOrIgnore(Throwable exception) {
@@ -237,22 +223,22 @@ public class Actor implements PerformsTasks, SkipNested {
     }
 
     private void beginPerformance() {
-        Broadcaster.getEventBus().post(new ActorBeginsPerformanceEvent(name));
+        ActorEvents.beginPerformance(new ActorBeginsPerformanceEvent(name));
     }
 
     private void endPerformance() {
-        Broadcaster.getEventBus().post(new ActorEndsPerformanceEvent(name));
+        ActorEvents.endPerformance(new ActorEndsPerformanceEvent(name));
     }
 
 
     private void startConsequenceCheck() {
         consequenceListener.beginConsequenceCheck();
-        Broadcaster.getEventBus().post(new ActorBeginsConsequenceCheckEvent(name));
+        ActorEvents.beginConsequenceCheck(new ActorBeginsConsequenceCheckEvent(name));
     }
 
     private void endConsequenceCheck() {
         consequenceListener.endConsequenceCheck();
-        Broadcaster.getEventBus().post(new ActorEndsConsequenceCheckEvent(name));
+        ActorEvents.endConsequenceCheck(new ActorEndsConsequenceCheckEvent(name));
     }
 
 
@@ -1,8 +1,8 @@
 package net.serenitybdd.screenplay;
 
-import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.screenplay.conditions.SilentPerformable;
 import net.serenitybdd.screenplay.events.ActorAsksQuestion;
+import net.serenitybdd.screenplay.events.ActorEvents;
 import net.thucydides.core.steps.StepEventBus;
 
 import java.util.Optional;
@@ -30,7 +30,7 @@ public class BooleanQuestionConsequence<T> extends BaseConsequence<T> {
     public void evaluateFor(Actor actor) {
         if (thisStepShouldBeIgnored() && !StepEventBus.getEventBus().softAssertsActive()) { return; }
 
-        Broadcaster.getEventBus().post(new ActorAsksQuestion(question));
+        ActorEvents.prepareQuestion(new ActorAsksQuestion(question));
         try {
             optionalPrecondition.orElse(DO_NOTHING).performAs(actor);
             assertThat(reason(), question.answeredBy(actor), is(true));
@@ -2,6 +2,11 @@ package net.serenitybdd.screenplay;
 
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
 import net.serenitybdd.core.time.Stopwatch;
+import net.thucydides.core.scheduling.PollingConditions;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
+
+import java.time.Duration;
 
 public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     public static final int A_SHORT_PERIOD_BETWEEN_TRIES = 100;
@@ -38,26 +43,29 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
     @Override
     public void evaluateFor(Actor actor) {
         Stopwatch stopwatch = new Stopwatch();
+        PollingStrategy.Polling polling = PollingStrategies.shared().startPolling(PollingConditions.keyFor(consequenceThatMightTakeSomeTime),
+                                                                                   Duration.ofMillis(A_SHORT_PERIOD_BETWEEN_TRIES));
 
         stopwatch.start();
         do {
             try {
                 consequenceThatMightTakeSomeTime.evaluateFor(actor);
+                polling.conditionMet();
                 return;
             } catch (AssertionError assertionError) {
                 caughtAssertionError = assertionError;
             } catch (RuntimeException runtimeException) {
                 caughtRuntimeException = runtimeException;
             }
-            pauseBeforeNextAttempt();
+            pauseBeforeNextAttempt(polling.nextInterval());
         } while (stopwatch.lapTime() < timeout);
 
         throwAnyCaughtErrors();
     }
 
-    private void pauseBeforeNextAttempt() {
+    private void pauseBeforeNextAttempt(Duration interval) {
         try {
-            Thread.sleep(A_SHORT_PERIOD_BETWEEN_TRIES);
+            Thread.sleep(interval.toMillis());
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -1,8 +1,8 @@
 package net.serenitybdd.screenplay;
 import net.serenitybdd.core.Serenity;
-import net.serenitybdd.core.eventbus.Broadcaster;
 import net.serenitybdd.screenplay.conditions.SilentPerformable;
 import net.serenitybdd.screenplay.events.ActorAsksQuestion;
+import net.serenitybdd.screenplay.events.ActorEvents;
 import net.serenitybdd.screenplay.formatting.StripRedundantTerms;
 import net.thucydides.core.steps.StepEventBus;
 import org.hamcrest.Matcher;
@@ -33,7 +33,7 @@ public class QuestionConsequence<T> extends BaseConsequence<T> {
     public void evaluateFor(Actor actor) {
         if (thisStepShouldBeIgnored() && !StepEventBus.getEventBus().softAssertsActive()) { return; }
 
-        Broadcaster.getEventBus().post(new ActorAsksQuestion(question));
+        ActorEvents.prepareQuestion(new ActorAsksQuestion(question));
 
         Serenity.injectScenarioStepsInto(question);
 
@@ -0,0 +1,49 @@
+package net.serenitybdd.screenplay;
+
+import net.thucydides.core.annotations.Pending;
+
+import java.lang.reflect.Method;
+
+/**
+ * What an actor needs to know about a task or interaction class before performing it.
+ * This is worked out once per class, as instrumented tasks of the same class are created again and again.
+ */
+class TaskMetadata {
+
+    private static final ClassValue<TaskMetadata> TASK_METADATA = new ClassValue<TaskMetadata>() {
+        @Override
+        protected TaskMetadata computeValue(Class<?> taskClass) {
+            return new TaskMetadata(taskClass);
+        }
+    };
+
+    private final boolean pending;
+
+    private TaskMetadata(Class<?> taskClass) {
+        // Instrumented tasks are subclasses of the task class, so the task class's own method is checked first
+        Method performAs = performAsMethodOf(taskClass.getSuperclass());
+        if (performAs == null) {
+            performAs = performAsMethodOf(taskClass);
+        }
+        this.pending = (performAs != null) && (performAs.getAnnotation(Pending.class) != null);
+    }
+
+    static TaskMetadata of(Performable task) {
+        return TASK_METADATA.get(task.getClass());
+    }
+
+    boolean isPending() {
+        return pending;
+    }
+
+    private static Method performAsMethodOf(Class<?> taskClass) {
+        if (taskClass == null) {
+            return null;
+        }
+        try {
+            return taskClass.getMethod("performAs", Actor.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
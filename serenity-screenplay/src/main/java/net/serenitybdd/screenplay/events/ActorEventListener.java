@@ -0,0 +1,20 @@
+package net.serenitybdd.screenplay.events;
+
+/**
+ * Receives the events of actors performing tasks and checking consequences in the current thread.
+ * Listeners are called directly by the actor, so they only need to implement the events they are interested in.
+ */
+public interface ActorEventListener {
+
+    default void beginPerformance(ActorBeginsPerformanceEvent performanceEvent) {}
+
+    default void perform(ActorPerforms performAction) {}
+
+    default void prepareQuestion(ActorAsksQuestion questionEvent) {}
+
+    default void endPerformance(ActorEndsPerformanceEvent performanceEvent) {}
+
+    default void beginConsequenceCheck(ActorBeginsConsequenceCheckEvent consequenceCheckEvent) {}
+
+    default void endConsequenceCheck(ActorEndsConsequenceCheckEvent consequenceCheckEvent) {}
+}
@@ -0,0 +1,56 @@
+package net.serenitybdd.screenplay.events;
+
+import net.serenitybdd.core.eventbus.Broadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatches actor events to the actor event listeners registered in the current thread.
+ * Events are also posted to the thread's event bus, for anything that has subscribed to them there.
+ * As with the event bus, an exception thrown by one listener is logged and does not stop the others being called.
+ */
+public class ActorEvents {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActorEvents.class);
+
+    public static void register(ActorEventListener listener) {
+        Broadcaster.registerListener(ActorEventListener.class, listener);
+    }
+
+    public static void beginPerformance(ActorBeginsPerformanceEvent event) {
+        dispatch(event, ActorEventListener::beginPerformance);
+    }
+
+    public static void perform(ActorPerforms event) {
+        dispatch(event, ActorEventListener::perform);
+    }
+
+    public static void prepareQuestion(ActorAsksQuestion event) {
+        dispatch(event, ActorEventListener::prepareQuestion);
+    }
+
+    public static void endPerformance(ActorEndsPerformanceEvent event) {
+        dispatch(event, ActorEventListener::endPerformance);
+    }
+
+    public static void beginConsequenceCheck(ActorBeginsConsequenceCheckEvent event) {
+        dispatch(event, ActorEventListener::beginConsequenceCheck);
+    }
+
+    public static void endConsequenceCheck(ActorEndsConsequenceCheckEvent event) {
+        dispatch(event, ActorEventListener::endConsequenceCheck);
+    }
+
+    private static <E> void dispatch(E event, BiConsumer<ActorEventListener, E> handler) {
+        for (ActorEventListener listener : Broadcaster.getListeners(ActorEventListener.class)) {
+            try {
+                handler.accept(listener, event);
+            } catch (RuntimeException listenerFailure) {
+                LOGGER.error("Actor event listener {} failed to handle {}", listener, event, listenerFailure);
+            }
+        }
+        Broadcaster.post(event);
+    }
+}
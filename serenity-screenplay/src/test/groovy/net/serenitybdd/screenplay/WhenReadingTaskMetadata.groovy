@@ -0,0 +1,38 @@
+package net.serenitybdd.screenplay
+
+import net.thucydides.core.annotations.Pending
+import spock.lang.Specification
+
+class WhenReadingTaskMetadata extends Specification {
+
+    static class FinishedTask implements Task {
+        @Override
+        def <T extends Actor> void performAs(T actor) {}
+    }
+
+    static class UnfinishedTask implements Task {
+        @Pending
+        @Override
+        def <T extends Actor> void performAs(T actor) {}
+    }
+
+    static class InstrumentedUnfinishedTask extends UnfinishedTask {
+        @Override
+        def <T extends Actor> void performAs(T actor) {}
+    }
+
+    def "tasks are pending when their performAs method is annotated as pending"() {
+        expect:
+        TaskMetadata.of(task).pending == pending
+        where:
+        task                             | pending
+        new FinishedTask()               | false
+        new UnfinishedTask()             | true
+        new InstrumentedUnfinishedTask() | true
+    }
+
+    def "the metadata is only worked out once for each task class"() {
+        expect:
+        TaskMetadata.of(new UnfinishedTask()).is(TaskMetadata.of(new UnfinishedTask()))
+    }
+}
@@ -0,0 +1,72 @@
+package net.serenitybdd.screenplay.events
+
+import net.serenitybdd.core.eventbus.Broadcaster
+import net.serenitybdd.screenplay.Actor
+import net.serenitybdd.screenplay.Performable
+import spock.lang.Specification
+
+class WhenListeningToActorEvents extends Specification {
+
+    class RecordingListener implements ActorEventListener {
+        def events = []
+
+        @Override
+        void beginPerformance(ActorBeginsPerformanceEvent performanceEvent) { events << "begin ${performanceEvent.name}" }
+
+        @Override
+        void perform(ActorPerforms performAction) { events << "perform ${performAction.performable}" }
+
+        @Override
+        void endPerformance(ActorEndsPerformanceEvent performanceEvent) { events << "end ${performanceEvent.name}" }
+    }
+
+    class BrokenListener implements ActorEventListener {
+        @Override
+        void perform(ActorPerforms performAction) { throw new IllegalStateException("Broken listener") }
+    }
+
+    class DoNothing implements Performable {
+        @Override
+        def <T extends Actor> void performAs(T actor) {}
+
+        String toString() { "do nothing" }
+    }
+
+    def cleanup() {
+        Broadcaster.unregisterAllListeners()
+    }
+
+    def "registered listeners should be told when an actor performs a task"() {
+        given:
+        def listener = new RecordingListener()
+        ActorEvents.register(listener)
+        when:
+        ActorEvents.beginPerformance(new ActorBeginsPerformanceEvent("Dana"))
+        ActorEvents.perform(new ActorPerforms(new DoNothing()))
+        ActorEvents.endPerformance(new ActorEndsPerformanceEvent("Dana"))
+        then:
+        listener.events == ["begin Dana", "perform do nothing", "end Dana"]
+    }
+
+    def "a failing listener should not stop the other listeners being told"() {
+        given:
+        def listener = new RecordingListener()
+        ActorEvents.register(new BrokenListener())
+        ActorEvents.register(listener)
+        when:
+        ActorEvents.perform(new ActorPerforms(new DoNothing()))
+        then:
+        listener.events == ["perform do nothing"]
+    }
+
+    def "listeners should be forgotten when all the listeners are unregistered"() {
+        given:
+        def listener = new RecordingListener()
+        ActorEvents.register(listener)
+        when:
+        Broadcaster.unregisterAllListeners()
+        ActorEvents.perform(new ActorPerforms(new DoNothing()))
+        then:
+        listener.events.isEmpty()
+    }
+}